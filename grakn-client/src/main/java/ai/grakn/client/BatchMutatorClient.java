@@ -82,6 +82,9 @@ public class BatchMutatorClient {
     // Change in behaviour in v0.14 Previously infinite, now limited
     private static final int MAX_RETRIES = 100;
 
+    // Loading tasks go to the high priority queue so they are not held up by post processing
+    private static final String LOADING_PRIORITY = "HIGH";
+
     private final String GET = "http://%s" + TASKS + "/%s";
 
     private final Map<Integer,CompletableFuture> futures;
@@ -261,7 +264,7 @@ public class BatchMutatorClient {
         Callable<TaskId> callable = () -> taskClient
                 .sendTask("ai.grakn.engine.loader.MutatorTask",
                         BatchMutatorClient.class.getName(),
-                        Instant.ofEpochMilli(new Date().getTime()), null, configuration, 10000);
+                        Instant.ofEpochMilli(new Date().getTime()), null, configuration, 10000, LOADING_PRIORITY);
 
         TaskId taskId;
 
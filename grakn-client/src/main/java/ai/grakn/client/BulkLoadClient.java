@@ -0,0 +1,241 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.client;
+
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.util.REST;
+import mjson.Json;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static ai.grakn.util.REST.BulkLoad.ACTION;
+import static ai.grakn.util.REST.BulkLoad.ACTION_ACK;
+import static ai.grakn.util.REST.BulkLoad.ACTION_BATCH;
+import static ai.grakn.util.REST.BulkLoad.ACTION_ERROR;
+import static ai.grakn.util.REST.BulkLoad.ACTION_INIT;
+import static ai.grakn.util.REST.BulkLoad.ACTION_TEMPLATE;
+import static ai.grakn.util.REST.BulkLoad.BATCH_ID;
+import static ai.grakn.util.REST.BulkLoad.COLUMNS;
+import static ai.grakn.util.REST.BulkLoad.FAILED;
+import static ai.grakn.util.REST.BulkLoad.KEYSPACE;
+import static ai.grakn.util.REST.BulkLoad.QUERY;
+import static ai.grakn.util.REST.BulkLoad.ROWS;
+
+/**
+ * Client to bulk load rows of values into Grakn through a single insert template.
+ *
+ * The template is sent to engine once, after which rows are sent in batches over a websocket. Engine acknowledges
+ * every batch when it has been committed, so the client never polls for the status of a batch. BulkLoadClient
+ * blocks when the configured number of batches are waiting to be acknowledged.
+ *
+ * @author Grakn Warriors
+ */
+@WebSocket
+public class BulkLoadClient implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkLoadClient.class);
+
+    private final WebSocketClient client = new WebSocketClient();
+    private final AtomicInteger batchNumber = new AtomicInteger(0);
+    private final AtomicInteger failures = new AtomicInteger(0);
+    private final AtomicInteger failedRows = new AtomicInteger(0);
+    private final List<String> columns;
+    private final Session session;
+
+    private Consumer<Json> onCompletionOfBatch = (Json t) -> {};
+    private List<Json> rows = new ArrayList<>();
+    private Semaphore blocker;
+    private int batchSize;
+    private int blockerSize;
+
+    /**
+     * @param keyspace keyspace to load into
+     * @param uri location of engine, in the form "host:port"
+     * @param template insert query in which the columns appear as variables
+     * @param columns names of the variables of the template that are bound by each row
+     */
+    public BulkLoadClient(String keyspace, String uri, InsertQuery template, String... columns) {
+        this.columns = Arrays.asList(columns);
+
+        setBatchSize(500);
+        setNumberActiveBatches(25);
+
+        try {
+            client.start();
+            session = client.connect(this, URI.create("ws://" + uri + REST.WebPath.BULK_LOAD_URI)).get();
+        } catch (Exception e) {
+            throw new RuntimeException("Could not connect to " + uri, e);
+        }
+
+        send(Json.object(ACTION, ACTION_INIT, KEYSPACE, keyspace));
+        send(Json.object(ACTION, ACTION_TEMPLATE, QUERY, template.toString()));
+    }
+
+    /**
+     * Provide a consumer function to execute upon the acknowledgement of each batch
+     * @param onCompletionOfBatch function to consume the ack or error message of a batch
+     * @return this
+     */
+    public BulkLoadClient setBatchCompletionConsumer(Consumer<Json> onCompletionOfBatch){
+        this.onCompletionOfBatch = onCompletionOfBatch;
+        return this;
+    }
+
+    /**
+     * Set the number of rows to be committed in each transaction
+     * @param size number of rows in each batch
+     * @return this
+     */
+    public BulkLoadClient setBatchSize(int size){
+        this.batchSize = size;
+        return this;
+    }
+
+    /**
+     * Set the number of batches that may be waiting to be acknowledged by engine at any point in time
+     * @param size number of batches waiting to be acknowledged
+     * @return this
+     */
+    public BulkLoadClient setNumberActiveBatches(int size){
+        this.blockerSize = size;
+        this.blocker = new Semaphore(size);
+        return this;
+    }
+
+    /**
+     * @return number of batches engine failed to load
+     */
+    public int getFailedBatches(){
+        return failures.get();
+    }
+
+    /**
+     * @return number of rows engine failed to load from batches of which the other rows were loaded
+     */
+    public int getFailedRows(){
+        return failedRows.get();
+    }
+
+    /**
+     * Add a row of values, one for each column. Blocks when too many batches are waiting to be acknowledged.
+     * @param values values to bind to the columns of the template
+     */
+    public void add(Object... values){
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + values.length);
+        }
+        rows.add(Json.make(Arrays.asList(values)));
+        if (rows.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Send the rows which have been added but not yet sent
+     */
+    public void flush(){
+        if (rows.isEmpty()) return;
+
+        try {
+            blocker.acquire();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        send(Json.object(ACTION, ACTION_BATCH, BATCH_ID, batchNumber.incrementAndGet(), COLUMNS, columns, ROWS, rows));
+        rows = new ArrayList<>();
+    }
+
+    /**
+     * Send all remaining rows and wait for all of the batches to be acknowledged
+     */
+    public void waitToFinish(){
+        flush();
+        try {
+            blocker.acquire(blockerSize);
+            blocker.release(blockerSize);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        waitToFinish();
+        session.close();
+        try {
+            client.stop();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @OnWebSocketMessage
+    public void onMessage(String message) {
+        Json json = Json.read(message);
+
+        if (json.is(ACTION, ACTION_ERROR)) {
+            LOG.error("Error while loading batch {}: {}", json.at(BATCH_ID), json.at(REST.BulkLoad.ERROR));
+            // Errors without a batch id are about the template rather than a batch
+            if (!json.has(BATCH_ID)) return;
+            failures.incrementAndGet();
+            if (json.has(FAILED)) failedRows.addAndGet(json.at(FAILED).asJsonList().size());
+        } else if (!json.is(ACTION, ACTION_ACK)) {
+            return;
+        }
+
+        try {
+            onCompletionOfBatch.accept(json);
+        } finally {
+            blocker.release();
+        }
+    }
+
+    @OnWebSocketClose
+    public void onClose(int statusCode, String reason) {
+        // 1000 = Normal close, 1001 = Going away
+        if (statusCode != 1000 && statusCode != 1001) {
+            LOG.error("Websocket closed, code: " + statusCode + ", reason: " + reason);
+        }
+        // Nothing more will be acknowledged, so unblock anyone waiting
+        blocker.release(blockerSize);
+    }
+
+    private void send(Json json) {
+        try {
+            session.getRemote().sendString(json.toString());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import static ai.grakn.util.REST.Request.LIMIT_PARAM;
 import static ai.grakn.util.REST.Request.TASKS_PARAM;
 import static ai.grakn.util.REST.Request.TASK_CLASS_NAME_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_CREATOR_PARAMETER;
+import static ai.grakn.util.REST.Request.TASK_PRIORITY_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_RUN_AT_PARAMETER;
 import static ai.grakn.util.REST.Request.TASK_RUN_INTERVAL_PARAMETER;
 import static ai.grakn.util.REST.WebPath.Tasks.GET;
@@ -46,6 +47,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.time.Instant;
+import javax.annotation.Nullable;
 import mjson.Json;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
@@ -90,10 +92,11 @@ public class TaskClient extends Client {
      * @return Identifier of the submitted task that will be executed on a server
      */
     public TaskId sendTask(Class<?> taskClass, String creator, Instant runAt, Duration interval, Json configuration) {
-        return sendTask(taskClass.getName(), creator, runAt, interval, configuration, -1);
+        return sendTask(taskClass.getName(), creator, runAt, interval, configuration, -1, null);
     }
 
-    TaskId sendTask(String taskClass, String creator, Instant runAt, Duration interval, Json configuration, long limit){
+    TaskId sendTask(String taskClass, String creator, Instant runAt, Duration interval, Json configuration, long limit,
+                    @Nullable String priority){
         try {
             URIBuilder uri = new URIBuilder(TASKS)
                     .setScheme(DEFAULT_SCHEME_NAME)
@@ -115,6 +118,10 @@ public class TaskClient extends Client {
                 taskBuilder.put(TASK_RUN_INTERVAL_PARAMETER, Long.toString(interval.toMillis()));
             }
 
+            if (priority != null){
+                taskBuilder.put(TASK_PRIORITY_PARAMETER, priority);
+            }
+
             Json jsonTask = Json.make(taskBuilder.build());
             jsonTask.set(CONFIGURATION_PARAM, configuration);
 
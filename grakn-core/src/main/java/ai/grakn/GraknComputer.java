@@ -77,8 +77,45 @@ public interface GraknComputer {
     ComputerResult compute(@Nullable VertexProgram program, @Nullable MapReduce mapReduce,
                            @Nullable Set<LabelId> types);
 
+    /**
+     * Provide an estimate of how many vertices the subgraphs computed over will have. Subgraphs which are estimated
+     * to be small enough may be copied into memory and computed locally instead.
+     *
+     * @param vertices the estimated number of vertices in the subgraph
+     * @return this graph computer
+     */
+    GraknComputer estimatedSubgraphSize(long vertices);
+
+    /**
+     * Choose where subgraphs are computed, overriding the choice made from {@link #estimatedSubgraphSize(long)}
+     *
+     * @param backend where to compute subgraphs
+     * @return this graph computer
+     */
+    GraknComputer backend(Backend backend);
+
     /**
      * Kill all the jobs the graph computer has
      */
     void killJobs();
+
+    /**
+     * Where a {@link GraknComputer} computes subgraphs. Knowledge bases kept in memory are always computed locally.
+     */
+    enum Backend {
+        /**
+         * Copy subgraphs estimated to be small into memory and compute them locally, and compute the rest with spark
+         */
+        AUTOMATIC,
+
+        /**
+         * Copy subgraphs into memory and compute them locally, whatever their size
+         */
+        LOCAL,
+
+        /**
+         * Compute subgraphs with spark, whatever their size
+         */
+        SPARK
+    }
 }
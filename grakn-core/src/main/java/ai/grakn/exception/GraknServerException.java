@@ -23,11 +23,13 @@ import static ai.grakn.util.ErrorMessage.CANNOT_DELETE_KEYSPACE;
 import static ai.grakn.util.ErrorMessage.ENGINE_ERROR;
 import static ai.grakn.util.ErrorMessage.EXPLAIN_ONLY_MATCH;
 import static ai.grakn.util.ErrorMessage.INVALID_CONTENT_TYPE;
+import static ai.grakn.util.ErrorMessage.INVALID_QUERY_PARAMETER;
 import static ai.grakn.util.ErrorMessage.INVALID_QUERY_USAGE;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_BODY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_REQUEST_BODY;
 import static ai.grakn.util.ErrorMessage.NO_CONCEPT_IN_KEYSPACE;
+import static ai.grakn.util.ErrorMessage.NO_PREPARED_QUERY;
 import static ai.grakn.util.ErrorMessage.UNAVAILABLE_TASK_CLASS;
 import static ai.grakn.util.ErrorMessage.UNSUPPORTED_CONTENT_TYPE;
 
@@ -150,6 +152,20 @@ public class GraknServerException extends GraknBackendException {
         return new GraknServerException(NO_CONCEPT_IN_KEYSPACE.getMessage(conceptId, keyspace), 404);
     }
 
+    /**
+     * Thrown when a requested prepared query is not found
+     */
+    public static GraknServerException noPreparedQuery(String handle){
+        return new GraknServerException(NO_PREPARED_QUERY.getMessage(handle), 404);
+    }
+
+    /**
+     * Thrown when a parameter of a prepared query cannot be bound to the given value
+     */
+    public static GraknServerException invalidQueryParameter(String parameter, String value){
+        return new GraknServerException(INVALID_QUERY_PARAMETER.getMessage(value, parameter), 400);
+    }
+
     /**
      * Thrown when an internal server error occurs. This is likely due to incorrect configs
      */
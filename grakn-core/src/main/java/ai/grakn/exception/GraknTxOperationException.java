@@ -36,6 +36,7 @@ import java.util.stream.Collectors;
 
 import static ai.grakn.util.ErrorMessage.CLOSE_FAILURE;
 import static ai.grakn.util.ErrorMessage.HAS_INVALID;
+import static ai.grakn.util.ErrorMessage.INVALID_CONFIG_VALUE;
 import static ai.grakn.util.ErrorMessage.INVALID_DIRECTION;
 import static ai.grakn.util.ErrorMessage.INVALID_PATH_TO_CONFIG;
 import static ai.grakn.util.ErrorMessage.INVALID_PROPERTY_USE;
@@ -176,6 +177,13 @@ public class GraknTxOperationException extends GraknException{
         return new GraknTxOperationException(ErrorMessage.TRANSACTION_READ_ONLY.getMessage(tx.getKeyspace()));
     }
 
+    /**
+     * Thrown when attempting to recycle a transaction which is not read only
+     */
+    public static GraknTxOperationException transactionNotRecyclable(GraknTx tx){
+        return new GraknTxOperationException("Only read only transactions on keyspace [" + tx.getKeyspace() + "] can be recycled");
+    }
+
     /**
      * Thrown when attempting to mutate the schema while the transaction is in batch mode
      */
@@ -229,6 +237,13 @@ public class GraknTxOperationException extends GraknException{
         return new GraknTxOperationException(INVALID_PATH_TO_CONFIG.getMessage(pathToFile));
     }
 
+    /**
+     * Thrown when a config parameter is set to a value which cannot be used
+     */
+    public static GraknTxOperationException invalidConfigValue(String parameter, String value, String expected){
+        return new GraknTxOperationException(INVALID_CONFIG_VALUE.getMessage(parameter, value, expected));
+    }
+
     /**
      * Thrown when trying to create something using a label reserved by the system
      */
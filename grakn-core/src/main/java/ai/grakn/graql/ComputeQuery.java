@@ -18,6 +18,7 @@
 
 package ai.grakn.graql;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 
@@ -54,6 +55,16 @@ public interface ComputeQuery<T> extends Query<T> {
     @CheckReturnValue
     ComputeQuery<T> in(Collection<Label> subLabels);
 
+    /**
+     * Choose where the subgraph is computed. By default subgraphs estimated to be small are computed locally, and
+     * the rest with spark. This is not part of the Graql syntax, because it does not change the answer of the query.
+     *
+     * @param backend where to compute the subgraph
+     * @return a ComputeQuery with the backend set
+     */
+    @CheckReturnValue
+    ComputeQuery<T> backend(GraknComputer.Backend backend);
+
     /**
      * kill the compute query, terminate the job
      */
@@ -0,0 +1,54 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Map;
+
+/**
+ * A Graql query which is parsed once and then executed many times with different parameters.
+ * <p>
+ * Any variable of the query can be used as a parameter. For example, {@code $name} in
+ * {@code match $x has name $name; select $x;} can be bound to {@code "Bob"} to find everything named Bob.
+ *
+ * @param <T> The type of the query
+ *
+ * @author Grakn Warriors
+ */
+public interface PreparedQuery<T extends Query<?>> {
+
+    /**
+     * @return the query, without any parameters bound
+     */
+    @CheckReturnValue
+    T query();
+
+    /**
+     * Bind variables of the query to concepts or values. A {@link ConceptId} or a {@link Concept} binds a variable
+     * to a concept, anything else binds it to a value.
+     *
+     * @param parameters the concept or value of each parameter, by the name of its variable
+     * @return the query with the given parameters bound
+     */
+    @CheckReturnValue
+    T bind(Map<String, ?> parameters);
+}
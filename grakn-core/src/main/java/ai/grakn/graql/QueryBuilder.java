@@ -111,6 +111,13 @@ public interface QueryBuilder {
     @CheckReturnValue
     <T extends Query<?>> Stream<T> parseList(String queryString);
 
+    /**
+     * @param queryString a string representing a query, whose variables may be bound as parameters
+     * @return a prepared query, which can be executed many times with different parameters without parsing it again
+     */
+    @CheckReturnValue
+    <T extends Query<?>> PreparedQuery<T> prepare(String queryString);
+
     /**
      * @param template a string representing a templated graql query
      * @param data data to use in template
@@ -24,8 +24,10 @@ import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.Var;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Admin class for inspecting and manipulating a MatchQuery
@@ -64,4 +66,28 @@ public interface MatchQueryAdmin extends MatchQuery {
      */
     @CheckReturnValue
     Set<Var> getSelectedNames();
+
+    /**
+     * @param bindings patterns binding variables of the query to concepts or values
+     * @return the same query, also matching the given patterns
+     * @throws ai.grakn.exception.GraqlQueryException if a bound variable is not in the query
+     */
+    @CheckReturnValue
+    MatchQueryAdmin bind(Collection<VarPatternAdmin> bindings);
+
+    /**
+     * Count the answers of the query, without building the concepts in them where possible
+     * @return the number of answers to the query
+     */
+    @CheckReturnValue
+    long countAnswers();
+
+    /**
+     * Read the value of an attribute in every answer of the query, without building the concepts in them where
+     * possible
+     * @param var the variable of the attribute
+     * @return the value of the attribute in every answer of the query
+     */
+    @CheckReturnValue
+    Stream<Object> getAttributeValues(Var var);
 }
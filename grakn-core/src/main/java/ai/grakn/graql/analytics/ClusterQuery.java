@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.graql.ComputeQuery;
@@ -63,6 +64,13 @@ public interface ClusterQuery<T> extends ComputeQuery<T> {
     @Override
     ClusterQuery<T> in(Collection<Label> subLabels);
 
+    /**
+     * @param backend where to compute the subgraph
+     * @return a ClusterQuery with the backend set
+     */
+    @Override
+    ClusterQuery<T> backend(GraknComputer.Backend backend);
+
     /**
      * @param tx the graph to execute the query on
      * @return a ClusterQuery with the graph set
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.graql.ComputeQuery;
@@ -46,6 +47,13 @@ public interface CountQuery extends ComputeQuery<Long> {
     @Override
     CountQuery in(Collection<Label> subLabels);
 
+    /**
+     * @param backend where to compute the subgraph
+     * @return a CountQuery with the backend set
+     */
+    @Override
+    CountQuery backend(GraknComputer.Backend backend);
+
     /**
      * Execute the query.
      *
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.graql.ComputeQuery;
@@ -47,6 +48,13 @@ public interface DegreeQuery extends ComputeQuery<Map<Long, Set<String>>> {
     @Override
     DegreeQuery in(Collection<Label> subLabels);
 
+    /**
+     * @param backend where to compute the subgraph
+     * @return a DegreeQuery with the backend set
+     */
+    @Override
+    DegreeQuery backend(GraknComputer.Backend backend);
+
     /**
      * @param ofTypeLabels an array of types in the subgraph to compute degree of. By default the degrees of all the
      *                    types in the graph will be computed
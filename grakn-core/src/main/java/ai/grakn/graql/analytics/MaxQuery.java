@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.graql.ComputeQuery;
@@ -58,6 +59,13 @@ public interface MaxQuery extends ComputeQuery<Optional<Number>> {
     @Override
     MaxQuery in(Collection<Label> subLabels);
 
+    /**
+     * @param backend where to compute the subgraph
+     * @return a MaxQuery with the backend set
+     */
+    @Override
+    MaxQuery backend(GraknComputer.Backend backend);
+
     /**
      * Execute the query.
      *
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.graql.ComputeQuery;
@@ -58,6 +59,13 @@ public interface MeanQuery extends ComputeQuery<Optional<Double>> {
     @Override
     MeanQuery in(Collection<Label> subLabels);
 
+    /**
+     * @param backend where to compute the subgraph
+     * @return a MeanQuery with the backend set
+     */
+    @Override
+    MeanQuery backend(GraknComputer.Backend backend);
+
     /**
      * Execute the query.
      *
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
@@ -61,6 +62,13 @@ public interface PathQuery extends ComputeQuery<Optional<List<Concept>>> {
     @Override
     PathQuery in(Collection<Label> subLabels);
 
+    /**
+     * @param backend where to compute the subgraph
+     * @return a PathQuery with the backend set
+     */
+    @Override
+    PathQuery backend(GraknComputer.Backend backend);
+
     /**
      * Execute the query.
      *
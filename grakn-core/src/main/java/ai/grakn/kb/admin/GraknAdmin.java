@@ -167,6 +167,21 @@ public interface GraknAdmin {
      */
     Optional<String> commitNoLogs() throws InvalidKBException;
 
+    /**
+     * Check if the transaction has added, removed or modified any concepts which have not been committed yet
+     * @return true if the transaction has uncommitted changes
+     */
+    @CheckReturnValue
+    boolean hasUncommittedChanges();
+
+    /**
+     * Get the version of the data of the keyspace when the transaction was opened. Every commit to the keyspace
+     * bumps the version, so anything derived from the data at one version is out of date at a later one.
+     * @return the version of the data seen by the transaction
+     */
+    @CheckReturnValue
+    long dataVersion();
+
     /**
      * Check if there are duplicate resources in the provided set of vertex IDs
      * @param index index of the resource to find duplicates of
@@ -190,6 +205,32 @@ public interface GraknAdmin {
      */
     void updateConceptCounts(Map<ConceptId, Long> conceptCounts);
 
+    /**
+     * Get the statistics of the keyspace, which are shared across all transactions on the same keyspace
+     *
+     * @return the {@link KeyspaceStatistics} used to estimate the cost of queries
+     */
+    @CheckReturnValue
+    KeyspaceStatistics statistics();
+
+    /**
+     * Get the maximum number of concepts a shortest path search may visit on this transaction before the path is
+     * computed with a graph computer instead
+     *
+     * @return the path search budget configured for the keyspace
+     */
+    @CheckReturnValue
+    long pathSearchBudget();
+
+    /**
+     * Get the version of the schema which this transaction reads. The version changes whenever the schema of the
+     * keyspace changes, so it can be used to know when something derived from the schema is out of date.
+     *
+     * @return the version of the schema, or nothing if this transaction has changed the schema
+     */
+    @CheckReturnValue
+    Optional<Long> schemaVersion();
+
     /**
      * Creates a new shard for the concept
      * @param conceptId the id of the concept to shard
@@ -211,6 +252,13 @@ public interface GraknAdmin {
      */
     void closeSession();
 
+    /**
+     * Rolls back the underlying transaction of a read only {@link ai.grakn.GraknTx} and forgets any instances read in
+     * it, while keeping the schema cached in the transaction. The transaction stays open and will read the latest
+     * data, so it can be reused for another request without cloning the schema again.
+     */
+    void recycle();
+
     /**
      * Immediately closes the session and deletes the graph.
      * Should be used with caution as this will invalidate any pending transactions
@@ -0,0 +1,66 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.kb.admin;
+
+import ai.grakn.concept.Label;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Optional;
+
+/**
+ * <p>
+ *     Statistics about the data in a keyspace
+ * </p>
+ *
+ * <p>
+ *     Approximate counts which are shared across all transactions on the same keyspace. These are used by the query
+ *     planner in order to estimate how expensive a traversal is, for example how many instances will be found when
+ *     starting from a type. The values are only estimates and may lag behind the actual data.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public interface KeyspaceStatistics {
+
+    /**
+     * @param label The {@link Label} of a type
+     * @return The approximate number of direct instances of the type, if known
+     */
+    @CheckReturnValue
+    Optional<Long> instanceCount(Label label);
+
+    /**
+     * Records the approximate number of direct instances of a type
+     *
+     * @param label The {@link Label} of the type
+     * @param count The number of instances the type has
+     */
+    void setInstanceCount(Label label, long count);
+
+    /**
+     * The version of the statistics. It changes whenever a count changes by enough to change the estimated cost of
+     * queries, which is when a type first gets a count or its count crosses a power of two. So anything planned
+     * using the statistics can be cached alongside the version it was planned at.
+     *
+     * @return the version of the statistics
+     */
+    @CheckReturnValue
+    long version();
+}
@@ -111,6 +111,7 @@ public enum ErrorMessage {
     INVALID_PATH_TO_CONFIG("Unable to open config file [%s]"),
     INVALID_COMPUTER("The graph computer [%s] is not supported"),
     CONFIG_IGNORED("The config parameter [%s] with value [%s] is ignored for this implementation"),
+    INVALID_CONFIG_VALUE("The config parameter [%s] has the value [%s] but must be %s"),
     CANNOT_PRODUCE_TX("Cannot produce a Grakn Transaction using the backend [%s]"),
 
     //--------------------------------------------- Client Errors
@@ -176,6 +177,10 @@ public enum ErrorMessage {
     UNSUPPORTED_CONTENT_TYPE("Unsupported Content-Type [%s] requested"),
     INVALID_CONTENT_TYPE("Invalid combination of query [%s] and content type [%s]"),
     EXPLAIN_ONLY_MATCH("Cannot get explanation for non-match query, given: [%s]"),
+    NO_PREPARED_QUERY("No prepared query with handle [%s]. Prepared queries are only kept by the engine or shell " +
+            "session which prepared them, until they expire or it restarts. Prepare the query again, which gives " +
+            "the same handle."),
+    INVALID_QUERY_PARAMETER("Invalid value [%s] for query parameter [%s]. It must be a string, number, boolean or {\"id\": <concept id>}."),
     INVALID_QUERY_USAGE("Only %s queries are allowed."),
     MISSING_TASK_ID("Could not retrieve id %s"),
     TASK_STATE_RETRIEVAL_FAILURE("Could not get state from storage %s"),
@@ -0,0 +1,48 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.util;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SharedMetricRegistries;
+
+/**
+ * <p>
+ *     The metrics recorded by the knowledge bases and queries of this process
+ * </p>
+ *
+ * <p>
+ *     Knowledge bases and queries are not handed a {@link MetricRegistry}, so they record their metrics in a registry
+ *     shared by the whole process. Engine adds these metrics to its own registry so they are reported with the rest.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class GraknMetrics {
+
+    private static final String REGISTRY = "grakn";
+
+    private GraknMetrics() {}
+
+    /**
+     * @return the registry shared by the whole process
+     */
+    public static MetricRegistry registry() {
+        return SharedMetricRegistries.getOrCreate(REGISTRY);
+    }
+}
@@ -34,6 +34,8 @@ public class REST {
 
         public static final String REMOTE_SHELL_URI = "/shell/remote";
 
+        public static final String BULK_LOAD_URI = "/kb/bulk";
+
         /**
          * URIs to visualiser controller
          */
@@ -41,6 +43,8 @@ public class REST {
             @Deprecated
             public static final String GRAQL = "/kb/graql";
             public static final String ANY_GRAQL = "/kb/graql/execute";
+            public static final String PREPARE_GRAQL = "/kb/graql/prepare";
+            public static final String PREPARED_GRAQL = "/kb/graql/prepared/";
         }
 
         /**
@@ -120,6 +124,8 @@ public class REST {
         public static final String COMMIT_LOG_COUNTING = "types-with-new-counts";
         public static final String COMMIT_LOG_CONCEPT_ID = "concept-id";
         public static final String COMMIT_LOG_SHARDING_COUNT = "sharding-count";
+        public static final String COMMIT_LOG_SCHEMA = "schema-changes";
+        public static final String COMMIT_LOG_ORIGIN = "origin";
 
         /**
          * Concept controller request parameters
@@ -137,6 +143,8 @@ public class REST {
             public static final String INFER = "infer";
             public static final String MATERIALISE = "materialise";
             public static final String LIMIT_EMBEDDED = "limitEmbedded";
+            public static final String STREAM = "stream";
+            public static final String HANDLE = "handle";
         }
     }
 
@@ -227,6 +235,10 @@ public class REST {
         public static final String ACTION_PING = "ping";
         public static final String ACTION_TYPES = "types";
         public static final String ACTION_DISPLAY = "display";
+        public static final String ACTION_CREDIT = "credit";
+        public static final String ACTION_STOP = "stop";
+        public static final String ACTION_PREPARE = "prepare";
+        public static final String ACTION_EXECUTE = "execute";
 
         public static final String USERNAME = "username";
         public static final String PASSWORD = "password";
@@ -239,5 +251,32 @@ public class REST {
         public static final String ERROR = "error";
         public static final String TYPES = "types";
         public static final String DISPLAY = "display";
+        public static final String CREDIT = "credit";
+        public static final String HANDLE = "handle";
+        public static final String PARAMETERS = "parameters";
+    }
+
+    /**
+     * Class listing various strings used in the JSON messages sent using websockets for bulk loading.
+     */
+    public static class BulkLoad {
+        public static final String ACTION = "action";
+        public static final String ACTION_INIT = "init";
+        public static final String ACTION_TEMPLATE = "template";
+        public static final String ACTION_BATCH = "batch";
+        public static final String ACTION_ACK = "ack";
+        public static final String ACTION_ERROR = "error";
+
+        public static final String USERNAME = "username";
+        public static final String PASSWORD = "password";
+        public static final String KEYSPACE = "keyspace";
+        public static final String QUERY = "query";
+        public static final String BATCH_ID = "id";
+        public static final String COLUMNS = "columns";
+        public static final String ROWS = "rows";
+        public static final String COUNT = "count";
+        public static final String ERROR = "error";
+        public static final String FAILED = "failed";
+        public static final String ROW = "row";
     }
 }
@@ -60,6 +60,14 @@ public class GraknEngineConfig {
     public static final String SERVER_PORT_NUMBER = "server.port";
 
     public static final String LOADER_REPEAT_COMMITS = "loader.repeat-commits";
+    public static final String LOADER_PARTITIONS = "loader.partitions";
+    public static final String LOADER_PARTITION_MAX_ROWS = "loader.partition.max-rows";
+
+    // Threads shared by all Graql shell sessions
+    public static final String SESSION_THREADS = "session.threads";
+
+    // How long in milliseconds a read transaction may be reused across REST requests
+    public static final String READ_TX_MAX_AGE = "rest.read-tx.max-age";
 
     public static final String REDIS_HOST = "redis.host";
     public static final String REDIS_SENTINEL_HOST = "redis.sentinel.host";
@@ -68,6 +76,12 @@ public class GraknEngineConfig {
 
     public static final String QUEUE_CONSUMERS = "queue.consumers";
 
+    // Threads running the tasks of each priority queue and the share of polls each queue gets
+    public static final String QUEUE_HIGH_PRIORITY_THREADS = "queue.high-priority.threads";
+    public static final String QUEUE_LOW_PRIORITY_THREADS = "queue.low-priority.threads";
+    public static final String QUEUE_HIGH_PRIORITY_WEIGHT = "queue.high-priority.weight";
+    public static final String QUEUE_LOW_PRIORITY_WEIGHT = "queue.low-priority.weight";
+
     public static final String STATIC_FILES_PATH = "server.static-file-dir";
 
     // Engine Config
@@ -77,6 +91,9 @@ public class GraknEngineConfig {
     public static final String POST_PROCESSING_TASK_DELAY = "tasks.postprocessing.delay";
     public static final String TASKS_RETRY_DELAY = "tasks.retry.delay";
 
+    // Total number of answers held by the reasoner answer cache shared across transactions
+    public static final String REASONER_ANSWER_CACHE_SIZE = "reasoner.answer-cache.max-answers";
+
     public static final int WEBSOCKET_TIMEOUT = 3600000;
 
     private static String configFilePath = null;
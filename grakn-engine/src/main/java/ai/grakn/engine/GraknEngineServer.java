@@ -31,12 +31,18 @@ import ai.grakn.engine.controller.GraqlController;
 import ai.grakn.engine.controller.SystemController;
 import ai.grakn.engine.controller.TasksController;
 import ai.grakn.engine.controller.UserController;
+import ai.grakn.engine.data.DataChangeChannel;
+import ai.grakn.engine.data.KeyspaceDeletionChannel;
 import ai.grakn.engine.data.RedisWrapper;
 import ai.grakn.engine.data.RedisWrapper.Builder;
+import ai.grakn.engine.data.SchemaChangeChannel;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.factory.ReadTxPool;
+import ai.grakn.engine.loader.BulkLoadSocket;
 import ai.grakn.engine.lock.JedisLockProvider;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.lock.ProcessWideLockProvider;
+import ai.grakn.engine.session.GraqlSessionRuntime;
 import ai.grakn.engine.session.RemoteSession;
 import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.tasks.manager.StandaloneTaskManager;
@@ -47,9 +53,19 @@ import ai.grakn.engine.util.EngineID;
 import ai.grakn.engine.util.JWTHandler;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.GraknServerException;
+import ai.grakn.graql.internal.reasoner.cache.SharedAnswerCache;
+import ai.grakn.kb.internal.cache.DataVersions;
+import ai.grakn.kb.internal.cache.SchemaChangeBus;
+import ai.grakn.util.GraknMetrics;
 import ai.grakn.util.REST;
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricRegistryListener;
+import com.codahale.metrics.Timer;
 import static com.codahale.metrics.MetricRegistry.name;
 import com.codahale.metrics.jvm.CachedThreadStatesGaugeSet;
 import com.codahale.metrics.jvm.GarbageCollectorMetricSet;
@@ -96,14 +112,26 @@ public class GraknEngineServer implements AutoCloseable {
     private final TaskManager taskManager;
     private final EngineGraknTxFactory factory;
     private final MetricRegistry metricRegistry;
+    private final MetricRegistryListener graknMetricsListener;
     private final LockProvider lockProvider;
     private final GraknEngineStatus graknEngineStatus = new GraknEngineStatus();
     private final RedisWrapper redisWrapper;
+    private final KeyspaceDeletionChannel keyspaceDeletionChannel;
+    private final SchemaChangeChannel schemaChangeChannel;
+    private final DataChangeChannel dataChangeChannel;
+    private final GraqlSessionRuntime graqlSessionRuntime;
+    // Created when HTTP starts, and closed when it stops
+    private @Nullable BulkLoadSocket bulkLoadSocket = null;
 
     public GraknEngineServer(GraknEngineConfig prop) {
         this.prop = prop;
         // Metrics
         this.metricRegistry = new MetricRegistry();
+        // Metrics recorded by the knowledge bases and queries of this process
+        this.graknMetricsListener = new ForwardingMetricListener(metricRegistry);
+        GraknMetrics.registry().addListener(graknMetricsListener);
+        // Reasoner answers shared across transactions
+        configureAnswerCache();
         // Redis connection pool
         this.redisWrapper = instantiateRedis(prop);
         // Lock provider
@@ -112,6 +140,18 @@ public class GraknEngineServer implements AutoCloseable {
         this.lockProvider = inMemoryQueue ? new ProcessWideLockProvider()
                 : new JedisLockProvider(redisWrapper.getJedisPool());
         this.factory = EngineGraknTxFactory.create(prop.getProperties());
+        metricRegistry.register(name(ReadTxPool.class, "hits"), factory.readTxPool().hits());
+        metricRegistry.register(name(ReadTxPool.class, "misses"), factory.readTxPool().misses());
+        metricRegistry.register(name(ReadTxPool.class, "waits"), factory.readTxPool().waits());
+        // Keep known keyspaces coherent with other engines
+        this.keyspaceDeletionChannel = KeyspaceDeletionChannel.start(redisWrapper.getJedisPool(), factory.systemKeyspace());
+        // Keep cached schemas coherent with other engines
+        this.schemaChangeChannel = SchemaChangeChannel.start(redisWrapper.getJedisPool(), SchemaChangeBus.get(), engineId);
+        // Keep reasoner answers shared across transactions coherent with commits on other engines
+        this.dataChangeChannel = DataChangeChannel.start(redisWrapper.getJedisPool(), DataVersions.get(), engineId);
+        // Threads shared by all Graql shell sessions
+        this.graqlSessionRuntime = GraqlSessionRuntime.create(prop.tryIntProperty(GraknEngineConfig.SESSION_THREADS,
+                2 * Runtime.getRuntime().availableProcessors()));
         // Task manager
         this.taskManager = startTaskManager(inMemoryQueue, redisWrapper.getJedisPool(), lockProvider);
     }
@@ -133,6 +173,7 @@ public class GraknEngineServer implements AutoCloseable {
                 prop.getProperty(GraknEngineConfig.SERVER_PORT_NUMBER));
         synchronized (this){
             lockAndInitializeSystemSchema();
+            factory.systemKeyspace().loadKeyspaces();
             startHTTP();
         }
         graknEngineStatus.setReady(true);
@@ -144,10 +185,25 @@ public class GraknEngineServer implements AutoCloseable {
         synchronized (this) {
             stopTaskManager();
             stopHTTP();
+            graqlSessionRuntime.close();
+            keyspaceDeletionChannel.close();
+            schemaChangeChannel.close();
+            dataChangeChannel.close();
             redisWrapper.close();
+            SharedAnswerCache.get().clear();
+            GraknMetrics.registry().removeListener(graknMetricsListener);
         }
     }
 
+    private void configureAnswerCache() {
+        SharedAnswerCache answerCache = SharedAnswerCache.get();
+        answerCache.setMaxAnswers(prop.tryProperty(GraknEngineConfig.REASONER_ANSWER_CACHE_SIZE).map(Long::parseLong).orElse(0L));
+        metricRegistry.register(name(SharedAnswerCache.class, "hits"), (Gauge<Long>) answerCache::hits);
+        metricRegistry.register(name(SharedAnswerCache.class, "misses"), (Gauge<Long>) answerCache::misses);
+        metricRegistry.register(name(SharedAnswerCache.class, "evictions"), (Gauge<Long>) answerCache::evictions);
+        metricRegistry.register(name(SharedAnswerCache.class, "size"), (Gauge<Long>) answerCache::answerSize);
+    }
+
     private void lockAndInitializeSystemSchema() {
         try {
             Lock lock = lockProvider.getLock(LOAD_SYSTEM_SCHEMA_LOCK_NAME);
@@ -216,9 +272,17 @@ public class GraknEngineServer implements AutoCloseable {
         configureSpark(spark, prop, jwtHandler);
 
         // Start the websocket for Graql
-        RemoteSession graqlWebSocket = passwordProtected ? RemoteSession.passwordProtected(usersHandler) : RemoteSession.create();
+        RemoteSession graqlWebSocket = passwordProtected ?
+                RemoteSession.passwordProtected(usersHandler, graqlSessionRuntime) :
+                RemoteSession.create(graqlSessionRuntime);
         spark.webSocket(REST.WebPath.REMOTE_SHELL_URI, graqlWebSocket);
 
+        // Start the websocket for bulk loading
+        bulkLoadSocket = passwordProtected ?
+                BulkLoadSocket.passwordProtected(factory, taskManager, prop, metricRegistry, usersHandler) :
+                BulkLoadSocket.create(factory, taskManager, prop, metricRegistry);
+        spark.webSocket(REST.WebPath.BULK_LOAD_URI, bulkLoadSocket);
+
         String defaultKeyspace = prop.getProperty(GraknEngineConfig.DEFAULT_KEYSPACE_PROPERTY);
         int postProcessingDelay = prop.getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY);
 
@@ -287,6 +351,12 @@ public class GraknEngineServer implements AutoCloseable {
                 running = false;
             }
         }
+
+        // No more batches can be received, so finish loading those already received
+        if (bulkLoadSocket != null) {
+            bulkLoadSocket.close();
+            bulkLoadSocket = null;
+        }
     }
 
     private void stopTaskManager() {
@@ -388,4 +458,70 @@ public class GraknEngineServer implements AutoCloseable {
         LOG.info("\n" + String.format(GraknEngineConfig.GRAKN_ASCII, address));
         LOG.info("\n==================================================");
     }
+
+    /**
+     * Adds the metrics of a shared registry to the registry of this engine, and removes them again when they are
+     * removed from the shared registry
+     */
+    private static class ForwardingMetricListener implements MetricRegistryListener {
+        private final MetricRegistry registry;
+
+        ForwardingMetricListener(MetricRegistry registry) {
+            this.registry = registry;
+        }
+
+        private void add(String name, Metric metric) {
+            if (!registry.getNames().contains(name)) registry.register(name, metric);
+        }
+
+        @Override
+        public void onGaugeAdded(String name, Gauge<?> gauge) {
+            add(name, gauge);
+        }
+
+        @Override
+        public void onGaugeRemoved(String name) {
+            registry.remove(name);
+        }
+
+        @Override
+        public void onCounterAdded(String name, Counter counter) {
+            add(name, counter);
+        }
+
+        @Override
+        public void onCounterRemoved(String name) {
+            registry.remove(name);
+        }
+
+        @Override
+        public void onHistogramAdded(String name, Histogram histogram) {
+            add(name, histogram);
+        }
+
+        @Override
+        public void onHistogramRemoved(String name) {
+            registry.remove(name);
+        }
+
+        @Override
+        public void onMeterAdded(String name, Meter meter) {
+            add(name, meter);
+        }
+
+        @Override
+        public void onMeterRemoved(String name) {
+            registry.remove(name);
+        }
+
+        @Override
+        public void onTimerAdded(String name, Timer timer) {
+            add(name, timer);
+        }
+
+        @Override
+        public void onTimerRemoved(String name) {
+            registry.remove(name);
+        }
+    }
 }
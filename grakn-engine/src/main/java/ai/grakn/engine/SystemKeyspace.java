@@ -35,7 +35,11 @@ import com.google.common.base.Stopwatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -54,13 +58,21 @@ import java.util.concurrent.ConcurrentHashMap;
  * keyspace. An element is added to that list when there is an attempt to create
  * a graph from a factory bound to the keyspace name. The list is simply the
  * instances of the system entity type 'keyspace'. Nothing is ever removed from
- * that list. The set of known keyspaces is maintained in a static map so we
+ * that list. The set of known keyspaces is cached in memory so we
  * don't connect to the system keyspace every time a factory produces a new
  * graph. That means that we can't have several different factories (e.g. Janus
  * and in-memory Tinkerpop) at the same time sharing keyspace names. We can't
  * identify the factory builder by engineUrl and config because we don't know
  * what's inside the config, which is residing remotely at the engine!
  * </p>
+ *
+ * <p>
+ * The cache is filled from the system keyspace at startup by {@link #loadKeyspaces()} and
+ * updated as keyspaces are created and deleted. A keyspace missing from the cache is always
+ * looked up in the system keyspace, so keyspaces created by other engines are found. Deletions
+ * on other engines must be passed to {@link #forgetKeyspace(String)}, see
+ * {@link #onKeyspaceDeleted(Consumer)}.
+ * </p>
  * 
  * @author borislav, fppt
  *
@@ -75,7 +87,8 @@ public class SystemKeyspace {
     public static final Label KEYSPACE_RESOURCE = Label.of("keyspace-name");
 
     private static final Logger LOG = LoggerFactory.getLogger(SystemKeyspace.class);
-    private final ConcurrentHashMap<String, Boolean> openSpaces;
+    private final Set<String> knownKeyspaces = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<String>> deletionListeners = new CopyOnWriteArrayList<>();
     private final EngineGraknTxFactory factory;
 
     public SystemKeyspace(EngineGraknTxFactory factory){
@@ -84,7 +97,6 @@ public class SystemKeyspace {
 
     public SystemKeyspace(EngineGraknTxFactory factory, boolean loadSystemSchema){
         this.factory = factory;
-        this.openSpaces = new ConcurrentHashMap<>();
         if (loadSystemSchema) {
             loadSystemSchema();
         }
@@ -94,7 +106,7 @@ public class SystemKeyspace {
      * Notify that we just opened a keyspace with the same engineUrl & config.
      */
      public boolean ensureKeyspaceInitialised(String keyspace) {
-         if(openSpaces.containsKey(keyspace)){
+         if(knownKeyspaces.contains(keyspace)){
              return true;
          }
 
@@ -112,20 +124,67 @@ public class SystemKeyspace {
             throw new RuntimeException("Could not add keyspace [" + keyspace + "] to system graph", e);
         }
 
+        knownKeyspaces.add(keyspace);
         return true;
     }
 
     /**
-     * Checks if the keyspace exists in the system. The persisted graph is checked each time because the graph
-     * may have been deleted in another JVM.
+     * Checks if the keyspace exists in the system. The persisted graph is only checked when the keyspace is not
+     * already known, because it may have been created in another JVM.
      *
      * @param keyspace The keyspace which might be in the system
      * @return true if the keyspace is in the system
      */
     public boolean containsKeyspace(String keyspace){
+        if(knownKeyspaces.contains(keyspace)){
+            return true;
+        }
+
+        boolean exists;
+        try (GraknTx graph = factory.tx(SYSTEM_KB_NAME, GraknTxType.READ)) {
+            exists = graph.getAttributeType(KEYSPACE_RESOURCE.getValue()).getAttribute(keyspace) != null;
+        }
+        if(exists) knownKeyspaces.add(keyspace);
+        return exists;
+    }
+
+    /**
+     * Fill the cache of known keyspaces with all the keyspaces in the system keyspace
+     */
+    public void loadKeyspaces(){
         try (GraknTx graph = factory.tx(SYSTEM_KB_NAME, GraknTxType.READ)) {
-            return graph.getAttributeType(KEYSPACE_RESOURCE.getValue()).getAttribute(keyspace) != null;
+            AttributeType<String> keyspaceName = graph.getSchemaConcept(KEYSPACE_RESOURCE);
+            // The system schema may still be loading on another engine
+            if(keyspaceName == null) return;
+            keyspaceName.instances().forEach(attribute -> knownKeyspaces.add(attribute.getValue()));
         }
+        LOG.info("Loaded {} keyspaces from the system keyspace", knownKeyspaces.size());
+    }
+
+    /**
+     * Remove a keyspace from the cache of known keyspaces, because it has been deleted by another engine.
+     * This does not change the system keyspace.
+     *
+     * @param keyspace the keyspace which has been deleted
+     */
+    public void forgetKeyspace(String keyspace){
+        knownKeyspaces.remove(keyspace);
+    }
+
+    /**
+     * Remove all keyspaces from the cache of known keyspaces, so they are looked up in the system keyspace again
+     */
+    public void forgetAllKeyspaces(){
+        knownKeyspaces.clear();
+    }
+
+    /**
+     * Register a listener to be called with the name of every keyspace deleted through {@link #deleteKeyspace(String)}
+     *
+     * @param listener the listener to be called after a keyspace is deleted
+     */
+    public void onKeyspaceDeleted(Consumer<String> listener){
+        deletionListeners.add(listener);
     }
 
     /**
@@ -148,11 +207,11 @@ public class SystemKeyspace {
             if(thing != null) thing.delete();
             attribute.delete();
 
-            openSpaces.remove(keyspace);
-
             graph.admin().commitNoLogs();
         }
 
+        knownKeyspaces.remove(keyspace);
+        deletionListeners.forEach(listener -> listener.accept(keyspace));
         return true;
     }
 
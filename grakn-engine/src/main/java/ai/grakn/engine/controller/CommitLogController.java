@@ -23,13 +23,21 @@ import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskManager;
 import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.kb.internal.cache.DataVersions;
+import ai.grakn.kb.internal.cache.SchemaChange;
+import ai.grakn.kb.internal.cache.SchemaChangeBus;
+import ai.grakn.kb.internal.log.CommitLogHandler;
 import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_COUNTING;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_FIXING;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_ORIGIN;
+import static ai.grakn.util.REST.Request.COMMIT_LOG_SCHEMA;
 import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
+import mjson.Json;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import javax.ws.rs.DELETE;
@@ -75,11 +83,31 @@ public class CommitLogController {
     @ApiImplicitParams({
         @ApiImplicitParam(name = "keyspace", value = "The key space of an opened graph", required = true, dataType = "string", paramType = "path"),
         @ApiImplicitParam(name = COMMIT_LOG_FIXING, value = "A Json Array of IDs representing concepts to be post processed", required = true, dataType = "string", paramType = "body"),
-        @ApiImplicitParam(name = COMMIT_LOG_COUNTING, value = "A Json Array types with new and removed instances", required = true, dataType = "string", paramType = "body")
+        @ApiImplicitParam(name = COMMIT_LOG_COUNTING, value = "A Json Array types with new and removed instances", required = true, dataType = "string", paramType = "body"),
+        @ApiImplicitParam(name = COMMIT_LOG_SCHEMA, value = "A Json Array of the schema changes committed", dataType = "string", paramType = "body"),
+        @ApiImplicitParam(name = COMMIT_LOG_ORIGIN, value = "The process which committed the changes", dataType = "string", paramType = "body")
     })
     private String submitConcepts(Request req, Response res) {
         String keyspace = Optional.ofNullable(req.queryParams(KEYSPACE_PARAM)).orElse(defaultKeyspace);
 
+        Json commitLog = Json.read(req.body());
+
+        // Commits made in this process have already bumped the data version and published their schema changes.
+        // Every commit made elsewhere which changed the graph is logged, so anything derived from the data is now
+        // out of date, and its schema changes have only reached the caches of the process which committed it.
+        if (!isFromThisProcess(commitLog)) {
+            DataVersions.get().committed(keyspace);
+            if (commitLog.has(COMMIT_LOG_SCHEMA)) {
+                commitLog.at(COMMIT_LOG_SCHEMA).asJsonList().forEach(change ->
+                        SchemaChangeBus.get().publish(SchemaChange.fromJson(change)));
+            }
+        }
+
+        if (commitLog.at(COMMIT_LOG_COUNTING).asJsonList().isEmpty() &&
+                commitLog.at(COMMIT_LOG_FIXING).at(Schema.BaseType.ATTRIBUTE.name()).asJsonMap().isEmpty()) {
+            return "Nothing to post process for graph [" + keyspace + "]";
+        }
+
         // Instances to post process
         TaskState postProcessingTaskState = PostProcessingTask.createTask(this.getClass(), postProcessingDelay);
         TaskConfiguration postProcessingTaskConfiguration = PostProcessingTask.createConfig(keyspace, req.body());
@@ -97,4 +125,13 @@ public class CommitLogController {
         // TODO return Json
         return "PP Task [ " + postProcessingTaskState.getId().getValue() + " ] and Counting task [" + countingTaskState.getId().getValue() + "] created for graph [" + keyspace + "]";
     }
+
+    /**
+     * @return true if the commit log was sent by a transaction of this engine, which has already told this engine
+     * about its changes
+     */
+    private static boolean isFromThisProcess(Json commitLog) {
+        return commitLog.has(COMMIT_LOG_ORIGIN) &&
+                CommitLogHandler.PROCESS_ID.equals(commitLog.at(COMMIT_LOG_ORIGIN).asString());
+    }
 }
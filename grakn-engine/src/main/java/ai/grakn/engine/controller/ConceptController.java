@@ -24,6 +24,7 @@ import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.factory.ReadTxPool;
 import ai.grakn.exception.GraknServerException;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
@@ -44,7 +45,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
-import static ai.grakn.GraknTxType.READ;
 import static ai.grakn.engine.controller.GraqlController.getAcceptType;
 import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
 import static ai.grakn.engine.controller.util.Requests.queryParameter;
@@ -109,8 +109,8 @@ public class ConceptController {
         ConceptId conceptId = ConceptId.of(mandatoryRequestParameter(request, ID_PARAMETER));
         int offset = queryParameter(request, OFFSET_EMBEDDED).map(Integer::parseInt).orElse(0);
         int limit = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
-        try(GraknTx tx = factory.tx(keyspace, READ); Context context = conceptIdGetTimer.time()){
-            Concept concept = retrieveExistingConcept(tx, conceptId);
+        try(Context context = conceptIdGetTimer.time(); ReadTxPool.Lease lease = factory.readTxPool().lease(keyspace)){
+            Concept concept = retrieveExistingConcept(lease.tx(), conceptId);
 
             response.type(APPLICATION_HAL);
             response.status(HttpStatus.SC_OK);
@@ -129,7 +129,8 @@ public class ConceptController {
     private String schema(Request request, Response response) {
         String keyspace = mandatoryQueryParameter(request, KEYSPACE);
         validateRequest(request, APPLICATION_ALL, APPLICATION_JSON);
-        try(GraknTx graph = factory.tx(keyspace, READ); Context context = schemaGetTimer.time()){
+        try(Context context = schemaGetTimer.time(); ReadTxPool.Lease lease = factory.readTxPool().lease(keyspace)){
+            GraknTx graph = lease.tx();
             Json responseObj = Json.object();
             responseObj.set(ROLES_JSON_FIELD, subLabels(graph.admin().getMetaRole()));
             responseObj.set(ENTITIES_JSON_FIELD, subLabels(graph.admin().getMetaEntityType()));
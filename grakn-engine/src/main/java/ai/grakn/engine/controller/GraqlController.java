@@ -20,6 +20,8 @@ package ai.grakn.engine.controller;
 
 import ai.grakn.GraknTx;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.factory.ReadTxPool;
+import ai.grakn.engine.util.QueryParameters;
 import ai.grakn.exception.GraknServerException;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.GraqlQueryException;
@@ -27,14 +29,19 @@ import ai.grakn.exception.GraqlSyntaxException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.ComputeQuery;
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.PreparedQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
+import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.analytics.PathQuery;
 import ai.grakn.graql.internal.printer.Printers;
 import ai.grakn.util.REST;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
@@ -51,7 +58,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static ai.grakn.GraknTxType.WRITE;
 import static ai.grakn.engine.controller.util.Requests.mandatoryBody;
@@ -59,12 +72,16 @@ import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
 import static ai.grakn.engine.controller.util.Requests.queryParameter;
 import static ai.grakn.graql.internal.hal.HALBuilder.renderHALArrayData;
 import static ai.grakn.graql.internal.hal.HALBuilder.renderHALConceptData;
+import static ai.grakn.util.REST.Request.Graql.HANDLE;
 import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.STREAM;
+import static ai.grakn.util.REST.Request.ID_PARAMETER;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_TEXT;
 import static com.codahale.metrics.MetricRegistry.name;
@@ -84,18 +101,33 @@ import static java.lang.Boolean.parseBoolean;
 public class GraqlController {
 
     private static final Logger LOG = LoggerFactory.getLogger(GraqlController.class);
+    private static final int MAX_PREPARED_QUERIES = 10_000;
+    private static final long PREPARED_QUERY_EXPIRY_MINUTES = 60;
+
     private final EngineGraknTxFactory factory;
     private final Timer executeGraqlGetTimer;
     private final Timer executeGraqlPostTimer;
+    private final Timer executePreparedGraqlTimer;
+
+    // Queries are parsed once when they are prepared, and forgotten when they have not been used for a while.
+    // They are only known by this engine: a client whose handle is unknown, for example because a load balancer sent
+    // it to another engine or this engine restarted, is told to prepare the query again.
+    private final Cache<String, Prepared> preparedQueries = CacheBuilder.newBuilder()
+            .maximumSize(MAX_PREPARED_QUERIES)
+            .expireAfterAccess(PREPARED_QUERY_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
 
     public GraqlController(EngineGraknTxFactory factory, Service spark,
                            MetricRegistry metricRegistry) {
         this.factory = factory;
         this.executeGraqlGetTimer = metricRegistry.timer(name(GraqlController.class, "execute-graql-get"));
         this.executeGraqlPostTimer = metricRegistry.timer(name(GraqlController.class, "execute-graql-post"));
+        this.executePreparedGraqlTimer = metricRegistry.timer(name(GraqlController.class, "execute-prepared-graql"));
 
         spark.post(REST.WebPath.KB.ANY_GRAQL, this::executeGraql);
         spark.get(REST.WebPath.KB.GRAQL,    this::executeGraqlGET);
+        spark.post(REST.WebPath.KB.PREPARE_GRAQL, this::prepareGraql);
+        spark.post(REST.WebPath.KB.PREPARED_GRAQL + ID_PARAMETER, this::executePreparedGraql);
 
         //TODO The below exceptions are very broad. They should be revised after we improve exception
         //TODO hierarchies in Graql and GraknTx
@@ -116,10 +148,18 @@ public class GraqlController {
         boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
         boolean materialise = parseBoolean(mandatoryQueryParameter(request, MATERIALISE));
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
+        boolean stream = queryParameter(request, STREAM).map(Boolean::parseBoolean).orElse(false);
         String acceptType = getAcceptType(request);
 
         try(GraknTx graph = factory.tx(keyspace, WRITE); Timer.Context context = executeGraqlPostTimer.time()) {
             Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
+
+            if (stream && query instanceof MatchQuery) {
+                streamAnswers(response, acceptType, printer(keyspace, limitEmbedded, acceptType), (MatchQuery) query);
+                graph.commit();
+                return "";
+            }
+
             Object resp = respond(response, acceptType, executeQuery(keyspace, limitEmbedded, query, acceptType));
             graph.commit();
             return resp;
@@ -145,18 +185,97 @@ public class GraqlController {
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
         String acceptType = getAcceptType(request);
 
-        try(GraknTx graph = factory.tx(keyspace, WRITE); Timer.Context context = executeGraqlGetTimer.time()) {
-            Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
+        // Materialising inferred answers writes them, so it cannot use a pooled read transaction
+        if (materialise) {
+            try(Timer.Context context = executeGraqlGetTimer.time(); GraknTx graph = factory.tx(keyspace, WRITE)) {
+                return executeGraqlGET(graph, response, keyspace, queryString, infer, true, limitEmbedded, acceptType);
+            }
+        }
+
+        try(Timer.Context context = executeGraqlGetTimer.time(); ReadTxPool.Lease lease = factory.readTxPool().lease(keyspace)) {
+            return executeGraqlGET(lease.tx(), response, keyspace, queryString, infer, false, limitEmbedded, acceptType);
+        }
+    }
+
+    @POST
+    @Path("/prepare")
+    @ApiOperation(
+            value = "Parse a Graql query once, so it can be executed many times with different parameters. " +
+                    "Any variable of the query can be bound as a parameter. Returns the handle of the prepared query. " +
+                    "The handle only depends on the query and its options, so preparing the query again gives the " +
+                    "same handle. Prepared queries are kept by the engine which prepared them only.")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = INFER,       value = "Should reasoner with the query.", required = true, dataType = "boolean", paramType = "query"),
+            @ApiImplicitParam(name = MATERIALISE, value = "Should reasoner materialise results with the query.", required = true, dataType = "boolean", paramType = "query")
+    })
+    private Json prepareGraql(Request request, Response response) {
+        String queryString = mandatoryBody(request);
+        boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
+        boolean materialise = parseBoolean(mandatoryQueryParameter(request, MATERIALISE));
 
-            if(!query.isReadOnly()) throw GraknServerException.invalidQuery("\"read-only\"");
+        PreparedQuery<?> query = Graql.withoutGraph().infer(infer).materialise(materialise).prepare(queryString);
+        String handle = QueryParameters.handle(queryString, infer, materialise);
+        preparedQueries.put(handle, new Prepared(query, materialise));
 
-            if(!validContentType(acceptType, query)) throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
+        response.type(APPLICATION_JSON);
+        response.status(200);
+        return Json.object(HANDLE, handle);
+    }
 
-            Object responseBody = executeGET(keyspace, limitEmbedded, query, acceptType);
-            return respond(response, acceptType, responseBody);
+    @POST
+    @Path("/prepared/{id}")
+    @ApiOperation(
+            value = "Execute a prepared query, binding its parameters to the values in the body. " +
+                    "Values are strings, numbers, booleans or {\"id\": <concept id>} to bind a concept. " +
+                    "Responds with 404 if this engine does not know the handle, in which case the query must be " +
+                    "prepared again.")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "id",     value = "Handle of the prepared query", required = true, dataType = "string", paramType = "path"),
+            @ApiImplicitParam(name = KEYSPACE, value = "Name of graph to use", required = true, dataType = "string", paramType = "query")
+    })
+    private Object executePreparedGraql(Request request, Response response) {
+        String handle = request.params(ID_PARAMETER);
+        String keyspace = mandatoryQueryParameter(request, KEYSPACE);
+        int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
+        String acceptType = getAcceptType(request);
+
+        Prepared prepared = preparedQueries.getIfPresent(handle);
+        if (prepared == null) throw GraknServerException.noPreparedQuery(handle);
+
+        String body = request.body();
+        Json parameters = body == null || body.isEmpty() ? null : Json.read(body);
+        Query<?> boundQuery = prepared.query.bind(QueryParameters.fromJson(parameters));
+
+        if(!validContentType(acceptType, boundQuery)) throw GraknServerException.contentTypeQueryMismatch(acceptType, boundQuery);
+
+        // Like GET requests, lookups which write nothing can use a pooled read transaction
+        if (boundQuery.isReadOnly() && !prepared.materialise) {
+            try(Timer.Context context = executePreparedGraqlTimer.time(); ReadTxPool.Lease lease = factory.readTxPool().lease(keyspace)) {
+                Query<?> query = boundQuery.withTx(lease.tx());
+                return respond(response, acceptType, executeQuery(keyspace, limitEmbedded, query, acceptType));
+            }
+        }
+
+        try(Timer.Context context = executePreparedGraqlTimer.time(); GraknTx graph = factory.tx(keyspace, WRITE)) {
+            Query<?> query = boundQuery.withTx(graph);
+            Object resp = respond(response, acceptType, executeQuery(keyspace, limitEmbedded, query, acceptType));
+            graph.commit();
+            return resp;
         }
     }
 
+    private Object executeGraqlGET(GraknTx graph, Response response, String keyspace, String queryString,
+                                   boolean infer, boolean materialise, int limitEmbedded, String acceptType) {
+        Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
+
+        if(!query.isReadOnly()) throw GraknServerException.invalidQuery("\"read-only\"");
+
+        if(!validContentType(acceptType, query)) throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
+
+        Object responseBody = executeGET(keyspace, limitEmbedded, query, acceptType);
+        return respond(response, acceptType, responseBody);
+    }
+
     /**
      * Handle any {@link Exception} that are thrown by the server. Configures and returns
      * the correct JSON response with the given status.
@@ -214,25 +333,65 @@ public class GraqlController {
      * @param acceptType response format that the client will accept
      */
     private Object executeQuery(String keyspace, int limitEmbedded, Query<?> query, String acceptType){
-        Printer<?> printer;
+        String formatted = printer(keyspace, limitEmbedded, acceptType).graqlString(query.execute());
+
+        return acceptType.equals(APPLICATION_TEXT) ? formatted : Json.read(formatted);
+    }
+
+    /**
+     * Stream the answers of a match query directly into the response, one answer per line.
+     *
+     * Answers are printed as soon as they are produced by the query and are never collected, so memory stays
+     * bounded by the size of a single answer and the client receives the first line as soon as the first answer
+     * has been found. The response is sent using chunked transfer encoding, each line being a complete answer
+     * in the requested format (newline-delimited JSON for the JSON formats).
+     *
+     * @param response response to the client
+     * @param acceptType response format that the client will accept
+     * @param printer printer used to format each individual answer
+     * @param query match query to be executed
+     */
+    private void streamAnswers(Response response, String acceptType, Printer<?> printer, MatchQuery query){
+        response.type(acceptType);
+        response.status(200);
 
+        try {
+            OutputStream out = response.raw().getOutputStream();
+
+            try (Stream<Answer> answers = query.stream()) {
+                answers.forEach(answer -> {
+                    String line = printer.graqlString(answer).replace('\n', ' ') + '\n';
+                    try {
+                        out.write(line.getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the printer that formats results in the format specified by the request.
+     *
+     * @param keyspace the keyspace the query is running on
+     * @param limitEmbedded the number of embedded components for the HAL format
+     * @param acceptType response format that the client will accept
+     */
+    private static Printer<?> printer(String keyspace, int limitEmbedded, String acceptType){
         switch (acceptType) {
             case APPLICATION_TEXT:
-                printer = Printers.graql(false);
-                break;
+                return Printers.graql(false);
             case APPLICATION_JSON_GRAQL:
-                printer = Printers.json();
-                break;
+                return Printers.json();
             case APPLICATION_HAL:
-                printer = Printers.hal(keyspace, limitEmbedded);
-                break;
+                return Printers.hal(keyspace, limitEmbedded);
             default:
                 throw GraknServerException.unsupportedContentType(acceptType);
         }
-
-        String formatted = printer.graqlString(query.execute());
-
-        return acceptType.equals(APPLICATION_TEXT) ? formatted : Json.read(formatted);
     }
 
     static String getAcceptType(Request request) {
@@ -289,6 +448,19 @@ public class GraqlController {
         throw new RuntimeException("Unsupported query type in HAL formatter");
     }
 
+    /**
+     * A query prepared by a client, with whether it materialises inferred answers
+     */
+    private static class Prepared {
+        private final PreparedQuery<?> query;
+        private final boolean materialise;
+
+        Prepared(PreparedQuery<?> query, boolean materialise) {
+            this.query = query;
+            this.materialise = materialise;
+        }
+    }
+
     /**
      * Format query results as Graql based on the provided printer
      *
@@ -29,6 +29,8 @@ import ai.grakn.engine.GraknEngineStatus;
 import ai.grakn.engine.SystemKeyspace;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.exception.GraknServerException;
+import ai.grakn.graql.internal.reasoner.cache.SharedAnswerCache;
+import ai.grakn.kb.internal.cache.DataVersions;
 import ai.grakn.util.ErrorMessage;
 import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
@@ -158,6 +160,9 @@ public class SystemController {
         String keyspace = request.queryParams(KEYSPACE_PARAM);
         boolean deletionComplete = factory.systemKeyspace().deleteKeyspace(keyspace);
         if(deletionComplete){
+            SharedAnswerCache.get().invalidate(keyspace);
+            // Other engines drop what they have derived from the data of the keyspace
+            DataVersions.get().committed(keyspace);
             LOG.info("Keyspace {} deleted", keyspace);
             response.status(200);
             return true;
@@ -0,0 +1,95 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.data;
+
+import ai.grakn.engine.util.EngineID;
+import ai.grakn.kb.internal.cache.DataVersions;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Keeps the data versions of each engine coherent across engines
+ * </p>
+ *
+ * <p>
+ *     The keyspaces of commits made on this engine, or logged to it by clients, are published on a
+ *     {@link RedisChannel}. Keyspaces published by other engines bump the local {@link DataVersions}, so what this
+ *     engine has derived from their data is no longer used. If the subscription is lost, some commits may have been
+ *     missed, so the versions of all keyspaces are bumped once subscribed again.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class DataChangeChannel implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataChangeChannel.class);
+    private static final String CHANNEL = "data-changed";
+    private static final String ENGINE = "engine";
+    private static final String KEYSPACE = "keyspace";
+
+    private final DataVersions versions;
+    private final EngineID engineId;
+    private final Consumer<String> publisher = this::publish;
+    private final RedisChannel channel;
+
+    private DataChangeChannel(Pool<Jedis> jedisPool, DataVersions versions, EngineID engineId) {
+        this.versions = versions;
+        this.engineId = engineId;
+        this.channel = RedisChannel.subscribe(jedisPool, CHANNEL, this::receive, versions::receiveAll);
+    }
+
+    /**
+     * Start publishing the commits made on this engine and applying commits from other engines
+     */
+    public static DataChangeChannel start(Pool<Jedis> jedisPool, DataVersions versions, EngineID engineId) {
+        DataChangeChannel channel = new DataChangeChannel(jedisPool, versions, engineId);
+        versions.addListener(channel.publisher);
+        return channel;
+    }
+
+    private void publish(String keyspace) {
+        Json message = Json.object(ENGINE, engineId.value(), KEYSPACE, keyspace);
+        channel.publish(message.toString());
+    }
+
+    private void receive(String message) {
+        try {
+            Json json = Json.read(message);
+            // Commits made on this engine have already bumped its versions
+            if (engineId.value().equals(json.at(ENGINE).asString())) return;
+
+            versions.receive(json.at(KEYSPACE).asString());
+        } catch (RuntimeException e) {
+            LOG.error("Could not apply data change {}, bumping all data versions", message, e);
+            versions.receiveAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        versions.removeListener(publisher);
+        channel.close();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+package ai.grakn.engine.data;
+
+import ai.grakn.engine.SystemKeyspace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+/**
+ * <p>
+ *     Keeps the keyspaces known by {@link SystemKeyspace} coherent across engines
+ * </p>
+ *
+ * <p>
+ *     Keyspaces deleted on this engine are published on a {@link RedisChannel}. Keyspaces published by other engines
+ *     are removed from the local {@link SystemKeyspace}. If the subscription is lost, some deletions may have been
+ *     missed, so all known keyspaces are forgotten once subscribed again.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class KeyspaceDeletionChannel implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeyspaceDeletionChannel.class);
+    private static final String CHANNEL = "keyspace-deleted";
+
+    private final RedisChannel channel;
+
+    private KeyspaceDeletionChannel(RedisChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Start publishing deletions from the given {@link SystemKeyspace} and applying deletions from other engines to it
+     */
+    public static KeyspaceDeletionChannel start(Pool<Jedis> jedisPool, SystemKeyspace systemKeyspace) {
+        RedisChannel channel = RedisChannel.subscribe(jedisPool, CHANNEL, keyspace -> {
+            LOG.debug("Keyspace {} deleted by another engine", keyspace);
+            systemKeyspace.forgetKeyspace(keyspace);
+        }, systemKeyspace::forgetAllKeyspaces);
+        systemKeyspace.onKeyspaceDeleted(channel::publish);
+        return new KeyspaceDeletionChannel(channel);
+    }
+
+    @Override
+    public void close() {
+        channel.close();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.util.Pool;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     A redis pub/sub channel used to tell other engines about changes made on this engine
+ * </p>
+ *
+ * <p>
+ *     Messages are received on a daemon thread, which subscribes again whenever the subscription is lost. Messages
+ *     published while it was lost are never received, so the owner is asked to resynchronise once subscribed again.
+ *     Resynchronising only after the new subscription is in place means that every change is either received or
+ *     happened before the resynchronisation.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class RedisChannel implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RedisChannel.class);
+    private static final long RECONNECT_DELAY_MS = 1000;
+
+    private final Pool<Jedis> jedisPool;
+    private final String channel;
+    private final JedisPubSub subscriber;
+    private volatile boolean closed = false;
+    private volatile boolean subscriptionLost = false;
+
+    private RedisChannel(Pool<Jedis> jedisPool, String channel, Consumer<String> onMessage, Runnable onResubscribed) {
+        this.jedisPool = jedisPool;
+        this.channel = channel;
+        this.subscriber = new JedisPubSub() {
+            @Override
+            public void onMessage(String channel, String message) {
+                onMessage.accept(message);
+            }
+
+            @Override
+            public void onSubscribe(String channel, int subscribedChannels) {
+                if (subscriptionLost) {
+                    LOG.debug("Subscribed to {} again, resynchronising", channel);
+                    subscriptionLost = false;
+                    onResubscribed.run();
+                }
+            }
+        };
+    }
+
+    /**
+     * Start receiving the messages published on a channel
+     *
+     * @param channel the name of the channel
+     * @param onMessage called with every message published on the channel, including the ones of this engine
+     * @param onResubscribed called when subscribed again after the subscription was lost
+     */
+    public static RedisChannel subscribe(
+            Pool<Jedis> jedisPool, String channel, Consumer<String> onMessage, Runnable onResubscribed) {
+        RedisChannel redisChannel = new RedisChannel(jedisPool, channel, onMessage, onResubscribed);
+
+        Thread thread = new Thread(redisChannel::run, channel + "-subscriber");
+        thread.setDaemon(true);
+        thread.start();
+        return redisChannel;
+    }
+
+    /**
+     * Publish a message to every engine subscribed to the channel. Failures are logged and not thrown, as the
+     * change has already been made on this engine.
+     */
+    public void publish(String message) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(channel, message);
+        } catch (RuntimeException e) {
+            LOG.error("Could not publish {} on {}", message, channel, e);
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                // Blocks until unsubscribed or the connection is lost
+                jedis.subscribe(subscriber, channel);
+            } catch (RuntimeException e) {
+                if (closed) return;
+                LOG.warn("Lost subscription to {}, retrying", channel, e);
+            }
+            if (closed) return;
+
+            subscriptionLost = true;
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (subscriber.isSubscribed()) {
+            subscriber.unsubscribe();
+        }
+    }
+}
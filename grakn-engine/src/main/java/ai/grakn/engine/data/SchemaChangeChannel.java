@@ -0,0 +1,101 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.data;
+
+import ai.grakn.engine.util.EngineID;
+import ai.grakn.kb.internal.cache.SchemaChange;
+import ai.grakn.kb.internal.cache.SchemaChangeBus;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Keeps the schema cached by each engine coherent across engines
+ * </p>
+ *
+ * <p>
+ *     Schema changes committed on this engine, or by clients which report them in their commit logs, are published
+ *     on a {@link RedisChannel}. Changes published by other
+ *     engines are handed to the local {@link SchemaChangeBus}, which refreshes only the changed types. If the
+ *     subscription is lost, some changes may have been missed, so every cached type is refreshed once subscribed
+ *     again. While the channel is open the bus has a subscriber, so cached types do not time out.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class SchemaChangeChannel implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaChangeChannel.class);
+    private static final String CHANNEL = "schema-changed";
+    private static final String ENGINE = "engine";
+    private static final String CHANGE = "change";
+
+    private final SchemaChangeBus bus;
+    private final EngineID engineId;
+    private final Consumer<SchemaChange> publisher = this::publish;
+    private final RedisChannel channel;
+
+    private SchemaChangeChannel(Pool<Jedis> jedisPool, SchemaChangeBus bus, EngineID engineId) {
+        this.bus = bus;
+        this.engineId = engineId;
+        this.channel = RedisChannel.subscribe(jedisPool, CHANNEL, this::receive, bus::refreshAll);
+    }
+
+    /**
+     * Start publishing the schema changes committed on this engine and applying changes from other engines
+     */
+    public static SchemaChangeChannel start(Pool<Jedis> jedisPool, SchemaChangeBus bus, EngineID engineId) {
+        SchemaChangeChannel channel = new SchemaChangeChannel(jedisPool, bus, engineId);
+        bus.addListener(channel.publisher);
+        bus.addSubscriber();
+        return channel;
+    }
+
+    private void publish(SchemaChange change) {
+        Json message = Json.object(ENGINE, engineId.value(), CHANGE, change.toJson());
+        channel.publish(message.toString());
+    }
+
+    private void receive(String message) {
+        try {
+            Json json = Json.read(message);
+            // Changes made on this engine have already been applied to its caches
+            if (engineId.value().equals(json.at(ENGINE).asString())) return;
+
+            SchemaChange change = SchemaChange.fromJson(json.at(CHANGE));
+            LOG.debug("Schema of keyspace {} changed by another engine", change.keyspace());
+            bus.receive(change);
+        } catch (RuntimeException e) {
+            LOG.error("Could not apply schema change {}, refreshing all cached types", message, e);
+            bus.refreshAll();
+        }
+    }
+
+    @Override
+    public void close() {
+        bus.removeSubscriber();
+        bus.removeListener(publisher);
+        channel.close();
+    }
+}
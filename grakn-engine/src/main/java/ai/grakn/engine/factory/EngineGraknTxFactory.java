@@ -46,6 +46,7 @@ public class EngineGraknTxFactory {
     private final Properties properties;
     private final String engineURI;
     private final SystemKeyspace systemKeyspace;
+    private final ReadTxPool readTxPool;
 
     public static EngineGraknTxFactory createAndLoadSystemSchema(Properties properties) {
         return new EngineGraknTxFactory(properties, true);
@@ -60,6 +61,9 @@ public class EngineGraknTxFactory {
         this.properties.putAll(properties);
         this.engineURI = properties.getProperty(GraknEngineConfig.SERVER_HOST_NAME) + ":" + properties.getProperty(GraknEngineConfig.SERVER_PORT_NUMBER);
         this.systemKeyspace = new SystemKeyspace(this, loadSchema);
+        long maxAge = Long.parseLong(properties.getProperty(GraknEngineConfig.READ_TX_MAX_AGE, "5000"));
+        this.readTxPool = ReadTxPool.create(keyspace -> tx(keyspace, GraknTxType.READ), maxAge);
+        this.systemKeyspace.onKeyspaceDeleted(keyspace -> readTxPool.invalidateAll());
     }
 
     public synchronized void refreshConnections(){
@@ -70,6 +74,8 @@ public class EngineGraknTxFactory {
         if(!keyspace.equals(SystemKeyspace.SYSTEM_KB_NAME)) {
             systemKeyspace.ensureKeyspaceInitialised(keyspace);
         }
+        // An idle pooled transaction on this thread would stop another one from being opened
+        readTxPool.evict(keyspace);
         return FactoryBuilder.getFactory(keyspace, engineURI, properties).open(type);
     }
 
@@ -80,4 +86,11 @@ public class EngineGraknTxFactory {
     public SystemKeyspace systemKeyspace(){
         return systemKeyspace;
     }
+
+    /**
+     * @return read transactions kept open between requests, see {@link ReadTxPool}
+     */
+    public ReadTxPool readTxPool(){
+        return readTxPool;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.factory;
+
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <p>
+ *     Keeps {@link GraknTxType#READ} transactions open between requests
+ * </p>
+ *
+ * <p>
+ *     Transactions are bound to the thread which opened them, so each request thread keeps at most one idle read
+ *     transaction per keyspace. When a lease is closed the transaction is recycled: its underlying transaction is
+ *     rolled back and the instances it read are forgotten, but the schema it has cached is kept. The next lease on
+ *     the same thread and keyspace reuses it, unless it is older than the maximum age. The maximum age bounds how
+ *     long changes to the schema may take to be seen by pooled transactions.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class ReadTxPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadTxPool.class);
+
+    private final Function<String, GraknTx> opener;
+    private final long maxAgeMs;
+    private final ThreadLocal<Map<String, Lease>> idle = ThreadLocal.withInitial(HashMap::new);
+
+    // Idle transactions opened before the latest invalidation are never reused
+    private final AtomicLong generation = new AtomicLong(0);
+
+    private final Meter hits = new Meter();
+    private final Meter misses = new Meter();
+    private final Timer waits = new Timer();
+
+    private ReadTxPool(Function<String, GraknTx> opener, long maxAgeMs) {
+        this.opener = opener;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    /**
+     * @param opener opens a new read transaction on the given keyspace
+     * @param maxAgeMs how long a transaction may be reused for after it was opened. If zero, nothing is pooled.
+     */
+    public static ReadTxPool create(Function<String, GraknTx> opener, long maxAgeMs) {
+        return new ReadTxPool(opener, maxAgeMs);
+    }
+
+    /**
+     * Get a read transaction on the given keyspace for the current thread
+     * @return a lease which must be closed on the same thread once the request is done with the transaction
+     */
+    public Lease lease(String keyspace) {
+        try (Timer.Context context = waits.time()) {
+            Lease pooled = idle.get().remove(keyspace);
+            long now = System.currentTimeMillis();
+
+            if (pooled != null) {
+                if (pooled.generation == generation.get() && now - pooled.openedAt < maxAgeMs &&
+                        !pooled.tx.isClosed() && pooled.tx.isReadOnly()) {
+                    hits.mark();
+                    return pooled;
+                }
+                closeQuietly(pooled.tx);
+            }
+
+            misses.mark();
+            long currentGeneration = generation.get();
+            return new Lease(keyspace, opener.apply(keyspace), now, currentGeneration);
+        }
+    }
+
+    /**
+     * Close the idle transaction the current thread has on the given keyspace, so another kind of transaction can be
+     * opened on it
+     */
+    void evict(String keyspace) {
+        Map<String, Lease> pooled = idle.get();
+        if (pooled.isEmpty()) return;
+
+        Lease lease = pooled.remove(keyspace);
+        if (lease != null) closeQuietly(lease.tx);
+    }
+
+    /**
+     * Stop reusing any transaction which is currently open, for example because a keyspace has been deleted.
+     * Idle transactions are closed by the threads which own them when they next use the pool.
+     */
+    void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    public Meter hits() {
+        return hits;
+    }
+
+    public Meter misses() {
+        return misses;
+    }
+
+    public Timer waits() {
+        return waits;
+    }
+
+    private static void closeQuietly(GraknTx tx) {
+        try {
+            tx.close();
+        } catch (RuntimeException e) {
+            LOG.debug("Could not close pooled transaction", e);
+        }
+    }
+
+    /**
+     * A read transaction borrowed by a request
+     */
+    public class Lease implements AutoCloseable {
+        private final String keyspace;
+        private final GraknTx tx;
+        private final long openedAt;
+        private final long generation;
+
+        private Lease(String keyspace, GraknTx tx, long openedAt, long generation) {
+            this.keyspace = keyspace;
+            this.tx = tx;
+            this.openedAt = openedAt;
+            this.generation = generation;
+        }
+
+        public GraknTx tx() {
+            return tx;
+        }
+
+        /**
+         * Return the transaction to the pool, or close it if it cannot be reused
+         */
+        @Override
+        public void close() {
+            if (tx.isClosed()) return;
+
+            if (generation != ReadTxPool.this.generation.get() || System.currentTimeMillis() - openedAt >= maxAgeMs) {
+                closeQuietly(tx);
+                return;
+            }
+
+            try {
+                tx.admin().recycle();
+                idle.get().put(keyspace, this);
+            } catch (RuntimeException e) {
+                LOG.debug("Could not recycle transaction, closing it", e);
+                closeQuietly(tx);
+            }
+        }
+    }
+}
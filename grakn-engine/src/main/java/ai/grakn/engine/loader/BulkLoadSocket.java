@@ -0,0 +1,293 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.tasks.manager.TaskSubmitter;
+import ai.grakn.engine.user.UsersHandler;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.VarPattern;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer.Context;
+import com.google.common.collect.ImmutableList;
+import mjson.Json;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ai.grakn.util.ErrorMessage.ILLEGAL_ARGUMENT_EXCEPTION;
+import static ai.grakn.util.REST.BulkLoad.ACTION;
+import static ai.grakn.util.REST.BulkLoad.ACTION_ACK;
+import static ai.grakn.util.REST.BulkLoad.ACTION_BATCH;
+import static ai.grakn.util.REST.BulkLoad.ACTION_ERROR;
+import static ai.grakn.util.REST.BulkLoad.ACTION_INIT;
+import static ai.grakn.util.REST.BulkLoad.ACTION_TEMPLATE;
+import static ai.grakn.util.REST.BulkLoad.BATCH_ID;
+import static ai.grakn.util.REST.BulkLoad.COLUMNS;
+import static ai.grakn.util.REST.BulkLoad.COUNT;
+import static ai.grakn.util.REST.BulkLoad.ERROR;
+import static ai.grakn.util.REST.BulkLoad.FAILED;
+import static ai.grakn.util.REST.BulkLoad.KEYSPACE;
+import static ai.grakn.util.REST.BulkLoad.PASSWORD;
+import static ai.grakn.util.REST.BulkLoad.QUERY;
+import static ai.grakn.util.REST.BulkLoad.ROW;
+import static ai.grakn.util.REST.BulkLoad.ROWS;
+import static ai.grakn.util.REST.BulkLoad.USERNAME;
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * <p>
+ *     Web socket for bulk loading data into a keyspace
+ * </p>
+ *
+ * <p>
+ *     A client opens a connection with an {@code init} message naming the keyspace and then sends an insert
+ *     {@code template}, such as {@code insert $x isa person, has name $name;}. The template is parsed once per
+ *     connection. Data is then sent as {@code batch} messages containing a list of {@code columns}, naming variables
+ *     of the template, and a list of {@code rows} holding one value per column.
+ * </p>
+ *
+ * <p>
+ *     Each row is turned into an insert query by binding the values of the row to the template, so no query is
+ *     parsed while loading. Batches are committed by a {@link PartitionedLoader} and acknowledged asynchronously
+ *     with an {@code ack} or {@code error} message carrying the id of the batch. When only some rows of a batch could
+ *     not be committed, the {@code error} message also carries the {@code count} of committed rows and the index and
+ *     error of each {@code failed} row. Batches from the same connection may be committed concurrently, so clients
+ *     limit the number of batches in flight rather than waiting for each one.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+@WebSocket
+public class BulkLoadSocket {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkLoadSocket.class);
+
+    private final Map<Session, Connection> connections = new ConcurrentHashMap<>();
+    private final PartitionedLoader loader;
+    private final MetricRegistry metricRegistry;
+    private final @Nullable UsersHandler usersHandler;
+
+    private BulkLoadSocket(EngineGraknTxFactory factory, TaskSubmitter taskSubmitter, GraknEngineConfig config,
+                           MetricRegistry metricRegistry, @Nullable UsersHandler usersHandler) {
+        this.loader = new PartitionedLoader(factory, taskSubmitter, config, metricRegistry);
+        this.metricRegistry = metricRegistry;
+        this.usersHandler = usersHandler;
+    }
+
+    public static BulkLoadSocket create(EngineGraknTxFactory factory, TaskSubmitter taskSubmitter,
+                                        GraknEngineConfig config, MetricRegistry metricRegistry) {
+        return new BulkLoadSocket(factory, taskSubmitter, config, metricRegistry, null);
+    }
+
+    public static BulkLoadSocket passwordProtected(EngineGraknTxFactory factory, TaskSubmitter taskSubmitter,
+                                                   GraknEngineConfig config, MetricRegistry metricRegistry,
+                                                   UsersHandler usersHandler) {
+        return new BulkLoadSocket(factory, taskSubmitter, config, metricRegistry, usersHandler);
+    }
+
+    /**
+     * Stop loading once the batches already received have been committed
+     */
+    public void close() {
+        loader.close();
+    }
+
+    @OnWebSocketClose
+    public void onClose(Session session, int statusCode, String reason) {
+        String message = "Bulk load websocket closed, code: " + statusCode + ", reason: " + reason;
+        // 1000 = Normal close, 1001 = Going away
+        if (statusCode == 1000 || statusCode == 1001) {
+            LOG.debug(message);
+        } else {
+            LOG.error(message);
+        }
+        connections.remove(session);
+    }
+
+    @OnWebSocketMessage
+    public void onMessage(Session session, String message) {
+        Json json = Json.read(message);
+
+        if (json.is(ACTION, ACTION_INIT)) {
+            startConnection(session, json);
+            return;
+        }
+
+        Connection connection = connections.get(session);
+        if (connection == null) {
+            session.close(1008, "Bulk load session has not been initialised");
+            return;
+        }
+
+        if (json.is(ACTION, ACTION_TEMPLATE)) {
+            try {
+                connection.setTemplate(json.at(QUERY).asString());
+            } catch (RuntimeException e) {
+                LOG.debug("Invalid bulk load template", e);
+                send(session, Json.object(ACTION, ACTION_ERROR, ERROR, String.valueOf(e.getMessage())));
+            }
+        } else if (json.is(ACTION, ACTION_BATCH)) {
+            loadBatch(session, connection.keyspace, connection.template, json);
+        }
+    }
+
+    private void startConnection(Session session, Json json) {
+        if (sessionAuthorised(json)) {
+            connections.put(session, new Connection(json.at(KEYSPACE).asString()));
+        } else {
+            session.close(1008, "Unauthorised: incorrect username or password");
+        }
+    }
+
+    private boolean sessionAuthorised(Json json) {
+        if (usersHandler == null) return true;
+
+        Json username = json.at(USERNAME);
+        Json password = json.at(PASSWORD);
+
+        boolean credentialsProvided = username != null && password != null;
+
+        return credentialsProvided && usersHandler.validateUser(username.asString(), password.asString());
+    }
+
+    /**
+     * Load all the rows of a batch and acknowledge the batch to the client once they have been committed
+     */
+    private void loadBatch(Session session, String keyspace, @Nullable Collection<VarPatternAdmin> template, Json batch) {
+        Json id = batch.at(BATCH_ID);
+        List<InsertQuery> inserts;
+        try {
+            inserts = getInserts(template, batch);
+        } catch (RuntimeException e) {
+            sendError(session, keyspace, id, e);
+            return;
+        }
+        metricRegistry.histogram(name(BulkLoadSocket.class, "rows")).update(inserts.size());
+
+        Context context = metricRegistry.timer(name(BulkLoadSocket.class, "batch")).time();
+        loader.load(keyspace, inserts).whenComplete((failures, e) -> {
+            context.stop();
+            if (e != null) {
+                sendError(session, keyspace, id, e);
+            } else if (failures.isEmpty()) {
+                send(session, Json.object(ACTION, ACTION_ACK, BATCH_ID, id, COUNT, inserts.size()));
+            } else {
+                sendFailedRows(session, keyspace, id, inserts.size(), failures);
+            }
+        });
+    }
+
+    private void sendFailedRows(Session session, String keyspace, Json id, int rows, Map<Integer, Throwable> failures) {
+        LOG.error("Failed to load " + failures.size() + " of " + rows + " rows of batch " + id + " into keyspace " + keyspace);
+        metricRegistry.meter(name(BulkLoadSocket.class, "failed")).mark();
+
+        Json failed = Json.array();
+        failures.forEach((row, e) -> {
+            LOG.debug("Failed to load row " + row + " of batch " + id, e);
+            failed.add(Json.object(ROW, row, ERROR, String.valueOf(e.getMessage())));
+        });
+
+        String error = "Failed to load " + failures.size() + " of " + rows + " rows";
+        send(session, Json.object(ACTION, ACTION_ERROR, BATCH_ID, id, COUNT, rows - failures.size(), ERROR, error, FAILED, failed));
+    }
+
+    private void sendError(Session session, String keyspace, Json id, Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+        LOG.error("Failed to load batch " + id + " into keyspace " + keyspace, e);
+        metricRegistry.meter(name(BulkLoadSocket.class, "failed")).mark();
+        send(session, Json.object(ACTION, ACTION_ERROR, BATCH_ID, id, ERROR, String.valueOf(e.getMessage())));
+    }
+
+    /**
+     * Bind every row of the batch to the template, producing one insert query per row
+     */
+    private static List<InsertQuery> getInserts(@Nullable Collection<VarPatternAdmin> template, Json batch) {
+        if (template == null) {
+            throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("No template for batch " + batch.at(BATCH_ID)));
+        }
+
+        List<Json> columns = batch.at(COLUMNS).asJsonList();
+        List<Json> rows = batch.at(ROWS).asJsonList();
+        List<InsertQuery> inserts = new ArrayList<>(rows.size());
+
+        for (Json row : rows) {
+            List<Json> values = row.asJsonList();
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("Row " + row + " does not match columns " + columns));
+            }
+
+            List<VarPattern> patterns = new ArrayList<>(template.size() + columns.size());
+            patterns.addAll(template);
+            for (int i = 0; i < columns.size(); i++) {
+                patterns.add(Graql.var(columns.get(i).asString()).val(values.get(i).getValue()));
+            }
+            inserts.add(Graql.insert(patterns));
+        }
+
+        return inserts;
+    }
+
+    private static void send(Session session, Json json) {
+        // Batches complete on different threads, but a websocket only accepts one message at a time
+        synchronized (session) {
+            try {
+                if (session.isOpen()) session.getRemote().sendString(json.toString());
+            } catch (IOException e) {
+                LOG.error("Could not send bulk load response", e);
+            }
+        }
+    }
+
+    /**
+     * State of a single bulk loading connection
+     */
+    private static class Connection {
+        private final String keyspace;
+        private volatile @Nullable Collection<VarPatternAdmin> template = null;
+
+        Connection(String keyspace) {
+            this.keyspace = keyspace;
+        }
+
+        void setTemplate(String queryString) {
+            Query<?> query = Graql.withoutGraph().infer(false).parse(queryString);
+            if (!(query instanceof InsertQuery) || ((InsertQuery) query).admin().getMatchQuery().isPresent()) {
+                throw new IllegalArgumentException(ILLEGAL_ARGUMENT_EXCEPTION.getMessage("Template is not an insert query " + queryString));
+            }
+            template = ImmutableList.copyOf(((InsertQuery) query).admin().varPatterns());
+        }
+    }
+}
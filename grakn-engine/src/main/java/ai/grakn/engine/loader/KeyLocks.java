@@ -0,0 +1,99 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ *     Exclusive locks on the keys of the inserts a {@link PartitionedLoader} is committing
+ * </p>
+ *
+ * <p>
+ *     Keys are always locked in their natural order, so two commits waiting for each other's keys cannot deadlock.
+ *     A lock only exists while it is held or waited for.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+class KeyLocks {
+
+    private final Map<String, KeyLock> locks = new HashMap<>();
+
+    /**
+     * Block until the current thread holds all of the given keys
+     * @return the held keys, which are released when closed
+     */
+    Held lock(Collection<String> keys) {
+        List<KeyLock> held = new ArrayList<>(keys.size());
+        for (String key : new TreeSet<>(keys)) {
+            KeyLock lock = reference(key);
+            lock.lock();
+            held.add(lock);
+        }
+        return new Held(held);
+    }
+
+    private KeyLock reference(String key) {
+        synchronized (locks) {
+            KeyLock lock = locks.computeIfAbsent(key, KeyLock::new);
+            lock.references++;
+            return lock;
+        }
+    }
+
+    private void release(KeyLock lock) {
+        lock.unlock();
+        synchronized (locks) {
+            if (--lock.references == 0) locks.remove(lock.key);
+        }
+    }
+
+    /**
+     * Keys held by a single commit
+     */
+    class Held implements AutoCloseable {
+        private final List<KeyLock> held;
+
+        private Held(List<KeyLock> held) {
+            this.held = held;
+        }
+
+        @Override
+        public void close() {
+            held.forEach(KeyLocks.this::release);
+        }
+    }
+
+    private static class KeyLock extends ReentrantLock {
+        private final String key;
+        // Guarded by the map of locks
+        private int references = 0;
+
+        KeyLock(String key) {
+            this.key = key;
+        }
+    }
+}
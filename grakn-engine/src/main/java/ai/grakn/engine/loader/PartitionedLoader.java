@@ -0,0 +1,401 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.postprocessing.PostProcessingTask;
+import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
+import ai.grakn.engine.tasks.manager.TaskSubmitter;
+import ai.grakn.exception.GraknBackendException;
+import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.property.IdProperty;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ *     Loads insert queries using a fixed set of partitions, each committing on its own thread
+ * </p>
+ *
+ * <p>
+ *     Each insert query has keys: the attribute values and concept ids it refers to. Two inserts sharing a key are
+ *     never committed concurrently, which avoids the locking conflicts that happen when concurrent transactions put
+ *     the same attribute or modify the same concept. Each insert is routed to a partition by its smallest key, so
+ *     inserts which share it are committed one after another on the same partition. Every commit also holds all the
+ *     keys of its inserts, which serialises inserts sharing any other key with inserts on other partitions. Work
+ *     queued on a partition is coalesced into large {@link GraknTxType#BATCH} transactions.
+ * </p>
+ *
+ * <p>
+ *     When a coalesced transaction fails, each batch is committed on its own. When a batch fails, its queries are
+ *     committed one at a time, retrying conflicts with bounded exponential backoff, so a failure only costs the
+ *     queries involved rather than the whole batch. The queries which could not be committed are reported by row.
+ * </p>
+ *
+ * <p>
+ *     The rate of loaded and failed rows, the number of conflicts and the number of retries are reported for each
+ *     keyspace.
+ * </p>
+ *
+ * <p>
+ *     Closing the loader lets the partitions finish the work already queued and then stops their threads. Work which
+ *     is still queued when the partitions take too long, or which is loaded after closing, fails.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class PartitionedLoader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedLoader.class);
+
+    private static final long INITIAL_BACKOFF_MS = 50;
+    private static final long MAX_BACKOFF_MS = 5_000;
+    private static final long CLOSE_TIMEOUT_MS = 30_000;
+
+    // Tells a partition to stop once it has finished the work queued before it
+    private static final Work STOP = new Work("", Collections.emptyList());
+
+    private final EngineGraknTxFactory factory;
+    private final TaskSubmitter taskSubmitter;
+    private final GraknEngineConfig config;
+    private final MetricRegistry metricRegistry;
+    private final List<BlockingQueue<Work>> partitions;
+    private final List<Thread> threads;
+    // Guarded by `partitions`, so that no work is queued after the partitions have been told to stop
+    private boolean closed = false;
+    private final KeyLocks keyLocks = new KeyLocks();
+    private final AtomicInteger roundRobin = new AtomicInteger(0);
+    private final int maxRetry;
+    private final int maxRowsPerTx;
+
+    public PartitionedLoader(EngineGraknTxFactory factory, TaskSubmitter taskSubmitter, GraknEngineConfig config,
+                             MetricRegistry metricRegistry) {
+        this.factory = factory;
+        this.taskSubmitter = taskSubmitter;
+        this.config = config;
+        this.metricRegistry = metricRegistry;
+        this.maxRetry = config.getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+        this.maxRowsPerTx = config.tryIntProperty(GraknEngineConfig.LOADER_PARTITION_MAX_ROWS, 5_000);
+
+        int numPartitions = config.tryIntProperty(GraknEngineConfig.LOADER_PARTITIONS, config.getAvailableThreads());
+        this.partitions = new ArrayList<>(numPartitions);
+        this.threads = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            BlockingQueue<Work> queue = new LinkedBlockingQueue<>();
+            partitions.add(queue);
+
+            Thread thread = new Thread(() -> runPartition(queue), "loader-partition-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    /**
+     * Finish loading the work already queued, failing whatever is not loaded in time, and stop the partitions
+     */
+    @Override
+    public void close() {
+        synchronized (partitions) {
+            if (closed) return;
+            closed = true;
+            partitions.forEach(queue -> queue.add(STOP));
+        }
+
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MS;
+        try {
+            for (Thread thread : threads) {
+                thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // A partition still committing stops after its current transaction, without loading the rest of its queue
+        partitions.forEach(queue -> {
+            List<Work> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            abandoned.stream().filter(work -> work != STOP).forEach(work -> work.future.completeExceptionally(closed()));
+            queue.add(STOP);
+        });
+    }
+
+    /**
+     * Load the given insert queries into a keyspace
+     * @param keyspace keyspace to load into
+     * @param inserts queries to execute
+     * @return a future which completes when every query has either been committed or failed, with the failures keyed
+     *         by the index of their query. All other queries have been committed. The future only fails when nothing
+     *         could be loaded.
+     */
+    public CompletableFuture<Map<Integer, Throwable>> load(String keyspace, List<InsertQuery> inserts) {
+        if (!factory.systemKeyspace().containsKeyspace(keyspace)) {
+            CompletableFuture<Map<Integer, Throwable>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(GraknBackendException.noSuchKeyspace(keyspace));
+            return failed;
+        }
+
+        Map<Integer, List<Row>> byPartition = IntStream.range(0, inserts.size())
+                .mapToObj(index -> new Row(index, inserts.get(index)))
+                .collect(groupingBy(row -> partitionOf(row.keys)));
+
+        List<Work> works;
+        synchronized (partitions) {
+            if (closed) {
+                CompletableFuture<Map<Integer, Throwable>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(closed());
+                return failed;
+            }
+
+            works = byPartition.entrySet().stream().map(entry -> {
+                Work work = new Work(keyspace, entry.getValue());
+                partitions.get(entry.getKey()).add(work);
+                return work;
+            }).collect(toList());
+        }
+
+        CompletableFuture<?>[] futures = works.stream().map(work -> work.future).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures).thenApply(done -> {
+            Map<Integer, Throwable> failures = new TreeMap<>();
+            works.forEach(work -> failures.putAll(work.failures));
+            return failures;
+        });
+    }
+
+    /**
+     * The partition an insert query is routed to
+     */
+    int partitionOf(InsertQuery insert) {
+        return partitionOf(lockKeys(insert));
+    }
+
+    private int partitionOf(SortedSet<String> keys) {
+        int hash = keys.isEmpty() ? roundRobin.getAndIncrement() : keys.first().hashCode();
+        return Math.floorMod(hash, partitions.size());
+    }
+
+    /**
+     * The attribute values and concept ids an insert query refers to
+     */
+    static Stream<Object> keys(InsertQuery insert) {
+        return insert.admin().varPatterns().stream()
+                .map(VarPatternAdmin::innerVarPatterns)
+                .flatMap(Collection::stream)
+                .flatMap(var -> Stream.concat(
+                        var.getProperties(IdProperty.class).map(IdProperty::id),
+                        var.getProperties(ValueProperty.class)
+                                .map(property -> property.predicate().equalsValue())
+                                .filter(Optional::isPresent)
+                                .map(Optional::get)
+                ));
+    }
+
+    /**
+     * The keys of an insert query in a form which can be ordered, so that equal values of different types differ
+     */
+    private static SortedSet<String> lockKeys(InsertQuery insert) {
+        return keys(insert).map(key -> key.getClass().getName() + ":" + key).collect(toCollection(TreeSet::new));
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("The loader was closed before the batch could be loaded");
+    }
+
+    private void runPartition(BlockingQueue<Work> queue) {
+        boolean stopping = false;
+        while (!stopping && !Thread.currentThread().isInterrupted()) {
+            Work first;
+            try {
+                first = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == STOP) return;
+
+            // Coalesce whatever else is waiting into the same transaction, up to a limit
+            List<Work> works = new ArrayList<>();
+            works.add(first);
+            int rows = first.rows.size();
+            Work next;
+            while (rows < maxRowsPerTx && (next = queue.poll()) != null) {
+                if (next == STOP) {
+                    stopping = true;
+                    break;
+                }
+                works.add(next);
+                rows += next.rows.size();
+            }
+
+            works.stream().collect(groupingBy(work -> work.keyspace)).forEach(this::commitAll);
+        }
+    }
+
+    private void commitAll(String keyspace, List<Work> works) {
+        if (works.size() == 1) {
+            commitWork(keyspace, works.get(0));
+            return;
+        }
+
+        try {
+            commit(keyspace, works.stream().flatMap(work -> work.rows.stream()).collect(toList()));
+            works.forEach(work -> work.complete(metricRegistry));
+        } catch (RuntimeException e) {
+            LOG.debug("Coalesced transaction failed, committing batches separately", e);
+            works.forEach(work -> commitWork(keyspace, work));
+        }
+    }
+
+    private void commitWork(String keyspace, Work work) {
+        try {
+            commit(keyspace, work.rows);
+            work.complete(metricRegistry);
+            return;
+        } catch (TemporaryWriteException e) {
+            metricRegistry.counter(name(PartitionedLoader.class, keyspace, "conflicts")).inc();
+            LOG.debug("Conflict while loading into " + keyspace + ", committing queries separately", e);
+        } catch (RuntimeException e) {
+            LOG.debug("Failed to load into " + keyspace + ", committing queries separately", e);
+        }
+        commitEachWithRetry(keyspace, work);
+    }
+
+    private void commitEachWithRetry(String keyspace, Work work) {
+        for (Row row : work.rows) {
+            for (int retry = 0; ; retry++) {
+                try {
+                    commit(keyspace, Collections.singletonList(row));
+                    break;
+                } catch (TemporaryWriteException e) {
+                    metricRegistry.counter(name(PartitionedLoader.class, keyspace, "conflicts")).inc();
+                    if (retry >= maxRetry) {
+                        work.failures.put(row.index, e);
+                        break;
+                    }
+                    metricRegistry.counter(name(PartitionedLoader.class, keyspace, "retries")).inc();
+                    backOff(retry);
+                } catch (RuntimeException e) {
+                    work.failures.put(row.index, e);
+                    break;
+                }
+            }
+        }
+        work.complete(metricRegistry);
+    }
+
+    private void commit(String keyspace, List<Row> rows) {
+        Set<String> keys = rows.stream().flatMap(row -> row.keys.stream()).collect(toSet());
+
+        try (KeyLocks.Held held = keyLocks.lock(keys);
+             Context context = metricRegistry.timer(name(PartitionedLoader.class, keyspace, "commit")).time();
+             GraknTx tx = factory.tx(keyspace, GraknTxType.BATCH)) {
+            rows.forEach(row -> row.insert.withTx(tx).execute());
+
+            tx.admin().commitNoLogs().ifPresent(logs -> {
+                int delay = config.getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY);
+                taskSubmitter.addTask(PostProcessingTask.createTask(PartitionedLoader.class, delay),
+                        PostProcessingTask.createConfig(keyspace, logs));
+                taskSubmitter.addTask(UpdatingInstanceCountTask.createTask(PartitionedLoader.class),
+                        UpdatingInstanceCountTask.createConfig(keyspace, logs));
+            });
+        }
+    }
+
+    /**
+     * Sleep for an exponentially increasing, capped and jittered amount of time
+     */
+    private static void backOff(int retry) {
+        long ceiling = Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min(retry, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * An insert query and its position in the batch it was loaded with
+     */
+    private static class Row {
+        private final int index;
+        private final InsertQuery insert;
+        private final SortedSet<String> keys;
+
+        Row(int index, InsertQuery insert) {
+            this.index = index;
+            this.insert = insert;
+            this.keys = lockKeys(insert);
+        }
+    }
+
+    /**
+     * Part of a batch routed to a single partition
+     */
+    private static class Work {
+        private final String keyspace;
+        private final List<Row> rows;
+        // Only modified by the thread of the partition, and read once the future has completed
+        private final Map<Integer, Throwable> failures = new HashMap<>();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Work(String keyspace, List<Row> rows) {
+            this.keyspace = keyspace;
+            this.rows = rows;
+        }
+
+        void complete(MetricRegistry metricRegistry) {
+            metricRegistry.meter(name(PartitionedLoader.class, keyspace, "rows")).mark(rows.size() - failures.size());
+            metricRegistry.meter(name(PartitionedLoader.class, keyspace, "failed")).mark(failures.size());
+            future.complete(null);
+        }
+    }
+}
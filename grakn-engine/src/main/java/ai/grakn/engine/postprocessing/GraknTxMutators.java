@@ -73,7 +73,7 @@ public abstract class GraknTxMutators {
             EngineGraknTxFactory factory , String keyspace, GraknTxType txType, int maxRetry,
             Consumer<GraknTx> mutatingFunction
     ){
-        if(!factory.systemKeyspace().containsKeyspace(keyspace)){ //This may be slow.
+        if(!factory.systemKeyspace().containsKeyspace(keyspace)){
             throw GraknBackendException.noSuchKeyspace(keyspace);
         }
 
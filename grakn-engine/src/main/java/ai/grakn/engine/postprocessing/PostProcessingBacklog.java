@@ -0,0 +1,160 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.concept.ConceptId;
+import com.google.common.collect.Sets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ *     Deduplicated backlog of {@link ai.grakn.concept.Attribute} indices which need to be post processed
+ * </p>
+ *
+ * <p>
+ *     Dirty indices are held per keyspace and partitioned by the hash of the index. Adding an index which is
+ *     already waiting in the backlog merges its {@link ConceptId}s into the pending entry, so many commit logs
+ *     touching the same attribute only result in a single merge.
+ * </p>
+ *
+ * <p>
+ *     The backlog is only visible to the engine holding it. Entries are removed once they have been merged, and put
+ *     back if the merge fails, so they are only lost if the engine stops with a failed batch still waiting.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class PostProcessingBacklog {
+    private final int numPartitions;
+    private final Map<String, List<Map<String, DirtyIndex>>> keyspaces = new ConcurrentHashMap<>();
+
+    PostProcessingBacklog(int numPartitions){
+        if(numPartitions < 1) throw new IllegalArgumentException("The backlog needs at least one partition");
+        this.numPartitions = numPartitions;
+    }
+
+    /**
+     * Marks an index as dirty, merging the provided ids into any entry already waiting for the same index
+     *
+     * @param keyspace The keyspace the index belongs to
+     * @param conceptIndex The index of the attribute which may have duplicates
+     * @param conceptIds The ids of the concepts which may be duplicates
+     */
+    void add(String keyspace, String conceptIndex, Set<ConceptId> conceptIds){
+        add(keyspace, conceptIndex, new DirtyIndex(conceptIds, System.currentTimeMillis()));
+    }
+
+    private void add(String keyspace, String conceptIndex, DirtyIndex dirtyIndex){
+        partitions(keyspace).get(partitionOf(conceptIndex)).merge(conceptIndex, dirtyIndex, DirtyIndex::merge);
+    }
+
+    /**
+     * Puts back a batch previously removed with {@link #take(String, int, int)}, for example when merging it failed
+     */
+    void restore(String keyspace, Map<String, DirtyIndex> batch){
+        batch.forEach((conceptIndex, dirtyIndex) -> add(keyspace, conceptIndex, dirtyIndex));
+    }
+
+    /**
+     * Removes up to the given number of dirty indices from a partition of the keyspace
+     *
+     * @return The removed indices, empty if there was nothing left to do in the partition
+     */
+    Map<String, DirtyIndex> take(String keyspace, int partition, int max){
+        Map<String, DirtyIndex> batch = new HashMap<>();
+        Iterator<String> indices = partitions(keyspace).get(partition).keySet().iterator();
+        while(batch.size() < max && indices.hasNext()){
+            String conceptIndex = indices.next();
+            DirtyIndex dirtyIndex = partitions(keyspace).get(partition).remove(conceptIndex);
+            if(dirtyIndex != null) batch.put(conceptIndex, dirtyIndex);
+        }
+        return batch;
+    }
+
+    /**
+     * @return The partitions of the keyspace which currently hold dirty indices
+     */
+    Set<Integer> dirtyPartitions(String keyspace){
+        List<Map<String, DirtyIndex>> partitions = partitions(keyspace);
+        return IntStream.range(0, numPartitions).filter(i -> !partitions.get(i).isEmpty()).
+                boxed().collect(Collectors.toSet());
+    }
+
+    /**
+     * @return The number of dirty indices waiting across all keyspaces
+     */
+    public long size(){
+        return keyspaces.values().stream().flatMap(List::stream).mapToLong(Map::size).sum();
+    }
+
+    /**
+     * @return The time in milliseconds at which the oldest index still in the backlog was first marked dirty
+     */
+    public long oldestDirtiedAt(){
+        return keyspaces.values().stream().flatMap(List::stream).flatMap(p -> p.values().stream()).
+                mapToLong(DirtyIndex::dirtiedAt).min().orElse(System.currentTimeMillis());
+    }
+
+    int partitionOf(String conceptIndex){
+        return Math.floorMod(conceptIndex.hashCode(), numPartitions);
+    }
+
+    private List<Map<String, DirtyIndex>> partitions(String keyspace){
+        return keyspaces.computeIfAbsent(keyspace, k -> {
+            List<Map<String, DirtyIndex>> partitions = new ArrayList<>(numPartitions);
+            for(int i = 0; i < numPartitions; i++) partitions.add(new ConcurrentHashMap<>());
+            return Collections.unmodifiableList(partitions);
+        });
+    }
+
+    /**
+     * An index waiting to be post processed together with the time it was first marked dirty
+     */
+    static final class DirtyIndex {
+        private final Set<ConceptId> conceptIds;
+        private final long dirtiedAt;
+
+        private DirtyIndex(Set<ConceptId> conceptIds, long dirtiedAt){
+            this.conceptIds = Collections.unmodifiableSet(conceptIds);
+            this.dirtiedAt = dirtiedAt;
+        }
+
+        Set<ConceptId> conceptIds(){
+            return conceptIds;
+        }
+
+        long dirtiedAt(){
+            return dirtiedAt;
+        }
+
+        private static DirtyIndex merge(DirtyIndex a, DirtyIndex b){
+            return new DirtyIndex(Sets.union(a.conceptIds, b.conceptIds).immutableCopy(), Math.min(a.dirtiedAt, b.dirtiedAt));
+        }
+    }
+}
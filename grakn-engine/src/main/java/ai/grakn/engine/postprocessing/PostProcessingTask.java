@@ -21,12 +21,16 @@ package ai.grakn.engine.postprocessing;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.postprocessing.PostProcessingBacklog.DirtyIndex;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskSchedule;
 import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.exception.GraknBackendException;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
 import com.google.common.base.Preconditions;
 import mjson.Json;
@@ -37,6 +41,7 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -51,12 +56,31 @@ import static com.codahale.metrics.MetricRegistry.name;
  *     This task begins only if enough time has passed (configurable) since the last time a job was added.
  * </p>
  *
+ * <p>
+ *     The indices in the task configuration are added to a shared {@link PostProcessingBacklog}. The task then drains
+ *     the partitions of the keyspace which have work waiting, merging a batch of indices per transaction. A single
+ *     lock is held per partition rather than per index.
+ * </p>
+ *
+ * <p>
+ *     The backlog lives in the memory of each engine. Tasks are picked up from the shared task queue by any engine, so
+ *     commit logs touching the same index can end up in the backlogs of two engines. The partition lock is what stops
+ *     two engines merging the same index at the same time, which is why it is kept. It costs one lock round trip per
+ *     partition drained instead of one per index.
+ * </p>
+ *
  * @author alexandraorth, fppt
  */
 public class PostProcessingTask extends BackgroundTask {
     private static final Logger LOG = LoggerFactory.getLogger(PostProcessingTask.class);
     private static final String JOB_FINISHED = "Post processing Job [{}] completed for indeces and ids: [{}]";
     private static final String LOCK_KEY = "/post-processing-lock";
+    private static final int NUM_PARTITIONS = 16;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    public static final String BATCH_SIZE = "tasks.postprocessing.batch-size";
+
+    private static final PostProcessingBacklog BACKLOG = new PostProcessingBacklog(NUM_PARTITIONS);
 
     /**
      * Apply {@link ai.grakn.concept.Attribute} post processing jobs the concept ids in the provided configuration
@@ -67,26 +91,76 @@ public class PostProcessingTask extends BackgroundTask {
     public boolean start() {
         try (Context context = metricRegistry()
                 .timer(name(PostProcessingTask.class, "execution")).time()) {
+            registerBacklogGauges();
+
+            String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
             Map<String, Set<ConceptId>> allToPostProcess = getPostProcessingJobs(Schema.BaseType.ATTRIBUTE, configuration());
+            allToPostProcess.forEach((conceptIndex, conceptIds) -> BACKLOG.add(keyspace, conceptIndex, conceptIds));
 
-            allToPostProcess.forEach((conceptIndex, conceptIds) -> {
-                Context contextSingle = metricRegistry()
-                        .timer(name(PostProcessingTask.class, "execution-single")).time();
-                try {
-                    String keyspace = configuration().json().at(REST.Request.KEYSPACE).asString();
-                    int maxRetry = engineConfiguration()
-                            .getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+            BACKLOG.dirtyPartitions(keyspace).forEach(partition -> drainPartition(keyspace, partition));
+
+            LOG.debug(JOB_FINISHED, Schema.BaseType.ATTRIBUTE.name(), allToPostProcess);
+
+            return true;
+        }
+    }
+
+    /**
+     * Merges batches of dirty indices from a partition of the backlog until the partition is empty.
+     * The partition lock makes sure no other engine merges the same indices at the same time, since the backlog of
+     * another engine may hold some of the same indices.
+     *
+     * @param keyspace The keyspace to post process
+     * @param partition The partition of the backlog to drain
+     */
+    private void drainPartition(String keyspace, int partition){
+        Preconditions.checkNotNull(this.getLockProvider(), "Lock provider was null, possible race condition in initialisation");
+        int batchSize = engineConfiguration().tryIntProperty(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        int maxRetry = engineConfiguration().getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+        Timer mergeLag = metricRegistry().timer(name(PostProcessingTask.class, "merge-lag"));
 
+        Lock partitionLock = this.getLockProvider().getLock(LOCK_KEY + "/" + keyspace + "/" + partition);
+        partitionLock.lock();
+        try {
+            Map<String, DirtyIndex> batch;
+            while (!(batch = BACKLOG.take(keyspace, partition, batchSize)).isEmpty()) {
+                Map<String, DirtyIndex> toMerge = batch;
+                try (Context contextSingle = metricRegistry()
+                        .timer(name(PostProcessingTask.class, "execution-single")).time()) {
                     GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry,
-                            (graph) -> runPostProcessingMethod(graph, conceptIndex, conceptIds));
-                } finally {
-                    contextSingle.stop();
+                            (graph) -> runPostProcessingMethod(graph, toMerge));
+                } catch (GraknBackendException e) {
+                    // The keyspace no longer exists so there is nothing left to merge
+                    throw e;
+                } catch (RuntimeException e) {
+                    BACKLOG.restore(keyspace, toMerge);
+                    throw e;
                 }
-            });
 
-            LOG.debug(JOB_FINISHED, Schema.BaseType.ATTRIBUTE.name(), allToPostProcess);
+                long now = System.currentTimeMillis();
+                toMerge.values().forEach(dirtyIndex -> mergeLag.update(now - dirtyIndex.dirtiedAt(), TimeUnit.MILLISECONDS));
+            }
+        } finally {
+            partitionLock.unlock();
+        }
+    }
 
-            return true;
+    /**
+     * Registers gauges reporting the size of the backlog and the age of its oldest entry
+     */
+    private void registerBacklogGauges(){
+        registerGauge(name(PostProcessingTask.class, "backlog", "size"), BACKLOG::size);
+        registerGauge(name(PostProcessingTask.class, "backlog", "oldest-age"),
+                () -> System.currentTimeMillis() - BACKLOG.oldestDirtiedAt());
+    }
+
+    private void registerGauge(String gaugeName, Gauge<Long> gauge){
+        if(!metricRegistry().getGauges().containsKey(gaugeName)) {
+            try {
+                metricRegistry().register(gaugeName, gauge);
+            } catch (IllegalArgumentException e) {
+                // Registered concurrently by another task
+            }
         }
     }
 
@@ -105,22 +179,20 @@ public class PostProcessingTask extends BackgroundTask {
     }
 
     /**
-     * Apply the given post processing method to the provided concept index and set of ids.
+     * Apply the post processing method to a batch of concept indices and their sets of ids, committing once for the
+     * whole batch.
      *
-     * @param graph
-     * @param conceptIndex
-     * @param conceptIds
+     * @param graph The graph to post process
+     * @param batch The dirty indices to merge
      */
-    private void runPostProcessingMethod(GraknTx graph, String conceptIndex, Set<ConceptId> conceptIds){
-        Preconditions.checkNotNull(this.getLockProvider(), "Lock provider was null, possible race condition in initialisation");
-        if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)){
+    private void runPostProcessingMethod(GraknTx graph, Map<String, DirtyIndex> batch){
+        boolean merged = false;
 
-            // Acquire a lock when you post process on an index to prevent race conditions
-            // Lock is acquired after checking for duplicates to reduce runtime
-            Lock indexLock = this.getLockProvider().getLock(PostProcessingTask.LOCK_KEY + "/" + conceptIndex);
-            indexLock.lock();
+        for (Map.Entry<String, DirtyIndex> entry : batch.entrySet()) {
+            String conceptIndex = entry.getKey();
+            Set<ConceptId> conceptIds = entry.getValue().conceptIds();
 
-            try {
+            if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)){
                 // execute the provided post processing method
                 graph.admin().fixDuplicateResources(conceptIndex, conceptIds);
 
@@ -130,12 +202,12 @@ public class PostProcessingTask extends BackgroundTask {
                             throw new RuntimeException(message);
                         });
 
-                // persist merged concepts
-                graph.admin().commitNoLogs();
-            } finally {
-                indexLock.unlock();
+                merged = true;
             }
         }
+
+        // persist merged concepts
+        if(merged) graph.admin().commitNoLogs();
     }
 
     /**
@@ -18,7 +18,11 @@
 
 package ai.grakn.engine.postprocessing;
 
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
 import ai.grakn.engine.GraknEngineConfig;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.tasks.BackgroundTask;
@@ -26,6 +30,7 @@ import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskSchedule;
 import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.kb.admin.KeyspaceStatistics;
 import ai.grakn.kb.internal.GraknTxAbstract;
 import ai.grakn.util.REST;
 import static com.codahale.metrics.MetricRegistry.name;
@@ -85,6 +90,15 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
                 }
             });
 
+            //Make the new counts available to the query planner
+            Context contextStatistics = metricRegistry()
+                    .timer(name(UpdatingInstanceCountTask.class, "statistics")).time();
+            try {
+                updateStatistics(redis(), factory(), keyspace, jobs.keySet());
+            } finally {
+                contextStatistics.stop();
+            }
+
             //Shard anything which requires sharding
             conceptToShard.forEach(type -> {
                 Context contextSharding = metricRegistry().timer("sharding").time();
@@ -111,7 +125,8 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
         return  configuration.json().at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().stream()
                 .collect(Collectors.toMap(
                         e -> ConceptId.of(e.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString()),
-                        e -> e.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong()));
+                        e -> e.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong(),
+                        Long::sum));
     }
 
     /**
@@ -131,6 +146,28 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
         return numInstances > shardingThreshold * numShards;
     }
 
+    /**
+     * Copies the instance counts tracked in redis into the {@link ai.grakn.kb.admin.KeyspaceStatistics} of the
+     * keyspace so that queries can be planned using them.
+     *
+     * @param keyspace The keyspace of the graph which the types come from
+     * @param conceptIds The ids of the types with updated counts
+     */
+    private static void updateStatistics(
+            RedisCountStorage redis, EngineGraknTxFactory factory, String keyspace, Set<ConceptId> conceptIds){
+        try (GraknTx graph = factory.tx(keyspace, GraknTxType.READ)) {
+            KeyspaceStatistics statistics = graph.admin().statistics();
+            for (ConceptId conceptId : conceptIds) {
+                Concept concept = graph.getConcept(conceptId);
+                if (concept == null || !concept.isSchemaConcept()) continue;
+
+                Label label = concept.asSchemaConcept().getLabel();
+                long count = redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace, conceptId));
+                statistics.setInstanceCount(label, count);
+            }
+        }
+    }
+
     /**
      * Performs the high level sharding operation. This includes:
      * - Acquiring a lock to ensure only one thing can shard
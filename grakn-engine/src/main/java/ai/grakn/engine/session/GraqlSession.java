@@ -24,41 +24,62 @@ import ai.grakn.GraknTxType;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.SchemaConcept;
+import ai.grakn.engine.util.QueryParameters;
 import ai.grakn.exception.GraknException;
+import ai.grakn.exception.GraknServerException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.graql.ComputeQuery;
+import ai.grakn.graql.Graql;
+import ai.grakn.graql.PreparedQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.internal.printer.Printers;
+import ai.grakn.graql.internal.query.QueryCancellation;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import mjson.Json;
 import org.eclipse.jetty.websocket.api.Session;
-import org.eclipse.jetty.websocket.api.WebSocketException;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.REST.RemoteShell.ACTION;
 import static ai.grakn.util.REST.RemoteShell.ACTION_CLEAN;
 import static ai.grakn.util.REST.RemoteShell.ACTION_COMMIT;
+import static ai.grakn.util.REST.RemoteShell.ACTION_CREDIT;
 import static ai.grakn.util.REST.RemoteShell.ACTION_DISPLAY;
 import static ai.grakn.util.REST.RemoteShell.ACTION_END;
 import static ai.grakn.util.REST.RemoteShell.ACTION_ERROR;
+import static ai.grakn.util.REST.RemoteShell.ACTION_EXECUTE;
 import static ai.grakn.util.REST.RemoteShell.ACTION_PING;
+import static ai.grakn.util.REST.RemoteShell.ACTION_PREPARE;
 import static ai.grakn.util.REST.RemoteShell.ACTION_QUERY;
 import static ai.grakn.util.REST.RemoteShell.ACTION_ROLLBACK;
+import static ai.grakn.util.REST.RemoteShell.ACTION_STOP;
 import static ai.grakn.util.REST.RemoteShell.ACTION_TYPES;
+import static ai.grakn.util.REST.RemoteShell.CREDIT;
 import static ai.grakn.util.REST.RemoteShell.DISPLAY;
 import static ai.grakn.util.REST.RemoteShell.ERROR;
+import static ai.grakn.util.REST.RemoteShell.HANDLE;
+import static ai.grakn.util.REST.RemoteShell.PARAMETERS;
 import static ai.grakn.util.REST.RemoteShell.QUERY;
 import static ai.grakn.util.REST.RemoteShell.QUERY_RESULT;
 import static ai.grakn.util.REST.RemoteShell.TYPES;
@@ -66,7 +87,12 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace;
 
 /**
- * A Graql shell session for a single client, running on one knowledge base in one thread
+ * A Graql shell session for a single client, running on one knowledge base in one thread.
+ * The thread is shared with sessions on other keyspaces through a {@link GraqlSessionRuntime}.
+ *
+ * Requests of the session run one at a time. A query which is waiting for the client is suspended rather than
+ * holding the thread: it is resumed when the client grants more credit, catches up with the messages already sent or
+ * stops the query. Later requests of the session wait for the query to finish.
  */
 class GraqlSession {
     private final Session session;
@@ -74,6 +100,7 @@ class GraqlSession {
     private final boolean materialise;
     private GraknTx tx;
     private final GraknSession factory;
+    private final String keyspace;
     private final String outputFormat;
     private Printer printer;
     private StringBuilder queryStringBuilder = new StringBuilder();
@@ -81,15 +108,55 @@ class GraqlSession {
 
     private static final int QUERY_CHUNK_SIZE = 1000;
     private static final int PING_INTERVAL = 60_000;
+    private static final int MAX_PREPARED_QUERIES = 1000;
+
+    // Messages which may be waiting to be written to the websocket before producing more results is paused
+    private static final int MAX_PENDING_MESSAGES = 64;
+
+    // Answers sent in one go before letting the other sessions of the lane run
+    private static final int ANSWERS_PER_STEP = 100;
 
-    // All requests are run within a single thread, so they always happen in a single thread-bound transaction
-    private final ExecutorService queryExecutor =
-            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("graql-session-%s").build());
+    // All requests are run within a single lane, so they always happen in a single thread-bound transaction.
+    // Requests wait until the runtime hands the session a lane. Guarded by `this`.
+    private final GraqlSessionRuntime runtime;
+    private @Nullable GraqlSessionRuntime.Lane lane = null;
+    private final ScheduledFuture<?> pings;
+    private final AtomicInteger pendingMessages = new AtomicInteger(0);
     private List<Query<?>> queries = null;
 
+    // Queries prepared by the client, by their handle, forgetting the least recently used. Only used within the lane.
+    private final Map<String, PreparedQuery<?>> preparedQueries =
+            new LinkedHashMap<String, PreparedQuery<?>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedQuery<?>> eldest) {
+                    return size() > MAX_PREPARED_QUERIES;
+                }
+            };
+
+    // Requests waiting to run and whether running the next one is already queued on the lane. Guarded by `this`.
+    private final Queue<Runnable> requests = new ArrayDeque<>();
+    private boolean scheduled = false;
+
+    // Answers of the running query the client is ready to receive. Guarded by `this`.
+    private final long initialCredit;
+    private long credit = 0;
+
+    // The query being answered and whether it is suspended until the client is ready. Guarded by `this`.
+    private @Nullable RunningQuery running = null;
+    private boolean suspended = false;
+
+    // Queries waiting to start and whether the client asked to stop the next one. Guarded by `this`.
+    private int queuedQueries = 0;
+    private boolean stopQueued = false;
+    private boolean closed = false;
+
+    /**
+     * @param initialCredit number of answers sent for each query before waiting for more credit from the client,
+     *                      or {@link Long#MAX_VALUE} to send answers as fast as the client can receive them
+     */
     GraqlSession(
-            Session session, GraknSession factory, String outputFormat,
-            boolean infer, boolean materialise
+            Session session, GraknSession factory, String keyspace, GraqlSessionRuntime runtime, String outputFormat,
+            boolean infer, boolean materialise, long initialCredit
     ) {
         Preconditions.checkNotNull(session);
 
@@ -97,9 +164,12 @@ class GraqlSession {
         this.materialise = materialise;
         this.session = session;
         this.factory = factory;
+        this.keyspace = keyspace;
         this.outputFormat = outputFormat;
+        this.initialCredit = initialCredit;
+        this.runtime = runtime;
 
-        queryExecutor.execute(() -> {
+        submit(() -> {
             try {
                 refreshTx();
                 this.printer = getPrinter();
@@ -114,10 +184,18 @@ class GraqlSession {
             }
         });
 
+        runtime.acquireLane(keyspace, this::laneAcquired);
+
         // Begin sending pings
-        Thread thread = new Thread(this::ping, "graql-session-ping");
-        thread.setDaemon(true);
-        thread.start();
+        pings = runtime.schedule(this::ping, PING_INTERVAL);
+    }
+
+    /**
+     * Start running the requests of the session on the given lane
+     */
+    private synchronized void laneAcquired(GraqlSessionRuntime.Lane lane) {
+        this.lane = lane;
+        scheduleNext();
     }
 
     private void refreshTx() {
@@ -133,6 +211,12 @@ class GraqlSession {
             case ACTION_END:
                 executeQuery();
                 break;
+            case ACTION_PREPARE:
+                prepareQuery(json);
+                break;
+            case ACTION_EXECUTE:
+                executePreparedQuery(json);
+                break;
             case ACTION_COMMIT:
                 commit();
                 break;
@@ -145,6 +229,12 @@ class GraqlSession {
             case ACTION_DISPLAY:
                 setDisplayOptions(json);
                 break;
+            case ACTION_CREDIT:
+                addCredit(json.at(CREDIT).asLong());
+                break;
+            case ACTION_STOP:
+                stopQuery();
+                break;
             case ACTION_PING:
                 // Ignore
                 break;
@@ -154,22 +244,9 @@ class GraqlSession {
     }
 
     private void ping() {
-        // This runs on a daemon thread, so it will be terminated when the JVM stops
-        while (session.isOpen()) {
-            try {
-                sendJson(Json.object(ACTION, ACTION_PING));
-            } catch (WebSocketException e) {
-                // Report an error if the session is still open
-                if (session.isOpen()) {
-                    LOG.error(e.getMessage());
-                }
-            } finally {
-                try {
-                    Thread.sleep(PING_INTERVAL);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
+        // If messages are still being written, the client is hearing from us anyway
+        if (session.isOpen() && isWritable()) {
+            sendJson(Json.object(ACTION, ACTION_PING));
         }
     }
 
@@ -177,15 +254,49 @@ class GraqlSession {
      * Close the session, which will close the transaction.
      */
     void close() {
-        queryExecutor.execute(() -> {
+        pings.cancel(false);
+        synchronized (this) {
+            closed = true;
+        }
+        stopQuery();
+
+        submit(() -> {
             try {
                 tx.close();
             } catch (Exception e) {
                 throw new RuntimeException(e);
+            } finally {
+                runtime.releaseLane(lane, keyspace);
             }
         });
 
         // Kill any compute queries that might be running
+        killComputeQueries(queries);
+    }
+
+    /**
+     * Stop the running query or, if it has not started yet, the next query to run. A query waiting for credit stops
+     * immediately. A query computing an answer is cancelled through its {@link QueryCancellation}, which its
+     * traversals and reasoner iterators check as they go. The thread running the query is never interrupted, as it
+     * may be in the middle of reading from the knowledge base, but compute queries are killed.
+     */
+    void stopQuery() {
+        List<Query<?>> toKill;
+        synchronized (this) {
+            if (running != null) {
+                running.stopped = true;
+                running.cancellation.cancel();
+                resumeIfReady();
+                toKill = running.queries;
+            } else {
+                if (queuedQueries > 0) stopQueued = true;
+                return;
+            }
+        }
+        killComputeQueries(toKill);
+    }
+
+    private static void killComputeQueries(@Nullable List<Query<?>> queries) {
         // TODO: Avoid this weird cast
         if (queries != null) {
             for (Query<?> query : queries) {
@@ -196,11 +307,96 @@ class GraqlSession {
         }
     }
 
+    /**
+     * Allow more answers of the running query to be computed and sent
+     */
+    synchronized void addCredit(long amount) {
+        credit = credit > Long.MAX_VALUE - amount ? Long.MAX_VALUE : credit + amount;
+        resumeIfReady();
+    }
+
+    /**
+     * Queue the running query on the lane again if it is suspended and can make progress. Must hold `this`.
+     */
+    private void resumeIfReady() {
+        if (suspended && (running.stopped || (credit > 0 && isWritable()))) {
+            suspended = false;
+            RunningQuery query = running;
+            runOnLane(() -> step(query));
+        }
+    }
+
+    /**
+     * Run a request of the session on the lane, after all of the requests received before it
+     * @return a future which completes once the request has run
+     */
+    private CompletableFuture<Void> submit(Runnable request) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        enqueue(() -> {
+            try {
+                request.run();
+                done.complete(null);
+            } catch (RuntimeException | Error e) {
+                done.completeExceptionally(e);
+                throw e;
+            }
+        });
+        return done;
+    }
+
+    private synchronized void enqueue(Runnable request) {
+        requests.add(request);
+        scheduleNext();
+    }
+
+    /**
+     * Queue the next request on the lane, unless the session has no lane yet, it is already queued or a query holds
+     * the session. Must hold `this`. Requests are queued one at a time, so the requests of other sessions on the lane
+     * run in between.
+     */
+    private void scheduleNext() {
+        if (lane != null && !scheduled && running == null && !requests.isEmpty()) {
+            scheduled = true;
+            runOnLane(this::runNext);
+        }
+    }
+
+    private void runNext() {
+        Runnable request;
+        synchronized (this) {
+            scheduled = false;
+            // A running query holds the session, and schedules the next request once it finishes
+            request = running == null ? requests.poll() : null;
+        }
+        if (request == null) return;
+
+        try {
+            request.run();
+        } catch (Throwable e) {
+            LOG.error("Error while handling request", e);
+        } finally {
+            synchronized (this) {
+                scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Queue a task on the lane of the session. Must hold `this`, and the session must have a lane.
+     */
+    private void runOnLane(Runnable task) {
+        try {
+            lane.executor().execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Session closed, dropping task", e);
+        }
+    }
+
     /**
      * Receive and remember part of a query
      */
     void receiveQuery(Json json) {
-        queryExecutor.execute(() -> {
+        submit(() -> {
             String queryString = json.at(QUERY).asString();
             queryStringBuilder.append(queryString);
         });
@@ -210,42 +406,164 @@ class GraqlSession {
      * Execute the Graql query described in the given JSON request
      */
     Future<?> executeQuery() {
-        return queryExecutor.submit(() -> {
+        return runQueries(() -> {
+            String queryString = queryStringBuilder.toString();
+            queryStringBuilder = new StringBuilder();
 
-            String errorMessage = null;
+            return tx.graql().infer(infer).materialise(materialise).parseList(queryString).collect(toList());
+        });
+    }
 
+    /**
+     * Parse the query in the given JSON request once, so it can be executed many times with different parameters.
+     * Tells the client the handle to execute it with.
+     */
+    Future<?> prepareQuery(Json json) {
+        return submit(() -> {
             try {
-                String queryString = queryStringBuilder.toString();
-                queryStringBuilder = new StringBuilder();
+                String queryString = json.at(QUERY).asString();
+                PreparedQuery<?> query = Graql.withoutGraph().infer(infer).materialise(materialise).prepare(queryString);
 
-                queries = tx.graql().infer(infer).materialise(materialise).parseList(queryString).collect(toList());
-
-                // Return results unless query is cancelled
-                queries.stream().flatMap(query -> query.resultsString(printer)).forEach(this::sendQueryResult);
+                String handle = QueryParameters.handle(queryString, infer, materialise);
+                preparedQueries.put(handle, query);
+                sendJson(Json.object(ACTION, ACTION_PREPARE, HANDLE, handle));
             } catch (GraknException e) {
-                errorMessage = e.getMessage();
-                LOG.error(errorMessage,e);
-            } catch (Exception e) {
-                errorMessage = getFullStackTrace(e);
-                LOG.error(errorMessage,e);
+                LOG.error(e.getMessage(), e);
+                sendError(e.getMessage());
             } finally {
-                if (errorMessage != null) {
-                    if (queries != null && !queries.stream().allMatch(Query::isReadOnly)) {
-                        attemptRefresh();
+                sendEnd();
+            }
+        });
+    }
+
+    /**
+     * Execute a prepared query, binding the parameters in the given JSON request
+     */
+    Future<?> executePreparedQuery(Json json) {
+        return runQueries(() -> {
+            String handle = json.at(HANDLE).asString();
+            PreparedQuery<?> preparedQuery = preparedQueries.get(handle);
+            if (preparedQuery == null) throw GraknServerException.noPreparedQuery(handle);
+
+            Query<?> query = preparedQuery.bind(QueryParameters.fromJson(json.at(PARAMETERS))).withTx(tx);
+            return Collections.singletonList(query);
+        });
+    }
+
+    /**
+     * Execute the given queries, returning their results to the client
+     * @return a future which completes once the queries have finished or been stopped
+     */
+    private Future<?> runQueries(Supplier<List<Query<?>>> queriesToRun) {
+        RunningQuery query = new RunningQuery();
+        synchronized (this) {
+            queuedQueries++;
+        }
+        enqueue(() -> startQuery(query, queriesToRun));
+        return query.done;
+    }
+
+    private void startQuery(RunningQuery query, Supplier<List<Query<?>>> queriesToRun) {
+        synchronized (this) {
+            queuedQueries--;
+            // The client may have stopped the query before it started
+            query.stopped = stopQueued || closed;
+            stopQueued = false;
+            credit = initialCredit;
+            running = query;
+        }
+
+        try {
+            // The queries are read even when stopped, so that the query string is consumed
+            List<Query<?>> toRun = queriesToRun.get();
+            synchronized (this) {
+                queries = toRun;
+                query.start(toRun);
+            }
+        } catch (GraknException e) {
+            query.fail(e.getMessage(), e);
+        } catch (Exception e) {
+            query.fail(getFullStackTrace(e), e);
+        }
+
+        if (query.errorMessage == null) {
+            step(query);
+        } else {
+            finish(query);
+        }
+    }
+
+    /**
+     * Compute and send answers of the query while the client is ready for them. If the client is not, the query is
+     * suspended until {@link #resumeIfReady()} queues it on the lane again.
+     */
+    private void step(RunningQuery query) {
+        try {
+            for (int answers = 0; ; answers++) {
+                synchronized (this) {
+                    if (query.stopped) break;
+                    if (credit <= 0 || !isWritable()) {
+                        suspended = true;
+                        return;
                     }
-                    sendError(errorMessage);
+                    if (answers == ANSWERS_PER_STEP) {
+                        runOnLane(() -> step(query));
+                        return;
+                    }
+                    if (credit != Long.MAX_VALUE) credit--;
                 }
 
-                sendEnd();
+                Optional<String> answer = query.cancellation.apply(query::nextAnswer);
+                if (!answer.isPresent()) break;
+                sendQueryResult(answer.get());
             }
-        });
+        } catch (GraknException e) {
+            query.fail(e.getMessage(), e);
+        } catch (Exception e) {
+            query.fail(getFullStackTrace(e), e);
+        }
+        finish(query);
+    }
+
+    private void finish(RunningQuery query) {
+        query.closeResults();
+
+        boolean wasStopped;
+        synchronized (this) {
+            running = null;
+            suspended = false;
+            wasStopped = query.stopped;
+        }
+
+        if (wasStopped) {
+            LOG.debug("Query stopped by client");
+        } else if (query.errorMessage != null) {
+            LOG.error(query.errorMessage, query.error);
+        }
+
+        if (wasStopped || query.errorMessage != null) {
+            if (query.queries != null && !query.queries.stream().allMatch(Query::isReadOnly)) {
+                attemptRefresh();
+            }
+        }
+
+        if (!wasStopped && query.errorMessage != null) {
+            sendError(query.errorMessage);
+        }
+
+        sendEnd();
+        query.done.complete(null);
+
+        synchronized (this) {
+            scheduleNext();
+        }
     }
 
     /**
      * Commit and report any errors to the client
      */
     void commit() {
-        queryExecutor.execute(() -> {
+        submit(() -> {
             try {
                 tx.commit();
             } catch (InvalidKBException e) {
@@ -261,7 +579,7 @@ class GraqlSession {
      * Rollback the transaction, removing uncommitted changes
      */
     void rollback() {
-        queryExecutor.execute(() -> {
+        submit(() -> {
             tx.close();
             attemptRefresh();
         });
@@ -271,7 +589,7 @@ class GraqlSession {
      * Clean the transaction, removing everything in the tx (but not committing)
      */
     void clean() {
-        queryExecutor.execute(() -> {
+        submit(() -> {
             tx.admin().delete();
             attemptRefresh();
         });
@@ -286,7 +604,7 @@ class GraqlSession {
     }
 
     void setDisplayOptions(Json json) {
-        queryExecutor.execute(() -> {
+        submit(() -> {
             AttributeType[] displayOptions = json.at(DISPLAY).asJsonList().stream()
                     .map(Json::asString)
                     .map(tx::getAttributeType)
@@ -344,17 +662,96 @@ class GraqlSession {
     }
 
     /**
-     * Send the given JSON to the client
+     * @return true if few enough messages are waiting to be written for more answers to be produced
+     */
+    private boolean isWritable() {
+        return pendingMessages.get() < MAX_PENDING_MESSAGES;
+    }
+
+    /**
+     * Write the given JSON to the websocket without waiting. Answers are only produced while the session
+     * {@link #isWritable()}, so the messages waiting to be written stay bounded.
      */
     private void sendJson(Json json) {
-        queryExecutor.execute(() -> {
-            LOG.debug("Sending message: " + json);
-            try {
-                session.getRemote().sendString(json.toString());
-            } catch (IOException e) {
-                LOG.error("Error while sending JSON: " + json, e);
+        LOG.debug("Sending message: " + json);
+        pendingMessages.incrementAndGet();
+        try {
+            session.getRemote().sendString(json.toString(), new WriteCallback() {
+                @Override
+                public void writeFailed(Throwable e) {
+                    messageWritten();
+                    if (session.isOpen()) {
+                        LOG.error("Error while sending JSON: " + json, e);
+                    }
+                }
+
+                @Override
+                public void writeSuccess() {
+                    messageWritten();
+                }
+            });
+        } catch (RuntimeException e) {
+            messageWritten();
+            LOG.error("Error while sending JSON: " + json, e);
+        }
+    }
+
+    private void messageWritten() {
+        // Resume a query waiting for the client to catch up, once it has
+        if (pendingMessages.decrementAndGet() == MAX_PENDING_MESSAGES - 1) {
+            synchronized (this) {
+                resumeIfReady();
             }
-        });
+        }
+    }
+
+    /**
+     * The state of a query while it is being answered, so it can be suspended between answers
+     */
+    private class RunningQuery {
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final QueryCancellation cancellation = new QueryCancellation();
+        // Guarded by the session
+        private boolean stopped = false;
+        private @Nullable List<Query<?>> queries = null;
+
+        // Only used within the lane
+        private Iterator<Query<?>> remaining = Collections.emptyIterator();
+        private @Nullable Stream<String> results = null;
+        private Iterator<String> answers = Collections.emptyIterator();
+        private @Nullable String errorMessage = null;
+        private @Nullable Exception error = null;
+
+        void start(List<Query<?>> queries) {
+            this.queries = queries;
+            this.remaining = queries.iterator();
+        }
+
+        /**
+         * Compute the next answer, moving on to the next query when one has no more answers
+         */
+        Optional<String> nextAnswer() {
+            while (!answers.hasNext()) {
+                closeResults();
+                if (!remaining.hasNext()) return Optional.empty();
+                results = remaining.next().resultsString(printer);
+                answers = results.iterator();
+            }
+            return Optional.of(answers.next());
+        }
+
+        void closeResults() {
+            if (results != null) {
+                results.close();
+                results = null;
+            }
+            answers = Collections.emptyIterator();
+        }
+
+        void fail(String errorMessage, Exception error) {
+            this.errorMessage = errorMessage;
+            this.error = error;
+        }
     }
 
     /**
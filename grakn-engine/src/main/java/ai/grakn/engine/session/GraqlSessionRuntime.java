@@ -0,0 +1,174 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.session;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Threads shared by all {@link GraqlSession}s of an engine
+ * </p>
+ *
+ * <p>
+ *     Transactions are bound to the thread that opened them, so every session is pinned to one of a fixed number of
+ *     single-threaded lanes when it starts. Requests of a session run in order on its lane, and sessions are spread
+ *     over the lanes by the number of sessions each lane is serving. Pings for all sessions are sent from a single
+ *     timer thread.
+ * </p>
+ *
+ * <p>
+ *     A thread only has one transaction per keyspace, so two sessions on the same keyspace never share a lane. When
+ *     every lane is already serving a session on the keyspace, the new session waits for one of them to be released.
+ *     So the number of threads never grows with the number of sessions, but only as many sessions as there are lanes
+ *     can run on a single keyspace at once.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class GraqlSessionRuntime implements AutoCloseable {
+
+    private final List<Lane> lanes;
+    // Sessions waiting for a lane which does not serve their keyspace yet, by keyspace. Guarded by `lanes`.
+    private final Map<String, Queue<Consumer<Lane>>> waiting = new HashMap<>();
+    private final ScheduledThreadPoolExecutor timer;
+
+    private GraqlSessionRuntime(int numLanes) {
+        Preconditions.checkArgument(numLanes > 0, "A Graql session runtime needs at least one lane");
+
+        this.lanes = new ArrayList<>(numLanes);
+        for (int i = 0; i < numLanes; i++) {
+            lanes.add(new Lane("graql-session-" + i));
+        }
+
+        this.timer = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("graql-session-timer").setDaemon(true).build());
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    public static GraqlSessionRuntime create(int numLanes) {
+        return new GraqlSessionRuntime(numLanes);
+    }
+
+    /**
+     * Pin a new session to the lane serving the fewest sessions, among the lanes not serving the keyspace already.
+     * If every lane serves the keyspace, the session waits until one of them is released.
+     * @param keyspace the keyspace the session opens transactions on
+     * @param onAcquired given the lane to run all of the requests of the session on, either straight away or on the
+     *                   thread releasing the lane. The lane must be released when the session closes.
+     */
+    void acquireLane(String keyspace, Consumer<Lane> onAcquired) {
+        String key = keyspace.toLowerCase();
+        Optional<Lane> acquired;
+        synchronized (lanes) {
+            acquired = lanes.stream()
+                    .filter(candidate -> !candidate.keyspaces.contains(key))
+                    .min(Comparator.comparingInt(Lane::numSessions));
+            if (acquired.isPresent()) {
+                acquired.get().keyspaces.add(key);
+            } else {
+                waiting.computeIfAbsent(key, k -> new ArrayDeque<>()).add(onAcquired);
+            }
+        }
+        acquired.ifPresent(onAcquired);
+    }
+
+    /**
+     * Release a lane acquired for a session on the given keyspace. If another session is waiting for a lane on the
+     * keyspace, it acquires this one.
+     */
+    void releaseLane(Lane lane, String keyspace) {
+        String key = keyspace.toLowerCase();
+        Consumer<Lane> next = null;
+        synchronized (lanes) {
+            Queue<Consumer<Lane>> waiters = waiting.get(key);
+            if (waiters != null) {
+                next = waiters.poll();
+                if (waiters.isEmpty()) waiting.remove(key);
+            }
+            if (next == null) lane.keyspaces.remove(key);
+        }
+        if (next != null) next.accept(lane);
+    }
+
+    /**
+     * @return the number of sessions waiting for a lane on the given keyspace
+     */
+    int numWaiting(String keyspace) {
+        synchronized (lanes) {
+            Queue<Consumer<Lane>> waiters = waiting.get(keyspace.toLowerCase());
+            return waiters == null ? 0 : waiters.size();
+        }
+    }
+
+    /**
+     * Run the given task periodically on the shared timer thread
+     */
+    ScheduledFuture<?> schedule(Runnable task, long periodMs) {
+        return timer.scheduleAtFixedRate(task, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        synchronized (lanes) {
+            lanes.forEach(lane -> lane.executor.shutdownNow());
+            waiting.clear();
+        }
+    }
+
+    /**
+     * A single thread running the requests of several sessions, each on a different keyspace
+     */
+    static class Lane {
+        private final ExecutorService executor;
+        // Keyspaces of the sessions pinned to this lane. Guarded by the lanes of the runtime.
+        private final Set<String> keyspaces = new HashSet<>();
+
+        private Lane(String name) {
+            this.executor = Executors.newSingleThreadExecutor(
+                    new ThreadFactoryBuilder().setNameFormat(name).setDaemon(true).build());
+        }
+
+        ExecutorService executor() {
+            return executor;
+        }
+
+        int numSessions() {
+            return keyspaces.size();
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Map;
 
 import static ai.grakn.util.REST.RemoteShell.ACTION;
 import static ai.grakn.util.REST.RemoteShell.ACTION_INIT;
+import static ai.grakn.util.REST.RemoteShell.CREDIT;
 import static ai.grakn.util.REST.RemoteShell.PASSWORD;
 import static ai.grakn.util.REST.RemoteShell.USERNAME;
 import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace;
@@ -47,17 +48,19 @@ public class RemoteSession extends WebSocketAdapter {
     private final Map<Session, GraqlSession> sessions = new HashMap<>();
     private final Logger LOG = LoggerFactory.getLogger(RemoteSession.class);
     private final @Nullable UsersHandler usersHandler;
+    private final GraqlSessionRuntime runtime;
 
-    private RemoteSession(@Nullable UsersHandler usersHandler) {
+    private RemoteSession(@Nullable UsersHandler usersHandler, GraqlSessionRuntime runtime) {
         this.usersHandler = usersHandler;
+        this.runtime = runtime;
     }
 
-    public static RemoteSession create() {
-        return new RemoteSession(null);
+    public static RemoteSession create(GraqlSessionRuntime runtime) {
+        return new RemoteSession(null, runtime);
     }
 
-    public static RemoteSession passwordProtected(UsersHandler usersHandler) {
-        return new RemoteSession(usersHandler);
+    public static RemoteSession passwordProtected(UsersHandler usersHandler, GraqlSessionRuntime runtime) {
+        return new RemoteSession(usersHandler, runtime);
     }
 
     @Override
@@ -99,9 +102,11 @@ public class RemoteSession extends WebSocketAdapter {
             String outputFormat = json.at(REST.RemoteShell.OUTPUT_FORMAT).asString();
             boolean infer = json.at(REST.RemoteShell.INFER).asBoolean();
             boolean materialise = json.at(REST.RemoteShell.MATERIALISE).asBoolean();
+            // Clients which do not grant credit receive answers as fast as they can be sent
+            long credit = json.has(CREDIT) ? json.at(CREDIT).asLong() : Long.MAX_VALUE;
             GraknSession factory = Grakn.session(Grakn.DEFAULT_URI, keyspace);
             GraqlSession graqlSession = new GraqlSession(
-                    getSession(), factory, outputFormat, infer, materialise
+                    getSession(), factory, keyspace, runtime, outputFormat, infer, materialise, credit
             );
             sessions.put(getSession(), graqlSession);
         } else {
@@ -40,9 +40,17 @@ public class TaskCheckpoint implements Serializable {
         return new TaskCheckpoint(checkpoint);
     }
 
+    public static TaskCheckpoint of(Json checkpoint, Instant createdAt){
+        return new TaskCheckpoint(checkpoint, createdAt);
+    }
+
     private TaskCheckpoint(Json checkpoint){
+        this(checkpoint, now());
+    }
+
+    private TaskCheckpoint(Json checkpoint, Instant createdAt){
         this.checkpoint = checkpoint;
-        this.createdAt = now();
+        this.createdAt = createdAt;
     }
 
     public Json checkpoint(){
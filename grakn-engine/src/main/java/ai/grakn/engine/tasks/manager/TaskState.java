@@ -35,6 +35,9 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import mjson.Json;
 import static java.time.Instant.now;
 import static org.apache.commons.lang.exception.ExceptionUtils.getFullStackTrace;
 
@@ -50,6 +53,21 @@ public class TaskState implements Serializable {
 
     private static final long serialVersionUID = -7301340972479426653L;
 
+    // Field names used by asMap and fromMap
+    public static final String ID_FIELD = "id";
+    public static final String PRIORITY_FIELD = "priority";
+    public static final String STATUS_FIELD = "status";
+    public static final String STATUS_CHANGE_TIME_FIELD = "statusChangeTime";
+    public static final String CLASS_FIELD = "taskClassName";
+    public static final String CREATOR_FIELD = "creator";
+    public static final String ENGINE_FIELD = "engineId";
+    public static final String RUN_AT_FIELD = "runAt";
+    public static final String INTERVAL_FIELD = "interval";
+    public static final String STACK_TRACE_FIELD = "stackTrace";
+    public static final String EXCEPTION_FIELD = "exception";
+    public static final String CHECKPOINT_FIELD = "checkpoint";
+    public static final String CHECKPOINT_TIME_FIELD = "checkpointCreatedAt";
+
     /**
      * The priority of the task which decides which queue the task should go into
      */
@@ -127,6 +145,13 @@ public class TaskState implements Serializable {
         this.priority = priority;
     }
 
+    private TaskState(String taskId, Priority priority, String taskClassName, String creator) {
+        this.taskId = taskId;
+        this.priority = priority;
+        this.taskClassName = taskClassName;
+        this.creator = creator;
+    }
+
     private TaskState(TaskState taskState) {
         this.taskId = taskState.taskId;
         this.status = taskState.status;
@@ -288,6 +313,63 @@ public class TaskState implements Serializable {
         return taskCheckpoint;
     }
 
+    /**
+     * Flatten this task state into a map of field names to values, leaving out fields which are not set.
+     * The result can be turned back into an equivalent task state with {@link #fromMap(Map)}.
+     */
+    public Map<String, String> asMap() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(ID_FIELD, taskId);
+        fields.put(STATUS_FIELD, status.name());
+        fields.put(STATUS_CHANGE_TIME_FIELD, Long.toString(statusChangeTime.toEpochMilli()));
+        if (priority != null) fields.put(PRIORITY_FIELD, priority.name());
+        if (taskClassName != null) fields.put(CLASS_FIELD, taskClassName);
+        if (creator != null) fields.put(CREATOR_FIELD, creator);
+        if (engineID != null) fields.put(ENGINE_FIELD, engineID.value());
+        if (schedule != null) {
+            fields.put(RUN_AT_FIELD, Long.toString(schedule.getRunAt()));
+            if (schedule.isRecurring()) fields.put(INTERVAL_FIELD, Long.toString(schedule.getInterval()));
+        }
+        if (stackTrace != null) fields.put(STACK_TRACE_FIELD, stackTrace);
+        if (exception != null) fields.put(EXCEPTION_FIELD, exception);
+        if (taskCheckpoint != null) {
+            fields.put(CHECKPOINT_FIELD, taskCheckpoint.checkpoint().toString());
+            fields.put(CHECKPOINT_TIME_FIELD, Long.toString(taskCheckpoint.createdAt().toEpochMilli()));
+        }
+        return fields;
+    }
+
+    /**
+     * Rebuild a task state from a map created with {@link #asMap()}
+     */
+    public static TaskState fromMap(Map<String, String> fields) {
+        String priority = fields.get(PRIORITY_FIELD);
+        TaskState state = new TaskState(fields.get(ID_FIELD), priority != null ? Priority.valueOf(priority) : null,
+                fields.get(CLASS_FIELD), fields.get(CREATOR_FIELD));
+
+        state.status = TaskStatus.valueOf(fields.get(STATUS_FIELD));
+        state.statusChangeTime = Instant.ofEpochMilli(Long.parseLong(fields.get(STATUS_CHANGE_TIME_FIELD)));
+
+        String engine = fields.get(ENGINE_FIELD);
+        if (engine != null) state.engineID = EngineID.of(engine);
+
+        String runAt = fields.get(RUN_AT_FIELD);
+        if (runAt != null) {
+            String interval = fields.get(INTERVAL_FIELD);
+            state.schedule = new TaskSchedule(Long.parseLong(runAt), interval != null ? Long.parseLong(interval) : null);
+        }
+
+        state.stackTrace = fields.get(STACK_TRACE_FIELD);
+        state.exception = fields.get(EXCEPTION_FIELD);
+
+        String checkpoint = fields.get(CHECKPOINT_FIELD);
+        if (checkpoint != null) {
+            Instant createdAt = Instant.ofEpochMilli(Long.parseLong(fields.get(CHECKPOINT_TIME_FIELD)));
+            state.taskCheckpoint = TaskCheckpoint.of(Json.read(checkpoint), createdAt);
+        }
+        return state;
+    }
+
     @Override
     public String toString() {
         return "TaskState(" + taskClass().getSimpleName() + ", \"" + getId() + "\").status(" + status() + ")";
@@ -28,9 +28,13 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
-import java.util.concurrent.ExecutorService;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import mjson.Json;
 import net.greghaines.jesque.Config;
 import net.greghaines.jesque.Job;
 import net.greghaines.jesque.json.ObjectMapperFactory;
@@ -69,19 +73,29 @@ import redis.clients.util.Pool;
 public class BlockingWorker extends WorkerPoolImpl {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockingWorker.class);
-    public static final int BLOCKING_TIMEOUT = 500 /*ms*/;
+    // How long to block on an empty queue. brpoplpush takes its timeout in whole seconds
+    public static final int BLOCKING_TIMEOUT = 1 /*s*/;
+    private static final long BUSY_BACKOFF = 50 /*ms*/;
     private static SecureRandom random = new SecureRandom();
     private final String name;
     private final Timer popTimer;
     private final Timer processTimer;
     private final Timer pollTimer;
     private final Counter processingCounter;
-    private final ExecutorService executor;
+    private final List<WorkQueue> queues;
+    private final List<WorkQueue> schedule;
+    private int turn = 0;
 
-    public BlockingWorker(Config config, String queue,
-            JobFactory jobFactory, Pool<Jedis> jedis, ExecutorService executor, MetricRegistry metricRegistry) {
-        super(config, Collections.singletonList(queue), jobFactory, jedis);
-        this.executor = executor;
+    /**
+     * @param queues The queues to consume from, in order of priority. Each queue is polled
+     *               {@link WorkQueue#weight()} times in every round of the worker.
+     */
+    public BlockingWorker(Config config, List<WorkQueue> queues,
+            JobFactory jobFactory, Pool<Jedis> jedis, MetricRegistry metricRegistry) {
+        super(config, queues.stream().map(WorkQueue::name).collect(Collectors.toList()), jobFactory, jedis);
+        this.queues = queues;
+        this.schedule = new ArrayList<>();
+        queues.forEach(queue -> schedule.addAll(Collections.nCopies(queue.weight(), queue)));
         this.name = "worker_" + new BigInteger(130, random).toString(32);
         this.popTimer = metricRegistry.timer(MetricRegistry.name(BlockingWorker.class, "pop"));
         this.pollTimer = metricRegistry.timer(MetricRegistry.name(BlockingWorker.class, "poll"));
@@ -131,39 +145,121 @@ public class BlockingWorker extends WorkerPoolImpl {
 
     @Override
     protected void poll() {
-        // This supports only one queue
-        String curQueue = queueNames.peek();
-        LOG.info("Worker {} consuming from {}", this.name, key(QUEUE, curQueue));
+        LOG.info("Worker {} consuming from {}", this.name, queueNames);
         while (RUNNING.equals(this.state.get())) {
             try (Context ignoredPoll = pollTimer.time()) {
                 this.listenerDelegate
-                        .fireEvent(WORKER_POLL, this, curQueue, null, null, null, null);
-                final String payload = pop(curQueue);
-                if (payload != null) {
-                    Job job = ObjectMapperFactory.get().readValue(payload, Job.class);
-                    executor.execute(() -> {
-                        try (Context ignoredProcess = processTimer.time()) {
-                            processingCounter.inc();
-                            process(job, curQueue);
-                            processingCounter.dec();
-                        }
-                    });
+                        .fireEvent(WORKER_POLL, this, null, null, null, null, null);
+                if (!pollNextQueue() && !waitOnFreeQueue()) {
+                    Thread.sleep(BUSY_BACKOFF);
                 }
-            } catch (JsonParseException | JsonMappingException e) {
-                // If the job JSON is not deserializable, we never want to submit it again
-                final String fCurQueue = curQueue;
-                executor.execute(() -> PoolUtils.doWorkInPoolNicely(this.jedisPool,
-                        (PoolWork<Jedis, Void>) jedis -> {
-                            removeInFlight(jedis, fCurQueue);
-                            return null;
-                        }));
-                recoverFromException(curQueue, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recoverFromException(null, e);
             } catch (Exception e) {
-                recoverFromException(curQueue, e);
+                recoverFromException(null, e);
             }
         }
     }
 
+    /**
+     * Takes a job from the next queue in the weighted schedule which has both a free thread and a job waiting.
+     * Queues with a higher weight get more turns, but every queue gets polled in each round.
+     *
+     * @return true if a job was taken
+     */
+    private boolean pollNextQueue() {
+        for (int i = 0; i < schedule.size(); i++) {
+            WorkQueue queue = schedule.get((turn + i) % schedule.size());
+            if (queue.tryAcquire() && take(queue, false)) {
+                turn = (turn + i + 1) % schedule.size();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * When all queues are empty, blocks on the highest priority queue with a free thread
+     *
+     * @return false if no queue has a free thread
+     */
+    private boolean waitOnFreeQueue() {
+        for (WorkQueue queue : queues) {
+            if (queue.tryAcquire()) {
+                take(queue, true);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pops a job from a queue on which a thread has already been reserved, giving the thread back if there is no job
+     *
+     * @return true if a job was taken
+     */
+    private boolean take(WorkQueue queue, boolean block) {
+        String payload;
+        try {
+            payload = block ? pop(queue.name()) : popNow(queue.name());
+        } catch (RuntimeException e) {
+            queue.release();
+            throw e;
+        }
+        if (payload == null) {
+            queue.release();
+            return false;
+        }
+        dispatch(queue, payload);
+        return true;
+    }
+
+    /**
+     * Runs a job taken from the queue on the thread previously reserved for it
+     */
+    private void dispatch(WorkQueue queue, String payload) {
+        try {
+            Job job = ObjectMapperFactory.get().readValue(payload, Job.class);
+            waitingTime(payload).ifPresent(queue::recordLatency);
+            queue.execute(() -> {
+                try (Context ignoredProcess = processTimer.time()) {
+                    processingCounter.inc();
+                    process(job, queue.name());
+                    processingCounter.dec();
+                }
+            });
+        } catch (JsonParseException | JsonMappingException e) {
+            // If the job JSON is not deserializable, we never want to submit it again
+            queue.execute(() -> PoolUtils.doWorkInPoolNicely(this.jedisPool,
+                    (PoolWork<Jedis, Void>) jedis -> {
+                        removeInFlight(jedis, queue.name());
+                        return null;
+                    }));
+            recoverFromException(queue.name(), e);
+        } catch (Exception e) {
+            queue.release();
+            recoverFromException(queue.name(), e);
+        }
+    }
+
+    /**
+     * @return How long the job has been waiting since it was scheduled to run, if the payload records it
+     */
+    private static Optional<Long> waitingTime(String payload) {
+        try {
+            Json schedule = Json.read(payload).at("args").at(0).at("taskState").at("schedule");
+            if (schedule == null || !schedule.has("runAt")) return Optional.empty();
+            return Optional.of(Math.max(0, System.currentTimeMillis() - schedule.at("runAt").asLong()));
+        } catch (RuntimeException e) {
+            LOG.debug("Could not read schedule of job {}", payload, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Moves the next job of the queue to this worker's inflight list, blocking for a short time if the queue is empty
+     */
     @Override
     protected String pop(final String curQueue) {
         try (Context ignored = popTimer.time()){
@@ -180,6 +276,17 @@ public class BlockingWorker extends WorkerPoolImpl {
         }
     }
 
+    /**
+     * Moves the next job of the queue to this worker's inflight list without blocking
+     */
+    private String popNow(final String curQueue) {
+        try (Context ignored = popTimer.time()){
+            final String key = key(QUEUE, curQueue);
+            return PoolUtils.doWorkInPoolNicely(this.jedisPool,
+                    (PoolWork<Jedis, String>) jedis -> jedis.rpoplpush(key, key(INFLIGHT, name, curQueue)));
+        }
+    }
+
     private void initWorker() throws IOException {
         try (Jedis poolResource = jedisPool.getResource()) {
             poolResource.sadd(key(WORKERS), name);
@@ -18,6 +18,7 @@
 
 package ai.grakn.engine.tasks.manager.redisqueue;
 
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import static com.codahale.metrics.MetricRegistry.name;
@@ -112,8 +113,8 @@ public class RedisInflightTaskConsumer extends TimerTask {
     private void processElement(String key, Jedis resource, String head) {
         processed.mark();
         // TODO Use Jackson for this
-        long runAt = Json.read(head).at("args").at(0).at("taskState")
-                .at("schedule").at("runAt").asLong();
+        Json taskState = Json.read(head).at("args").at(0).at("taskState");
+        long runAt = taskState.at("schedule").at("runAt").asLong();
         Instant runAtDate = Instant.ofEpochMilli(runAt);
         Duration gap = Duration.between(runAtDate, Instant.now());
         if (gap.getSeconds() > destroyInterval.getSeconds()) {
@@ -124,7 +125,10 @@ public class RedisInflightTaskConsumer extends TimerTask {
         if (gap.getSeconds() > processInterval.getSeconds()) {
             dead.mark();
             LOG.info("Found dead task in inflight, moving it: {}", head);
-            String keyDest = JesqueUtils.createKey(config.getNamespace(), QUEUE, queueName);
+            // Dead tasks go back to the queue of their priority
+            String destQueue = taskState.has("priority") && taskState.at("priority").isString() ?
+                    Priority.valueOf(taskState.at("priority").asString()).queue() : queueName;
+            String keyDest = JesqueUtils.createKey(config.getNamespace(), QUEUE, destQueue);
             attemptMove(resource, key, keyDest);
         }
     }
@@ -20,19 +20,28 @@ package ai.grakn.engine.tasks.manager.redisqueue;
 
 
 import ai.grakn.engine.GraknEngineConfig;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_HIGH_PRIORITY_THREADS;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_HIGH_PRIORITY_WEIGHT;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_LOW_PRIORITY_THREADS;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_LOW_PRIORITY_WEIGHT;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
 import ai.grakn.engine.util.EngineID;
 import com.codahale.metrics.CachedGauge;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import static com.codahale.metrics.MetricRegistry.name;
+import com.google.common.collect.Lists;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.Timer;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import net.greghaines.jesque.Config;
 import net.greghaines.jesque.ConfigBuilder;
@@ -41,6 +50,9 @@ import net.greghaines.jesque.client.Client;
 import net.greghaines.jesque.client.ClientPoolImpl;
 import static net.greghaines.jesque.utils.JesqueUtils.entry;
 import static net.greghaines.jesque.utils.JesqueUtils.map;
+import net.greghaines.jesque.utils.JesqueUtils;
+import static net.greghaines.jesque.utils.ResqueConstants.QUEUE;
+import static net.greghaines.jesque.utils.ResqueConstants.QUEUES;
 import net.greghaines.jesque.worker.MapBasedJobFactory;
 import net.greghaines.jesque.worker.RecoveryStrategy;
 import net.greghaines.jesque.worker.Worker;
@@ -61,7 +73,9 @@ class RedisTaskQueue {
 
     private final static Logger LOG = LoggerFactory.getLogger(RedisTaskQueue.class);
 
-    private static final String QUEUE_NAME = "grakn_engine_queue";
+    private static final Priority DEFAULT_PRIORITY = Priority.LOW;
+    // The only queue before tasks had a priority. Jobs left in it by an older engine are moved to the default queue.
+    static final String LEGACY_QUEUE_NAME = "grakn_engine_queue";
     private static final String SUBSCRIPTION_CLASS_NAME = Task.class.getName();
 
     // Jesque configuration class for how jobs are mapped
@@ -79,7 +93,7 @@ class RedisTaskQueue {
     private final int processingDelay;
     private final Timer timer;
     private final Meter jobExecute;
-    private final ExecutorService executor;
+    private final List<WorkQueue> queues = new ArrayList<>();
     private Pool<Jedis> jedisPool;
     private LockProvider lockProvider;
     private final MetricRegistry metricRegistry;
@@ -98,16 +112,27 @@ class RedisTaskQueue {
         this.config = new ConfigBuilder().build();
         this.redisClient = new ClientPoolImpl(config, jedisPool);
         this.processingDelay = processingDelay;
-        this.executor = Executors.newFixedThreadPool(1);
         metricRegistry.register(MetricRegistry.name(RedisTaskQueue.class, "job-queue", "size"),
                 new CachedGauge<Long>(GAUGE_CACHING_INTERVAL, TimeUnit.SECONDS) {
                     @Override
                     public Long loadValue() {
                         try (Jedis resource = jedisPool.getResource()) {
-                            return resource.llen(String.format("*:queue:%s", QUEUE_NAME));
+                            return Arrays.stream(Priority.values())
+                                    .mapToLong(priority -> resource.llen(queueKey(priority.queue()))).sum();
                         }
                     }
                 });
+        for (Priority priority : Priority.values()) {
+            metricRegistry.register(MetricRegistry.name(RedisTaskQueue.class, "job-queue", priority.queue(), "size"),
+                    new CachedGauge<Long>(GAUGE_CACHING_INTERVAL, TimeUnit.SECONDS) {
+                        @Override
+                        public Long loadValue() {
+                            try (Jedis resource = jedisPool.getResource()) {
+                                return resource.llen(queueKey(priority.queue()));
+                            }
+                        }
+                    });
+        }
         metricRegistry.register(MetricRegistry.name(RedisTaskQueue.class, "workers", "active"),
                 new CachedGauge<Long>(GAUGE_CACHING_INTERVAL, TimeUnit.SECONDS) {
                     @Override
@@ -137,6 +162,9 @@ class RedisTaskQueue {
             if (workerPool != null) {
                 workerPool.endAndJoin(false, 60000);
             }
+            for (WorkQueue queue : queues) {
+                queue.close();
+            }
         }
         redisClient.end();
     }
@@ -145,12 +173,13 @@ class RedisTaskQueue {
         putJobMeter.mark();
         LOG.debug("Enqueuing job {}", job.getTaskState().getId());
         final Job queueJob = new Job(SUBSCRIPTION_CLASS_NAME, job);
-        redisClient.enqueue(QUEUE_NAME, queueJob);
+        Priority priority = Optional.ofNullable(job.getTaskState().priority()).orElse(DEFAULT_PRIORITY);
+        redisClient.enqueue(priority.queue(), queueJob);
     }
 
     void runInFlightProcessor() {
         timer.scheduleAtFixedRate(new RedisInflightTaskConsumer(jedisPool, Duration.ofSeconds(
-                processingDelay), config, QUEUE_NAME, metricRegistry), new Date(), 1000);
+                processingDelay), config, DEFAULT_PRIORITY.queue(), metricRegistry), new Date(), 1000);
     }
 
     void subscribe(
@@ -159,9 +188,20 @@ class RedisTaskQueue {
             GraknEngineConfig engineConfig,
             EngineGraknTxFactory factory,
             int poolSize) {
-        LOG.info("Subscribing worker to jobs in queue {}", QUEUE_NAME);
         // sync to avoid close while starting
         synchronized(this) {
+            migrateLegacyQueue();
+            // Queues are kept in order of priority, the highest first
+            for (Priority priority : Lists.reverse(Arrays.asList(Priority.values()))) {
+                boolean high = priority.equals(Priority.HIGH);
+                WorkQueue queue = new WorkQueue(priority.queue(),
+                        engineConfig.tryIntProperty(high ? QUEUE_HIGH_PRIORITY_WEIGHT : QUEUE_LOW_PRIORITY_WEIGHT, high ? 4 : 1),
+                        engineConfig.tryIntProperty(high ? QUEUE_HIGH_PRIORITY_THREADS : QUEUE_LOW_PRIORITY_THREADS, 1),
+                        metricRegistry);
+                LOG.info("Subscribing worker to jobs in queue {} with weight {}", queue.name(), queue.weight());
+                registerActiveGauge(queue);
+                queues.add(queue);
+            }
             this.workerPool = new WorkerPool(() -> getWorker(redisTaskManager, engineId, engineConfig, factory), poolSize);
             // This just starts poolSize threads
             workerPool.run();
@@ -170,8 +210,7 @@ class RedisTaskQueue {
 
     private Worker getWorker(RedisTaskManager redisTaskManager, EngineID engineId,
             GraknEngineConfig engineConfig, EngineGraknTxFactory factory) {
-        Worker worker = new BlockingWorker(config, QUEUE_NAME, JOB_FACTORY, jedisPool,
-                executor, metricRegistry);
+        Worker worker = new BlockingWorker(config, queues, JOB_FACTORY, jedisPool, metricRegistry);
         // We need this since the job can only be instantiated with the
         // task coming from the queue
         worker.getWorkerEventEmitter().addListener(
@@ -193,4 +232,37 @@ class RedisTaskQueue {
         });
         return worker;
     }
-}
\ No newline at end of file
+
+    /**
+     * Moves the jobs waiting in the queue of older engines onto the queue of the default priority, so they are still
+     * run. Each job is moved atomically, so engines starting at the same time can both do it.
+     *
+     * @return the number of jobs moved
+     */
+    long migrateLegacyQueue() {
+        String legacyQueue = queueKey(LEGACY_QUEUE_NAME);
+        String defaultQueue = queueKey(DEFAULT_PRIORITY.queue());
+        long moved = 0;
+        try (Jedis resource = jedisPool.getResource()) {
+            // Both queues are consumed from their tail, so moving the tail first keeps the legacy jobs in order
+            while (resource.rpoplpush(legacyQueue, defaultQueue) != null) {
+                moved++;
+            }
+            resource.srem(JesqueUtils.createKey(config.getNamespace(), QUEUES), LEGACY_QUEUE_NAME);
+        }
+        if (moved > 0) {
+            LOG.info("Moved {} jobs from queue {} to queue {}", moved, LEGACY_QUEUE_NAME, DEFAULT_PRIORITY.queue());
+        }
+        return moved;
+    }
+
+    private void registerActiveGauge(WorkQueue queue) {
+        String gaugeName = MetricRegistry.name(RedisTaskQueue.class, "job-queue", queue.name(), "active");
+        metricRegistry.remove(gaugeName);
+        metricRegistry.register(gaugeName, (Gauge<Integer>) queue::active);
+    }
+
+    private String queueKey(String queueName) {
+        return JesqueUtils.createKey(config.getNamespace(), QUEUE, queueName);
+    }
+}
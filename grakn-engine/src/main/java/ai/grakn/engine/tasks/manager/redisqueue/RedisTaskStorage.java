@@ -30,43 +30,68 @@ import com.codahale.metrics.MetricRegistry;
 import static com.codahale.metrics.MetricRegistry.name;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.Timer.Context;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
-import static java.util.stream.Collectors.toSet;
-import java.util.stream.Stream;
 import javax.annotation.Nullable;
-import org.apache.commons.io.Charsets;
-import org.apache.commons.lang.SerializationUtils;
-import static org.apache.commons.lang.SerializationUtils.deserialize;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.ZParams;
 import redis.clients.util.Pool;
 
+import static ai.grakn.engine.tasks.manager.TaskState.CLASS_FIELD;
+import static ai.grakn.engine.tasks.manager.TaskState.CREATOR_FIELD;
+import static ai.grakn.engine.tasks.manager.TaskState.ENGINE_FIELD;
+import static ai.grakn.engine.tasks.manager.TaskState.STATUS_FIELD;
+
 
 /**
  * DAO for redis task states
  *
+ * Each state is stored as a hash of its fields, see {@link TaskState#asMap()}. The ids of the states are also kept in
+ * sorted sets indexed by status, class, creator and running engine, scored by the time the state was last written.
+ * Listing tasks is a range scan over the index of one filter, or over the intersection of the indices of several.
+ *
+ * A state is written in a transaction which watches its hash, so concurrent writes cannot leave it in the indices of
+ * a status or engine it no longer has. Listings still check each state against the filters, as it may have been
+ * written again between reading the index and reading the state. Such states are left out, so a page may hold
+ * fewer states than requested.
+ *
+ * States expire {@link #EXPIRE_TIME_S} seconds after they were last written. Index entries older than that are
+ * trimmed whenever the index is written or read.
+ *
  * @author Domenico Corapi
  */
 public class RedisTaskStorage implements TaskStateStorage {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisTaskStorage.class);
     public static final int EXPIRE_TIME_S = 15 * 60;
+    private static final int MAX_WRITE_ATTEMPTS = 100;
     private final Timer updateTimer;
     private final Timer getTimer;
+    private final Timer listTimer;
     private final Meter writeError;
 
     private Pool<Jedis> redis;
 
-    private static final String PREFIX = "state:";
+    private static final String PREFIX = "task-state:";
+    private static final String INDEX_PREFIX = "task-state-index:";
+    private static final String ALL_INDEX = INDEX_PREFIX + "all";
     private static final Function<String, String> encodeKey = o -> PREFIX + o;
 
     private RedisTaskStorage(Pool<Jedis> redis, MetricRegistry metricRegistry) {
         this.redis = redis;
         this.updateTimer = metricRegistry.timer(name(RedisTaskStorage.class, "update"));
         this.getTimer = metricRegistry.timer(name(RedisTaskStorage.class, "get"));
+        this.listTimer = metricRegistry.timer(name(RedisTaskStorage.class, "list"));
         this.writeError = metricRegistry.meter(name(RedisTaskStorage.class, "write", "error"));
     }
 
@@ -79,14 +104,14 @@ public class RedisTaskStorage implements TaskStateStorage {
         try(Jedis jedis = redis.getResource(); Context ignore = updateTimer.time()){
             String key = encodeKey.apply(state.getId().getValue());
             LOG.debug("New state {}", key);
-            String value = new String(Base64.getEncoder().encode(SerializationUtils.serialize(state)),
-                    Charsets.UTF_8);
-            String status = jedis.set(key, value, "nx", "ex", EXPIRE_TIME_S);
-            if (status != null && status.equalsIgnoreCase("OK")) {
+            // Watch the key, so a state is never created twice
+            jedis.watch(key);
+            if (!jedis.exists(key) && write(jedis, key, state, null)) {
                 return state.getId();
             } else {
+                jedis.unwatch();
                 writeError.mark();
-                LOG.error("Could not write state {} to redis. Returned: {}", key, status);
+                LOG.error("Could not write state {} to redis", key);
                 throw GraknBackendException.stateStorage();
             }
         }
@@ -97,20 +122,56 @@ public class RedisTaskStorage implements TaskStateStorage {
         try(Jedis jedis = redis.getResource(); Context ignore = updateTimer.time()){
             String key = encodeKey.apply(state.getId().getValue());
             LOG.debug("Updating state {}", key);
-            String value = new String(Base64.getEncoder().encode(SerializationUtils.serialize(state)),
-                    Charsets.UTF_8);
-            String status = jedis.setex(key, 15*60, value);
-            return status.equalsIgnoreCase("OK");
+            for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+                // Watch the key, so the state is removed from the indices it is in when the write happens
+                jedis.watch(key);
+                List<String> previous = jedis.hmget(key, STATUS_FIELD, ENGINE_FIELD);
+                if (write(jedis, key, state, previous)) return true;
+                LOG.debug("State {} was written concurrently, retrying", key);
+            }
+            writeError.mark();
+            LOG.error("Could not write state {} to redis", key);
+            return false;
+        }
+    }
+
+    /**
+     * Replace the hash of the state and move the state between indices. The key of the state must be watched.
+     *
+     * @param previous the status and engine the state is currently indexed by, or null for a new state
+     * @return false if the key was written since it was watched, in which case nothing is written
+     */
+    private boolean write(Jedis jedis, String key, TaskState state, @Nullable List<String> previous) {
+        String id = state.getId().getValue();
+        Set<String> indices = indices(state.status(), state.getTaskClassName(), state.creator(), state.engineID());
+        long now = System.currentTimeMillis();
+
+        Transaction transaction = jedis.multi();
+        transaction.del(key);
+        transaction.hmset(key, state.asMap());
+        transaction.expire(key, EXPIRE_TIME_S);
+        if (previous != null) {
+            if (previous.get(0) != null) removeFromIndex(transaction, statusIndex(previous.get(0)), id, indices);
+            if (previous.get(1) != null) removeFromIndex(transaction, engineIndex(previous.get(1)), id, indices);
         }
+        for (String index : indices) {
+            transaction.zadd(index, now, id);
+            transaction.zremrangeByScore(index, 0, now - EXPIRE_TIME_S * 1000L);
+        }
+        return transaction.exec() != null;
+    }
+
+    private static void removeFromIndex(Transaction transaction, String index, String id, Set<String> keep) {
+        if (!keep.contains(index)) transaction.zrem(index, id);
     }
 
     @Override
     @Nullable
     public TaskState getState(TaskId id) throws GraknBackendException {
         try(Jedis jedis = redis.getResource(); Context ignore = getTimer.time()){
-            String value = jedis.get(encodeKey.apply(id.getValue()));
-            if (value != null) {
-                return (TaskState) deserialize(Base64.getDecoder().decode(value));
+            Map<String, String> fields = jedis.hgetAll(encodeKey.apply(id.getValue()));
+            if (!fields.isEmpty()) {
+                return TaskState.fromMap(fields);
             } else {
                 // TODO Don't use exceptions for an expected return like this
                 throw GraknBackendException.stateStorageMissingId(id);
@@ -121,42 +182,49 @@ public class RedisTaskStorage implements TaskStateStorage {
     @Override
     public boolean containsTask(TaskId id) {
         try(Jedis jedis = redis.getResource()){
-            String value = jedis.get(encodeKey.apply(id.getValue()));
-            return value != null;
+            return jedis.exists(encodeKey.apply(id.getValue()));
         }
     }
 
     @Override
     public Set<TaskState> getTasks(@Nullable TaskStatus taskStatus, @Nullable String taskClassName,
             @Nullable String createdBy, @Nullable EngineID runningOnEngine, int limit, int offset) {
-        try (Jedis jedis = redis.getResource()) {
-            Stream<TaskState> stream = jedis.keys(PREFIX + "*").stream().map(key -> {
-                String v = jedis.get(key);
+        try (Jedis jedis = redis.getResource(); Context ignore = listTimer.time()) {
+            Set<String> indices = indices(taskStatus, taskClassName, createdBy, runningOnEngine);
+            if (indices.size() > 1) indices.remove(ALL_INDEX);
+
+            long expired = System.currentTimeMillis() - EXPIRE_TIME_S * 1000L;
+            indices.forEach(index -> jedis.zremrangeByScore(index, 0, expired));
+
+            // Most recently written states come first
+            long end = limit > 0 ? offset + limit - 1 : -1;
+            Set<String> ids;
+            if (indices.size() == 1) {
+                ids = jedis.zrevrange(indices.iterator().next(), offset, end);
+            } else {
+                String intersection = INDEX_PREFIX + "tmp:" + UUID.randomUUID();
                 try {
-                    return (TaskState) deserialize(Base64.getDecoder().decode(v));
-                } catch (IllegalArgumentException e) {
-                    LOG.error("Could not decode key:value {}:{}", key, v);
-                    throw e;
+                    jedis.zinterstore(intersection, new ZParams().aggregate(ZParams.Aggregate.MAX),
+                            indices.toArray(new String[indices.size()]));
+                    ids = jedis.zrevrange(intersection, offset, end);
+                } finally {
+                    jedis.del(intersection);
                 }
-            });
-            if (taskStatus != null) {
-                stream = stream.filter(t -> t.status().equals(taskStatus));
-            }
-            if (taskClassName != null) {
-                stream = stream.filter(t -> t.taskClass().getName().equals(taskClassName));
-            }
-            if (createdBy != null) {
-                stream = stream.filter(t -> t.creator().equals(createdBy));
-            }
-            if (runningOnEngine != null) {
-                stream = stream
-                        .filter(t -> t.engineID() != null && t.engineID().equals(runningOnEngine));
             }
-            stream = stream.skip(offset);
-            if (limit > 0) {
-                stream = stream.limit(limit);
+
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Map<String, String>>> responses = new ArrayList<>(ids.size());
+            ids.forEach(id -> responses.add(pipeline.hgetAll(encodeKey.apply(id))));
+            pipeline.sync();
+
+            Set<TaskState> results = new LinkedHashSet<>();
+            for (Response<Map<String, String>> response : responses) {
+                Map<String, String> fields = response.get();
+                // The state may have expired or been written again since the index was read
+                if (fields.isEmpty()) continue;
+                TaskState state = TaskState.fromMap(fields);
+                if (matches(state, taskStatus, taskClassName, createdBy, runningOnEngine)) results.add(state);
             }
-            Set<TaskState> results = stream.collect(toSet());
             LOG.debug("getTasks returning {} results", results.size());
             return results;
         } catch (Exception e) {
@@ -168,6 +236,7 @@ public class RedisTaskStorage implements TaskStateStorage {
     public void clear() {
         try (Jedis jedis = redis.getResource()) {
             Set<String> keys = jedis.keys(PREFIX + "*");
+            keys.addAll(jedis.keys(INDEX_PREFIX + "*"));
             for (String key : keys) {
                 jedis.del(key);
             }
@@ -175,11 +244,36 @@ public class RedisTaskStorage implements TaskStateStorage {
     }
 
     boolean isTaskMarkedStopped(TaskId id) {
-        try {
-            TaskState state = getState(id);
-            return state != null && state.getStatus().equals(TaskStatus.STOPPED);
-        } catch (GraknBackendException e) {
-            return false;
+        try(Jedis jedis = redis.getResource()){
+            String status = jedis.hget(encodeKey.apply(id.getValue()), STATUS_FIELD);
+            return TaskStatus.STOPPED.name().equals(status);
         }
     }
+
+    private static boolean matches(TaskState state, @Nullable TaskStatus status, @Nullable String taskClassName,
+            @Nullable String creator, @Nullable EngineID engineID) {
+        return (status == null || status.equals(state.status()))
+                && (taskClassName == null || taskClassName.equals(state.getTaskClassName()))
+                && (creator == null || creator.equals(state.creator()))
+                && (engineID == null || engineID.equals(state.engineID()));
+    }
+
+    private static Set<String> indices(@Nullable TaskStatus status, @Nullable String taskClassName,
+            @Nullable String creator, @Nullable EngineID engineID) {
+        Set<String> indices = new LinkedHashSet<>();
+        indices.add(ALL_INDEX);
+        if (status != null) indices.add(statusIndex(status.name()));
+        if (taskClassName != null) indices.add(INDEX_PREFIX + CLASS_FIELD + ":" + taskClassName);
+        if (creator != null) indices.add(INDEX_PREFIX + CREATOR_FIELD + ":" + creator);
+        if (engineID != null) indices.add(engineIndex(engineID.value()));
+        return indices;
+    }
+
+    private static String statusIndex(String status) {
+        return INDEX_PREFIX + STATUS_FIELD + ":" + status;
+    }
+
+    private static String engineIndex(String engineID) {
+        return INDEX_PREFIX + ENGINE_FIELD + ":" + engineID;
+    }
 }
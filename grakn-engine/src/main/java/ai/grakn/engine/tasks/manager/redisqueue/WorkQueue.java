@@ -0,0 +1,118 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ *
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import com.codahale.metrics.MetricRegistry;
+import static com.codahale.metrics.MetricRegistry.name;
+import com.codahale.metrics.Timer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A redis queue together with the threads running the jobs taken from it.
+ *
+ * Jobs are only taken from the queue when one of its threads is free, so a backlog
+ * in one queue stays in redis instead of occupying the threads of another queue.
+ *
+ * @author Grakn Warriors
+ */
+class WorkQueue {
+    private final String name;
+    private final int weight;
+    private final int threads;
+    private final ExecutorService executor;
+    private final Semaphore capacity;
+    private final Timer latency;
+
+    WorkQueue(String name, int weight, int threads, MetricRegistry metricRegistry) {
+        if (weight < 1 || threads < 1) {
+            throw new IllegalArgumentException("Queue " + name + " needs a positive weight and number of threads");
+        }
+        this.name = name;
+        this.weight = weight;
+        this.threads = threads;
+        this.executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+        this.capacity = new Semaphore(threads);
+        this.latency = metricRegistry.timer(name(RedisTaskQueue.class, "job-queue", name, "latency"));
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * @return The number of polls this queue gets in each round of a worker
+     */
+    int weight() {
+        return weight;
+    }
+
+    /**
+     * Reserves a thread for the next job taken from this queue
+     *
+     * @return true if a thread was free
+     */
+    boolean tryAcquire() {
+        return capacity.tryAcquire();
+    }
+
+    /**
+     * Gives back a thread reserved with {@link #tryAcquire()} which was not used
+     */
+    void release() {
+        capacity.release();
+    }
+
+    /**
+     * @return The number of threads currently running jobs from this queue
+     */
+    int active() {
+        return threads - capacity.availablePermits();
+    }
+
+    /**
+     * Runs a job on a thread previously reserved with {@link #tryAcquire()}
+     */
+    void execute(Runnable job) {
+        executor.execute(() -> {
+            try {
+                job.run();
+            } finally {
+                capacity.release();
+            }
+        });
+    }
+
+    /**
+     * Records the time a job spent waiting in this queue
+     */
+    void recordLatency(long millis) {
+        latency.update(millis, TimeUnit.MILLISECONDS);
+    }
+
+    void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.util;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.graql.PreparedQuery;
+import com.google.common.hash.Hashing;
+import mjson.Json;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Reads the parameters of a {@link PreparedQuery} sent by a client, and names prepared queries
+ * </p>
+ *
+ * <p>
+ *     Parameters are sent as a JSON object, from the name of each variable to its value. Strings, numbers and
+ *     booleans bind a variable to a value, and an object such as {@code {"id": "V123"}} binds it to a concept.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class QueryParameters {
+
+    private static final String ID = "id";
+
+    private QueryParameters() {
+    }
+
+    /**
+     * @param json a JSON object of parameters, or null if there are none
+     * @return the value or {@link ConceptId} of each parameter, by the name of its variable
+     */
+    public static Map<String, Object> fromJson(Json json) {
+        Map<String, Object> parameters = new HashMap<>();
+        if (json == null || json.isNull()) return parameters;
+
+        if (!json.isObject()) throw GraknServerException.invalidQueryParameter("", json.toString());
+
+        json.asJsonMap().forEach((name, value) -> parameters.put(name, parameter(name, value)));
+        return parameters;
+    }
+
+    /**
+     * The handle of a prepared query is derived from the query and its options only, so preparing the same query
+     * again, on any engine, gives the same handle.
+     *
+     * @return the handle a client uses to execute the prepared query
+     */
+    public static String handle(String queryString, boolean infer, boolean materialise) {
+        String prepared = infer + ":" + materialise + ":" + queryString;
+        return Hashing.sha256().hashString(prepared, StandardCharsets.UTF_8).toString();
+    }
+
+    private static Object parameter(String name, Json value) {
+        if (value.isObject() && value.has(ID) && value.at(ID).isString()) {
+            return ConceptId.of(value.at(ID).asString());
+        } else if (value.isString()) {
+            return value.asString();
+        } else if (value.isBoolean()) {
+            return value.asBoolean();
+        } else if (value.isNumber()) {
+            Number number = (Number) value.getValue();
+            boolean decimal = number instanceof Double || number instanceof Float || number instanceof BigDecimal;
+            return decimal ? (Object) number.doubleValue() : (Object) number.longValue();
+        } else {
+            throw GraknServerException.invalidQueryParameter(name, value.toString());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Ltd
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.controller;
+
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.engine.tasks.manager.TaskManager;
+import ai.grakn.kb.internal.cache.DataVersions;
+import ai.grakn.kb.internal.cache.SchemaChange;
+import ai.grakn.kb.internal.cache.SchemaChangeBus;
+import ai.grakn.kb.internal.log.CommitLogHandler;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.jayway.restassured.response.Response;
+import mjson.Json;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static com.jayway.restassured.RestAssured.with;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class CommitLogControllerTest {
+
+    private static final String KEYSPACE = "commit_log_controller_test";
+
+    private static final TaskManager manager = mock(TaskManager.class);
+
+    @ClassRule
+    public static final SparkContext ctx = SparkContext.withControllers(spark -> {
+        new CommitLogController(spark, KEYSPACE, 0, manager);
+    });
+
+    private final List<SchemaChange> published = new CopyOnWriteArrayList<>();
+    private final Consumer<SchemaChange> listener = published::add;
+    private final SchemaChange change =
+            SchemaChange.of(KEYSPACE, ImmutableMap.of(Label.of("movie"), LabelId.of(7)), ImmutableSet.of(Label.of("film")));
+
+    @Before
+    public void addListener() {
+        SchemaChangeBus.get().addListener(listener);
+    }
+
+    @After
+    public void removeListener() {
+        SchemaChangeBus.get().removeListener(listener);
+    }
+
+    @Test
+    public void whenAClientProcessCommitsASchemaChange_ItIsPublishedOnTheBus() {
+        Response response = send(commitLog("another-process"));
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertEquals(1, published.size());
+        assertEquals(change.toJson(), published.get(0).toJson());
+    }
+
+    @Test
+    public void whenThisProcessCommitsASchemaChange_ItIsNotPublishedAgain() {
+        Response response = send(commitLog(CommitLogHandler.PROCESS_ID));
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(published, empty());
+    }
+
+    @Test
+    public void whenAClientProcessCommits_TheDataVersionOfTheKeyspaceChanges() {
+        long version = DataVersions.get().version(KEYSPACE);
+
+        send(commitLog("another-process"));
+
+        assertNotEquals(version, DataVersions.get().version(KEYSPACE));
+    }
+
+    @Test
+    public void whenThisProcessCommits_TheDataVersionOfTheKeyspaceIsNotChangedAgain() {
+        long version = DataVersions.get().version(KEYSPACE);
+
+        send(commitLog(CommitLogHandler.PROCESS_ID));
+
+        assertEquals(version, DataVersions.get().version(KEYSPACE));
+    }
+
+    private Json commitLog(String origin) {
+        Json log = CommitLogHandler.mergeLogs(ImmutableSet.of(Json.object(
+                REST.Request.COMMIT_LOG_FIXING, Json.object(Schema.BaseType.ATTRIBUTE.name(), Json.object()),
+                REST.Request.COMMIT_LOG_COUNTING, Json.array(),
+                REST.Request.COMMIT_LOG_SCHEMA, Json.array(change.toJson()))));
+        return log.set(REST.Request.COMMIT_LOG_ORIGIN, origin);
+    }
+
+    private static Response send(Json commitLog) {
+        return with().queryParam(REST.Request.KEYSPACE_PARAM, KEYSPACE)
+                .body(commitLog.toString())
+                .post(REST.WebPath.COMMIT_LOG_URI);
+    }
+}
@@ -23,6 +23,7 @@ import ai.grakn.GraknTxType;
 import ai.grakn.concept.Concept;
 import ai.grakn.engine.GraknEngineStatus;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.factory.ReadTxPool;
 import ai.grakn.test.SampleKBContext;
 import ai.grakn.test.kbs.MovieKB;
 import ai.grakn.util.REST;
@@ -75,6 +76,7 @@ public class ConceptControllerTest {
                 sampleKB.tx().getConcept(invocation.getArgument(0)));
 
         when(mockFactory.tx(mockTx.getKeyspace(), GraknTxType.READ)).thenReturn(mockTx);
+        when(mockFactory.readTxPool()).thenReturn(ReadTxPool.create(keyspace -> mockFactory.tx(keyspace, GraknTxType.READ), 0));
     }
 
 
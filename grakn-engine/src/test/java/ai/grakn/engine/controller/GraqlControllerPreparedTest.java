@@ -0,0 +1,175 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.controller;
+
+import ai.grakn.GraknTxType;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.factory.ReadTxPool;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.MovieKB;
+import ai.grakn.util.REST;
+import com.codahale.metrics.MetricRegistry;
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.response.Response;
+import mjson.Json;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static ai.grakn.engine.controller.GraqlControllerReadOnlyTest.exception;
+import static ai.grakn.engine.controller.GraqlControllerReadOnlyTest.jsonResponse;
+import static ai.grakn.util.REST.Request.Graql.HANDLE;
+import static ai.grakn.util.REST.Request.Graql.INFER;
+import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
+import static ai.grakn.util.REST.Request.KEYSPACE;
+import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraqlControllerPreparedTest {
+
+    private static final String keyspace = "randomKeyspace";
+    private static EngineGraknTxFactory mockFactory = mock(EngineGraknTxFactory.class);
+
+    @ClassRule
+    public static SampleKBContext sampleKB = SampleKBContext.preLoad(MovieKB.get());
+
+    @ClassRule
+    public static SparkContext sparkContext = SparkContext.withControllers(spark -> {
+        new GraqlController(mockFactory, spark, new MetricRegistry());
+    });
+
+    @Before
+    public void setupMock() {
+        Mockito.reset(mockFactory);
+
+        when(mockFactory.tx(eq(keyspace), any())).thenAnswer(invocation -> sampleKB.tx());
+        when(mockFactory.readTxPool()).thenReturn(ReadTxPool.create(ks -> mockFactory.tx(ks, GraknTxType.READ), 0));
+    }
+
+    @Test
+    public void whenPreparingAQueryTwice_TheHandleIsTheSame() {
+        String query = "match $x isa movie, has title $t; select $x;";
+
+        assertThat(handle(prepare(query, false, false)), equalTo(handle(prepare(query, false, false))));
+    }
+
+    @Test
+    public void whenPreparingAQueryWithDifferentOptions_TheHandleIsDifferent() {
+        String query = "match $x isa movie, has title $t; select $x;";
+
+        assertThat(handle(prepare(query, false, false)), not(equalTo(handle(prepare(query, true, false)))));
+    }
+
+    @Test
+    public void whenPreparingAMalformedQuery_ResponseStatusIs400() {
+        Response response = prepare("match $x isa ;", false, false);
+
+        assertThat(response.statusCode(), equalTo(400));
+    }
+
+    @Test
+    public void whenExecutingAnUnknownHandle_ResponseStatusIs404() {
+        Response response = execute("unknown-handle", Json.object());
+
+        assertThat(response.statusCode(), equalTo(404));
+        assertThat(exception(response), containsString("unknown-handle"));
+    }
+
+    @Test
+    public void whenExecutingAPreparedMatch_OnlyAnswersWithTheBoundValueAreReturned() {
+        String handle = handle(prepare("match $x isa movie, has title $t; select $x;", false, false));
+
+        Response response = execute(handle, Json.object("t", "Godfather"));
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(jsonResponse(response).asJsonList().size(), equalTo(1));
+    }
+
+    @Test
+    public void whenExecutingAPreparedMatch_APooledReadTransactionIsUsed() {
+        String handle = handle(prepare("match $x isa movie, has title $t; select $x;", false, false));
+
+        execute(handle, Json.object("t", "Godfather"));
+
+        verify(mockFactory, atLeastOnce()).readTxPool();
+        verify(mockFactory, atLeastOnce()).tx(keyspace, GraknTxType.READ);
+        verify(mockFactory, never()).tx(keyspace, GraknTxType.WRITE);
+    }
+
+    @Test
+    public void whenExecutingAPreparedMatchWhichMaterialises_AWriteTransactionIsUsed() {
+        String handle = handle(prepare("match $x isa movie, has title $t; select $x;", true, true));
+
+        execute(handle, Json.object("t", "Godfather"));
+
+        verify(mockFactory, never()).readTxPool();
+        verify(mockFactory).tx(keyspace, GraknTxType.WRITE);
+    }
+
+    @Test
+    public void whenExecutingAPreparedInsert_AWriteTransactionIsUsed() {
+        String handle = handle(prepare("insert $x isa movie, has title $t; $t isa title;", false, false));
+
+        Response response = execute(handle, Json.object("t", "a-prepared-movie"));
+
+        assertThat(response.statusCode(), equalTo(200));
+        verify(mockFactory, never()).readTxPool();
+        verify(mockFactory).tx(keyspace, GraknTxType.WRITE);
+    }
+
+    @Test
+    public void whenExecutingWithAnInvalidParameter_ResponseStatusIs400() {
+        String handle = handle(prepare("match $x isa movie, has title $t; select $x;", false, false));
+
+        Response response = execute(handle, Json.object("t", Json.array("Godfather", "Heat")));
+
+        assertThat(response.statusCode(), equalTo(400));
+    }
+
+    private static Response prepare(String query, boolean infer, boolean materialise) {
+        return RestAssured.with()
+                .body(query)
+                .queryParam(INFER, infer)
+                .queryParam(MATERIALISE, materialise)
+                .post(REST.WebPath.KB.PREPARE_GRAQL);
+    }
+
+    private static Response execute(String handle, Json parameters) {
+        return RestAssured.with()
+                .queryParam(KEYSPACE, keyspace)
+                .body(parameters.toString())
+                .accept(APPLICATION_JSON_GRAQL)
+                .post(REST.WebPath.KB.PREPARED_GRAQL + handle);
+    }
+
+    private static String handle(Response response) {
+        return jsonResponse(response).at(HANDLE).asString();
+    }
+}
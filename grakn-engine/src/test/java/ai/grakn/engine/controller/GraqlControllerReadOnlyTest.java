@@ -19,9 +19,11 @@
 package ai.grakn.engine.controller;
 
 import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
 import ai.grakn.engine.GraknEngineStatus;
 import ai.grakn.engine.SystemKeyspace;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.factory.ReadTxPool;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
@@ -53,6 +55,7 @@ import static ai.grakn.util.REST.Request.Graql.INFER;
 import static ai.grakn.util.REST.Request.Graql.LIMIT_EMBEDDED;
 import static ai.grakn.util.REST.Request.Graql.MATERIALISE;
 import static ai.grakn.util.REST.Request.Graql.QUERY;
+import static ai.grakn.util.REST.Request.Graql.STREAM;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_HAL;
 import static ai.grakn.util.REST.Response.ContentType.APPLICATION_JSON_GRAQL;
@@ -115,6 +118,7 @@ public class GraqlControllerReadOnlyTest {
         when(mockSystemKeyspace.ensureKeyspaceInitialised(any())).thenReturn(true);
 
         when(mockFactory.tx(eq(mockTx.getKeyspace()), any())).thenReturn(mockTx);
+        when(mockFactory.readTxPool()).thenReturn(ReadTxPool.create(keyspace -> mockFactory.tx(keyspace, GraknTxType.READ), 0));
         when(mockFactory.systemKeyspace()).thenReturn(mockSystemKeyspace);
         when(mockFactory.properties()).thenReturn(sparkContext.config().getProperties());
     }
@@ -315,6 +319,30 @@ public class GraqlControllerReadOnlyTest {
         assertThat(jsonResponse(response), equalTo(Json.array()));
     }
 
+    @Test
+    public void GETGraqlMatchWithStreamingAndGraqlJsonType_ResponseIsOneAnswerPerLine() {
+        String query = "match $x isa movie;";
+        Response response = RestAssured.with()
+                .queryParam(KEYSPACE, mockTx.getKeyspace())
+                .body(query)
+                .queryParam(INFER, false)
+                .queryParam(MATERIALISE, false)
+                .queryParam(STREAM, true)
+                .accept(APPLICATION_JSON_GRAQL)
+                .post(REST.WebPath.KB.ANY_GRAQL);
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.contentType(), equalTo(APPLICATION_JSON_GRAQL));
+
+        Json expectedResponse = Json.read(
+                Printers.json().graqlString(sampleKB.tx().graql().parse(query).execute()));
+        Json streamedResponse = Json.array();
+        for (String line : stringResponse(response).split("\n")) {
+            streamedResponse.add(Json.read(line));
+        }
+        assertThat(streamedResponse, equalTo(expectedResponse));
+    }
+
     @Test
     public void GETGraqlAggregateWithTextType_ResponseStatusIs200() {
         String query = "match $x isa movie; aggregate count;";
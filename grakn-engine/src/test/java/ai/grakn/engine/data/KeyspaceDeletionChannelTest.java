@@ -0,0 +1,137 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.data;
+
+import ai.grakn.engine.SystemKeyspace;
+import ai.grakn.util.EmbeddedRedis;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class KeyspaceDeletionChannelTest {
+
+    private static final int PORT = 9896;
+    private static final String CHANNEL = "keyspace-deleted";
+    private static final long TIMEOUT_MS = 10000;
+
+    private static JedisPool jedisPool;
+
+    private final SystemKeyspace deletingEngine = mock(SystemKeyspace.class);
+    private final SystemKeyspace otherEngine = mock(SystemKeyspace.class);
+    private KeyspaceDeletionChannel deletingChannel;
+    private KeyspaceDeletionChannel otherChannel;
+
+    @BeforeClass
+    public static void setupClass() {
+        EmbeddedRedis.start(PORT);
+        jedisPool = new JedisPool(new JedisPoolConfig(), "localhost", PORT);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Before
+    public void startChannels() {
+        deletingChannel = KeyspaceDeletionChannel.start(jedisPool, deletingEngine);
+        otherChannel = KeyspaceDeletionChannel.start(jedisPool, otherEngine);
+        awaitSubscribers(2);
+    }
+
+    @After
+    public void closeChannels() {
+        deletingChannel.close();
+        otherChannel.close();
+        awaitSubscribers(0);
+    }
+
+    @Test
+    public void whenAKeyspaceIsDeleted_OtherEnginesForgetIt() {
+        deletionListenerOf(deletingEngine).accept("deleted");
+
+        verify(otherEngine, timeout(TIMEOUT_MS)).forgetKeyspace("deleted");
+    }
+
+    @Test
+    public void whenSubscribingForTheFirstTime_KnownKeyspacesAreKept() {
+        deletionListenerOf(deletingEngine).accept("deleted");
+        verify(otherEngine, timeout(TIMEOUT_MS)).forgetKeyspace("deleted");
+
+        verify(otherEngine, never()).forgetAllKeyspaces();
+    }
+
+    @Test
+    public void whenTheSubscriptionIsLost_AllKeyspacesAreForgottenOnceSubscribedAgain() {
+        killSubscriptions();
+
+        verify(otherEngine, timeout(TIMEOUT_MS)).forgetAllKeyspaces();
+        awaitSubscribers(2);
+
+        deletionListenerOf(deletingEngine).accept("deleted");
+        verify(otherEngine, timeout(TIMEOUT_MS)).forgetKeyspace("deleted");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<String> deletionListenerOf(SystemKeyspace systemKeyspace) {
+        ArgumentCaptor<Consumer> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(systemKeyspace).onKeyspaceDeleted(listener.capture());
+        return listener.getValue();
+    }
+
+    private static void killSubscriptions() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Arrays.stream(jedis.clientList().split("\n"))
+                    .filter(client -> client.contains("cmd=subscribe"))
+                    .map(client -> client.split("addr=")[1].split(" ")[0])
+                    .forEach(jedis::clientKill);
+        }
+    }
+
+    private static void awaitSubscribers(int subscribers) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                if (Integer.parseInt(jedis.pubsubNumSub(CHANNEL).get(CHANNEL)) == subscribers) return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        fail("Expected " + subscribers + " subscribers to " + CHANNEL);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.factory;
+
+import ai.grakn.GraknTx;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReadTxPoolTest {
+
+    private final AtomicInteger opened = new AtomicInteger(0);
+    private GraknTx tx;
+
+    @Before
+    public void setUp() {
+        tx = mock(GraknTx.class, RETURNS_DEEP_STUBS);
+        when(tx.isClosed()).thenReturn(false);
+        when(tx.isReadOnly()).thenReturn(true);
+    }
+
+    private ReadTxPool pool(long maxAgeMs) {
+        return ReadTxPool.create(keyspace -> {
+            opened.incrementAndGet();
+            return tx;
+        }, maxAgeMs);
+    }
+
+    @Test
+    public void whenALeaseIsClosed_TheTransactionIsRecycledAndReused() {
+        ReadTxPool pool = pool(60_000);
+
+        try (ReadTxPool.Lease lease = pool.lease("k")) {
+            assertSame(tx, lease.tx());
+        }
+        try (ReadTxPool.Lease lease = pool.lease("k")) {
+            assertSame(tx, lease.tx());
+        }
+
+        assertEquals(1, opened.get());
+        assertEquals(1, pool.hits().getCount());
+        assertEquals(1, pool.misses().getCount());
+        verify(tx.admin(), times(2)).recycle();
+        verify(tx, never()).close();
+    }
+
+    @Test
+    public void whenTheMaximumAgeIsZero_TransactionsAreNeverReused() {
+        ReadTxPool pool = pool(0);
+
+        pool.lease("k").close();
+        pool.lease("k").close();
+
+        assertEquals(2, opened.get());
+        assertEquals(0, pool.hits().getCount());
+        verify(tx.admin(), never()).recycle();
+    }
+
+    @Test
+    public void whenAnIdleTransactionIsEvicted_ItIsClosedAndNotReused() {
+        ReadTxPool pool = pool(60_000);
+
+        pool.lease("k").close();
+        pool.evict("k");
+        pool.lease("k").close();
+
+        assertEquals(2, opened.get());
+        verify(tx).close();
+    }
+
+    @Test
+    public void whenThePoolIsInvalidated_IdleTransactionsAreNotReused() {
+        ReadTxPool pool = pool(60_000);
+
+        pool.lease("k").close();
+        pool.invalidateAll();
+        pool.lease("k").close();
+
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    public void whenLeasingOnAnotherKeyspace_ANewTransactionIsOpened() {
+        ReadTxPool pool = pool(60_000);
+
+        pool.lease("k1").close();
+        pool.lease("k2").close();
+
+        assertEquals(2, opened.get());
+    }
+}
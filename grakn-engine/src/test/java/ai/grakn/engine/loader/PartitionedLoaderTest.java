@@ -0,0 +1,333 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.loader;
+
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.tasks.manager.TaskSubmitter;
+import ai.grakn.exception.TemporaryWriteException;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.VarPattern;
+import ai.grakn.graql.admin.InsertQueryAdmin;
+import ai.grakn.kb.admin.GraknAdmin;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.var;
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.stream.Collectors.toSet;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PartitionedLoaderTest {
+
+    private static final String KEYSPACE = "loader_test";
+    private static final int MAX_RETRY = 2;
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    private final EngineGraknTxFactory factory = mock(EngineGraknTxFactory.class, RETURNS_DEEP_STUBS);
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Map<InsertQuery, GraknTx> executedIn = new ConcurrentHashMap<>();
+    private final List<PartitionedLoader> loaders = new ArrayList<>();
+
+    @After
+    public void closeLoaders() {
+        loaders.forEach(PartitionedLoader::close);
+    }
+
+    @Test
+    public void whenInsertPutsAttributes_KeysAreTheAttributeValues() {
+        InsertQuery query = insert(var("x").isa("person").has("name", "Bob").has("age", 42L));
+        assertEquals(ImmutableSet.of("Bob", 42L), keys(query));
+    }
+
+    @Test
+    public void whenInsertRefersToConceptById_KeysContainTheId() {
+        InsertQuery query = insert(var("x").id(ConceptId.of("V123")).has("name", var("n")), var("n").val("Bob"));
+        assertEquals(ImmutableSet.of(ConceptId.of("V123"), "Bob"), keys(query));
+    }
+
+    @Test
+    public void whenInsertHasNoValuesOrIds_ThereAreNoKeys() {
+        assertTrue(keys(insert(var("x").isa("person"))).isEmpty());
+    }
+
+    @Test
+    public void whenInsertsShareAKeyOnDifferentPartitions_TheyAreNotCommittedConcurrently() throws Exception {
+        PartitionedLoader loader = loader(2);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondExecuted = new CountDownLatch(1);
+
+        InsertQuery first = insertNames(tx -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+        }, "a-0", "shared");
+        InsertQuery second = secondOnOtherPartition(loader, first, tx -> secondExecuted.countDown(), "shared");
+
+        loader.load(KEYSPACE, ImmutableList.of(first));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Map<Integer, Throwable>> secondLoad = loader.load(KEYSPACE, ImmutableList.of(second));
+        assertFalse(secondExecuted.await(200, TimeUnit.MILLISECONDS));
+
+        releaseFirst.countDown();
+        assertEquals(Collections.emptyMap(), secondLoad.get(5, TimeUnit.SECONDS));
+        assertTrue(secondExecuted.await(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void whenInsertsShareNoKeyOnDifferentPartitions_TheyAreCommittedConcurrently() throws Exception {
+        PartitionedLoader loader = loader(2);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch secondExecuted = new CountDownLatch(1);
+
+        InsertQuery first = insertNames(tx -> await(releaseFirst), "a-0");
+        InsertQuery second = secondOnOtherPartition(loader, first, tx -> secondExecuted.countDown());
+
+        loader.load(KEYSPACE, ImmutableList.of(first));
+        loader.load(KEYSPACE, ImmutableList.of(second));
+
+        assertTrue(secondExecuted.await(5, TimeUnit.SECONDS));
+        releaseFirst.countDown();
+    }
+
+    @Test
+    public void whenBatchesAreQueuedOnAPartition_TheyAreCommittedInOneTransaction() throws Exception {
+        PartitionedLoader loader = loader(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        InsertQuery first = insertNames(tx -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+        }, "a");
+        InsertQuery second = insertNames(tx -> {}, "b");
+        InsertQuery third = insertNames(tx -> {}, "c");
+
+        loader.load(KEYSPACE, ImmutableList.of(first));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Map<Integer, Throwable>> secondLoad =
+                loader.load(KEYSPACE, ImmutableList.of(second));
+        CompletableFuture<Map<Integer, Throwable>> thirdLoad =
+                loader.load(KEYSPACE, ImmutableList.of(third));
+        releaseFirst.countDown();
+
+        assertEquals(Collections.emptyMap(), secondLoad.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.emptyMap(), thirdLoad.get(5, TimeUnit.SECONDS));
+        assertSame(executedIn.get(second), executedIn.get(third));
+        verify(factory, times(2)).tx(KEYSPACE, GraknTxType.BATCH);
+    }
+
+    @Test
+    public void whenACoalescedTransactionFails_OnlyTheFailingRowIsReported() throws Exception {
+        PartitionedLoader loader = loader(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        InsertQuery first = insertNames(tx -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+        }, "a");
+        InsertQuery valid = insertNames(tx -> {}, "b");
+        RuntimeException error = new IllegalStateException("invalid");
+        InsertQuery invalid = insertNames(tx -> { throw error; }, "c");
+
+        loader.load(KEYSPACE, ImmutableList.of(first));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Map<Integer, Throwable>> validLoad =
+                loader.load(KEYSPACE, ImmutableList.of(valid));
+        CompletableFuture<Map<Integer, Throwable>> invalidLoad =
+                loader.load(KEYSPACE, ImmutableList.of(valid, invalid));
+        releaseFirst.countDown();
+
+        assertEquals(Collections.emptyMap(), validLoad.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonMap(1, error), invalidLoad.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void whenRowsConflict_TheyAreRetriedAndTheOtherRowsAreCommitted() throws Exception {
+        PartitionedLoader loader = loader(1);
+        AtomicInteger attempts = new AtomicInteger(0);
+        RuntimeException error = new IllegalStateException("invalid");
+
+        InsertQuery valid = insertNames(tx -> {}, "a");
+        // Conflicts in the batch and in its first attempt on its own
+        InsertQuery conflictsTwice = insertNames(tx -> {
+            if (attempts.getAndIncrement() < 2) throw conflict();
+        }, "b");
+        InsertQuery alwaysConflicts = insertNames(tx -> { throw conflict(); }, "c");
+        InsertQuery invalid = insertNames(tx -> { throw error; }, "d");
+
+        Map<Integer, Throwable> failures = loader.load(KEYSPACE, ImmutableList.of(valid, conflictsTwice, alwaysConflicts, invalid))
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(ImmutableSet.of(2, 3), failures.keySet());
+        assertTrue(failures.get(2) instanceof TemporaryWriteException);
+        assertSame(error, failures.get(3));
+        assertEquals(3, attempts.get());
+        assertEquals(1 + MAX_RETRY, metricRegistry.counter(name(PartitionedLoader.class, KEYSPACE, "retries")).getCount());
+        assertEquals(2, metricRegistry.meter(name(PartitionedLoader.class, KEYSPACE, "rows")).getCount());
+        assertEquals(2, metricRegistry.meter(name(PartitionedLoader.class, KEYSPACE, "failed")).getCount());
+    }
+
+    @Test
+    public void whenTheLoaderIsClosed_QueuedBatchesAreLoadedAndThePartitionsStop() throws Exception {
+        int threadsBefore = partitionThreads();
+        PartitionedLoader loader = loader(2);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        InsertQuery first = insertNames(tx -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+        }, "a");
+        InsertQuery second = insertNames(tx -> {}, "b");
+
+        CompletableFuture<Map<Integer, Throwable>> firstLoad = loader.load(KEYSPACE, ImmutableList.of(first));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Map<Integer, Throwable>> secondLoad = loader.load(KEYSPACE, ImmutableList.of(second));
+        assertEquals(threadsBefore + 2, partitionThreads());
+
+        releaseFirst.countDown();
+        loader.close();
+
+        assertEquals(Collections.emptyMap(), firstLoad.get(0, TimeUnit.SECONDS));
+        assertEquals(Collections.emptyMap(), secondLoad.get(0, TimeUnit.SECONDS));
+        assertEquals(threadsBefore, partitionThreads());
+    }
+
+    @Test
+    public void whenTheLoaderIsClosed_LaterBatchesFail() throws Exception {
+        PartitionedLoader loader = loader(1);
+        loader.close();
+
+        CompletableFuture<Map<Integer, Throwable>> load = loader.load(KEYSPACE, ImmutableList.of(insertNames(tx -> {}, "a")));
+
+        exception.expectCause(isA(IllegalStateException.class));
+        load.get(5, TimeUnit.SECONDS);
+    }
+
+    private PartitionedLoader loader(int partitions) {
+        when(factory.systemKeyspace().containsKeyspace(KEYSPACE)).thenReturn(true);
+        when(factory.tx(KEYSPACE, GraknTxType.BATCH)).thenAnswer(invocation -> {
+            GraknTx tx = mock(GraknTx.class);
+            when(tx.admin()).thenReturn(mock(GraknAdmin.class));
+            return tx;
+        });
+
+        GraknEngineConfig config = mock(GraknEngineConfig.class);
+        when(config.getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS)).thenReturn(MAX_RETRY);
+        when(config.tryIntProperty(eq(GraknEngineConfig.LOADER_PARTITIONS), anyInt())).thenReturn(partitions);
+        when(config.tryIntProperty(eq(GraknEngineConfig.LOADER_PARTITION_MAX_ROWS), anyInt())).thenReturn(5_000);
+
+        PartitionedLoader loader = new PartitionedLoader(factory, mock(TaskSubmitter.class), config, metricRegistry);
+        loaders.add(loader);
+        return loader;
+    }
+
+    private static int partitionThreads() {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("loader-partition-"))
+                .count();
+    }
+
+    /**
+     * An insert query putting the given names, which runs the given action when executed
+     */
+    private InsertQuery insertNames(Consumer<GraknTx> onExecute, String... names) {
+        VarPattern pattern = var("x").isa("person");
+        for (String name : names) pattern = pattern.has("name", name);
+        InsertQueryAdmin admin = insert(pattern).admin();
+
+        InsertQuery query = mock(InsertQuery.class);
+        when(query.admin()).thenReturn(admin);
+        when(query.withTx(any())).thenAnswer(invocation -> {
+            executedIn.put(query, invocation.getArgument(0));
+            return query;
+        });
+        when(query.execute()).thenAnswer(invocation -> {
+            onExecute.accept(executedIn.get(query));
+            return Collections.emptyList();
+        });
+        return query;
+    }
+
+    /**
+     * An insert query routed to a different partition than the given one, putting the given names and another name
+     */
+    private InsertQuery secondOnOtherPartition(
+            PartitionedLoader loader, InsertQuery first, Consumer<GraknTx> onExecute, String... names) {
+        for (int i = 0; ; i++) {
+            String[] withName = ImmutableList.<String>builder().add(names).add("b-" + i).build().toArray(new String[0]);
+            InsertQuery second = insertNames(onExecute, withName);
+            if (loader.partitionOf(second) != loader.partitionOf(first)) return second;
+        }
+    }
+
+    private static TemporaryWriteException conflict() {
+        return TemporaryWriteException.temporaryLock(new RuntimeException("conflict"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Set<Object> keys(InsertQuery query) {
+        return PartitionedLoader.keys(query).collect(toSet());
+    }
+}
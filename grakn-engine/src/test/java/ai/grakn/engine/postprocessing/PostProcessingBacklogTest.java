@@ -0,0 +1,88 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.engine.postprocessing.PostProcessingBacklog.DirtyIndex;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PostProcessingBacklogTest {
+    private static final String KEYSPACE = "keyspace";
+
+    private final PostProcessingBacklog backlog = new PostProcessingBacklog(4);
+
+    @Test
+    public void whenAddingTheSameIndexTwice_TheIdsAreMergedIntoOneEntry(){
+        backlog.add(KEYSPACE, "index", ImmutableSet.of(ConceptId.of("a"), ConceptId.of("b")));
+        backlog.add(KEYSPACE, "index", ImmutableSet.of(ConceptId.of("b"), ConceptId.of("c")));
+
+        assertEquals(1, backlog.size());
+
+        Map<String, DirtyIndex> batch = backlog.take(KEYSPACE, backlog.partitionOf("index"), 10);
+        assertEquals(ImmutableSet.of(ConceptId.of("a"), ConceptId.of("b"), ConceptId.of("c")),
+                batch.get("index").conceptIds());
+        assertEquals(0, backlog.size());
+    }
+
+    @Test
+    public void whenTakingFromAPartition_OnlyUpToTheBatchSizeIsRemoved(){
+        int partition = backlog.partitionOf("index-0");
+        int added = 0;
+        for(int i = 0; added < 5; i++){
+            String index = "index-" + i;
+            if(backlog.partitionOf(index) == partition) {
+                backlog.add(KEYSPACE, index, ImmutableSet.of(ConceptId.of(index)));
+                added++;
+            }
+        }
+
+        assertEquals(3, backlog.take(KEYSPACE, partition, 3).size());
+        assertEquals(2, backlog.size());
+        assertEquals(2, backlog.take(KEYSPACE, partition, 3).size());
+        assertTrue(backlog.dirtyPartitions(KEYSPACE).isEmpty());
+    }
+
+    @Test
+    public void whenRestoringABatch_ItIsDirtyAgain(){
+        backlog.add(KEYSPACE, "index", ImmutableSet.of(ConceptId.of("a")));
+        int partition = backlog.partitionOf("index");
+
+        Map<String, DirtyIndex> batch = backlog.take(KEYSPACE, partition, 10);
+        assertTrue(backlog.dirtyPartitions(KEYSPACE).isEmpty());
+
+        backlog.restore(KEYSPACE, batch);
+        assertEquals(ImmutableSet.of(partition), backlog.dirtyPartitions(KEYSPACE));
+    }
+
+    @Test
+    public void whenAddingToDifferentKeyspaces_TheyAreKeptApart(){
+        backlog.add(KEYSPACE, "index", ImmutableSet.of(ConceptId.of("a")));
+        backlog.add("other", "index", ImmutableSet.of(ConceptId.of("b")));
+
+        assertEquals(2, backlog.size());
+        assertEquals(1, backlog.take("other", backlog.partitionOf("index"), 10).size());
+        assertEquals(1, backlog.dirtyPartitions(KEYSPACE).size());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.session;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class GraqlSessionRuntimeTest {
+
+    private final GraqlSessionRuntime runtime = GraqlSessionRuntime.create(2);
+
+    @After
+    public void tearDown() {
+        runtime.close();
+    }
+
+    @Test
+    public void whenAcquiringLanes_SessionsAreSpreadOverTheLanes() {
+        GraqlSessionRuntime.Lane first = acquireLane("a").join();
+        GraqlSessionRuntime.Lane second = acquireLane("b").join();
+
+        assertNotSame(first, second);
+        assertEquals(1, first.numSessions());
+        assertEquals(1, second.numSessions());
+    }
+
+    @Test
+    public void whenALaneIsReleased_ItIsAcquiredByTheNextSession() {
+        GraqlSessionRuntime.Lane first = acquireLane("a").join();
+        acquireLane("b").join();
+        acquireLane("c").join();
+
+        runtime.releaseLane(first, "a");
+        runtime.releaseLane(first, "c");
+
+        assertSame(first, acquireLane("d").join());
+    }
+
+    @Test
+    public void whenEveryLaneServesTheKeyspace_ASessionOnItWaitsForOneToBeReleased() {
+        GraqlSessionRuntime.Lane first = acquireLane("a").join();
+        GraqlSessionRuntime.Lane second = acquireLane("a").join();
+        CompletableFuture<GraqlSessionRuntime.Lane> waiting = acquireLane("A");
+
+        assertNotSame(first, second);
+        assertFalse(waiting.isDone());
+        assertEquals(1, runtime.numWaiting("a"));
+
+        runtime.releaseLane(first, "a");
+
+        assertSame(first, waiting.join());
+        assertEquals(0, runtime.numWaiting("a"));
+        assertEquals(1, first.numSessions());
+    }
+
+    @Test
+    public void whenALaneServesTheKeyspace_ASessionOnItIsPinnedToAnotherLane() {
+        GraqlSessionRuntime.Lane first = acquireLane("a").join();
+        GraqlSessionRuntime.Lane second = acquireLane("b").join();
+        acquireLane("c").join();
+        acquireLane("d").join();
+        runtime.releaseLane(first, "c");
+
+        // The first lane serves fewer sessions, but already serves the keyspace
+        assertEquals(1, first.numSessions());
+        assertEquals(2, second.numSessions());
+        assertSame(second, acquireLane("a").join());
+    }
+
+    private CompletableFuture<GraqlSessionRuntime.Lane> acquireLane(String keyspace) {
+        CompletableFuture<GraqlSessionRuntime.Lane> lane = new CompletableFuture<>();
+        runtime.acquireLane(keyspace, lane::complete);
+        return lane;
+    }
+}
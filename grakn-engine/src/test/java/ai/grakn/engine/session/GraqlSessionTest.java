@@ -22,24 +22,89 @@ package ai.grakn.engine.session;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
+import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.analytics.CountQuery;
+import ai.grakn.engine.util.QueryParameters;
+import ai.grakn.graql.internal.query.QueryCancellation;
+import com.google.common.collect.ImmutableList;
 import mjson.Json;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import static ai.grakn.util.ErrorMessage.NO_PREPARED_QUERY;
+import static ai.grakn.util.REST.RemoteShell.ACTION;
+import static ai.grakn.util.REST.RemoteShell.ACTION_ERROR;
+import static ai.grakn.util.REST.RemoteShell.ACTION_PREPARE;
+import static ai.grakn.util.REST.RemoteShell.ERROR;
+import static ai.grakn.util.REST.RemoteShell.HANDLE;
+import static ai.grakn.util.REST.RemoteShell.PARAMETERS;
 import static ai.grakn.util.REST.RemoteShell.QUERY;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GraqlSessionTest {
 
+    private static final String KEYSPACE = "graql_session_test";
+    private static final String QUERY_STRING = "match $x; get;";
+
+    private final Session jettySession = mock(Session.class, RETURNS_DEEP_STUBS);
+    private final GraknSession factory = mock(GraknSession.class);
+    private final GraknTx graph = mock(GraknTx.class, RETURNS_DEEP_STUBS);
+    private final QueryBuilder qb = mock(QueryBuilder.class);
+
+    // Answers computed by the queries of the sessions, and a permit for each of them
+    private final AtomicInteger computed = new AtomicInteger(0);
+    private final Semaphore answers = new Semaphore(0);
+    private int awaited = 0;
+
+    @Before
+    public void setUp() {
+        MatchQuery match = mock(MatchQuery.class);
+        when(match.resultsString(any())).thenAnswer(invocation -> Stream.generate(() -> {
+            String answer = "answer " + computed.incrementAndGet();
+            answers.release();
+            return answer;
+        }));
+
+        when(factory.open(GraknTxType.WRITE)).thenReturn(graph);
+        when(graph.graql()).thenReturn(qb);
+        when(qb.infer(false)).thenReturn(qb);
+        when(qb.materialise(false)).thenReturn(qb);
+        when(qb.parseList(QUERY_STRING)).thenAnswer(invocation -> Stream.of(match));
+    }
+
     @Test
     public void whenRunningAComputeQueryThenExiting_TheComputeQueryIsKilled() throws ExecutionException, InterruptedException {
         Session jettySesssion = mock(Session.class, RETURNS_DEEP_STUBS);
@@ -55,7 +120,8 @@ public class GraqlSessionTest {
         when(qb.materialise(false)).thenReturn(qb);
         when(qb.parseList("compute count;")).thenReturn(Stream.of(count));
 
-        GraqlSession session = new GraqlSession(jettySesssion, factory, "json", false, false);
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = new GraqlSession(jettySesssion, factory, KEYSPACE, runtime, "json", false, false, Long.MAX_VALUE);
         session.receiveQuery(Json.object(QUERY, "compute count;"));
         session.executeQuery().get();
 
@@ -63,5 +129,310 @@ public class GraqlSessionTest {
         verify(count, never()).kill();
         session.close();
         verify(count).kill();
+        runtime.close();
+    }
+
+    @Test
+    public void whenTheClientHasNoCredit_NoMoreAnswersAreComputedUntilTheQueryIsStopped()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, 2);
+        session.receiveQuery(Json.object(QUERY, QUERY_STRING));
+        Future<?> execution = session.executeQuery();
+
+        awaitComputed(runtime, 2);
+        session.addCredit(1);
+        awaitComputed(runtime, 3);
+
+        session.stopQuery();
+        execution.get(10, TimeUnit.SECONDS);
+        assertEquals(3, computed.get());
+
+        session.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenAQueryIsStoppedWhileComputingAnAnswer_ItIsCancelled()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        CountDownLatch computing = new CountDownLatch(1);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        MatchQuery endless = mock(MatchQuery.class);
+        when(endless.resultsString(any())).thenAnswer(invocation -> {
+            // Like a traversal or reasoner iterator, pick up the cancellation of the thread computing the answers
+            QueryCancellation cancellation = QueryCancellation.current();
+            return Stream.generate(() -> {
+                computing.countDown();
+                try {
+                    while (true) cancellation.check();
+                } catch (TraversalInterruptedException e) {
+                    cancelled.set(true);
+                    throw e;
+                }
+            });
+        });
+        when(qb.parseList("match $y; get;")).thenAnswer(invocation -> Stream.of(endless));
+
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, Long.MAX_VALUE);
+        session.receiveQuery(Json.object(QUERY, "match $y; get;"));
+        Future<?> execution = session.executeQuery();
+
+        await(computing);
+        session.stopQuery();
+        execution.get(10, TimeUnit.SECONDS);
+        assertTrue(cancelled.get());
+
+        session.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenAQueryIsStoppedBeforeItStarts_ItComputesNoAnswersAndTheNextQueryRuns()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, 2);
+
+        // Keep the lane busy, so the query is still queued when it is stopped
+        CountDownLatch releaseLane = new CountDownLatch(1);
+        otherLane(runtime).executor().execute(() -> await(releaseLane));
+        session.receiveQuery(Json.object(QUERY, QUERY_STRING));
+        Future<?> stopped = session.executeQuery();
+        session.stopQuery();
+        releaseLane.countDown();
+
+        stopped.get(10, TimeUnit.SECONDS);
+        assertEquals(0, computed.get());
+
+        session.receiveQuery(Json.object(QUERY, QUERY_STRING));
+        session.executeQuery();
+        awaitComputed(runtime, 2);
+
+        session.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenAQueryIsWaitingForCredit_OtherSessionsOnTheLaneRun()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession waiting = session(runtime, KEYSPACE, 0);
+        GraqlSession other = session(runtime, "other_keyspace", Long.MAX_VALUE);
+        when(qb.parseList("match $y; get;")).thenAnswer(invocation -> Stream.of(mock(MatchQuery.class)));
+
+        waiting.receiveQuery(Json.object(QUERY, QUERY_STRING));
+        Future<?> waitingExecution = waiting.executeQuery();
+        other.receiveQuery(Json.object(QUERY, "match $y; get;"));
+        other.executeQuery().get(10, TimeUnit.SECONDS);
+
+        assertFalse(waitingExecution.isDone());
+        assertEquals(0, computed.get());
+
+        waiting.stopQuery();
+        waitingExecution.get(10, TimeUnit.SECONDS);
+
+        waiting.close();
+        other.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenAQueryIsWaitingForCredit_LaterRequestsOfTheSessionWaitForIt()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, 0);
+
+        session.receiveQuery(Json.object(QUERY, QUERY_STRING));
+        Future<?> execution = session.executeQuery();
+        session.commit();
+        awaitLane(runtime);
+        verify(graph, never()).commit();
+
+        session.stopQuery();
+        execution.get(10, TimeUnit.SECONDS);
+        verify(graph, timeout(10_000)).commit();
+
+        session.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenTwoSessionsOnOneKeyspaceShareARuntimeWithOneLane_TheSecondWaitsForTheFirstToClose()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        when(factory.open(GraknTxType.WRITE)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return graph;
+        });
+        when(qb.parseList("match $y; get;")).thenAnswer(invocation -> Stream.of(mock(MatchQuery.class)));
+
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession first = session(runtime, KEYSPACE, Long.MAX_VALUE);
+        GraqlSession second = session(runtime, KEYSPACE, Long.MAX_VALUE);
+        first.receiveQuery(Json.object(QUERY, "match $y; get;"));
+        second.receiveQuery(Json.object(QUERY, "match $y; get;"));
+        first.executeQuery().get(10, TimeUnit.SECONDS);
+        Future<?> waiting = second.executeQuery();
+
+        awaitLane(runtime);
+        assertFalse(waiting.isDone());
+        assertEquals(1, runtime.numWaiting(KEYSPACE));
+
+        first.close();
+        waiting.get(10, TimeUnit.SECONDS);
+        verify(factory, times(2)).open(GraknTxType.WRITE);
+        assertEquals(1, threads.size());
+
+        second.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenOpeningMoreSessionsOnOneKeyspaceThanThereAreLanes_NoMoreThreadsAreStarted() {
+        int numLanes = 2;
+        int numSessions = 10;
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        when(factory.open(GraknTxType.WRITE)).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return graph;
+        });
+
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(numLanes);
+        List<GraqlSession> sessions = new ArrayList<>();
+        for (int i = 0; i < numSessions; i++) {
+            sessions.add(session(runtime, KEYSPACE, Long.MAX_VALUE));
+        }
+
+        verify(factory, timeout(10_000).times(numLanes)).open(GraknTxType.WRITE);
+        assertEquals(numSessions - numLanes, runtime.numWaiting(KEYSPACE));
+
+        // Closing sessions hands their lanes to the sessions waiting for one
+        sessions.forEach(GraqlSession::close);
+        verify(factory, timeout(10_000).times(numSessions)).open(GraknTxType.WRITE);
+        assertEquals(0, runtime.numWaiting(KEYSPACE));
+        assertEquals(numLanes, threads.size());
+
+        runtime.close();
+    }
+
+    @Test
+    public void whenPreparingAQueryTwice_TheSameHandleIsSentBothTimes() throws ExecutionException, InterruptedException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, Long.MAX_VALUE);
+
+        String query = "match $x isa movie, has title $t; select $x;";
+        session.prepareQuery(Json.object(QUERY, query)).get();
+        session.prepareQuery(Json.object(QUERY, query)).get();
+
+        List<String> handles = sentMessages(ACTION_PREPARE).stream()
+                .map(message -> message.at(HANDLE).asString()).collect(toList());
+        assertEquals(ImmutableList.of(handle(query), handle(query)), handles);
+
+        session.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenExecutingAnUnknownHandle_TheClientIsToldToPrepareTheQueryAgain()
+            throws ExecutionException, InterruptedException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, Long.MAX_VALUE);
+
+        session.executePreparedQuery(Json.object(HANDLE, "unknown-handle")).get();
+
+        assertTrue(errorsSent().contains(NO_PREPARED_QUERY.getMessage("unknown-handle")));
+
+        session.close();
+        runtime.close();
+    }
+
+    @Test
+    public void whenPreparingMoreQueriesThanAreKept_TheLeastRecentlyUsedIsForgotten()
+            throws ExecutionException, InterruptedException {
+        GraqlSessionRuntime runtime = GraqlSessionRuntime.create(1);
+        GraqlSession session = session(runtime, KEYSPACE, Long.MAX_VALUE);
+
+        for (int i = 0; i < 1000; i++) {
+            session.prepareQuery(Json.object(QUERY, movieQuery(i))).get();
+        }
+        // Preparing the first query again makes the second the least recently used
+        session.prepareQuery(Json.object(QUERY, movieQuery(0))).get();
+        session.prepareQuery(Json.object(QUERY, movieQuery(1000))).get();
+
+        // A kept query fails to bind a variable it does not have, rather than being unknown
+        Json unknownVariable = Json.object("unknown", "value");
+        session.executePreparedQuery(Json.object(HANDLE, handle(movieQuery(0)), PARAMETERS, unknownVariable)).get();
+        session.executePreparedQuery(Json.object(HANDLE, handle(movieQuery(1)), PARAMETERS, unknownVariable)).get();
+        session.executePreparedQuery(Json.object(HANDLE, handle(movieQuery(1000)), PARAMETERS, unknownVariable)).get();
+
+        Set<String> errors = errorsSent();
+        assertFalse(errors.contains(NO_PREPARED_QUERY.getMessage(handle(movieQuery(0)))));
+        assertTrue(errors.contains(NO_PREPARED_QUERY.getMessage(handle(movieQuery(1)))));
+        assertFalse(errors.contains(NO_PREPARED_QUERY.getMessage(handle(movieQuery(1000)))));
+
+        session.close();
+        runtime.close();
+    }
+
+    private GraqlSession session(GraqlSessionRuntime runtime, String keyspace, long initialCredit) {
+        return new GraqlSession(jettySession, factory, keyspace, runtime, "json", false, false, initialCredit);
+    }
+
+    private static String movieQuery(int i) {
+        return "match $x isa movie-" + i + "; select $x;";
+    }
+
+    private static String handle(String query) {
+        return QueryParameters.handle(query, false, false);
+    }
+
+    /**
+     * The messages sent to the client with the given action, in the order they were sent
+     */
+    private List<Json> sentMessages(String action) {
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(jettySession.getRemote(), atLeastOnce()).sendString(messages.capture(), any(WriteCallback.class));
+        return messages.getAllValues().stream().map(Json::read)
+                .filter(message -> message.has(ACTION) && message.at(ACTION).asString().equals(action))
+                .collect(toList());
+    }
+
+    private Set<String> errorsSent() {
+        return sentMessages(ACTION_ERROR).stream().map(message -> message.at(ERROR).asString().trim()).collect(toSet());
+    }
+
+    /**
+     * Wait until the given number of answers have been computed, and then until the query has given up the lane,
+     * so that any answer it should not compute would have been
+     */
+    private void awaitComputed(GraqlSessionRuntime runtime, int expected)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        assertTrue(answers.tryAcquire(expected - awaited, 10, TimeUnit.SECONDS));
+        awaited = expected;
+        awaitLane(runtime);
+        assertEquals(expected, computed.get());
+    }
+
+    private static void awaitLane(GraqlSessionRuntime runtime)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        otherLane(runtime).executor().submit(() -> {}).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * The lane of a runtime with a single lane
+     */
+    private static GraqlSessionRuntime.Lane otherLane(GraqlSessionRuntime runtime) {
+        CompletableFuture<GraqlSessionRuntime.Lane> lane = new CompletableFuture<>();
+        runtime.acquireLane("lane_of_the_test", lane::complete);
+        runtime.releaseLane(lane.join(), "lane_of_the_test");
+        return lane.join();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -49,7 +49,9 @@ import java.util.concurrent.TimeUnit;
 import mjson.Json;
 import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.junit.After;
+import org.junit.AfterClass;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import org.junit.Before;
@@ -82,6 +84,8 @@ public class RemoteSessionTest {
         new SystemController(factory, spark, new GraknEngineStatus(), new MetricRegistry());
     }).port(4567);
 
+    private static final GraqlSessionRuntime runtime = GraqlSessionRuntime.create(2);
+
     private final BlockingQueue<Json> responses = new LinkedBlockingDeque<>();
     private final RemoteEndpoint remoteEndpoint = mock(RemoteEndpoint.class);
     private final Set<RemoteSession> remoteSessions = new HashSet<>();
@@ -90,8 +94,9 @@ public class RemoteSessionTest {
     public void setUp() throws IOException {
         doAnswer(invocation -> {
             responses.offer(Json.read((String)invocation.getArgument(0)));
+            ((WriteCallback) invocation.getArgument(1)).writeSuccess();
             return null;
-        }).when(remoteEndpoint).sendString(any());
+        }).when(remoteEndpoint).sendString(any(), any());
     }
 
     @After
@@ -103,6 +108,11 @@ public class RemoteSessionTest {
         }
     }
 
+    @AfterClass
+    public static void tearDownClass() {
+        runtime.close();
+    }
+
     @Test
     public void whenUserMakesAMistake_ANewSessionWillStillFunction() throws Exception {
 
@@ -142,7 +152,7 @@ public class RemoteSessionTest {
         when(mockSession.isOpen()).thenReturn(true);
         when(mockSession.getRemote()).thenReturn(remoteEndpoint);
 
-        RemoteSession session = RemoteSession.create();
+        RemoteSession session = RemoteSession.create(runtime);
         remoteSessions.add(session);
         session.onWebSocketConnect(mockSession);
 
@@ -0,0 +1,104 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.lock.ProcessWideLockProvider;
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
+import ai.grakn.util.EmbeddedRedis;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import static ai.grakn.engine.tasks.manager.redisqueue.RedisTaskQueue.LEGACY_QUEUE_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class RedisTaskQueueTest {
+
+    private static final int PORT = 9895;
+    private static final String LEGACY_QUEUE = "resque:queue:" + LEGACY_QUEUE_NAME;
+    private static final String DEFAULT_QUEUE = "resque:queue:" + Priority.LOW.queue();
+
+    private static JedisPool jedisPool;
+    private RedisTaskQueue queue;
+
+    @BeforeClass
+    public static void setupClass() {
+        EmbeddedRedis.start(PORT);
+        jedisPool = new JedisPool(new JedisPoolConfig(), "localhost", PORT);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Before
+    public void setUp() {
+        queue = new RedisTaskQueue(jedisPool, new ProcessWideLockProvider(), new MetricRegistry(), 1);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        queue.close();
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.flushAll();
+        }
+    }
+
+    @Test
+    public void whenJobsAreLeftInTheLegacyQueue_TheyAreMovedToTheDefaultQueueInOrder() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.rpush(DEFAULT_QUEUE, "new-job");
+            jedis.rpush(LEGACY_QUEUE, "first-job", "second-job");
+            jedis.sadd("resque:queues", LEGACY_QUEUE_NAME);
+        }
+
+        assertEquals(2, queue.migrateLegacyQueue());
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            assertFalse(jedis.exists(LEGACY_QUEUE));
+            assertFalse(jedis.sismember("resque:queues", LEGACY_QUEUE_NAME));
+            // Workers take jobs from the tail of a queue
+            assertEquals("new-job", jedis.rpop(DEFAULT_QUEUE));
+            assertEquals("second-job", jedis.rpop(DEFAULT_QUEUE));
+            assertEquals("first-job", jedis.rpop(DEFAULT_QUEUE));
+        }
+    }
+
+    @Test
+    public void whenTheLegacyQueueIsEmpty_NothingIsMoved() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.rpush(DEFAULT_QUEUE, "new-job");
+        }
+
+        assertEquals(0, queue.migrateLegacyQueue());
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            assertEquals(1, jedis.llen(DEFAULT_QUEUE).longValue());
+        }
+    }
+}
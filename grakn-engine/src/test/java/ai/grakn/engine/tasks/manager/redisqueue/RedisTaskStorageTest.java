@@ -0,0 +1,233 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.TaskId;
+import ai.grakn.engine.tasks.manager.TaskCheckpoint;
+import ai.grakn.engine.tasks.manager.TaskSchedule;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
+import ai.grakn.engine.tasks.mock.LongExecutionMockTask;
+import ai.grakn.engine.tasks.mock.ShortExecutionMockTask;
+import ai.grakn.engine.util.EngineID;
+import ai.grakn.exception.GraknBackendException;
+import ai.grakn.util.EmbeddedRedis;
+import com.codahale.metrics.MetricRegistry;
+import mjson.Json;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static ai.grakn.engine.TaskStatus.COMPLETED;
+import static ai.grakn.engine.TaskStatus.CREATED;
+import static ai.grakn.engine.TaskStatus.RUNNING;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RedisTaskStorageTest {
+
+    private static final int PORT = 9897;
+    private static final EngineID ENGINE = EngineID.of("engine");
+
+    private static JedisPool jedisPool;
+    private static RedisTaskStorage storage;
+
+    @BeforeClass
+    public static void setupClass() {
+        EmbeddedRedis.start(PORT);
+        jedisPool = new JedisPool(new JedisPoolConfig(), "localhost", PORT);
+        storage = RedisTaskStorage.create(jedisPool, new MetricRegistry());
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Before
+    public void clear() {
+        storage.clear();
+    }
+
+    @Test
+    public void whenStateIsStored_ItIsRetrievedWithAllFields() {
+        TaskSchedule schedule = TaskSchedule.recurring(Duration.ofSeconds(10));
+        TaskState state = TaskState.of(ShortExecutionMockTask.class, "creator", schedule, Priority.HIGH)
+                .markRunning(ENGINE)
+                .checkpoint(TaskCheckpoint.of(Json.object("progress", "halfway")));
+        storage.newState(state);
+
+        TaskState retrieved = storage.getState(state.getId());
+        assertEquals(state.getId(), retrieved.getId());
+        assertEquals(RUNNING, retrieved.status());
+        assertEquals(state.statusChangeTime().toEpochMilli(), retrieved.statusChangeTime().toEpochMilli());
+        assertEquals(ShortExecutionMockTask.class, retrieved.taskClass());
+        assertEquals("creator", retrieved.creator());
+        assertEquals(ENGINE, retrieved.engineID());
+        assertEquals(Priority.HIGH, retrieved.priority());
+        assertEquals(schedule.runAt().toEpochMilli(), retrieved.schedule().runAt().toEpochMilli());
+        assertEquals(schedule.interval(), retrieved.schedule().interval());
+        assertEquals(Json.object("progress", "halfway"), retrieved.checkpoint().checkpoint());
+    }
+
+    @Test
+    public void whenStatusIsUpdated_TaskMovesBetweenIndices() {
+        TaskState state = TaskState.of(ShortExecutionMockTask.class, "creator", TaskSchedule.now(), Priority.LOW);
+        storage.newState(state);
+        assertEquals(ids(state), ids(storage.getTasks(CREATED, null, null, null, 0, 0)));
+
+        storage.updateState(state.markRunning(ENGINE));
+        assertTrue(storage.getTasks(CREATED, null, null, null, 0, 0).isEmpty());
+        assertEquals(ids(state), ids(storage.getTasks(RUNNING, null, null, ENGINE, 0, 0)));
+
+        storage.updateState(state.markCompleted());
+        assertTrue(storage.getTasks(RUNNING, null, null, null, 0, 0).isEmpty());
+        assertEquals(ids(state), ids(storage.getTasks(COMPLETED, null, null, null, 0, 0)));
+        assertNull(storage.getState(state.getId()).checkpoint());
+    }
+
+    @Test
+    public void whenFilteringByMoreThanOneField_OnlyTasksMatchingAllAreReturned() {
+        TaskState shortByA = TaskState.of(ShortExecutionMockTask.class, "A", TaskSchedule.now(), Priority.LOW);
+        TaskState shortByB = TaskState.of(ShortExecutionMockTask.class, "B", TaskSchedule.now(), Priority.LOW);
+        TaskState longByA = TaskState.of(LongExecutionMockTask.class, "A", TaskSchedule.now(), Priority.LOW);
+        storage.newState(shortByA);
+        storage.newState(shortByB);
+        storage.newState(longByA);
+
+        assertEquals(ids(shortByA), ids(storage.getTasks(null, ShortExecutionMockTask.class.getName(), "A", null, 0, 0)));
+        assertEquals(ids(shortByA, longByA), ids(storage.getTasks(CREATED, null, "A", null, 0, 0)));
+        assertEquals(ids(shortByA, shortByB, longByA), ids(storage.getTasks(null, null, null, null, 0, 0)));
+    }
+
+    @Test
+    public void whenPaginating_PagesDoNotOverlapAndCoverAllTasks() {
+        for (int i = 0; i < 25; i++) {
+            storage.newState(TaskState.of(ShortExecutionMockTask.class, "creator", TaskSchedule.now(), Priority.LOW));
+        }
+
+        Set<TaskId> first = ids(storage.getTasks(CREATED, null, null, null, 10, 0));
+        Set<TaskId> second = ids(storage.getTasks(CREATED, null, null, null, 10, 10));
+        Set<TaskId> third = ids(storage.getTasks(CREATED, null, null, null, 10, 20));
+
+        assertEquals(10, first.size());
+        assertEquals(10, second.size());
+        assertEquals(5, third.size());
+        assertTrue(first.stream().noneMatch(second::contains));
+        assertTrue(second.stream().noneMatch(third::contains));
+    }
+
+    @Test
+    public void whenTaskIsMarkedStopped_StorageReportsIt() {
+        TaskState state = TaskState.of(ShortExecutionMockTask.class, "creator", TaskSchedule.now(), Priority.LOW);
+        storage.newState(state);
+        assertFalse(storage.isTaskMarkedStopped(state.getId()));
+
+        storage.updateState(state.markStopped());
+        assertTrue(storage.isTaskMarkedStopped(state.getId()));
+        assertFalse(storage.isTaskMarkedStopped(TaskId.generate()));
+    }
+
+    @Test
+    public void whenAStateIsCreatedTwice_TheSecondFailsAndTheFirstKeepsItsExpiry() {
+        TaskState state = TaskState.of(ShortExecutionMockTask.class, "creator", TaskSchedule.now(), Priority.LOW);
+        storage.newState(state);
+
+        try {
+            storage.newState(TaskState.fromMap(state.asMap()).markRunning(ENGINE));
+            fail("Creating a state twice should fail");
+        } catch (GraknBackendException e) {
+            // expected
+        }
+
+        assertEquals(CREATED, storage.getState(state.getId()).status());
+        try (Jedis jedis = jedisPool.getResource()) {
+            assertTrue(jedis.ttl("task-state:" + state.getId().getValue()) > 0);
+        }
+    }
+
+    @Test
+    public void whenAnIndexEntryIsStale_TheTaskIsNotReturnedForThatFilter() {
+        TaskState state = TaskState.of(ShortExecutionMockTask.class, "creator", TaskSchedule.now(), Priority.LOW);
+        storage.newState(state);
+        storage.updateState(state.markRunning(ENGINE));
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.zadd("task-state-index:status:" + CREATED.name(), System.currentTimeMillis(), state.getId().getValue());
+        }
+
+        assertTrue(storage.getTasks(CREATED, null, null, null, 0, 0).isEmpty());
+        assertEquals(ids(state), ids(storage.getTasks(RUNNING, null, null, null, 0, 0)));
+    }
+
+    @Test
+    public void whenAStateIsUpdatedConcurrently_ItIsOnlyIndexedByItsFinalStatus() throws InterruptedException {
+        TaskState state = TaskState.of(ShortExecutionMockTask.class, "creator", TaskSchedule.now(), Priority.LOW);
+        storage.newState(state);
+
+        AtomicInteger failedWrites = new AtomicInteger(0);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            TaskState copy = TaskState.fromMap(state.asMap());
+            boolean complete = i % 2 == 0;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 50; j++) {
+                    if (!storage.updateState(complete ? copy.markCompleted() : copy.markRunning(ENGINE))) {
+                        failedWrites.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) thread.join();
+        assertEquals(0, failedWrites.get());
+
+        String finalStatusIndex = "task-state-index:status:" + storage.getState(state.getId()).status().name();
+        try (Jedis jedis = jedisPool.getResource()) {
+            for (String index : jedis.keys("task-state-index:status:*")) {
+                boolean indexed = jedis.zscore(index, state.getId().getValue()) != null;
+                assertEquals(index, index.equals(finalStatusIndex), indexed);
+            }
+        }
+    }
+
+    private static Set<TaskId> ids(TaskState... states) {
+        return Stream.of(states).map(TaskState::getId).collect(toSet());
+    }
+
+    private static Set<TaskId> ids(Set<TaskState> states) {
+        return states.stream().map(TaskState::getId).collect(toSet());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import com.codahale.metrics.MetricRegistry;
+import java.util.concurrent.CountDownLatch;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WorkQueueTest {
+
+    private final WorkQueue queue = new WorkQueue("test-queue", 1, 2, new MetricRegistry());
+
+    @After
+    public void closeQueue() throws InterruptedException {
+        queue.close();
+    }
+
+    @Test
+    public void whenAllThreadsAreReserved_NoMoreJobsCanBeTaken() {
+        assertTrue(queue.tryAcquire());
+        assertTrue(queue.tryAcquire());
+        assertFalse(queue.tryAcquire());
+        assertEquals(2, queue.active());
+
+        queue.release();
+        assertTrue(queue.tryAcquire());
+    }
+
+    @Test
+    public void whenAJobFinishes_ItsThreadIsFreedForTheNextJob() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        assertTrue(queue.tryAcquire());
+        assertTrue(queue.tryAcquire());
+
+        queue.execute(finished::countDown);
+        finished.await();
+
+        // The thread is released after the job completes
+        while (queue.active() > 1) {
+            Thread.sleep(10);
+        }
+        assertTrue(queue.tryAcquire());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenCreatingAQueueWithoutThreads_Throw() {
+        new WorkQueue("empty-queue", 1, 0, new MetricRegistry());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.util;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraknServerException;
+import mjson.Json;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryParametersTest {
+
+    private static final String QUERY = "match $x isa movie, has title $t; select $x;";
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void whenThereAreNoParameters_TheyAreEmpty() {
+        assertTrue(QueryParameters.fromJson(null).isEmpty());
+        assertTrue(QueryParameters.fromJson(Json.nil()).isEmpty());
+    }
+
+    @Test
+    public void whenAParameterIsAString_ItIsBoundToTheString() {
+        assertEquals("Godfather", QueryParameters.fromJson(Json.object("t", "Godfather")).get("t"));
+    }
+
+    @Test
+    public void whenAParameterIsABoolean_ItIsBoundToTheBoolean() {
+        assertEquals(true, QueryParameters.fromJson(Json.object("t", true)).get("t"));
+    }
+
+    @Test
+    public void whenAParameterIsAWholeNumber_ItIsBoundToALong() {
+        Map<String, Object> parameters = QueryParameters.fromJson(Json.read("{\"t\": 42}"));
+
+        assertEquals(42L, parameters.get("t"));
+    }
+
+    @Test
+    public void whenAParameterIsADecimal_ItIsBoundToADouble() {
+        Map<String, Object> parameters = QueryParameters.fromJson(Json.read("{\"t\": 4.5}"));
+
+        assertEquals(4.5, parameters.get("t"));
+    }
+
+    @Test
+    public void whenAParameterIsAnId_ItIsBoundToAConcept() {
+        Map<String, Object> parameters = QueryParameters.fromJson(Json.read("{\"x\": {\"id\": \"V123\"}}"));
+
+        assertEquals(ConceptId.of("V123"), parameters.get("x"));
+    }
+
+    @Test
+    public void whenAParameterIsAnArray_Throw() {
+        exception.expect(GraknServerException.class);
+        QueryParameters.fromJson(Json.read("{\"t\": [\"Godfather\", \"Heat\"]}"));
+    }
+
+    @Test
+    public void whenAParameterIsAnObjectWithoutAnId_Throw() {
+        exception.expect(GraknServerException.class);
+        QueryParameters.fromJson(Json.read("{\"x\": {\"label\": \"movie\"}}"));
+    }
+
+    @Test
+    public void whenTheParametersAreNotAnObject_Throw() {
+        exception.expect(GraknServerException.class);
+        QueryParameters.fromJson(Json.read("[\"Godfather\"]"));
+    }
+
+    @Test
+    public void whenAQueryIsPreparedTwice_TheHandleIsTheSame() {
+        assertEquals(QueryParameters.handle(QUERY, true, false), QueryParameters.handle(QUERY, true, false));
+    }
+
+    @Test
+    public void whenAQueryIsPreparedWithDifferentOptions_TheHandleIsDifferent() {
+        assertNotEquals(QueryParameters.handle(QUERY, true, false), QueryParameters.handle(QUERY, false, false));
+        assertNotEquals(QueryParameters.handle(QUERY, true, false), QueryParameters.handle(QUERY, true, true));
+    }
+
+    @Test
+    public void whenTwoQueriesAreDifferent_TheHandleIsDifferent() {
+        String other = "match $x isa person, has name $t; select $x;";
+
+        assertNotEquals(QueryParameters.handle(QUERY, false, false), QueryParameters.handle(other, false, false));
+    }
+}
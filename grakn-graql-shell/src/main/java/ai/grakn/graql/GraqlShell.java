@@ -74,6 +74,7 @@ import static ai.grakn.util.REST.RemoteShell.ACTION_PING;
 import static ai.grakn.util.REST.RemoteShell.ACTION_QUERY;
 import static ai.grakn.util.REST.RemoteShell.ACTION_ROLLBACK;
 import static ai.grakn.util.REST.RemoteShell.ACTION_TYPES;
+import static ai.grakn.util.REST.RemoteShell.CREDIT;
 import static ai.grakn.util.REST.RemoteShell.DISPLAY;
 import static ai.grakn.util.REST.RemoteShell.ERROR;
 import static ai.grakn.util.REST.RemoteShell.INFER;
@@ -353,7 +354,8 @@ public class GraqlShell {
                 KEYSPACE, keyspace,
                 OUTPUT_FORMAT, outputFormat,
                 INFER, infer,
-                MATERIALISE, materialise
+                MATERIALISE, materialise,
+                CREDIT, JsonSession.CREDIT_WINDOW
         );
         username.ifPresent(u -> initJson.set(USERNAME, u));
         password.ifPresent(p -> initJson.set(PASSWORD, p));
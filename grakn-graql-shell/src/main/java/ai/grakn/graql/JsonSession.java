@@ -41,7 +41,10 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static ai.grakn.util.REST.RemoteShell.ACTION;
+import static ai.grakn.util.REST.RemoteShell.ACTION_CREDIT;
 import static ai.grakn.util.REST.RemoteShell.ACTION_END;
+import static ai.grakn.util.REST.RemoteShell.ACTION_QUERY;
+import static ai.grakn.util.REST.RemoteShell.CREDIT;
 import static java.util.Spliterator.IMMUTABLE;
 
 /**
@@ -58,6 +61,10 @@ public class JsonSession {
     // execute, we wait for a very long time. If there is a connection error with engine, it is handled elsewhere.
     private static final long DEFAULT_TIMEOUT = Long.MAX_VALUE;
 
+    // Number of answers engine may compute ahead of the results that have been consumed. Credit is returned for every
+    // result message, which is at least one per answer, so engine never waits for results we have already consumed.
+    static final int CREDIT_WINDOW = 100;
+
     private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
         Thread thread = Executors.defaultThreadFactory().newThread(runnable);
         thread.setDaemon(true);
@@ -66,6 +73,7 @@ public class JsonSession {
 
     private final BlockingQueue<Json> messages = new LinkedBlockingQueue<>();
     private final long timeout;
+    private int consumedResults = 0;
 
     JsonSession(GraqlClient client, URI uri) {
         this(client, uri, DEFAULT_TIMEOUT);
@@ -104,6 +112,7 @@ public class JsonSession {
                 if (message == null || message.is(ACTION, ACTION_END)) {
                     return false;
                 } else {
+                    if (message.is(ACTION, ACTION_QUERY)) returnCredit();
                     action.accept(message);
                     return true;
                 }
@@ -113,6 +122,21 @@ public class JsonSession {
         return StreamSupport.stream(spliterator, false);
     }
 
+    /**
+     * Tell engine it can compute more answers once half of the credit window has been consumed
+     */
+    private void returnCredit() {
+        consumedResults++;
+        if (consumedResults >= CREDIT_WINDOW / 2) {
+            try {
+                sendJson(Json.object(ACTION, ACTION_CREDIT, CREDIT, consumedResults));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            consumedResults = 0;
+        }
+    }
+
     private Json getMessage() {
         try {
             return messages.poll(timeout, TimeUnit.SECONDS);
@@ -151,6 +151,15 @@ public class Graql {
         return withoutGraph().parseList(queryString);
     }
 
+    /**
+     * @param queryString a string representing a query, whose variables may be bound as parameters
+     * @return a prepared query, which can be executed many times with different parameters without parsing it again
+     */
+    @CheckReturnValue
+    public static <T extends Query<?>> PreparedQuery<T> prepare(String queryString) {
+        return withoutGraph().prepare(queryString);
+    }
+
     // TEMPLATING
 
     /**
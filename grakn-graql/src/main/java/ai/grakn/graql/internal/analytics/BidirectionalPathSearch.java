@@ -0,0 +1,176 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.graql.internal.analytics;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Thing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Finds a shortest path between two concepts directly on a transaction, by searching breadth first from both
+ * ends at once and always expanding the smaller frontier.
+ * <p>
+ * The search only walks through instances of the given types, the same subgraph the
+ * {@link ShortestPathVertexProgram} runs over. It gives up once it has visited more concepts than its budget,
+ * so large neighbourhoods can still be searched with the vertex program.
+ * <p>
+ *
+ * @author Grakn Warriors
+ */
+public class BidirectionalPathSearch {
+
+    private final Set<Label> subLabels;
+    private final long budget;
+
+    private final Map<ConceptId, Thing> sourceParents = new HashMap<>();
+    private final Map<ConceptId, Thing> destinationParents = new HashMap<>();
+    private final Map<ConceptId, Integer> sourceDepths = new HashMap<>();
+    private final Map<ConceptId, Integer> destinationDepths = new HashMap<>();
+    private boolean overBudget = false;
+
+    /**
+     * @param subLabels the labels of the types whose instances may be on the path
+     * @param budget    the maximum number of concepts to visit before giving up
+     */
+    public BidirectionalPathSearch(Set<Label> subLabels, long budget) {
+        this.subLabels = subLabels;
+        this.budget = budget;
+    }
+
+    /**
+     * @param tx          the transaction to search on
+     * @param source      the start of the path
+     * @param destination the end of the path
+     * @return the concepts on a shortest path including both ends, an empty list if there is no path,
+     * or nothing if the budget was used up before the search finished
+     */
+    public Optional<List<Concept>> search(GraknTx tx, ConceptId source, ConceptId destination) {
+        Thing sourceThing = tx.getConcept(source);
+        Thing destinationThing = tx.getConcept(destination);
+
+        sourceParents.put(source, null);
+        sourceDepths.put(source, 0);
+        destinationParents.put(destination, null);
+        destinationDepths.put(destination, 0);
+
+        List<Thing> sourceFrontier = Collections.singletonList(sourceThing);
+        List<Thing> destinationFrontier = Collections.singletonList(destinationThing);
+
+        while (!sourceFrontier.isEmpty() && !destinationFrontier.isEmpty()) {
+            Optional<ConceptId> meeting;
+            if (sourceFrontier.size() <= destinationFrontier.size()) {
+                List<Thing> next = new ArrayList<>();
+                meeting = expand(sourceFrontier, next, sourceParents, sourceDepths, destinationDepths);
+                sourceFrontier = next;
+            } else {
+                List<Thing> next = new ArrayList<>();
+                meeting = expand(destinationFrontier, next, destinationParents, destinationDepths, sourceDepths);
+                destinationFrontier = next;
+            }
+
+            if (overBudget) return Optional.empty();
+            if (meeting.isPresent()) return Optional.of(path(tx, meeting.get()));
+        }
+
+        return Optional.of(Collections.emptyList());
+    }
+
+    /**
+     * Visits all the neighbours of one level of the search
+     *
+     * @return the concept on the shortest path found where both searches meet, if they met
+     */
+    private Optional<ConceptId> expand(List<Thing> frontier, List<Thing> next, Map<ConceptId, Thing> parents,
+                                       Map<ConceptId, Integer> depths, Map<ConceptId, Integer> otherDepths) {
+        ConceptId meeting = null;
+        int shortest = Integer.MAX_VALUE;
+
+        for (Thing thing : frontier) {
+            int depth = depths.get(thing.getId()) + 1;
+            Iterator<Thing> neighbours = neighbours(thing).iterator();
+            while (neighbours.hasNext()) {
+                Thing neighbour = neighbours.next();
+                ConceptId id = neighbour.getId();
+                if (parents.containsKey(id)) continue;
+
+                if (sourceParents.size() + destinationParents.size() >= budget) {
+                    overBudget = true;
+                    return Optional.empty();
+                }
+
+                parents.put(id, thing);
+                depths.put(id, depth);
+                next.add(neighbour);
+
+                Integer otherDepth = otherDepths.get(id);
+                if (otherDepth != null && depth + otherDepth < shortest) {
+                    shortest = depth + otherDepth;
+                    meeting = id;
+                }
+            }
+        }
+
+        return Optional.ofNullable(meeting);
+    }
+
+    /**
+     * @return the relationships a thing takes part in and, for a relationship, its role players,
+     * which are instances of the searched types
+     */
+    private Stream<Thing> neighbours(Thing thing) {
+        Stream<Thing> neighbours = thing.relationships().map(Thing.class::cast);
+        if (thing.isRelationship()) {
+            neighbours = Stream.concat(neighbours, thing.asRelationship().rolePlayers());
+        }
+        return neighbours.filter(neighbour -> subLabels.contains(neighbour.type().getLabel()));
+    }
+
+    private List<Concept> path(GraknTx tx, ConceptId meeting) {
+        LinkedList<Concept> path = new LinkedList<>();
+        path.add(tx.getConcept(meeting));
+
+        Thing parent = sourceParents.get(meeting);
+        while (parent != null) {
+            path.addFirst(parent);
+            parent = sourceParents.get(parent.getId());
+        }
+
+        parent = destinationParents.get(meeting);
+        while (parent != null) {
+            path.addLast(parent);
+            parent = destinationParents.get(parent.getId());
+        }
+
+        return path;
+    }
+}
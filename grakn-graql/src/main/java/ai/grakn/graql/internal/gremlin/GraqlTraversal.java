@@ -21,6 +21,7 @@ package ai.grakn.graql.internal.gremlin;
 import ai.grakn.GraknTx;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.graql.internal.query.QueryCancellation;
 import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
@@ -67,8 +68,10 @@ public abstract class GraqlTraversal {
     // Because 'union' accepts an array, we can't use generics
     @SuppressWarnings("unchecked")
     public GraphTraversal<Vertex, Map<String, Element>> getGraphTraversal(GraknTx graph) {
-        Traversal[] traversals =
-                fragments().stream().map(list -> getConjunctionTraversal(graph, list)).toArray(Traversal[]::new);
+        @Nullable QueryCancellation cancellation = QueryCancellation.current();
+        Traversal[] traversals = fragments().stream()
+                .map(list -> getConjunctionTraversal(graph, list, cancellation))
+                .toArray(Traversal[]::new);
 
         return graph.admin().getTinkerTraversal().V().limit(1).union(traversals);
     }
@@ -84,7 +87,7 @@ public abstract class GraqlTraversal {
      * @return a gremlin traversal that represents this inner query
      */
     private GraphTraversal<? extends Element, Map<String, Element>> getConjunctionTraversal(
-            GraknTx graph, ImmutableList<Fragment> fragmentList
+            GraknTx graph, ImmutableList<Fragment> fragmentList, @Nullable QueryCancellation cancellation
     ) {
         GraphTraversal traversal = __.V();
 
@@ -93,11 +96,12 @@ public abstract class GraqlTraversal {
             traversal = __.union(traversal, __.V().outE(Schema.EdgeLabel.RESOURCE.getLabel()));
         }
 
-        return applyFragments(graph, fragmentList, traversal);
+        return applyFragments(graph, fragmentList, traversal, cancellation);
     }
 
     private GraphTraversal<?, Map<String, Element>> applyFragments(
-            GraknTx graph, ImmutableList<Fragment> fragmentList, GraphTraversal<Element, Element> traversal) {
+            GraknTx graph, ImmutableList<Fragment> fragmentList, GraphTraversal<Element, Element> traversal,
+            @Nullable QueryCancellation cancellation) {
         Set<Var> foundNames = new HashSet<>();
 
         // Apply fragments in order into one single traversal
@@ -106,6 +110,9 @@ public abstract class GraqlTraversal {
         for (Fragment fragment : fragmentList) {
             applyFragment(fragment, traversal, currentName, foundNames, graph);
             currentName = fragment.end() != null ? fragment.end() : fragment.start();
+
+            // Every traverser reaching the end of a fragment checks whether the query has been cancelled
+            if (cancellation != null) traversal.sideEffect(traverser -> cancellation.check());
         }
 
         // Select all the variable names
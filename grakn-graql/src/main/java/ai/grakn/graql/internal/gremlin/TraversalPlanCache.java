@@ -0,0 +1,325 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.GraknTx;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.PatternAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import ai.grakn.util.GraknMetrics;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.auto.value.AutoValue;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ai.grakn.util.CommonUtil.toImmutableSet;
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ *     Caches the plans of the queries executed on each keyspace
+ * </p>
+ *
+ * <p>
+ *     Planning a conjunction estimates the cost of every {@link Fragment} and searches for the cheapest arborescence
+ *     from every possible starting point. Conjunctions which only differ by their variable names or by the ids and
+ *     values they look up are planned in the same way. So the plan is cached against the shape of the conjunction,
+ *     and is rebound to the fragments of the next conjunction with the same shape. The plans of a keyspace are
+ *     forgotten when its schema changes, or when its {@link ai.grakn.kb.admin.KeyspaceStatistics} change enough to
+ *     change the estimated cost of fragments.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class TraversalPlanCache {
+    private static final TraversalPlanCache INSTANCE = new TraversalPlanCache(GraknMetrics.registry());
+    private static final int MAX_PLANS_PER_KEYSPACE = 1000;
+
+    private final Map<String, KeyspacePlans> keyspaces = new ConcurrentHashMap<>();
+    private final Meter hits;
+    private final Meter misses;
+    private final Timer planningTimer;
+
+    /**
+     * @param metrics the registry to record hits, misses and planning times in
+     */
+    TraversalPlanCache(MetricRegistry metrics) {
+        hits = metrics.meter(name(TraversalPlanCache.class, "hits"));
+        misses = metrics.meter(name(TraversalPlanCache.class, "misses"));
+        planningTimer = metrics.timer(name(TraversalPlanCache.class, "planning"));
+    }
+
+    public static TraversalPlanCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a traversal plan, reusing the plans of previous queries with the same shape.
+     *
+     * @param pattern a pattern to find a query plan for
+     * @param tx the transaction the plan will be executed on
+     * @return a semi-optimal traversal plan
+     */
+    public GraqlTraversal createTraversal(PatternAdmin pattern, GraknTx tx) {
+        @Nullable Cache<ImmutableList<FragmentShape>, ImmutableList<Integer>> plans = plansOf(tx);
+
+        Collection<Conjunction<VarPatternAdmin>> patterns = pattern.getDisjunctiveNormalForm().getPatterns();
+
+        Set<? extends List<Fragment>> fragments = patterns.stream()
+                .map(conjunction -> new ConjunctionQuery(conjunction, tx))
+                .map(query -> planForConjunction(query, tx, plans))
+                .collect(toImmutableSet());
+
+        return GraqlTraversal.create(fragments);
+    }
+
+    /**
+     * @return the share of conjunctions whose plan was found in the cache
+     */
+    public double hitRate() {
+        long hitCount = hits.getCount();
+        long total = hitCount + misses.getCount();
+        return total == 0 ? 0D : (double) hitCount / total;
+    }
+
+    /**
+     * @return how long conjunctions which could not be found in the cache took to plan
+     */
+    public Timer planningTimer() {
+        return planningTimer;
+    }
+
+    /**
+     * Forget the plans of every keyspace
+     */
+    public void clear() {
+        keyspaces.clear();
+    }
+
+    /**
+     * Gets the plans of the keyspace of the transaction, forgetting them if the schema or the statistics have changed
+     * since they were made. Returns nothing when the plans cannot be used by the transaction, either because it has
+     * changed the schema or because it reads an older version of the schema than the plans were made for.
+     */
+    @Nullable
+    private Cache<ImmutableList<FragmentShape>, ImmutableList<Integer>> plansOf(GraknTx tx) {
+        Optional<Long> version = tx.admin().schemaVersion();
+        if (!version.isPresent()) return null;
+        long statisticsVersion = tx.admin().statistics().version();
+
+        KeyspacePlans keyspacePlans = keyspaces.compute(tx.getKeyspace(), (keyspace, current) ->
+                current == null || current.isOlderThan(version.get(), statisticsVersion) ?
+                        new KeyspacePlans(version.get(), statisticsVersion) : current
+        );
+
+        return keyspacePlans.isFor(version.get(), statisticsVersion) ? keyspacePlans.plans : null;
+    }
+
+    private List<Fragment> planForConjunction(
+            ConjunctionQuery query, GraknTx tx,
+            @Nullable Cache<ImmutableList<FragmentShape>, ImmutableList<Integer>> plans) {
+
+        ConjunctionShape shape = ConjunctionShape.of(query);
+
+        if (plans != null) {
+            ImmutableList<Integer> cachedPlan = plans.getIfPresent(shape.key());
+            if (cachedPlan != null) {
+                hits.mark();
+                return shape.fragments(cachedPlan);
+            }
+            misses.mark();
+        }
+
+        Timer.Context planningTime = planningTimer.time();
+        List<Fragment> plan = GreedyTraversalPlan.planForConjunction(query, tx);
+        planningTime.stop();
+
+        if (plans != null) {
+            shape.positions(plan).ifPresent(positions -> plans.put(shape.key(), positions));
+        }
+
+        return plan;
+    }
+
+    /**
+     * The plans of a single version of the schema and statistics of a keyspace
+     */
+    private static class KeyspacePlans {
+        private final long schemaVersion;
+        private final long statisticsVersion;
+        private final Cache<ImmutableList<FragmentShape>, ImmutableList<Integer>> plans =
+                CacheBuilder.newBuilder().maximumSize(MAX_PLANS_PER_KEYSPACE).build();
+
+        KeyspacePlans(long schemaVersion, long statisticsVersion) {
+            this.schemaVersion = schemaVersion;
+            this.statisticsVersion = statisticsVersion;
+        }
+
+        boolean isOlderThan(long schemaVersion, long statisticsVersion) {
+            return this.schemaVersion < schemaVersion ||
+                    (this.schemaVersion == schemaVersion && this.statisticsVersion < statisticsVersion);
+        }
+
+        boolean isFor(long schemaVersion, long statisticsVersion) {
+            return this.schemaVersion == schemaVersion && this.statisticsVersion == statisticsVersion;
+        }
+    }
+
+    /**
+     * The fragments of a conjunction in a canonical order, along with the shape of the conjunction.
+     * <p>
+     * Two conjunctions with the same shape have, at every position, fragments with the same shape which use the
+     * same variables and belong to the same {@link EquivalentFragmentSet}, so picking the fragments at the same
+     * positions gives the same plan.
+     */
+    static class ConjunctionShape {
+        private final ImmutableList<Fragment> fragments;
+        private final ImmutableList<FragmentShape> key;
+
+        private ConjunctionShape(ImmutableList<Fragment> fragments, ImmutableList<FragmentShape> key) {
+            this.fragments = fragments;
+            this.key = key;
+        }
+
+        static ConjunctionShape of(ConjunctionQuery query) {
+            Map<Fragment, EquivalentFragmentSet> sets = new IdentityHashMap<>();
+            List<Fragment> fragments = new ArrayList<>();
+            query.getEquivalentFragmentSets().forEach(set -> set.fragments().forEach(fragment -> {
+                fragments.add(fragment);
+                sets.put(fragment, set);
+            }));
+
+            // Describe every variable by how it is used, so that fragments can be ordered without their variable names
+            Map<Var, List<String>> usages = new HashMap<>();
+            fragments.forEach(fragment -> {
+                List<Var> vars = varsOf(fragment);
+                for (int i = 0; i < vars.size(); i++) {
+                    usages.computeIfAbsent(vars.get(i), var -> new ArrayList<>()).add(fragment.shape() + "@" + i);
+                }
+            });
+            Map<Var, String> varShapes = new HashMap<>();
+            usages.forEach((var, usage) -> {
+                Collections.sort(usage);
+                varShapes.put(var, String.join(",", usage));
+            });
+
+            fragments.sort(Comparator.comparing((Fragment fragment) -> sortKey(fragment, varShapes)));
+
+            // Name variables and fragment sets in the order they first appear
+            Map<Var, Integer> varIndices = new HashMap<>();
+            Map<EquivalentFragmentSet, Integer> setIndices = new IdentityHashMap<>();
+            ImmutableList.Builder<FragmentShape> key = ImmutableList.builder();
+
+            for (Fragment fragment : fragments) {
+                ImmutableList.Builder<Integer> vars = ImmutableList.builder();
+                for (Var var : varsOf(fragment)) {
+                    if (!varIndices.containsKey(var)) varIndices.put(var, varIndices.size());
+                    vars.add(varIndices.get(var));
+                }
+
+                EquivalentFragmentSet set = sets.get(fragment);
+                if (!setIndices.containsKey(set)) setIndices.put(set, setIndices.size());
+
+                key.add(FragmentShape.of(fragment.shape(), vars.build(), setIndices.get(set)));
+            }
+
+            return new ConjunctionShape(ImmutableList.copyOf(fragments), key.build());
+        }
+
+        ImmutableList<FragmentShape> key() {
+            return key;
+        }
+
+        /**
+         * @param positions the positions of the fragments of a plan
+         * @return the fragments of this conjunction at the given positions
+         */
+        List<Fragment> fragments(List<Integer> positions) {
+            return positions.stream().map(fragments::get).collect(toList());
+        }
+
+        /**
+         * @param plan a plan made of the fragments of this conjunction
+         * @return the positions of the fragments of the plan, if each fragment of the plan is used only once
+         */
+        Optional<ImmutableList<Integer>> positions(List<Fragment> plan) {
+            Map<Fragment, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < fragments.size(); i++) {
+                positions.put(fragments.get(i), i);
+            }
+
+            Set<Integer> used = new HashSet<>();
+            ImmutableList.Builder<Integer> planPositions = ImmutableList.builder();
+            for (Fragment fragment : plan) {
+                Integer position = positions.get(fragment);
+                if (position == null || !used.add(position)) return Optional.empty();
+                planPositions.add(position);
+            }
+            return Optional.of(planPositions.build());
+        }
+
+        private static String sortKey(Fragment fragment, Map<Var, String> varShapes) {
+            return fragment.shape() + varsOf(fragment).stream().map(varShapes::get).collect(joining("|", "(", ")"));
+        }
+
+        private static List<Var> varsOf(Fragment fragment) {
+            List<Var> vars = new ArrayList<>(fragment.vars());
+            fragment.dependencies().stream().filter(var -> !vars.contains(var)).forEach(vars::add);
+            return vars;
+        }
+    }
+
+    /**
+     * A {@link Fragment} without the values it looks up, with its variables and {@link EquivalentFragmentSet}
+     * replaced by their position in a {@link ConjunctionShape}
+     */
+    @AutoValue
+    abstract static class FragmentShape {
+        abstract String shape();
+
+        abstract ImmutableList<Integer> vars();
+
+        abstract int set();
+
+        static FragmentShape of(String shape, ImmutableList<Integer> vars, int set) {
+            return new AutoValue_TraversalPlanCache_FragmentShape(shape, vars, set);
+        }
+    }
+}
@@ -67,6 +67,13 @@ public abstract class AbstractShortcutFragment extends Fragment {
         return "[shortcut:" + edge().shortName() + roleString + rels + roles + "]";
     }
 
+    final String innerShape() {
+        String roleString = role() != null ? " role" : "";
+        String rels = displayOptionalTypeLabels("rels", relationTypeLabels());
+        String roles = displayOptionalTypeLabels("roles", roleLabels());
+        return "[shortcut" + roleString + rels + roles + "]";
+    }
+
     @Override
     final ImmutableSet<Var> otherVars() {
         ImmutableSet.Builder<Var> builder = ImmutableSet.<Var>builder().add(edge());
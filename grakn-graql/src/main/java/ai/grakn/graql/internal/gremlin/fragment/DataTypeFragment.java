@@ -43,7 +43,7 @@ abstract class DataTypeFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_DATA_TYPE;
     }
 }
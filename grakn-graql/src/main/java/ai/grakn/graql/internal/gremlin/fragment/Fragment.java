@@ -20,8 +20,10 @@ package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Label;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarProperty;
+import ai.grakn.kb.admin.KeyspaceStatistics;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.DirectedEdge;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.Node;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.NodeId;
@@ -95,6 +97,8 @@ public abstract class Fragment {
     static final double COST_DATA_TYPE = Math.log1p(2D / AttributeType.DataType.SUPPORTED_TYPES.size());
     static final double COST_UNSPECIFIC_PREDICATE = Math.log1p(0.5);
 
+    private Optional<Double> accurateFragmentCost = Optional.empty();
+
     /**
      * Get the corresponding property
      */
@@ -147,6 +151,14 @@ public abstract class Fragment {
      */
     public abstract String name();
 
+    /**
+     * The name of the fragment without any variable names or the values it looks up, such as ids and attribute
+     * values. Queries whose fragments have the same shapes can be planned in the same way.
+     */
+    public String shape() {
+        return name();
+    }
+
     /**
      * A starting fragment is a fragment that can start a traversal.
      * If any other fragment is present that refers to the same variable, the starting fragment can be omitted.
@@ -158,7 +170,32 @@ public abstract class Fragment {
     /**
      * Get the cost for executing the fragment.
      */
-    public abstract double fragmentCost();
+    public final double fragmentCost() {
+        return accurateFragmentCost.orElseGet(this::internalFragmentCost);
+    }
+
+    /**
+     * Get the cost for executing the fragment when there are no statistics to estimate it from.
+     */
+    public abstract double internalFragmentCost();
+
+    /**
+     * Estimate the cost for executing the fragment from the statistics of the keyspace.
+     *
+     * @param graph        the graph the fragment will be executed on
+     * @param statistics   the statistics of the keyspace
+     * @param typeLabels   variables which are known to be a type, mapped to the label of that type
+     * @param instanceOf   variables which are known to be an instance of a type, mapped to the label of that type
+     * @return the estimated cost, or nothing if the statistics do not help this fragment
+     */
+    Optional<Double> estimateFragmentCost(GraknTx graph, KeyspaceStatistics statistics,
+                                          Map<Var, Label> typeLabels, Map<Var, Label> instanceOf) {
+        return Optional.empty();
+    }
+
+    final void setAccurateFragmentCost(double fragmentCost) {
+        accurateFragmentCost = Optional.of(fragmentCost);
+    }
 
     /**
      * If a fragment has fixed cost, the traversal is done using index. This makes the fragment a good starting point.
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.gremlin.fragment;
 
+import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
@@ -26,6 +27,7 @@ import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.util.StringConverter;
+import ai.grakn.kb.admin.KeyspaceStatistics;
 import ai.grakn.util.Schema;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
@@ -37,6 +39,9 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static ai.grakn.util.Schema.EdgeLabel.SUB;
@@ -147,6 +152,29 @@ public class Fragments {
         return new AutoValue_ResourceIndexFragment(varProperty, start, resourceIndex);
     }
 
+    /**
+     * Estimate the cost of every given fragment using the statistics of the keyspace. Fragments which the
+     * statistics say nothing about keep their default cost.
+     *
+     * @param fragments all the fragments of a conjunction query
+     * @param graph the graph the query is executed on
+     */
+    public static void estimateFragmentCosts(Collection<Fragment> fragments, GraknTx graph) {
+        KeyspaceStatistics statistics = graph.admin().statistics();
+
+        Map<Var, Label> typeLabels = new HashMap<>();
+        fragments.stream().filter(LabelFragment.class::isInstance).map(LabelFragment.class::cast)
+                .forEach(fragment -> typeLabels.put(fragment.start(), fragment.label()));
+
+        Map<Var, Label> instanceOf = new HashMap<>();
+        fragments.stream().filter(OutIsaFragment.class::isInstance)
+                .filter(fragment -> typeLabels.containsKey(fragment.end()))
+                .forEach(fragment -> instanceOf.put(fragment.start(), typeLabels.get(fragment.end())));
+
+        fragments.forEach(fragment -> fragment.estimateFragmentCost(graph, statistics, typeLabels, instanceOf)
+                .ifPresent(fragment::setAccurateFragmentCost));
+    }
+
     static <T> GraphTraversal<T, Vertex> outSubs(GraphTraversal<T, Vertex> traversal) {
         // These traversals make sure to only navigate types by checking they do not have a `THING_TYPE_LABEL_ID` property
         return union(traversal, ImmutableSet.of(
@@ -68,7 +68,12 @@ abstract class IdFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return "[id]";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         return COST_INDEX;
     }
 
@@ -19,11 +19,15 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.SchemaConcept;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.DirectedEdge;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.Node;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.NodeId;
 import ai.grakn.graql.internal.gremlin.spanningtree.util.Weighted;
+import ai.grakn.kb.admin.KeyspaceStatistics;
+import ai.grakn.util.CommonUtil;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableSet;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
@@ -33,7 +37,9 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static ai.grakn.graql.Graql.var;
@@ -46,6 +52,8 @@ import static ai.grakn.util.Schema.EdgeLabel.SHARD;
 import static ai.grakn.util.Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID;
 import static ai.grakn.util.Schema.VertexProperty.IS_IMPLICIT;
 import static ai.grakn.util.Schema.VertexProperty.LABEL_ID;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @AutoValue
 abstract class InIsaFragment extends Fragment {
@@ -119,10 +127,30 @@ abstract class InIsaFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_INSTANCES_PER_TYPE;
     }
 
+    /**
+     * The traversal also finds instances of every sub-type, so the instance counts of all the sub-types are added up.
+     */
+    @Override
+    Optional<Double> estimateFragmentCost(GraknTx graph, KeyspaceStatistics statistics,
+                                          Map<Var, Label> typeLabels, Map<Var, Label> instanceOf) {
+        Label label = typeLabels.get(start());
+        if (label == null) return Optional.empty();
+
+        SchemaConcept type = graph.getSchemaConcept(label);
+        Set<Label> labels = type == null ?
+                ImmutableSet.of(label) : type.subs().map(SchemaConcept::getLabel).collect(toSet());
+
+        List<Long> counts = labels.stream().map(statistics::instanceCount)
+                .flatMap(CommonUtil::optionalToStream).collect(toList());
+        if (counts.isEmpty()) return Optional.empty();
+
+        return Optional.of(Math.log1p(counts.stream().mapToLong(Long::longValue).sum()));
+    }
+
     @Override
     public Set<Weighted<DirectedEdge<Node>>> directedEdges(Map<NodeId, Node> nodes,
                                                            Map<Node, Map<Node, Fragment>> edges) {
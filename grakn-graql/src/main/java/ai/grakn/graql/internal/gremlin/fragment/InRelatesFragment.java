@@ -51,7 +51,7 @@ abstract class InRelatesFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_SAME_AS_PREVIOUS;
     }
 
@@ -20,6 +20,9 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.Label;
+import ai.grakn.graql.Var;
+import ai.grakn.kb.admin.KeyspaceStatistics;
 import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableSet;
@@ -31,6 +34,10 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.RELATION_DIRECTION;
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.RELATION_EDGE;
 import static ai.grakn.util.Schema.EdgeLabel.SHORTCUT;
@@ -97,7 +104,39 @@ abstract class InShortcutFragment extends AbstractShortcutFragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return "<-" + innerShape() + "-";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         return COST_RELATIONS_PER_INSTANCE;
     }
+
+    /**
+     * The average number of relationships per role-player is estimated as the number of relationships of the given
+     * types divided by the number of instances of the role-player's type.
+     */
+    @Override
+    Optional<Double> estimateFragmentCost(GraknTx graph, KeyspaceStatistics statistics,
+                                          Map<Var, Label> typeLabels, Map<Var, Label> instanceOf) {
+        Label rolePlayerType = instanceOf.get(start());
+        Set<Label> relationTypes = relationTypeLabels();
+        if (relationTypes == null && instanceOf.containsKey(end())) {
+            relationTypes = ImmutableSet.of(instanceOf.get(end()));
+        }
+        if (rolePlayerType == null || relationTypes == null) return Optional.empty();
+
+        Optional<Long> rolePlayers = statistics.instanceCount(rolePlayerType).filter(count -> count > 0);
+        if (!rolePlayers.isPresent()) return Optional.empty();
+
+        long relationships = 0;
+        for (Label relationType : relationTypes) {
+            Optional<Long> count = statistics.instanceCount(relationType);
+            if (!count.isPresent()) return Optional.empty();
+            relationships += count.get();
+        }
+
+        return Optional.of(Math.log1p((double) relationships / rolePlayers.get()));
+    }
 }
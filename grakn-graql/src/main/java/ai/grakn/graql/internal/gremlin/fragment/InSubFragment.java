@@ -49,7 +49,7 @@ abstract class InSubFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_SUBTYPES_PER_TYPE;
     }
 
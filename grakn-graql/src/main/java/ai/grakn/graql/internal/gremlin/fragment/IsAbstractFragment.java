@@ -40,7 +40,7 @@ abstract class IsAbstractFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_SAME_AS_PREVIOUS;
     }
 }
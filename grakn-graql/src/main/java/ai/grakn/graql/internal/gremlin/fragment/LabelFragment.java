@@ -45,7 +45,7 @@ abstract class LabelFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_INDEX;
     }
 
@@ -43,7 +43,12 @@ abstract class NeqFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return "[neq]";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         // This is arbitrary - we imagine about half the results are filtered out
         return COST_NEQ;
     }
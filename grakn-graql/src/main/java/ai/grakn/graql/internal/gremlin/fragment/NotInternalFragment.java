@@ -45,7 +45,7 @@ abstract class NotInternalFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public double internalFragmentCost() {
         return COST_SAME_AS_PREVIOUS;
     }
 }
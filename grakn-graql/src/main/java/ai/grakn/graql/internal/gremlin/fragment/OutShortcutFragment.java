@@ -98,7 +98,12 @@ abstract class OutShortcutFragment extends AbstractShortcutFragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return "-" + innerShape() + "->";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         return roleLabels() != null ? COST_ROLE_PLAYERS_PER_ROLE : COST_ROLE_PLAYERS_PER_RELATION;
     }
 
@@ -44,7 +44,12 @@ abstract class RegexFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return "[regex]";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         return COST_SAME_AS_PREVIOUS;
     }
 }
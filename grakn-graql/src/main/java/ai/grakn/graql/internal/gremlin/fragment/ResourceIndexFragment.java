@@ -44,7 +44,12 @@ abstract class ResourceIndexFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return "[index]";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         return COST_INDEX;
     }
 
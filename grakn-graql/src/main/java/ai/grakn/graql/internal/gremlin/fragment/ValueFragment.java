@@ -49,7 +49,12 @@ abstract class ValueFragment extends Fragment {
     }
 
     @Override
-    public double fragmentCost() {
+    public String shape() {
+        return predicate().isSpecific() ? "[value:specific]" : "[value]";
+    }
+
+    @Override
+    public double internalFragmentCost() {
         if (predicate().isSpecific()) {
             return COST_RESOURCES_PER_VALUE;
         } else {
@@ -24,7 +24,10 @@ import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.query.aggregate.MatchQueryAggregate;
 
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -46,8 +49,23 @@ class AggregateQueryImpl<T> implements AggregateQuery<T> {
         return new AggregateQueryImpl<>(matchQuery.withTx(tx).admin(), aggregate);
     }
 
+    /**
+     * @param bindings patterns binding variables of the match query to concepts or values
+     * @return the same query, aggregating the results of the bound match query
+     */
+    AggregateQueryImpl<T> bind(Collection<VarPatternAdmin> bindings) {
+        return new AggregateQueryImpl<>(matchQuery.bind(bindings), aggregate);
+    }
+
     @Override
     public T execute() {
+        if (aggregate instanceof MatchQueryAggregate) {
+            // The aggregate reads only what it needs from the query, so the answers are never built
+            @SuppressWarnings("unchecked")
+            MatchQueryAggregate<T> matchQueryAggregate = (MatchQueryAggregate<T>) aggregate;
+            return matchQueryAggregate.apply(matchQuery);
+        }
+
         return aggregate.apply(matchQuery.stream());
     }
 
@@ -26,6 +26,7 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.DeleteQueryAdmin;
 import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableSet;
@@ -74,6 +75,14 @@ abstract class DeleteQueryImpl implements DeleteQueryAdmin {
         return Queries.delete(vars(), matchQuery().withTx(tx));
     }
 
+    /**
+     * @param bindings patterns binding variables of the match query to concepts or values
+     * @return the same query, deleting the results of the bound match query
+     */
+    DeleteQueryImpl bind(Collection<VarPatternAdmin> bindings) {
+        return of(vars(), matchQuery().bind(bindings));
+    }
+
     @Override
     public DeleteQueryAdmin admin() {
         return this;
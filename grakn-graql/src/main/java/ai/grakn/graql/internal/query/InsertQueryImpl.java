@@ -25,14 +25,21 @@ import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.Printer;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.InsertQueryAdmin;
 import ai.grakn.graql.admin.MatchQueryAdmin;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.property.VarPropertyInternal;
 import ai.grakn.util.CommonUtil;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +59,9 @@ class InsertQueryImpl implements InsertQueryAdmin {
     private final ImmutableCollection<VarPatternAdmin> originalVars;
     private final ImmutableCollection<VarPatternAdmin> vars;
 
+    // How to insert the vars, worked out once and shared by every answer of the match query
+    private final Supplier<QueryOperationExecutor.Plan> plan;
+
     /**
      * At least one of graph and matchQuery must be absent.
      *
@@ -60,6 +70,13 @@ class InsertQueryImpl implements InsertQueryAdmin {
      * @param tx the graph to execute on
      */
     InsertQueryImpl(ImmutableCollection<VarPatternAdmin> vars, Optional<MatchQueryAdmin> matchQuery, Optional<GraknTx> tx) {
+        this(vars, matchQuery, tx, null);
+    }
+
+    private InsertQueryImpl(
+            ImmutableCollection<VarPatternAdmin> vars, Optional<MatchQueryAdmin> matchQuery, Optional<GraknTx> tx,
+            @Nullable Supplier<QueryOperationExecutor.Plan> plan
+    ) {
         // match query and graph should never both be present (should get graph from inner match query)
         assert(!matchQuery.isPresent() || !tx.isPresent());
 
@@ -78,17 +95,52 @@ class InsertQueryImpl implements InsertQueryAdmin {
         for (VarPatternAdmin var : this.vars) {
             var.getProperties().forEach(property -> ((VarPropertyInternal) property).checkInsertable(var));
         }
+
+        // The plan is only worked out when the query is executed, because it fails if the vars cannot be inserted
+        this.plan = plan != null ? plan : Suppliers.memoize(() -> QueryOperationExecutor.insertPlan(this.vars));
     }
 
     @Override
     public InsertQuery withTx(GraknTx tx) {
+        // The same vars are inserted, so they can be inserted in the same way
         return matchQuery.map(
-                m -> Queries.insert(vars, m.withTx(tx).admin())
+                m -> new InsertQueryImpl(vars, Optional.of(m.withTx(tx).admin()), Optional.empty(), plan)
         ).orElseGet(
-                () -> new InsertQueryImpl(vars, Optional.empty(), Optional.of(tx))
+                () -> new InsertQueryImpl(vars, Optional.empty(), Optional.of(tx), plan)
         );
     }
 
+    /**
+     * @param bindings patterns binding variables of the query to concepts or values
+     * @return the same query, with the variables of the match query bound in the match query and the other
+     * variables bound in the inserted patterns
+     */
+    InsertQueryImpl bind(Collection<VarPatternAdmin> bindings) {
+        Set<Var> matchVars = matchQuery.map(query -> query.getPattern().varPatterns().stream()
+                .flatMap(var -> var.innerVarPatterns().stream())
+                .map(VarPatternAdmin::var)
+                .collect(Collectors.toSet())
+        ).orElse(ImmutableSet.of());
+
+        Set<Var> insertVars = vars.stream().map(VarPatternAdmin::var).collect(Collectors.toSet());
+
+        List<VarPatternAdmin> matchBindings = new ArrayList<>();
+        ImmutableList.Builder<VarPatternAdmin> boundVars = ImmutableList.<VarPatternAdmin>builder().addAll(originalVars);
+
+        for (VarPatternAdmin binding : bindings) {
+            if (matchVars.contains(binding.var())) {
+                matchBindings.add(binding);
+            } else if (insertVars.contains(binding.var())) {
+                boundVars.add(binding);
+            } else {
+                throw GraqlQueryException.varNotInQuery(binding.var());
+            }
+        }
+
+        Optional<MatchQueryAdmin> boundMatchQuery = matchQuery.map(query -> query.bind(matchBindings));
+        return new InsertQueryImpl(boundVars.build(), boundMatchQuery, tx);
+    }
+
     @Override
     public List<Answer> execute() {
         return stream().collect(Collectors.toList());
@@ -109,9 +161,9 @@ class InsertQueryImpl implements InsertQueryAdmin {
         GraknTx theGraph = getTx().orElseThrow(GraqlQueryException::noTx);
 
         return matchQuery.map(
-                query -> query.stream().map(answer -> QueryOperationExecutor.insertAll(vars, theGraph, answer))
+                query -> query.stream().map(answer -> plan.get().execute(theGraph, answer))
         ).orElseGet(
-                () -> Stream.of(QueryOperationExecutor.insertAll(vars, theGraph))
+                () -> Stream.of(plan.get().execute(theGraph, new QueryAnswer()))
         );
     }
 
@@ -0,0 +1,108 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.PreparedQuery;
+import ai.grakn.graql.Query;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.graql.admin.VarPatternAdmin;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ *     Implementation of {@link PreparedQuery}
+ * </p>
+ *
+ * <p>
+ *     The query is parsed once. Binding a parameter adds a pattern looking up its id or value, which is cheap to
+ *     plan and needs no validation. The rest of the query is only validated again when the schema changes, and is
+ *     planned once for each shape of the bound patterns.
+ * </p>
+ *
+ * @param <T> The type of the query
+ *
+ * @author Grakn Warriors
+ */
+class PreparedQueryImpl<T extends Query<?>> implements PreparedQuery<T> {
+
+    private final T query;
+
+    PreparedQueryImpl(T query) {
+        this.query = query;
+    }
+
+    @Override
+    public T query() {
+        return query;
+    }
+
+    @Override
+    public T bind(Map<String, ?> parameters) {
+        if (parameters.isEmpty()) return query;
+
+        List<VarPatternAdmin> bindings = parameters.entrySet().stream()
+                .map(parameter -> binding(var(parameter.getKey()), parameter.getValue()))
+                .collect(toList());
+
+        // Binding a query always gives a query of the same class
+        @SuppressWarnings("unchecked")
+        T boundQuery = (T) bind(query, bindings);
+        return boundQuery;
+    }
+
+    private static Query<?> bind(Query<?> query, Collection<VarPatternAdmin> bindings) {
+        if (query instanceof MatchQueryAdmin) {
+            return ((MatchQueryAdmin) query).bind(bindings);
+        } else if (query instanceof InsertQueryImpl) {
+            return ((InsertQueryImpl) query).bind(bindings);
+        } else if (query instanceof DeleteQueryImpl) {
+            return ((DeleteQueryImpl) query).bind(bindings);
+        } else if (query instanceof AggregateQueryImpl) {
+            return ((AggregateQueryImpl<?>) query).bind(bindings);
+        } else {
+            // Other queries do not match any variables which could be bound
+            throw GraqlQueryException.varNotInQuery(bindings.iterator().next().var());
+        }
+    }
+
+    private static VarPatternAdmin binding(Var var, Object value) {
+        if (value instanceof Concept) {
+            return var.id(((Concept) value).getId()).admin();
+        } else if (value instanceof ConceptId) {
+            return var.id((ConceptId) value).admin();
+        } else {
+            return var.val(value).admin();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return query.toString();
+    }
+}
@@ -26,6 +26,7 @@ import ai.grakn.graql.DefineQuery;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.Pattern;
+import ai.grakn.graql.PreparedQuery;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.VarPattern;
@@ -183,6 +184,15 @@ public class QueryBuilderImpl implements QueryBuilder {
         return queryParser.parseList(queryString);
     }
 
+    /**
+     * @param queryString a string representing a query, whose variables may be bound as parameters
+     * @return a prepared query, which can be executed many times with different parameters without parsing it again
+     */
+    @Override
+    public <T extends Query<?>> PreparedQuery<T> prepare(String queryString) {
+        return new PreparedQueryImpl<>(this.<T>parse(queryString));
+    }
+
     /**
      * @param template a string representing a templated graql query
      * @param data     data to use in template
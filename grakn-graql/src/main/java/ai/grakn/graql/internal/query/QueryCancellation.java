@@ -0,0 +1,85 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *     A flag which stops a query from computing any more answers
+ * </p>
+ *
+ * <p>
+ *     Answers are computed lazily, so the flag is installed on the thread computing them with
+ *     {@link #apply(Supplier)}. Gremlin traversals and reasoner iterators pick up the flag of the thread they are
+ *     created on, and check it for every traverser and resolution step. Once the flag is set they stop with a
+ *     {@link TraversalInterruptedException}, without having to interrupt the thread, which may be reading from the
+ *     knowledge base.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class QueryCancellation {
+
+    private static final ThreadLocal<QueryCancellation> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean cancelled = false;
+
+    /**
+     * Stop the query at its next check. May be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @throws TraversalInterruptedException if the query has been cancelled
+     */
+    public void check() {
+        if (cancelled) throw new TraversalInterruptedException();
+    }
+
+    /**
+     * Compute part of a query on the current thread, so that anything created for it can be cancelled by this flag
+     */
+    public <T> T apply(Supplier<T> computation) {
+        QueryCancellation previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return computation.get();
+        } finally {
+            if (previous == null) CURRENT.remove(); else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return the flag of the query being computed on the current thread, or null if it cannot be cancelled
+     */
+    @Nullable
+    public static QueryCancellation current() {
+        return CURRENT.get();
+    }
+}
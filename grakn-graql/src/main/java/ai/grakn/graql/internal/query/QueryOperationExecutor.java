@@ -22,6 +22,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.DefineQuery;
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.InsertQuery;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.Var;
@@ -30,13 +31,15 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.pattern.property.PropertyExecutor;
+import ai.grakn.graql.internal.pattern.property.ValueProperty;
 import ai.grakn.graql.internal.pattern.property.VarPropertyInternal;
 import ai.grakn.graql.internal.util.Partition;
 import com.google.auto.value.AutoValue;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -54,6 +57,7 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static ai.grakn.util.CommonUtil.toImmutableList;
 import static ai.grakn.util.CommonUtil.toImmutableSet;
 import static java.util.stream.Collectors.toList;
 
@@ -68,6 +72,15 @@ import static java.util.stream.Collectors.toList;
  */
 public class QueryOperationExecutor {
 
+    private static final int MAX_CACHED_PLANS = 1000;
+
+    // Every value inserted with `val` is executed in the same way, so they all have the same shape
+    private static final ValueProperty VALUE_SHAPE = ValueProperty.of(Graql.eq(""));
+
+    // The plans of previous inserts, by the shape of their properties
+    private static final Cache<ImmutableList<VarAndProperty>, Plan> INSERT_PLANS =
+            CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PLANS).build();
+
     private final GraknTx tx;
 
     // A mutable map associating each `Var` to the `Concept` in the graph it refers to.
@@ -76,54 +89,139 @@ public class QueryOperationExecutor {
     // A mutable map of concepts "under construction" that require more information before they can be built
     private final Map<Var, ConceptBuilder> conceptBuilders = new HashMap<>();
 
-    // An immutable set of all properties
-    private final ImmutableSet<VarAndProperty> properties;
-
-    // A partition (disjoint set) indicating which `Var`s should refer to the same concept
-    private final Partition<Var> equivalentVars;
+    // The properties to execute, in order, and which `Var`s should refer to the same concept
+    private final Plan plan;
 
-    // A map, where `dependencies.containsEntry(x, y)` implies that `y` must be inserted before `x` is inserted.
-    private final ImmutableMultimap<VarAndProperty, VarAndProperty> dependencies;
-
-    // The method that is applied on every `VarProperty`
-    private final ExecutionType executionType;
-
-    private QueryOperationExecutor(GraknTx tx, ImmutableSet<VarAndProperty> properties,
-                                   Partition<Var> equivalentVars,
-                                   ImmutableMultimap<VarAndProperty, VarAndProperty> dependencies,
-                                   ExecutionType executionType) {
+    private QueryOperationExecutor(GraknTx tx, Plan plan) {
         this.tx = tx;
-        this.properties = properties;
-        this.equivalentVars = equivalentVars;
-        this.dependencies = dependencies;
-        this.executionType = executionType;
+        this.plan = plan;
     }
 
     /**
-     * Insert all the Vars
+     * Work out how to insert all the Vars, so they can be inserted many times without working it out again.
+     * Inserts which only differ by the values they give with {@code val}, such as the queries bound from one
+     * prepared query or bulk loading template, reuse the plan of the first of them.
      */
-    static Answer insertAll(Collection<VarPatternAdmin> patterns, GraknTx graph) {
-        return create(patterns, graph, ExecutionType.INSERT).insertAll(new QueryAnswer());
+    static Plan insertPlan(Collection<VarPatternAdmin> patterns) {
+        ImmutableSet<VarAndProperty> properties = propertiesOf(patterns);
+        ImmutableList<VarAndProperty> shape =
+                properties.stream().map(VarAndProperty::shape).collect(toImmutableList());
+
+        Plan cached = INSERT_PLANS.getIfPresent(shape);
+        if (cached != null) return cached.rebind(properties, ExecutionType.INSERT);
+
+        Plan plan = Plan.create(properties, ExecutionType.INSERT);
+        INSERT_PLANS.put(shape, plan);
+        return plan;
+    }
+
+    static Answer defineAll(Collection<VarPatternAdmin> patterns, GraknTx graph) {
+        return Plan.create(propertiesOf(patterns), ExecutionType.DEFINE).execute(graph, new QueryAnswer());
+    }
+
+    private static ImmutableSet<VarAndProperty> propertiesOf(Collection<VarPatternAdmin> patterns) {
+        return patterns.stream().flatMap(VarAndProperty::fromPattern).collect(toImmutableSet());
     }
 
     /**
-     * Insert all the Vars
-     * @param results the result of a match query
+     * <p>
+     *     The order to execute the properties of some patterns in, and which variables refer to the same concept
+     * </p>
+     *
+     * <p>
+     *     This only depends on the patterns, so a match-insert query works it out once and then executes it for
+     *     every answer of the match query. A plan is immutable, so it can be executed by several threads at once.
+     *     The order does not depend on the values inserted, so it can be reused for properties which only differ by
+     *     their values with {@link #rebind}.
+     * </p>
      */
-    static Answer insertAll(Collection<VarPatternAdmin> patterns, GraknTx graph, Answer results) {
-        return create(patterns, graph, ExecutionType.INSERT).insertAll(results);
-    }
+    static final class Plan {
 
-    static Answer defineAll(Collection<VarPatternAdmin> patterns, GraknTx graph) {
-        return create(patterns, graph, ExecutionType.DEFINE).insertAll(new QueryAnswer());
+        // An immutable set of all properties
+        private final ImmutableSet<VarAndProperty> properties;
+
+        // The positions of the properties in `properties`, in an order which respects their dependencies
+        private final ImmutableList<Integer> order;
+
+        // The executors of all the properties, in that order
+        private final ImmutableList<PropertyExecutor> executors;
+
+        // A map from every `Var` which must refer to the same concept as another `Var`, to the `Var` representing both
+        private final ImmutableMap<Var, Var> equivalentVars;
+
+        private Plan(ImmutableSet<VarAndProperty> properties, ImmutableList<Integer> order,
+                     ImmutableList<PropertyExecutor> executors, ImmutableMap<Var, Var> equivalentVars) {
+            this.properties = properties;
+            this.order = order;
+            this.executors = executors;
+            this.equivalentVars = equivalentVars;
+        }
+
+        /**
+         * @return the positions of the properties of the plan, in the order they are executed
+         */
+        ImmutableList<Integer> order() {
+            return order;
+        }
+
+        /**
+         * Execute the plan
+         * @param results the concepts the variables already refer to, such as the result of a match query
+         */
+        Answer execute(GraknTx graph, Answer results) {
+            return new QueryOperationExecutor(graph, this).insertAll(results);
+        }
+
+        private static Plan create(ImmutableSet<VarAndProperty> properties, ExecutionType executionType) {
+            Map<VarAndProperty, PropertyExecutor> executors =
+                    Maps.toMap(properties, property -> property.executor(executionType));
+
+            Partition<Var> partition = Partition.singletons(Collections.emptyList());
+            Multimap<VarAndProperty, VarAndProperty> dependencies = dependencies(properties, executors, partition);
+
+            ImmutableList<VarAndProperty> sortedProperties = sortProperties(properties, dependencies);
+
+            ImmutableList<Integer> order = sortedProperties.stream()
+                    .map(properties.asList()::indexOf)
+                    .collect(toImmutableList());
+
+            ImmutableList<PropertyExecutor> sortedExecutors = sortedProperties.stream()
+                    .map(executors::get)
+                    .collect(toImmutableList());
+
+            ImmutableMap.Builder<Var, Var> equivalentVars = ImmutableMap.builder();
+            for (Var var : partition.getNodes()) {
+                equivalentVars.put(var, partition.componentOf(var));
+            }
+
+            return new Plan(properties, order, sortedExecutors, equivalentVars.build());
+        }
+
+        /**
+         * The same plan for properties with the same shape as the properties of this plan
+         */
+        private Plan rebind(ImmutableSet<VarAndProperty> otherProperties, ExecutionType executionType) {
+            ImmutableList<VarAndProperty> propertyList = otherProperties.asList();
+
+            ImmutableList<PropertyExecutor> sortedExecutors = order.stream()
+                    .map(position -> propertyList.get(position).executor(executionType))
+                    .collect(toImmutableList());
+
+            return new Plan(otherProperties, order, sortedExecutors, equivalentVars);
+        }
     }
 
-    private static QueryOperationExecutor create(
-            Collection<VarPatternAdmin> patterns, GraknTx graph, ExecutionType executionType
+    /**
+     * Work out the dependencies between the given properties, merging the variables which must refer to the same
+     * concept into the given {@link Partition}
+     *
+     * @return a map, where {@code dependencies.containsEntry(x, y)} implies that {@code y} must be inserted before
+     * {@code x} is inserted
+     */
+    private static Multimap<VarAndProperty, VarAndProperty> dependencies(
+            Set<VarAndProperty> properties, Map<VarAndProperty, PropertyExecutor> executors,
+            Partition<Var> equivalentVars
     ) {
-        ImmutableSet<VarAndProperty> properties =
-                patterns.stream().flatMap(VarAndProperty::fromPattern).collect(toImmutableSet());
-
         /*
             We build several many-to-many relations, indicated by a `Multimap<X, Y>`. These are used to represent
             the dependencies between properties and variables.
@@ -136,7 +234,7 @@ public class QueryOperationExecutor {
         Multimap<VarAndProperty, Var> propDependencies = HashMultimap.create();
 
         for (VarAndProperty property : properties) {
-            for (Var requiredVar : property.executor(executionType).requiredVars()) {
+            for (Var requiredVar : executors.get(property).requiredVars()) {
                 propDependencies.put(property, requiredVar);
             }
         }
@@ -150,7 +248,7 @@ public class QueryOperationExecutor {
         Multimap<Var, VarAndProperty> varDependencies = HashMultimap.create();
 
         for (VarAndProperty property : properties) {
-            for (Var producedVar : property.executor(executionType).producedVars()) {
+            for (Var producedVar : executors.get(property).producedVars()) {
                 varDependencies.put(producedVar, property);
             }
         }
@@ -178,8 +276,6 @@ public class QueryOperationExecutor {
             insert the type!
          */
 
-        Partition<Var> equivalentVars = Partition.singletons(Collections.emptyList());
-
         equivalentProperties(properties).asMap().values().forEach(vars -> {
             // These vars must refer to the same concept, so share their dependencies
             Collection<VarAndProperty> producers =
@@ -209,11 +305,7 @@ public class QueryOperationExecutor {
 
             The `dependencies` relation contains all the information to decide what order to execute the properties.
          */
-        Multimap<VarAndProperty, VarAndProperty> dependencies = composeMultimaps(propDependencies, varDependencies);
-
-        return new QueryOperationExecutor(
-                graph, properties, equivalentVars, ImmutableMultimap.copyOf(dependencies), executionType
-        );
+        return composeMultimaps(propDependencies, varDependencies);
     }
 
     private static Multimap<VarProperty, Var> equivalentProperties(Set<VarAndProperty> properties) {
@@ -250,16 +342,16 @@ public class QueryOperationExecutor {
     private Answer insertAll(Answer results) {
         concepts.putAll(results.map());
 
-        sortProperties().forEach(property -> property.executor(executionType).execute(this));
+        for (PropertyExecutor executor : plan.executors) {
+            executor.execute(this);
+        }
 
         conceptBuilders.forEach((var, builder) -> concepts.put(var, builder.build()));
 
         ImmutableMap.Builder<Var, Concept> allConcepts = ImmutableMap.<Var, Concept>builder().putAll(concepts);
 
         // Make sure to include all equivalent vars in the result
-        for (Var var: equivalentVars.getNodes()) {
-            allConcepts.put(var, concepts.get(equivalentVars.componentOf(var)));
-        }
+        plan.equivalentVars.forEach((var, representative) -> allConcepts.put(var, concepts.get(representative)));
 
         Map<Var, Concept> namedConcepts = Maps.filterKeys(allConcepts.build(), Var::isUserDefinedName);
         return new QueryAnswer(namedConcepts);
@@ -272,12 +364,13 @@ public class QueryOperationExecutor {
      *     This method uses a topological sort (Kahn's algorithm) in order to find a valid ordering.
      * </p>
      */
-    private ImmutableList<VarAndProperty> sortProperties() {
+    private static ImmutableList<VarAndProperty> sortProperties(
+            ImmutableSet<VarAndProperty> properties, Multimap<VarAndProperty, VarAndProperty> dependencies
+    ) {
         ImmutableList.Builder<VarAndProperty> sorted = ImmutableList.builder();
 
         // invertedDependencies is intended to just be a 'view' on dependencies, so when dependencies is modified
         // we should always also modify invertedDependencies (and vice-versa).
-        Multimap<VarAndProperty, VarAndProperty> dependencies = HashMultimap.create(this.dependencies);
         Multimap<VarAndProperty, VarAndProperty> invertedDependencies = HashMultimap.create();
         Multimaps.invertFrom(dependencies, invertedDependencies);
 
@@ -309,7 +402,7 @@ public class QueryOperationExecutor {
         if (!dependencies.isEmpty()) {
             // This means there must have been a loop. Pick an arbitrary remaining var to display
             Var var = dependencies.keys().iterator().next().var();
-            throw GraqlQueryException.insertRecursive(printableRepresentation(var));
+            throw GraqlQueryException.insertRecursive(printableRepresentation(properties, var));
         }
 
         return sorted.build();
@@ -332,7 +425,7 @@ public class QueryOperationExecutor {
      */
     public ConceptBuilder builder(Var var) {
         return tryBuilder(var).orElseThrow(() -> {
-            Concept concept = concepts.get(equivalentVars.componentOf(var));
+            Concept concept = concepts.get(componentOf(var));
             return GraqlQueryException.insertExistingConcept(printableRepresentation(var), concept);
         });
     }
@@ -354,7 +447,7 @@ public class QueryOperationExecutor {
      * </p>
      */
     public Optional<ConceptBuilder> tryBuilder(Var var) {
-        var = equivalentVars.componentOf(var);
+        var = componentOf(var);
 
         if (concepts.containsKey(var)) {
             return Optional.empty();
@@ -381,7 +474,7 @@ public class QueryOperationExecutor {
      * </p>
      */
     public Concept get(Var var) {
-        var = equivalentVars.componentOf(var);
+        var = componentOf(var);
 
         Concept concept = concepts.get(var);
 
@@ -401,7 +494,15 @@ public class QueryOperationExecutor {
         throw GraqlQueryException.insertUndefinedVariable(printableRepresentation(var));
     }
 
+    private Var componentOf(Var var) {
+        return plan.equivalentVars.getOrDefault(var, var);
+    }
+
     VarPatternAdmin printableRepresentation(Var var) {
+        return printableRepresentation(plan.properties, var);
+    }
+
+    private static VarPatternAdmin printableRepresentation(Set<VarAndProperty> properties, Var var) {
         ImmutableSet.Builder<VarProperty> propertiesOfVar = ImmutableSet.builder();
 
         // This could be faster if we built a dedicated map Var -> VarPattern
@@ -439,6 +540,13 @@ public class QueryOperationExecutor {
             return pattern.getProperties().map(prop -> VarAndProperty.of(pattern.var(), prop));
         }
 
+        /**
+         * @return this property without the value it inserts, if it is a {@link ValueProperty}
+         */
+        VarAndProperty shape() {
+            return property() instanceof ValueProperty ? VarAndProperty.of(var(), VALUE_SHAPE) : this;
+        }
+
         private PropertyExecutor executor(ExecutionType executionType) {
             return executionType.executor(property(), var());
         }
@@ -18,17 +18,24 @@
 
 package ai.grakn.graql.internal.query.aggregate;
 
+import ai.grakn.graql.admin.MatchQueryAdmin;
+
 import java.util.stream.Stream;
 
 /**
  * Aggregate that counts results of a match query.
  */
-class CountAggregate extends AbstractAggregate<Object, Long> {
+class CountAggregate extends AbstractAggregate<Object, Long> implements MatchQueryAggregate<Long> {
     @Override
     public Long apply(Stream<?> stream) {
         return stream.count();
     }
 
+    @Override
+    public Long apply(MatchQueryAdmin matchQuery) {
+        return matchQuery.countAnswers();
+    }
+
     @Override
     public String toString() {
         return "count";
@@ -0,0 +1,46 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.aggregate;
+
+import ai.grakn.graql.Aggregate;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
+
+/**
+ * <p>
+ *     An {@link Aggregate} which can be applied to a match query directly, instead of to a stream of its answers
+ * </p>
+ *
+ * <p>
+ *     Such an aggregate only reads what it needs from the query, such as the number of answers or the values of
+ *     one attribute, so an {@link Answer} need not be built for every result.
+ * </p>
+ *
+ * @param <S> The result type of the aggregate.
+ *
+ * @author Grakn Warriors
+ */
+public interface MatchQueryAggregate<S> {
+
+    /**
+     * @param matchQuery the match query to aggregate the answers of
+     * @return the same result as applying the aggregate to the stream of answers of the query
+     */
+    S apply(MatchQueryAdmin matchQuery);
+}
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.query.aggregate;
 
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -29,7 +30,8 @@ import static java.util.Comparator.naturalOrder;
 /**
  * Aggregate that finds maximum of a match query.
  */
-class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Optional<T>> {
+class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Optional<T>>
+        implements MatchQueryAggregate<Optional<T>> {
 
     private final Var varName;
 
@@ -42,6 +44,14 @@ class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Op
         return stream.map(this::getValue).max(naturalOrder());
     }
 
+    @Override
+    public Optional<T> apply(MatchQueryAdmin matchQuery) {
+        // Attributes of the same variable all have the same data type, so their values are comparable
+        @SuppressWarnings("unchecked")
+        Stream<T> values = (Stream<T>) (Stream<?>) matchQuery.getAttributeValues(varName);
+        return values.max(naturalOrder());
+    }
+
     @Override
     public String toString() {
         return "max " + varName;
@@ -21,6 +21,7 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,7 +32,7 @@ import static java.util.stream.Collectors.toList;
 /**
  * Aggregate that finds mean of a match query.
  */
-class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
+class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> implements MatchQueryAggregate<Optional<Double>> {
 
     private final Var varName;
     private final CountAggregate countAggregate;
@@ -57,6 +58,17 @@ class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
         }
     }
 
+    @Override
+    public Optional<Double> apply(MatchQueryAdmin matchQuery) {
+        List<Object> values = matchQuery.getAttributeValues(varName).collect(toList());
+
+        if (values.isEmpty()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(SumAggregate.sum(values.stream()).doubleValue() / values.size());
+        }
+    }
+
     @Override
     public String toString() {
         return "mean " + varName;
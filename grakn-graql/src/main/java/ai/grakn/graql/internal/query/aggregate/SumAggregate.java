@@ -20,13 +20,14 @@ package ai.grakn.graql.internal.query.aggregate;
 
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
 
 import java.util.stream.Stream;
 
 /**
  * Aggregate that sums results of a match query.
  */
-class SumAggregate extends AbstractAggregate<Answer, Number> {
+class SumAggregate extends AbstractAggregate<Answer, Number> implements MatchQueryAggregate<Number> {
 
     private final Var varName;
 
@@ -36,10 +37,19 @@ class SumAggregate extends AbstractAggregate<Answer, Number> {
 
     @Override
     public Number apply(Stream<? extends Answer> stream) {
-        return stream.map(result -> (Number) result.get(varName).asAttribute().getValue()).reduce(0, this::add);
+        return sum(stream.map(result -> result.get(varName).asAttribute().getValue()));
     }
 
-    private Number add(Number x, Number y) {
+    @Override
+    public Number apply(MatchQueryAdmin matchQuery) {
+        return sum(matchQuery.getAttributeValues(varName));
+    }
+
+    static Number sum(Stream<?> values) {
+        return values.map(value -> (Number) value).reduce(0, SumAggregate::add);
+    }
+
+    private static Number add(Number x, Number y) {
         // This method is necessary because Number doesn't support '+' because java!
         if (x instanceof Long || y instanceof Long) {
             return x.longValue() + y.longValue();
@@ -38,6 +38,8 @@ import ai.grakn.graql.Graql;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.internal.util.StringConverter;
+import ai.grakn.kb.admin.KeyspaceStatistics;
+import ai.grakn.util.CommonUtil;
 import ai.grakn.util.Schema;
 import com.google.common.collect.Sets;
 import org.slf4j.Logger;
@@ -70,6 +72,7 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
     Set<Type> subTypes = new HashSet<>();
 
     private String url;
+    private GraknComputer.Backend backend = GraknComputer.Backend.AUTOMATIC;
 
     @Override
     public ComputeQuery<T> withTx(GraknTx tx) {
@@ -89,6 +92,12 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
         return this;
     }
 
+    @Override
+    public ComputeQuery<T> backend(GraknComputer.Backend backend) {
+        this.backend = backend;
+        return this;
+    }
+
     @Override
     public void kill() {
         if (graknComputer != null) {
@@ -153,11 +162,28 @@ abstract class AbstractComputeQuery<T> implements ComputeQuery<T> {
 
     GraknComputer getGraphComputer() {
         if (graknComputer == null) {
-            graknComputer = Grakn.session(url, keySpace).getGraphComputer();
+            graknComputer = Grakn.session(url, keySpace).getGraphComputer().backend(backend);
+            estimateSubgraphSize().ifPresent(graknComputer::estimatedSubgraphSize);
         }
         return graknComputer;
     }
 
+    /**
+     * Estimates the number of vertices in the subgraph from the instance counts in the statistics of the keyspace.
+     * Types without a count are taken to have no instances, unless none of the types have a count.
+     *
+     * @return the estimated number of vertices, or nothing if the statistics know nothing about the subgraph
+     */
+    private Optional<Long> estimateSubgraphSize() {
+        if (!tx.isPresent()) return Optional.empty();
+        KeyspaceStatistics statistics = tx.get().admin().statistics();
+
+        List<Long> counts = subLabels.stream().map(statistics::instanceCount)
+                .flatMap(CommonUtil::optionalToStream).collect(Collectors.toList());
+        if (counts.isEmpty()) return Optional.empty();
+        return Optional.of(counts.stream().mapToLong(Long::longValue).sum());
+    }
+
     boolean selectedTypesHaveInstance() {
         if (subLabels.isEmpty()) return false;
 
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
@@ -123,6 +124,11 @@ class ClusterQueryImpl<T> extends AbstractComputeQuery<T> implements ClusterQuer
         return (ClusterQuery<T>) super.in(subLabels);
     }
 
+    @Override
+    public ClusterQuery<T> backend(GraknComputer.Backend backend) {
+        return (ClusterQuery<T>) super.backend(backend);
+    }
+
     @Override
     String graqlString() {
         String string = "cluster" + subtypeString();
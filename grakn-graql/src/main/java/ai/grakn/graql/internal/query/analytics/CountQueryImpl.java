@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
@@ -91,6 +92,11 @@ class CountQueryImpl extends AbstractComputeQuery<Long> implements CountQuery {
         return (CountQuery) super.in(subLabels);
     }
 
+    @Override
+    public CountQuery backend(GraknComputer.Backend backend) {
+        return (CountQuery) super.backend(backend);
+    }
+
     @Override
     String graqlString() {
         return "count" + subtypeString();
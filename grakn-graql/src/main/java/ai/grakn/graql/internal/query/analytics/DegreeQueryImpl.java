@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
@@ -104,6 +105,11 @@ class DegreeQueryImpl extends AbstractComputeQuery<Map<Long, Set<String>>> imple
         return (DegreeQuery) super.in(subLabels);
     }
 
+    @Override
+    public DegreeQuery backend(GraknComputer.Backend backend) {
+        return (DegreeQuery) super.backend(backend);
+    }
+
     @Override
     public DegreeQuery of(String... ofTypeLabels) {
         if (ofTypeLabels.length > 0) {
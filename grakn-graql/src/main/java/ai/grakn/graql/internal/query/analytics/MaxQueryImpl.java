@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Label;
@@ -84,6 +85,11 @@ class MaxQueryImpl extends AbstractStatisticsQuery<Optional<Number>> implements
         return (MaxQuery) super.in(subLabels);
     }
 
+    @Override
+    public MaxQuery backend(GraknComputer.Backend backend) {
+        return (MaxQuery) super.backend(backend);
+    }
+
     @Override
     public MaxQuery withTx(GraknTx tx) {
         return (MaxQuery) super.withTx(tx);
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
@@ -87,6 +88,11 @@ class MeanQueryImpl extends AbstractStatisticsQuery<Optional<Double>> implements
         return (MeanQuery) super.in(subLabels);
     }
 
+    @Override
+    public MeanQuery backend(GraknComputer.Backend backend) {
+        return (MeanQuery) super.backend(backend);
+    }
+
     @Override
     public MeanQuery withTx(GraknTx tx) {
         return (MeanQuery) super.withTx(tx);
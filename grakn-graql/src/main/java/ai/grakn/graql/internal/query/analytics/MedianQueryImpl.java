@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.AttributeType;
@@ -78,6 +79,11 @@ class MedianQueryImpl extends AbstractStatisticsQuery<Optional<Number>> implemen
         return (MedianQuery) super.in(subLabels);
     }
 
+    @Override
+    public MedianQuery backend(GraknComputer.Backend backend) {
+        return (MedianQuery) super.backend(backend);
+    }
+
     @Override
     public MedianQuery withTx(GraknTx tx) {
         return (MedianQuery) super.withTx(tx);
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.LabelId;
@@ -84,6 +85,11 @@ class MinQueryImpl extends AbstractStatisticsQuery<Optional<Number>> implements
         return (MinQuery) super.in(subLabels);
     }
 
+    @Override
+    public MinQuery backend(GraknComputer.Backend backend) {
+        return (MinQuery) super.backend(backend);
+    }
+
     @Override
     public MinQuery withTx(GraknTx tx) {
         return (MinQuery) super.withTx(tx);
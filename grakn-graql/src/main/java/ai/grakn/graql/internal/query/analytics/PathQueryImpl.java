@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
@@ -26,6 +27,7 @@ import ai.grakn.concept.LabelId;
 import ai.grakn.concept.Thing;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.analytics.PathQuery;
+import ai.grakn.graql.internal.analytics.BidirectionalPathSearch;
 import ai.grakn.graql.internal.analytics.ClusterMemberMapReduce;
 import ai.grakn.graql.internal.analytics.ShortestPathVertexProgram;
 import ai.grakn.util.ErrorMessage;
@@ -67,6 +69,15 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
         if (sourceId.equals(destinationId)) {
             return Optional.of(Collections.singletonList(tx.get().getConcept(sourceId)));
         }
+
+        // Nearby concepts are connected directly on the transaction, which is much faster than a vertex program
+        Optional<List<Concept>> localPath = new BidirectionalPathSearch(subLabels, tx.get().admin().pathSearchBudget())
+                .search(tx.get(), sourceId, destinationId);
+        if (localPath.isPresent()) {
+            LOGGER.info("Bidirectional path search is done in " + (System.currentTimeMillis() - startTime) + " ms");
+            return localPath.get().isEmpty() ? Optional.empty() : localPath;
+        }
+
         ComputerResult result;
 
         Set<LabelId> subLabelIds = convertLabelsToIds(subLabels);
@@ -140,6 +151,11 @@ class PathQueryImpl extends AbstractComputeQuery<Optional<List<Concept>>> implem
         return (PathQuery) super.in(subLabels);
     }
 
+    @Override
+    public PathQuery backend(GraknComputer.Backend backend) {
+        return (PathQuery) super.backend(backend);
+    }
+
     @Override
     String graqlString() {
         return "path from " + idToString(sourceId) + " to " + idToString(destinationId) + subtypeString();
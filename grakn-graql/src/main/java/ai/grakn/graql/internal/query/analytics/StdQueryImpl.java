@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Label;
@@ -91,6 +92,11 @@ class StdQueryImpl extends AbstractStatisticsQuery<Optional<Double>> implements
         return (StdQuery) super.in(subLabels);
     }
 
+    @Override
+    public StdQuery backend(GraknComputer.Backend backend) {
+        return (StdQuery) super.backend(backend);
+    }
+
     @Override
     public StdQuery withTx(GraknTx tx) {
         return (StdQuery) super.withTx(tx);
@@ -18,6 +18,7 @@
 
 package ai.grakn.graql.internal.query.analytics;
 
+import ai.grakn.GraknComputer;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Label;
@@ -86,6 +87,11 @@ class SumQueryImpl extends AbstractStatisticsQuery<Optional<Number>> implements
         return (SumQuery) super.in(subLabels);
     }
 
+    @Override
+    public SumQuery backend(GraknComputer.Backend backend) {
+        return (SumQuery) super.backend(backend);
+    }
+
     @Override
     public SumQuery withTx(GraknTx tx) {
         return (SumQuery) super.withTx(tx);
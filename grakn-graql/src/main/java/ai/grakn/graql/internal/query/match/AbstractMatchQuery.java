@@ -81,11 +81,56 @@ abstract class AbstractMatchQuery implements MatchQueryAdmin {
      */
     public abstract Stream<Answer> stream(Optional<GraknTx> graph);
 
+    /**
+     * Execute the query using the given graph, returning only the first answers.
+     * <p>
+     * Modifiers which can find their first answers more cheaply than all of them, such as ordering, override this.
+     * </p>
+     * @param graph the graph to use to execute the query
+     * @param limit the number of answers to return
+     * @return a stream of at most {@code limit} results
+     */
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return stream(graph).limit(limit);
+    }
+
+    /**
+     * Count the answers of the query using the given graph.
+     * @param graph the graph to use to execute the query
+     * @return the number of answers
+     */
+    long countAnswers(Optional<GraknTx> graph) {
+        return stream(graph).count();
+    }
+
+    /**
+     * Read the value of an attribute in every answer of the query using the given graph.
+     * @param graph the graph to use to execute the query
+     * @param var the variable of the attribute
+     * @return the value of the attribute in every answer
+     */
+    Stream<Object> getAttributeValues(Optional<GraknTx> graph, Var var) {
+        return stream(graph).map(answer -> answer.get(var).asAttribute().getValue());
+    }
+
+    @Override
+    public abstract AbstractMatchQuery bind(Collection<VarPatternAdmin> bindings);
+
     @Override
     public final Stream<Answer> stream() {
         return stream(Optional.empty());
     }
 
+    @Override
+    public final long countAnswers() {
+        return countAnswers(Optional.empty());
+    }
+
+    @Override
+    public final Stream<Object> getAttributeValues(Var var) {
+        return getAttributeValues(Optional.empty(), var);
+    }
+
     @Override
     public final MatchQuery withTx(GraknTx tx) {
         return new MatchQueryTx(tx, this);
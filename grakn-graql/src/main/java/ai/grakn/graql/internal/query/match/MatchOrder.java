@@ -36,4 +36,11 @@ public interface MatchOrder {
      * @param stream the stream to order
      */
     Stream<Answer> orderStream(Stream<Answer> stream);
+
+    /**
+     * Order the stream, keeping only the first results
+     * @param stream the stream to order
+     * @param limit the number of results to keep
+     */
+    Stream<Answer> orderStream(Stream<Answer> stream, long limit);
 }
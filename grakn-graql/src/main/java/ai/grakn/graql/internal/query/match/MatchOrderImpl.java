@@ -23,6 +23,8 @@ import ai.grakn.graql.Var;
 
 import ai.grakn.graql.admin.Answer;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 class MatchOrderImpl implements MatchOrder {
@@ -31,12 +33,16 @@ class MatchOrderImpl implements MatchOrder {
 
     private final Comparator<Answer> comparator;
 
+    // Orders answers like the comparator, breaking ties by the order the answers were found in
+    private final Comparator<Ranked> rankedComparator;
+
     MatchOrderImpl(Var var, Order order) {
         this.var = var;
 
         Comparator<Answer> comparator = Comparator.comparing(this::getOrderValue);
 
         this.comparator = (order == Order.desc) ? comparator.reversed() : comparator;
+        this.rankedComparator = Comparator.comparing(Ranked::answer, this.comparator).thenComparingLong(Ranked::index);
     }
 
     @Override
@@ -49,6 +55,35 @@ class MatchOrderImpl implements MatchOrder {
         return stream.sorted(comparator);
     }
 
+    @Override
+    public Stream<Answer> orderStream(Stream<Answer> stream, long limit) {
+        // Like sorting, the answers are only read once the ordered stream is used
+        return Stream.of(stream).flatMap(answers -> best(answers, limit));
+    }
+
+    private Stream<Answer> best(Stream<Answer> stream, long limit) {
+        // Keep only the best answers found so far in a heap, with the worst of them at the head, instead of sorting
+        // every answer. Because ties are broken by the order answers are found in, this keeps exactly the answers
+        // that a stable sort followed by a limit would.
+        PriorityQueue<Ranked> best = new PriorityQueue<>(rankedComparator.reversed());
+
+        Iterator<Answer> answers = stream.iterator();
+        long index = 0;
+
+        while (answers.hasNext()) {
+            Ranked ranked = new Ranked(answers.next(), index++);
+
+            if (best.size() < limit) {
+                best.add(ranked);
+            } else if (rankedComparator.compare(ranked, best.peek()) < 0) {
+                best.poll();
+                best.add(ranked);
+            }
+        }
+
+        return best.stream().sorted(rankedComparator).map(Ranked::answer);
+    }
+
     // All data types are comparable, so this is safe
     @SuppressWarnings("unchecked")
     private Comparable<? super Comparable> getOrderValue(Answer result) {
@@ -59,4 +94,25 @@ class MatchOrderImpl implements MatchOrder {
     public String toString() {
         return "order by " + var + " ";
     }
+
+    /**
+     * An answer, along with the position it was found in
+     */
+    private static final class Ranked {
+        private final Answer answer;
+        private final long index;
+
+        Ranked(Answer answer, long index) {
+            this.answer = answer;
+            this.index = index;
+        }
+
+        Answer answer() {
+            return answer;
+        }
+
+        long index() {
+            return index;
+        }
+    }
 }
@@ -19,6 +19,7 @@
 package ai.grakn.graql.internal.query.match;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.exception.GraqlQueryException;
@@ -30,20 +31,25 @@ import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.PatternAdmin;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.gremlin.GraqlTraversal;
-import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
+import ai.grakn.graql.internal.gremlin.TraversalPlanCache;
+import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.pattern.property.VarPropertyInternal;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -60,17 +66,32 @@ public class MatchQueryBase extends AbstractMatchQuery {
 
     protected final Logger LOG = LoggerFactory.getLogger(MatchQueryBase.class);
 
+    private static final long NOT_VALIDATED = -1;
+
     private final Conjunction<PatternAdmin> pattern;
 
+    // The patterns to check against the schema. Bound parameters only look up ids and values, so are never checked.
+    private final Set<VarPatternAdmin> checkedVarPatterns;
+
+    // The version of the schema the checked patterns were last found valid in, shared with the queries binding them
+    private final AtomicLong validSchemaVersion;
+
     /**
      * @param pattern a pattern to match in the graph
      */
     public MatchQueryBase(Conjunction<PatternAdmin> pattern) {
+        this(pattern, pattern.varPatterns(), new AtomicLong(NOT_VALIDATED));
+    }
+
+    private MatchQueryBase(
+            Conjunction<PatternAdmin> pattern, Set<VarPatternAdmin> checkedVarPatterns, AtomicLong validSchemaVersion) {
         if (pattern.getPatterns().size() == 0) {
             throw GraqlQueryException.noPatterns();
         }
 
         this.pattern = pattern;
+        this.checkedVarPatterns = checkedVarPatterns;
+        this.validSchemaVersion = validSchemaVersion;
     }
 
 
@@ -79,13 +100,7 @@ public class MatchQueryBase extends AbstractMatchQuery {
     public Stream<Answer> stream(Optional<GraknTx> optionalGraph) {
         GraknTx graph = optionalGraph.orElseThrow(GraqlQueryException::noTx);
 
-        for (VarPatternAdmin var : pattern.varPatterns()) {
-            var.getProperties().forEach(property -> ((VarPropertyInternal) property).checkValid(graph, var));}
-
-        GraqlTraversal graqlTraversal = GreedyTraversalPlan.createTraversal(pattern, graph);
-        LOG.trace("Created query plan");
-        LOG.trace(graqlTraversal.toString());
-        GraphTraversal<Vertex, Map<String, Element>> traversal = graqlTraversal.getGraphTraversal(graph);
+        GraphTraversal<Vertex, Map<String, Element>> traversal = traversal(graph);
 
         String[] selectedNames = pattern.commonVars().stream().map(Var::getValue).toArray(String[]::new);
 
@@ -101,6 +116,35 @@ public class MatchQueryBase extends AbstractMatchQuery {
                 .map(QueryAnswer::new);
     }
 
+    @Override
+    long countAnswers(Optional<GraknTx> optionalGraph) {
+        GraknTx graph = optionalGraph.orElseThrow(GraqlQueryException::noTx);
+
+        // Every traverser is an answer, so there is no need to build any concepts to count them
+        return traversal(graph).count().next();
+    }
+
+    @Override
+    Stream<Object> getAttributeValues(Optional<GraknTx> optionalGraph, Var var) {
+        if (!pattern.commonVars().contains(var)) return super.getAttributeValues(optionalGraph, var);
+
+        GraknTx graph = optionalGraph.orElseThrow(GraqlQueryException::noTx);
+
+        // Only select the attribute, and read its value straight from its vertex
+        GraphTraversal<Vertex, Element> traversal = traversal(graph).select(var.getValue());
+
+        return traversal.toStream().map(element -> attributeValue(graph, element)).sequential();
+    }
+
+    private GraphTraversal<Vertex, Map<String, Element>> traversal(GraknTx graph) {
+        checkValid(graph);
+
+        GraqlTraversal graqlTraversal = TraversalPlanCache.get().createTraversal(pattern, graph);
+        LOG.trace("Created query plan");
+        LOG.trace(graqlTraversal.toString());
+        return graqlTraversal.getGraphTraversal(graph);
+    }
+
     @Override
     public Set<SchemaConcept> getSchemaConcepts(GraknTx tx) {
         return pattern.varPatterns().stream()
@@ -136,10 +180,41 @@ public class MatchQueryBase extends AbstractMatchQuery {
         return "match " + pattern.getPatterns().stream().map(p -> p + ";").collect(joining(" "));
     }
 
+    @Override
+    public MatchQueryBase bind(Collection<VarPatternAdmin> bindings) {
+        Set<Var> vars = pattern.varPatterns().stream()
+                .flatMap(var -> var.innerVarPatterns().stream())
+                .map(VarPatternAdmin::var)
+                .collect(toSet());
+
+        Set<PatternAdmin> patterns = new HashSet<>(pattern.getPatterns());
+        for (VarPatternAdmin binding : bindings) {
+            if (!vars.contains(binding.var())) throw GraqlQueryException.varNotInQuery(binding.var());
+            patterns.add(binding);
+        }
+
+        return new MatchQueryBase(Patterns.conjunction(patterns), checkedVarPatterns, validSchemaVersion);
+    }
+
     public final MatchQuery infer(boolean materialise) {
         return new MatchQueryInfer(this, materialise);
     }
 
+    /**
+     * Check the properties of the query against the schema. Whether they are valid only depends on the schema, so
+     * this is skipped when they were already found valid in the version of the schema read by the transaction.
+     */
+    private void checkValid(GraknTx graph) {
+        Optional<Long> schemaVersion = graph.admin().schemaVersion();
+        if (schemaVersion.isPresent() && schemaVersion.get() == validSchemaVersion.get()) return;
+
+        for (VarPatternAdmin var : checkedVarPatterns) {
+            var.getProperties().forEach(property -> ((VarPropertyInternal) property).checkValid(graph, var));
+        }
+
+        schemaVersion.ifPresent(validSchemaVersion::set);
+    }
+
     /**
      * @param graph the graph to get results from
      * @param elements a map of vertices and edges where the key is the variable name
@@ -152,6 +227,21 @@ public class MatchQueryBase extends AbstractMatchQuery {
         ));
     }
 
+    /**
+     * @param graph the graph to get results from
+     * @param element the vertex of an attribute
+     * @return the value of the attribute, read without building the attribute
+     */
+    private Object attributeValue(GraknTx graph, Element element) {
+        for (AttributeType.DataType<?> dataType : AttributeType.DataType.SUPPORTED_TYPES.values()) {
+            Property<Object> property = element.property(dataType.getVertexProperty().name());
+            if (property.isPresent()) return dataType.getValue(property.value());
+        }
+
+        // This is not an attribute, so fail in the same way as reading the value of the concept
+        return buildConcept(graph.admin(), element).asAttribute().getValue();
+    }
+
     private Concept buildConcept(GraknAdmin graph, Element element) {
         if (element instanceof Vertex) {
             return graph.buildConcept((Vertex) element);
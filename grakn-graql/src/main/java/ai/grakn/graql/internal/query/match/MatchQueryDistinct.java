@@ -20,6 +20,8 @@ package ai.grakn.graql.internal.query.match;
 
 import ai.grakn.GraknTx;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -37,6 +39,11 @@ class MatchQueryDistinct extends MatchQueryModifier {
         return inner.stream(graph).distinct();
     }
 
+    @Override
+    public MatchQueryDistinct bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQueryDistinct(inner.bind(bindings));
+    }
+
     @Override
     protected String modifierString() {
         return " distinct;";
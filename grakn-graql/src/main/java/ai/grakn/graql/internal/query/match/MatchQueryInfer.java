@@ -27,6 +27,7 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.rule.RuleUtil;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -64,6 +65,11 @@ class MatchQueryInfer extends MatchQueryModifier {
         return answerStream.map(result -> result.filterVars(getSelectedNames()));
     }
 
+    @Override
+    public MatchQueryInfer bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQueryInfer(inner.bind(bindings), materialise);
+    }
+
     @Override
     protected String modifierString() {
         return "";
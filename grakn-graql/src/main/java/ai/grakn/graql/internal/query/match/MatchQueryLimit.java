@@ -21,7 +21,9 @@ package ai.grakn.graql.internal.query.match;
 import ai.grakn.GraknTx;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -42,7 +44,12 @@ class MatchQueryLimit extends MatchQueryModifier {
 
     @Override
     public Stream<Answer> stream(Optional<GraknTx> graph) {
-        return inner.stream(graph).limit(limit);
+        return inner.stream(graph, limit);
+    }
+
+    @Override
+    public MatchQueryLimit bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQueryLimit(inner.bind(bindings), limit);
     }
 
     @Override
@@ -22,6 +22,8 @@ import ai.grakn.GraknTx;
 
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -45,6 +47,18 @@ class MatchQueryOffset extends MatchQueryModifier {
         return inner.stream(graph).skip(offset);
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        // Make sure the inner query still knows how many answers are needed, so an ordering can keep only those
+        if (limit > Long.MAX_VALUE - offset) return super.stream(graph, limit);
+        return inner.stream(graph, offset + limit).skip(offset);
+    }
+
+    @Override
+    public MatchQueryOffset bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQueryOffset(inner.bind(bindings), offset);
+    }
+
     @Override
     protected String modifierString() {
         return " offset " + offset + ";";
@@ -21,6 +21,8 @@ package ai.grakn.graql.internal.query.match;
 import ai.grakn.GraknTx;
 
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -41,6 +43,21 @@ class MatchQueryOrder extends MatchQueryModifier {
         return order.orderStream(inner.stream(graph));
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return order.orderStream(inner.stream(graph), limit);
+    }
+
+    @Override
+    long countAnswers(Optional<GraknTx> graph) {
+        return inner.countAnswers(graph);
+    }
+
+    @Override
+    public MatchQueryOrder bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQueryOrder(inner.bind(bindings), order);
+    }
+
     @Override
     protected String modifierString() {
         return " " + order.toString() + ";";
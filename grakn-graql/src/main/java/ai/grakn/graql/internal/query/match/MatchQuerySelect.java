@@ -22,8 +22,10 @@ import ai.grakn.GraknTx;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
 import com.google.common.collect.ImmutableSet;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -60,6 +62,27 @@ class MatchQuerySelect extends MatchQueryModifier {
         return inner.stream(graph).map(result -> result.filterVars(names));
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return inner.stream(graph, limit).map(result -> result.filterVars(names));
+    }
+
+    @Override
+    long countAnswers(Optional<GraknTx> graph) {
+        return inner.countAnswers(graph);
+    }
+
+    @Override
+    Stream<Object> getAttributeValues(Optional<GraknTx> graph, Var var) {
+        // Unselected variables are not in the answers, so they fail in the same way as reading them from the answers
+        return names.contains(var) ? inner.getAttributeValues(graph, var) : super.getAttributeValues(graph, var);
+    }
+
+    @Override
+    public MatchQuerySelect bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQuerySelect(inner.bind(bindings), names);
+    }
+
     @Override
     protected String modifierString() {
         return " select " + names.stream().map(Object::toString).collect(joining(", ")) + ";";
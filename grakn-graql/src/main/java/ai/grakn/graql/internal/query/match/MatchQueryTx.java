@@ -21,8 +21,11 @@ package ai.grakn.graql.internal.query.match;
 import ai.grakn.GraknTx;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.VarPatternAdmin;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -48,6 +51,33 @@ class MatchQueryTx extends MatchQueryModifier {
         return inner.stream(Optional.of(this.tx));
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        if (graph.isPresent()) {
+            throw GraqlQueryException.multipleTxs();
+        }
+
+        return inner.stream(Optional.of(this.tx), limit);
+    }
+
+    @Override
+    long countAnswers(Optional<GraknTx> graph) {
+        if (graph.isPresent()) {
+            throw GraqlQueryException.multipleTxs();
+        }
+
+        return inner.countAnswers(Optional.of(this.tx));
+    }
+
+    @Override
+    Stream<Object> getAttributeValues(Optional<GraknTx> graph, Var var) {
+        if (graph.isPresent()) {
+            throw GraqlQueryException.multipleTxs();
+        }
+
+        return inner.getAttributeValues(Optional.of(this.tx), var);
+    }
+
     @Override
     public Optional<GraknTx> tx() {
         return Optional.of(tx);
@@ -58,6 +88,11 @@ class MatchQueryTx extends MatchQueryModifier {
         return inner.getSchemaConcepts(tx);
     }
 
+    @Override
+    public MatchQueryTx bind(Collection<VarPatternAdmin> bindings) {
+        return new MatchQueryTx(tx, inner.bind(bindings));
+    }
+
     @Override
     protected String modifierString() {
         return "";
@@ -65,6 +65,7 @@ public class ResolutionIterator extends ReasonerQueryIterator {
 
     private Answer findNextAnswer(){
         while(!states.isEmpty()) {
+            checkCancelled();
             ResolutionState state = states.pop();
 
             if (state.isAnswerState() && state.isTopState()) {
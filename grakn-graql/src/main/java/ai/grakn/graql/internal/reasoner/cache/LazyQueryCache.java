@@ -25,10 +25,14 @@ import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.UnifierImpl;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -44,6 +48,8 @@ import java.util.stream.Stream;
  */
 public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswerIterator>{
 
+    //answers accumulated by differential updates, so that new answers can be told apart without reloading the cache
+    private final Map<Q, AnswerIndex> known = new HashMap<>();
 
     public LazyQueryCache(){ super();}
 
@@ -53,6 +59,7 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
         if (match != null) {
             Q equivalentQuery = match.getKey();
             Stream<Answer> unifiedStream = answers.unify(query.getUnifier(equivalentQuery)).stream();
+            known.remove(query);
             cache.put(match.getKey(), new Pair<>(match.getKey(), match.getValue().merge(unifiedStream)));
         } else {
             cache.put(query, new Pair<>(query, answers));
@@ -77,6 +84,7 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
             Q equivalentQuery = match.getKey();
             Unifier u = query.getUnifier(equivalentQuery);
             Stream<Answer> unifiedStream = answers.map(a -> a.unify(u));
+            known.remove(query);
             cache.put(match.getKey(), new Pair<>(match.getKey(), match.getValue().merge(unifiedStream)));
         } else {
             cache.put(query, new Pair<>(query, new LazyAnswerIterator(answers)));
@@ -144,10 +152,45 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
                     Pair<Q, LazyAnswerIterator> match = cache.get(q);
                     Set<Answer> s = match.getValue().stream().collect(Collectors.toSet());
                     s.removeAll(c2.getAnswerStream(q).collect(Collectors.toSet()));
+                    known.remove(q);
                     cache.put(match.getKey(), new Pair<>(match.getKey(), new LazyAnswerIterator(s.stream())));
                 });
     }
 
+    /**
+     * semi-naive cache update with the answers derived in the last iteration:
+     * the differential cache is left holding only the answers not known to this cache, which are appended to it,
+     * only the differential answers are scanned
+     * @param dCache differential cache holding the answers of the last iteration
+     */
+    public void addDifferential(LazyQueryCache<Q> dCache){
+        for (Pair<Q, LazyAnswerIterator> dEntry : new ArrayList<>(dCache.cache.values())) {
+            Q query = dEntry.getKey();
+            Pair<Q, LazyAnswerIterator> match = cache.get(query);
+            Q cachedQuery = match != null? match.getKey() : query;
+            Unifier unifier = match != null? query.getUnifier(cachedQuery) : new UnifierImpl();
+
+            AnswerIndex index = known.computeIfAbsent(cachedQuery, q -> {
+                AnswerIndex answers = new AnswerIndex();
+                if (match != null) match.getValue().stream().forEach(answers::add);
+                return answers;
+            });
+
+            List<Answer> delta = dEntry.getValue().stream()
+                    .filter(answer -> index.add(answer.unify(unifier)))
+                    .collect(Collectors.toList());
+
+            dCache.cache.put(query, new Pair<>(query, new LazyAnswerIterator(delta)));
+            cache.put(cachedQuery, new Pair<>(cachedQuery, new LazyAnswerIterator(index.stream())));
+        }
+    }
+
+    @Override
+    public void clear(){
+        super.clear();
+        known.clear();
+    }
+
     /**
      * force stream consumption and reload cache
      */
@@ -165,4 +208,26 @@ public class LazyQueryCache<Q extends ReasonerQuery> extends Cache<Q, LazyAnswer
         cache.entrySet().forEach(entry ->
                 entry.getValue().getValue().stream().collect(Collectors.toSet()));
     }
+
+    /**
+     * Append-only answer list with a set index for membership checks.
+     */
+    private static class AnswerIndex {
+        private final Set<Answer> index = new HashSet<>();
+        private final List<Answer> answers = new ArrayList<>();
+
+        boolean add(Answer answer){
+            if (!index.add(answer)) return false;
+            answers.add(answer);
+            return true;
+        }
+
+        /**
+         * @return stream of the answers added so far, unaffected by answers appended later
+         */
+        Stream<Answer> stream(){
+            int size = answers.size();
+            return IntStream.range(0, size).mapToObj(answers::get);
+        }
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.cache;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.Unifier;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *
+ * <p>
+ * Bounded cache of completed {@link ReasonerAtomicQuery} resolutions shared by all transactions of the JVM.
+ * </p>
+ *
+ * <p>
+ * Entries are keyed by keyspace and the alpha-equivalence hash of the query, so a query differing only in variable
+ * names reuses the answers of a previous resolution. Answers are held as {@link ConceptId}s and rebuilt in the
+ * transaction asking for them. Each entry records the data version of the keyspace, see
+ * {@link ai.grakn.kb.admin.GraknAdmin#dataVersion()}, seen by the transaction which resolved it. Every commit bumps
+ * the version, whatever it changed, including rules, role players and attribute ownerships. An entry is only
+ * served to a transaction seeing the same version, and is dropped once a transaction sees a later one.
+ * </p>
+ *
+ * <p>
+ * The cache is disabled until a positive limit is set with {@link #setMaxAnswers(long)}. Only an engine learns about
+ * the commits of other processes, from their commit logs and from the other engines, so only an engine enables it.
+ * Commits made in other processes are seen once their commit log or announcement arrives, so answers may lag behind
+ * those commits by the commit log flush interval. Transactions with uncommitted changes neither read from nor write
+ * to the cache. Answers served from the cache do not carry explanations.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+public class SharedAnswerCache {
+
+    private static final SharedAnswerCache INSTANCE = new SharedAnswerCache();
+
+    private final Map<String, Map<Integer, List<Entry>>> keyspaces = new HashMap<>();
+    private final LinkedHashMap<Entry, Entry> lru = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile long maxAnswers = 0;
+    private long answers = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private SharedAnswerCache(){}
+
+    /**
+     * @return the cache shared by all transactions of this JVM
+     */
+    public static SharedAnswerCache get(){ return INSTANCE;}
+
+    /**
+     * @param maxAnswers total number of answers the cache may hold, 0 disables the cache
+     */
+    public synchronized void setMaxAnswers(long maxAnswers){
+        this.maxAnswers = maxAnswers;
+        evict();
+    }
+
+    public long hits(){ return hits.get();}
+    public long misses(){ return misses.get();}
+    public long evictions(){ return evictions.get();}
+    public synchronized long answerSize(){ return answers;}
+
+    /**
+     * @param query atomic query to be answered
+     * @return answers of an equivalent query resolved previously, unified with the provided query, if any
+     */
+    public Optional<Stream<Answer>> getAnswers(ReasonerAtomicQuery query){
+        if (!isCacheable(query)) return Optional.empty();
+        GraknTx tx = query.tx();
+        long version = tx.admin().dataVersion();
+        for (Entry entry : candidates(tx.getKeyspace(), query.hashCode())) {
+            ReasonerAtomicQuery cachedQuery = ReasonerQueries.atomic(entry.pattern, tx);
+            if (!cachedQuery.equals(query)) continue;
+
+            //resolved before a commit this transaction can see
+            if (entry.version < version) remove(entry);
+            //resolved after a commit this transaction cannot see
+            if (entry.version != version) break;
+
+            Unifier unifier = cachedQuery.getUnifier(query);
+            List<Answer> answers = new ArrayList<>();
+            for (Map<Var, ConceptId> cachedAnswer : entry.answers) {
+                Map<Var, Concept> answer = new HashMap<>();
+                for (Map.Entry<Var, ConceptId> e : cachedAnswer.entrySet()) {
+                    Concept concept = tx.getConcept(e.getValue());
+                    //concept removed by a commit which has not bumped the version yet, cannot trust the entry
+                    if (concept == null) {
+                        remove(entry);
+                        misses.incrementAndGet();
+                        return Optional.empty();
+                    }
+                    answer.put(e.getKey(), concept);
+                }
+                answers.add(new QueryAnswer(answer).unify(unifier));
+            }
+            touch(entry);
+            hits.incrementAndGet();
+            return Optional.of(answers.stream());
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Wraps the answer stream of a resolution so that the answers are recorded once the stream is fully consumed.
+     * Streams which are not consumed to the end, or hold more answers than the cache can, are not recorded.
+     * @param query atomic query being resolved
+     * @param answerStream complete answer stream of the query
+     * @return stream of the same answers
+     */
+    public Stream<Answer> record(ReasonerAtomicQuery query, Stream<Answer> answerStream){
+        if (!isCacheable(query)) return answerStream;
+        long version = query.tx().admin().dataVersion();
+        Iterator<Answer> answerIterator = answerStream.iterator();
+        Iterator<Answer> recordingIterator = new Iterator<Answer>() {
+            private List<Map<Var, ConceptId>> recorded = new ArrayList<>();
+
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = answerIterator.hasNext();
+                if (!hasNext && recorded != null){
+                    put(query, recorded, version);
+                    recorded = null;
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Answer next() {
+                Answer answer = answerIterator.next();
+                if (recorded != null) {
+                    if (recorded.size() < maxAnswers) {
+                        recorded.add(answer.map().entrySet().stream()
+                                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getId())));
+                    } else {
+                        recorded = null;
+                    }
+                }
+                return answer;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(recordingIterator, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * drop all entries of the keyspace
+     * @param keyspace keyspace to be cleared
+     */
+    public synchronized void invalidate(String keyspace){
+        Map<Integer, List<Entry>> entries = keyspaces.get(keyspace);
+        if (entries == null) return;
+        entries.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList())
+                .forEach(this::remove);
+    }
+
+    public synchronized void clear(){
+        keyspaces.clear();
+        lru.clear();
+        answers = 0;
+    }
+
+    private boolean isCacheable(ReasonerAtomicQuery query){
+        GraknTx tx = query.tx();
+        return maxAnswers > 0
+                && query.getAtom().isRuleResolvable()
+                && (tx.isReadOnly() || !tx.admin().hasUncommittedChanges());
+    }
+
+    private void put(ReasonerAtomicQuery query, List<Map<Var, ConceptId>> answers, long version){
+        Conjunction<VarPatternAdmin> pattern = Patterns.conjunction(query.getPattern().varPatterns());
+        Entry entry = new Entry(query.tx().getKeyspace(), query.hashCode(), pattern, answers, version);
+        synchronized (this) {
+            List<Entry> equivalent = candidates(entry.keyspace, entry.hash).stream()
+                    .filter(e -> e.pattern.equals(pattern))
+                    .collect(Collectors.toList());
+            //keep an equivalent entry recorded meanwhile by a transaction seeing a later version
+            if (equivalent.stream().anyMatch(e -> e.version > version)) return;
+            equivalent.forEach(this::remove);
+            keyspaces.computeIfAbsent(entry.keyspace, k -> new HashMap<>())
+                    .computeIfAbsent(entry.hash, k -> new ArrayList<>())
+                    .add(entry);
+            lru.put(entry, entry);
+            this.answers += entry.answers.size();
+            evict();
+        }
+    }
+
+    private synchronized List<Entry> candidates(String keyspace, int hash){
+        Map<Integer, List<Entry>> entries = keyspaces.get(keyspace);
+        if (entries == null) return Collections.emptyList();
+        return new ArrayList<>(entries.getOrDefault(hash, Collections.emptyList()));
+    }
+
+    private synchronized void touch(Entry entry){
+        lru.get(entry);
+    }
+
+    private synchronized void evict(){
+        Iterator<Entry> iterator = lru.keySet().iterator();
+        while (answers > maxAnswers && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            iterator.remove();
+            unlink(entry);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private synchronized void remove(Entry entry){
+        if (lru.remove(entry) != null) unlink(entry);
+    }
+
+    private void unlink(Entry entry){
+        answers -= entry.answers.size();
+        Map<Integer, List<Entry>> entries = keyspaces.get(entry.keyspace);
+        List<Entry> bucket = entries.get(entry.hash);
+        bucket.remove(entry);
+        if (bucket.isEmpty()) entries.remove(entry.hash);
+        if (entries.isEmpty()) keyspaces.remove(entry.keyspace);
+    }
+
+    /**
+     * Completed resolution of a query together with the data version it was resolved at.
+     */
+    private static class Entry {
+        private final String keyspace;
+        private final int hash;
+        private final Conjunction<VarPatternAdmin> pattern;
+        private final List<Map<Var, ConceptId>> answers;
+        private final long version;
+
+        Entry(String keyspace, int hash, Conjunction<VarPatternAdmin> pattern,
+              List<Map<Var, ConceptId>> answers, long version){
+            this.keyspace = keyspace;
+            this.hash = hash;
+            this.pattern = pattern;
+            this.answers = answers;
+            this.version = version;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.AnswerExplanation;
 import ai.grakn.graql.admin.Unifier;
 import com.google.common.collect.Iterators;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
@@ -37,6 +38,7 @@ import java.util.stream.Stream;
 public class LazyAnswerIterator extends LazyIterator<Answer> {
 
     public LazyAnswerIterator(Stream<Answer> stream){ super(stream);}
+    public LazyAnswerIterator(Collection<Answer> answers){ super(answers);}
     private LazyAnswerIterator(Iterator<Answer> iterator){ super(iterator);}
 
     public LazyAnswerIterator unify(Unifier unifier){
@@ -19,6 +19,7 @@
 package ai.grakn.graql.internal.reasoner.iterator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -46,6 +47,14 @@ public class LazyIterator<T> implements Iterable<T>{
     }
     public LazyIterator(Iterator<T> iterator){ this.iterator = iterator;}
 
+    /**
+     * @param elements already computed elements, the iterator is created fully consumed
+     */
+    public LazyIterator(Collection<T> elements){
+        this.iterator = Collections.emptyIterator();
+        accumulator.addAll(elements);
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new Iterator<T>(){
@@ -19,6 +19,10 @@
 package ai.grakn.graql.internal.reasoner.iterator;
 
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryCancellation;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+
+import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -27,6 +31,11 @@ import java.util.stream.StreamSupport;
  *
  * <p>
  * Convenience base class for reasoner iterators.
+ * </p>
+ *
+ * <p>
+ * Like Gremlin traversals, reasoner iterators stop with a {@link TraversalInterruptedException} once the
+ * {@link QueryCancellation} of the query they were created for is set, so abandoned queries stop doing work.
  * </p>
   *
  * @author Kasper Piskorski
@@ -34,9 +43,18 @@ import java.util.stream.StreamSupport;
  */
 public abstract class ReasonerQueryIterator implements Iterator<Answer> {
 
+    private final @Nullable QueryCancellation cancellation = QueryCancellation.current();
+
     public Stream<Answer> hasStream(){
         Iterable<Answer> iterable = () -> this;
         return StreamSupport.stream(iterable.spliterator(), false).distinct();
     }
+
+    /**
+     * Stop computing answers if the query has been cancelled
+     */
+    protected void checkCancelled(){
+        if (cancellation != null) cancellation.check();
+    }
 }
 
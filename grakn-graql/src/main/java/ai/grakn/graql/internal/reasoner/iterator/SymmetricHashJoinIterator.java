@@ -0,0 +1,126 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.graql.internal.reasoner.iterator;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ *
+ * <p>
+ * Iterator performing a symmetric hash join of two answer iterators on a set of join variables.
+ *
+ * Both operands are consumed alternately and every consumed answer is put in a hash table keyed on the concepts
+ * bound to the join variables. Each new answer is then probed against the table of the other operand, so joined
+ * answers are produced as soon as both halves of a match have been seen, without having to exhaust either operand
+ * first. Once an operand is exhausted the table of the other operand is no longer populated, and if the exhausted
+ * operand left nothing to join with, the join ends without consuming the rest of the other operand.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+public class SymmetricHashJoinIterator implements Iterator<Answer> {
+
+    private final Iterator<Answer> left;
+    private final Iterator<Answer> right;
+    private final ImmutableSet<Var> joinVars;
+
+    private final Map<List<Concept>, List<Answer>> leftTable = new HashMap<>();
+    private final Map<List<Concept>, List<Answer>> rightTable = new HashMap<>();
+    private final Deque<Answer> joined = new ArrayDeque<>();
+    private boolean pullLeft = true;
+
+    public SymmetricHashJoinIterator(Iterator<Answer> left, Iterator<Answer> right, ImmutableSet<Var> joinVars){
+        this.left = left;
+        this.right = right;
+        this.joinVars = joinVars;
+    }
+
+    private List<Concept> key(Answer answer){
+        List<Concept> key = new ArrayList<>(joinVars.size());
+        for (Var var : joinVars) key.add(answer.get(var));
+        return key;
+    }
+
+    private void pull(){
+        boolean fromLeft = !right.hasNext() || (pullLeft && left.hasNext());
+        pullLeft = !pullLeft;
+
+        Answer answer = fromLeft? left.next() : right.next();
+        List<Concept> key = key(answer);
+
+        //no need to remember the answer if nothing more is coming from the other side
+        boolean otherSideActive = fromLeft? right.hasNext() : left.hasNext();
+        if (otherSideActive) {
+            (fromLeft ? leftTable : rightTable).computeIfAbsent(key, k -> new ArrayList<>()).add(answer);
+        }
+
+        List<Answer> matches = (fromLeft? rightTable : leftTable).getOrDefault(key, Collections.emptyList());
+        for (Answer match : matches) {
+            joined.add(fromLeft? match.merge(answer) : answer.merge(match));
+        }
+    }
+
+    /**
+     * @return true if either operand may still produce an answer which joins with the other one
+     */
+    private boolean canJoinMore(){
+        boolean leftActive = left.hasNext();
+        if (!leftActive && leftTable.isEmpty()) return false;
+
+        boolean rightActive = right.hasNext();
+        if (!rightActive && rightTable.isEmpty()) return false;
+
+        return leftActive || rightActive;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (joined.isEmpty() && canJoinMore()) pull();
+        return !joined.isEmpty();
+    }
+
+    @Override
+    public Answer next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return joined.poll();
+    }
+
+    public Stream<Answer> stream(){
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+    }
+}
@@ -28,6 +28,7 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.IdPredicate;
 import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.iterator.LazyAnswerIterator;
 import ai.grakn.graql.internal.reasoner.iterator.LazyIterator;
+import ai.grakn.graql.internal.reasoner.iterator.SymmetricHashJoinIterator;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
@@ -158,26 +159,44 @@ public class QueryAnswerStream {
     }
 
     /**
-     * lazy stream join with quasi- sideways information propagation
+     * lazy stream join on join variables, choosing the join operator:
+     * - if there are no join variables, a nested loop producing the cartesian product,
+     * - otherwise a symmetric hash join keyed on the concepts bound to the join variables.
+     * Answer streams carry no cardinality estimate, so the operator is not chosen by cost. With join variables the
+     * hash join never does more work than the nested loop, which rescans the right operand for every left answer.
+     * Joins with an inverse answer map available from the cache should use {@link #joinWithInverse} instead.
      * @param stream left stream operand
      * @param stream2 right stream operand
      * @param joinVars intersection on variables of two streams
      * @return joined stream
      */
     public static Stream<Answer> join(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars) {
+        if (joinVars.isEmpty()) return nestedLoopJoin(stream, stream2);
+        return hashJoin(stream, stream2, joinVars);
+    }
+
+    /**
+     * lazy nested loop join, the right operand is accumulated and rescanned for every answer of the left operand
+     * @param stream left stream operand
+     * @param stream2 right stream operand
+     * @return joined stream
+     */
+    static Stream<Answer> nestedLoopJoin(Stream<Answer> stream, Stream<Answer> stream2) {
         LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
-        return stream.flatMap(a1 -> {
-            Stream<Answer> answerStream = l2.stream();
-            answerStream = answerStream.filter(ans -> {
-                for(Var v: joinVars) {
-                    if (!ans.get(v).equals(a1.get(v))) {
-                        return false;
-                    }
-                }
-                return true;
-            });
-            return answerStream.map(a -> a.merge(a1));
-        });
+        return stream.flatMap(a1 -> l2.stream().map(a -> a.merge(a1)));
+    }
+
+    /**
+     * lazy symmetric hash join, answers are produced as soon as matching answers from both operands are available
+     * @param stream left stream operand
+     * @param stream2 right stream operand
+     * @param joinVars intersection on variables of two streams, must not be empty
+     * @return joined stream
+     */
+    static Stream<Answer> hashJoin(Stream<Answer> stream, Stream<Answer> stream2, ImmutableSet<Var> joinVars) {
+        SymmetricHashJoinIterator iterator =
+                new SymmetricHashJoinIterator(stream.iterator(), stream2.iterator(), joinVars);
+        return iterator.stream().onClose(stream::close).onClose(stream2::close);
     }
 
     /**
@@ -192,10 +211,7 @@ public class QueryAnswerStream {
                                           Stream<Answer> stream2,
                                           Map<Pair<Var, Concept>, Set<Answer>> stream2InverseMap,
                                           ImmutableSet<Var> joinVars) {
-        if (joinVars.isEmpty()){
-            LazyAnswerIterator l2 = new LazyAnswerIterator(stream2);
-            return stream.flatMap(a1 -> l2.stream().map(a -> a.merge(a1)));
-        }
+        if (joinVars.isEmpty()) return nestedLoopJoin(stream, stream2);
         return stream.flatMap(a1 -> {
             Iterator<Var> vit = joinVars.iterator();
             Set<Answer> matchAnswers = findMatchingAnswers(a1, stream2InverseMap, vit.next());
@@ -41,6 +41,7 @@ import ai.grakn.graql.internal.reasoner.atom.predicate.NeqPredicate;
 import ai.grakn.graql.internal.reasoner.cache.Cache;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
+import ai.grakn.graql.internal.reasoner.cache.SharedAnswerCache;
 import ai.grakn.graql.internal.reasoner.explanation.LookupExplanation;
 import ai.grakn.graql.internal.reasoner.explanation.RuleExplanation;
 import ai.grakn.graql.internal.reasoner.iterator.ReasonerQueryIterator;
@@ -338,6 +339,14 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         return dCache.record(this, answerStream);
     }
 
+    @Override
+    public Stream<Answer> resolve(boolean materialise) {
+        if (materialise) return super.resolve(true);
+        SharedAnswerCache sharedCache = SharedAnswerCache.get();
+        return sharedCache.getAnswers(this)
+                .orElseGet(() -> sharedCache.record(this, super.resolve(false)));
+    }
+
     @Override
     public Stream<Answer> resolveAndMaterialise(LazyQueryCache<ReasonerAtomicQuery> cache, LazyQueryCache<ReasonerAtomicQuery> dCache) {
         if (!this.getAtom().isRuleResolvable()) {
@@ -403,6 +412,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
     private class QueryAnswerIterator extends ReasonerQueryIterator {
 
         private int iter = 0;
+        private long iterStart = System.currentTimeMillis();
         private long answers = 0;
         private final Set<ReasonerAtomicQuery> subGoals = new HashSet<>();
 
@@ -429,6 +439,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
 
         private void computeNext(){
             iter++;
+            iterStart = System.currentTimeMillis();
             subGoals.clear();
             answerIterator = query().answerStream(subGoals, cache, dCache, iter != 0).iterator();
         }
@@ -439,13 +450,15 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
          */
         @Override
         public boolean hasNext() {
+            checkCancelled();
             if (answerIterator.hasNext()) return true;
                 //iter finished
             else {
                 updateCache();
                 long dAns = differentialAnswerSize();
                 if (dAns != 0 || iter == 0) {
-                    LOG.debug("Atom: " + query().getAtom() + " iter: " + iter + " answers: " + answers + " dAns = " + dAns);
+                    LOG.debug("Atom: " + query().getAtom() + " iter: " + iter + " answers: " + answers + " dAns = " + dAns +
+                            " time: " + (System.currentTimeMillis() - iterStart) + "ms");
                     computeNext();
                     return answerIterator.hasNext();
                 }
@@ -454,9 +467,7 @@ public class ReasonerAtomicQuery extends ReasonerQueryImpl {
         }
 
         private void updateCache(){
-            dCache.remove(cache);
-            cache.add(dCache);
-            cache.reload();
+            cache.addDifferential(dCache);
         }
 
         /**
@@ -20,6 +20,7 @@ package ai.grakn.graql.internal.gremlin;
 
 import ai.grakn.GraknTx;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
@@ -34,18 +35,23 @@ import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.pattern.property.IdProperty;
 import ai.grakn.graql.internal.pattern.property.IsaProperty;
+import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.kb.admin.KeyspaceStatistics;
 import ai.grakn.util.CommonUtil;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import org.hamcrest.Matcher;
+import org.junit.After;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -66,9 +72,11 @@ import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -91,11 +99,19 @@ public class GraqlTraversalTest {
 
     private static final GraqlTraversal fastIsaTraversal = traversal(yId, yTypeOfX);
     private static GraknTx tx;
+    private static final Map<Label, Long> instanceCounts = new HashMap<>();
 
     @BeforeClass
     public static void setUp() {
         tx = mock(GraknTx.class);
 
+        KeyspaceStatistics statistics = mock(KeyspaceStatistics.class);
+        when(statistics.instanceCount(any())).thenAnswer(inv -> Optional.ofNullable(instanceCounts.get(inv.getArgument(0))));
+
+        GraknAdmin admin = mock(GraknAdmin.class);
+        when(admin.statistics()).thenReturn(statistics);
+        when(tx.admin()).thenReturn(admin);
+
         // We have to mock out the `subTypes` call because the shortcut edge optimisation checks it
 
         Label wifeLabel = Label.of("wife");
@@ -115,6 +131,24 @@ public class GraqlTraversalTest {
         when(marriage.getLabel()).thenReturn(marriageLabel);
 
         when(tx.getSchemaConcept(marriageLabel)).thenReturn(marriage);
+
+        Label dogLabel = Label.of("dog");
+        EntityType dog = mock(EntityType.class);
+        when(dog.subs()).thenAnswer(inv -> Stream.of(dog));
+        when(dog.getLabel()).thenReturn(dogLabel);
+
+        Label animalLabel = Label.of("animal");
+        EntityType animal = mock(EntityType.class);
+        when(animal.subs()).thenAnswer(inv -> Stream.of(animal, dog));
+        when(animal.getLabel()).thenReturn(animalLabel);
+
+        when(tx.getSchemaConcept(dogLabel)).thenReturn(dog);
+        when(tx.getSchemaConcept(animalLabel)).thenReturn(animal);
+    }
+
+    @After
+    public void clearStatistics() {
+        instanceCounts.clear();
     }
 
     @Test
@@ -290,6 +324,38 @@ public class GraqlTraversalTest {
         ));
     }
 
+    @Test
+    public void whenPlanningWithSkewedStatistics_StartFromTheSmallerType() {
+        Pattern pattern = and(x.isa(a.label("person")), y.isa(b.label("company")), var().rel(x).rel(y));
+
+        instanceCounts.put(Label.of("person"), 10_000_000L);
+        instanceCounts.put(Label.of("company"), 10L);
+        GraqlTraversal fewCompanies = semiOptimal(pattern);
+
+        instanceCounts.put(Label.of("person"), 10L);
+        instanceCounts.put(Label.of("company"), 10_000_000L);
+        GraqlTraversal fewPeople = semiOptimal(pattern);
+
+        assertThat(fewCompanies, matches(".*\\$b<-\\[isa]-\\$y.*"));
+        assertThat(fewCompanies, not(matches(".*\\$a<-\\[isa]-\\$x.*")));
+        assertThat(fewPeople, matches(".*\\$a<-\\[isa]-\\$x.*"));
+        assertThat(fewPeople, not(matches(".*\\$b<-\\[isa]-\\$y.*")));
+    }
+
+    @Test
+    public void whenPlanningWithStatistics_CountInstancesOfSubTypes() {
+        Pattern pattern = and(x.isa(a.label("animal")), y.isa(b.label("company")), var().rel(x).rel(y));
+
+        instanceCounts.put(Label.of("animal"), 0L);
+        instanceCounts.put(Label.of("dog"), 10_000_000L);
+        instanceCounts.put(Label.of("company"), 10L);
+
+        GraqlTraversal traversal = semiOptimal(pattern);
+
+        assertThat(traversal, matches(".*\\$b<-\\[isa]-\\$y.*"));
+        assertThat(traversal, not(matches(".*\\$a<-\\[isa]-\\$x.*")));
+    }
+
     private static GraqlTraversal semiOptimal(Pattern pattern) {
         return GreedyTraversalPlan.createTraversal(pattern.admin(), tx);
     }
@@ -0,0 +1,123 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Pattern;
+import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.kb.admin.KeyspaceStatistics;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static ai.grakn.graql.Graql.var;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TraversalPlanCacheTest {
+
+    private final TraversalPlanCache planCache = new TraversalPlanCache(new MetricRegistry());
+    private GraknTx tx;
+    private GraknAdmin admin;
+    private KeyspaceStatistics statistics;
+
+    @Before
+    public void setUp() {
+        tx = mock(GraknTx.class);
+        admin = mock(GraknAdmin.class);
+
+        statistics = mock(KeyspaceStatistics.class);
+        when(statistics.instanceCount(any())).thenReturn(Optional.empty());
+        when(statistics.version()).thenReturn(1L);
+
+        when(admin.statistics()).thenReturn(statistics);
+        when(admin.schemaVersion()).thenReturn(Optional.of(1L));
+        when(tx.admin()).thenReturn(admin);
+        when(tx.getKeyspace()).thenReturn("keyspace");
+    }
+
+    @Test
+    public void whenPlanningQueriesWhichOnlyDifferByIdsAndVariables_ThePlanIsReusedWithTheNewIds() {
+        Pattern titanic = var("x").id(ConceptId.of("titanic")).isa(var("y").id(ConceptId.of("movie")));
+        Pattern alien = var("z").id(ConceptId.of("alien")).isa(var("w").id(ConceptId.of("film")));
+
+        planCache.createTraversal(titanic.admin(), tx);
+        GraqlTraversal traversal = planCache.createTraversal(alien.admin(), tx);
+
+        assertEquals(0.5, planCache.hitRate(), 0.001);
+        assertEquals(1, planCache.planningTimer().getCount());
+        assertThat(traversal.toString(), containsString("alien"));
+        assertThat(traversal.toString(), containsString("film"));
+        assertThat(traversal.toString(), not(containsString("titanic")));
+        assertThat(traversal.toString(), not(containsString("$x")));
+    }
+
+    @Test
+    public void whenPlanningQueriesWithDifferentTypes_ThePlanIsNotReused() {
+        planCache.createTraversal(var("x").isa(var("y").label("movie")).admin(), tx);
+        planCache.createTraversal(var("x").isa(var("y").label("person")).admin(), tx);
+
+        assertEquals(0, planCache.hitRate(), 0.001);
+    }
+
+    @Test
+    public void whenTheSchemaChanges_ThePlansAreForgotten() {
+        Pattern pattern = var("x").id(ConceptId.of("titanic")).isa(var("y").id(ConceptId.of("movie")));
+
+        planCache.createTraversal(pattern.admin(), tx);
+        when(admin.schemaVersion()).thenReturn(Optional.of(2L));
+        planCache.createTraversal(pattern.admin(), tx);
+
+        assertEquals(0, planCache.hitRate(), 0.001);
+        assertEquals(2, planCache.planningTimer().getCount());
+    }
+
+    @Test
+    public void whenTheStatisticsChange_ThePlansAreForgotten() {
+        Pattern pattern = var("x").id(ConceptId.of("titanic")).isa(var("y").id(ConceptId.of("movie")));
+
+        planCache.createTraversal(pattern.admin(), tx);
+        when(statistics.version()).thenReturn(2L);
+        planCache.createTraversal(pattern.admin(), tx);
+        planCache.createTraversal(pattern.admin(), tx);
+
+        assertEquals(1D / 3, planCache.hitRate(), 0.001);
+        assertEquals(2, planCache.planningTimer().getCount());
+    }
+
+    @Test
+    public void whenTheTransactionHasChangedTheSchema_ThePlansAreNotCached() {
+        Pattern pattern = var("x").id(ConceptId.of("titanic")).isa(var("y").id(ConceptId.of("movie")));
+        when(admin.schemaVersion()).thenReturn(Optional.empty());
+
+        planCache.createTraversal(pattern.admin(), tx);
+        planCache.createTraversal(pattern.admin(), tx);
+
+        assertEquals(0, planCache.hitRate(), 0.001);
+        assertEquals(2, planCache.planningTimer().getCount());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.PreparedQuery;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.MovieKB;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Set;
+
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.util.GraqlTestUtil.assertExists;
+import static ai.grakn.util.GraqlTestUtil.assertNotExists;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PreparedQueryTest {
+
+    @ClassRule
+    public static final SampleKBContext movieKB = SampleKBContext.preLoad(MovieKB.get());
+
+    @Rule
+    public final ExpectedException exception = ExpectedException.none();
+
+    @After
+    public void clear(){
+        movieKB.rollback();
+    }
+
+    @Test
+    public void whenBindingAValue_OnlyAnswersWithThatValueAreFound() {
+        PreparedQuery<MatchQuery> query = movieKB.tx().graql().prepare("match $x isa movie, has title $t; select $x;");
+
+        Set<Concept> godfather = query.bind(ImmutableMap.of("t", "Godfather")).get("x").collect(toSet());
+        Set<Concept> heat = query.bind(ImmutableMap.of("t", "Heat")).get("x").collect(toSet());
+
+        assertEquals(1, godfather.size());
+        assertEquals(1, heat.size());
+        assertNotEquals(godfather, heat);
+    }
+
+    @Test
+    public void whenBindingAConceptId_OnlyAnswersWithThatConceptAreFound() {
+        ConceptId godfather = movieKB.tx().graql().match(var("x").has("title", "Godfather")).get("x")
+                .findAny().get().getId();
+
+        PreparedQuery<MatchQuery> query = movieKB.tx().graql().prepare("match $x has title $t; select $t;");
+        Set<Object> titles = query.bind(ImmutableMap.of("x", godfather)).get("t")
+                .map(title -> title.asAttribute().getValue()).collect(toSet());
+
+        assertEquals(1, titles.size());
+        assertEquals("Godfather", titles.iterator().next());
+    }
+
+    @Test
+    public void whenBindingAQuery_ThePreparedQueryIsUnchanged() {
+        PreparedQuery<MatchQuery> query = movieKB.tx().graql().prepare("match $x isa movie, has title $t; select $x;");
+        String original = query.query().toString();
+
+        query.bind(ImmutableMap.of("t", "Godfather")).execute();
+
+        assertEquals(original, query.query().toString());
+        assertTrue(query.query().execute().size() > 1);
+    }
+
+    @Test
+    public void whenBindingAnInsertQuery_TheValueIsInserted() {
+        assertNotExists(movieKB.tx(), var().has("title", "a-movie"));
+
+        PreparedQuery<InsertQuery> query = movieKB.tx().graql().prepare("insert $x isa movie, has title $t; $t isa title;");
+        query.bind(ImmutableMap.of("t", "a-movie")).execute();
+
+        assertExists(movieKB.tx(), var().isa("movie").has("title", "a-movie"));
+    }
+
+    @Test
+    public void whenBindingAnInsertQueryTwice_EachValueIsInserted() {
+        PreparedQuery<InsertQuery> query = movieKB.tx().graql().prepare("insert $x isa movie, has title $t; $t isa title;");
+        query.bind(ImmutableMap.of("t", "first-movie")).execute();
+        query.bind(ImmutableMap.of("t", "second-movie")).execute();
+
+        assertExists(movieKB.tx(), var().isa("movie").has("title", "first-movie"));
+        assertExists(movieKB.tx(), var().isa("movie").has("title", "second-movie"));
+    }
+
+    @Test
+    public void whenBindingAVariableNotInTheQuery_Throw() {
+        PreparedQuery<MatchQuery> query = movieKB.tx().graql().prepare("match $x isa movie; select $x;");
+
+        exception.expect(GraqlQueryException.class);
+        //noinspection ResultOfMethodCallIgnored
+        query.bind(ImmutableMap.of("y", "Godfather"));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.graql.VarPattern;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.util.CommonUtil.toImmutableList;
+import static org.junit.Assert.assertSame;
+
+public class QueryOperationExecutorTest {
+
+    @Test
+    public void whenPlanningInsertsWhichOnlyDifferByTheirValues_ThePlanIsReused() {
+        VarPattern movie = var("x").isa("movie").has("title", var("t"));
+        VarPattern title = var("t").isa("title");
+
+        QueryOperationExecutor.Plan godfather = plan(movie, title, var("t").val("Godfather"));
+        QueryOperationExecutor.Plan heat = plan(movie, title, var("t").val("Heat"));
+
+        assertSame(godfather.order(), heat.order());
+    }
+
+    private static QueryOperationExecutor.Plan plan(VarPattern... patterns) {
+        Collection<VarPatternAdmin> vars = Stream.of(patterns)
+                .flatMap(pattern -> pattern.admin().innerVarPatterns().stream())
+                .collect(toImmutableList());
+        return QueryOperationExecutor.insertPlan(vars);
+    }
+}
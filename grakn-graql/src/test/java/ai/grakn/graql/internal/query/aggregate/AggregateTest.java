@@ -21,13 +21,16 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.Thing;
 import ai.grakn.exception.GraqlQueryException;
+import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.AggregateQuery;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
 import ai.grakn.matcher.MovieMatchers;
 import ai.grakn.test.SampleKBContext;
 import ai.grakn.test.kbs.MovieKB;
+import com.google.common.collect.ImmutableList;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -78,6 +81,22 @@ public class AggregateTest {
         Assert.assertEquals(MovieMatchers.movies.size(), count);
     }
 
+    @Test
+    public void whenAggregatingAMatchQueryDirectly_TheResultIsTheSameAsAggregatingTheAnswers() {
+        MatchQueryAdmin query = qb.match(
+                var("x").isa("movie").has("tmdb-vote-count", var("v")).has("tmdb-vote-average", var("a"))
+        ).admin();
+
+        List<Aggregate<? super Answer, ?>> aggregates = ImmutableList.of(
+                count(), sum("v"), sum("a"), Graql.<Long>min("v"), Graql.<Double>max("a"),
+                Graql.<Long>max("v"), Graql.<Double>min("a"), mean("v"), mean("a")
+        );
+
+        for (Aggregate<? super Answer, ?> aggregate : aggregates) {
+            assertEquals(aggregate.apply(query.stream()), query.aggregate(aggregate).execute());
+        }
+    }
+
     @Test
     public void testGroup() {
         AggregateQuery<Map<Concept, List<Answer>>> groupQuery =
@@ -32,6 +32,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,6 +44,7 @@ import static ai.grakn.graql.Order.desc;
 import static ai.grakn.matcher.GraknMatchers.variable;
 import static ai.grakn.matcher.MovieMatchers.containsAllMovies;
 import static ai.grakn.util.ErrorMessage.VARIABLE_NOT_IN_QUERY;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
@@ -84,6 +86,18 @@ public class MatchQueryModifierTest {
         assertEquals(3, query.stream().count());
     }
 
+    @Test
+    public void whenLimitingAnOrderedQuery_TheSameAnswersAreReturnedAsWhenSortingAllAnswers() {
+        Var t = var("t");
+        MatchQuery query = qb.match(x.isa("movie").has("title", t), var().rel(x).rel(y), y.has("name", n)).orderBy(t);
+
+        List<Object> all = query.stream().map(result -> result.get(t).asAttribute().getValue()).collect(toList());
+        List<Object> limited = query.offset(2).limit(5).stream()
+                .map(result -> result.get(t).asAttribute().getValue()).collect(toList());
+
+        assertEquals(all.subList(2, 7), limited);
+    }
+
     @Test
     public void testOrPatternOrderByResource() {
         MatchQuery query = qb.match(
@@ -22,6 +22,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.graql.internal.reasoner.rule.RuleUtil;
 import ai.grakn.test.kbs.GeoKB;
 import ai.grakn.test.kbs.MatrixKBII;
+import ai.grakn.graql.Graql;
 import ai.grakn.graql.MatchQuery;
 import ai.grakn.graql.QueryBuilder;
 import ai.grakn.graql.Var;
@@ -31,6 +32,7 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.explanation.RuleExplanation;
+import ai.grakn.graql.internal.reasoner.iterator.SymmetricHashJoinIterator;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswerStream;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
@@ -39,12 +41,16 @@ import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
 import ai.grakn.test.SampleKBContext;
 
 import ai.grakn.test.GraknTestSetup;
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -54,6 +60,7 @@ import static ai.grakn.graql.internal.reasoner.query.QueryAnswerStream.join;
 import static java.util.stream.Collectors.toSet;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assume.assumeTrue;
 
 public class LazyTest {
@@ -159,6 +166,82 @@ public class LazyTest {
         assertEquals(collect.size(), 40);
     }
 
+    @Test
+    public void testHashJoinGivesSameAnswersAsNestedLoopJoin(){
+        GraknTx graph = geoKB.tx();
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;}";
+        String patternString2 = "{(geo-entity: $y, entity-location: $z) isa is-located-in;}";
+
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction(patternString, graph), graph);
+        ReasonerAtomicQuery query2 = ReasonerQueries.atomic(conjunction(patternString2, graph), graph);
+        Set<Var> joinVars = Sets.intersection(query.getVarNames(), query2.getVarNames());
+
+        Set<Answer> hashJoin = join(
+                query.getMatchQuery().admin().stream(),
+                query2.getMatchQuery().admin().stream(),
+                ImmutableSet.copyOf(joinVars))
+                .collect(toSet());
+
+        List<Answer> right = query2.getMatchQuery().admin().stream().collect(Collectors.toList());
+        Set<Answer> nestedLoopJoin = query.getMatchQuery().admin().stream()
+                .flatMap(a1 -> right.stream()
+                        .filter(a2 -> joinVars.stream().allMatch(var -> a1.get(var).equals(a2.get(var))))
+                        .map(a2 -> a2.merge(a1)))
+                .collect(toSet());
+
+        assertTrue(!hashJoin.isEmpty());
+        assertEquals(nestedLoopJoin, hashJoin);
+    }
+
+    @Test
+    public void testHashJoinKeepsDuplicateAnswersLikeNestedLoopJoin(){
+        GraknTx graph = geoKB.tx();
+        String patternString = "{(geo-entity: $x, entity-location: $y) isa is-located-in;}";
+        String patternString2 = "{(geo-entity: $y, entity-location: $z) isa is-located-in;}";
+
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction(patternString, graph), graph);
+        ReasonerAtomicQuery query2 = ReasonerQueries.atomic(conjunction(patternString2, graph), graph);
+        Set<Var> joinVars = Sets.intersection(query.getVarNames(), query2.getVarNames());
+
+        List<Answer> left = query.getMatchQuery().admin().stream().collect(Collectors.toList());
+        List<Answer> right = query2.getMatchQuery().admin().stream().collect(Collectors.toList());
+
+        Multiset<Answer> hashJoin = join(
+                Stream.concat(left.stream(), left.stream()),
+                Stream.concat(right.stream(), right.stream()),
+                ImmutableSet.copyOf(joinVars))
+                .collect(Collectors.toCollection(HashMultiset::create));
+
+        Multiset<Answer> nestedLoopJoin = Stream.concat(left.stream(), left.stream())
+                .flatMap(a1 -> Stream.concat(right.stream(), right.stream())
+                        .filter(a2 -> joinVars.stream().allMatch(var -> a1.get(var).equals(a2.get(var))))
+                        .map(a2 -> a2.merge(a1)))
+                .collect(Collectors.toCollection(HashMultiset::create));
+
+        assertTrue(!hashJoin.isEmpty());
+        assertEquals(nestedLoopJoin, hashJoin);
+    }
+
+    @Test
+    public void testHashJoinWithEmptyLeftOperandDoesNotConsumeRightOperand(){
+        Iterator<Answer> right = new Iterator<Answer>() {
+            @Override
+            public boolean hasNext() {
+                throw new IllegalStateException("right operand should not be consumed");
+            }
+
+            @Override
+            public Answer next() {
+                throw new IllegalStateException("right operand should not be consumed");
+            }
+        };
+
+        SymmetricHashJoinIterator hashJoin = new SymmetricHashJoinIterator(
+                Collections.emptyIterator(), right, ImmutableSet.of(Graql.var("x")));
+
+        assertFalse(hashJoin.hasNext());
+    }
+
     @Test
     public void testKnownFilter(){
         GraknTx graph = geoKB.tx();
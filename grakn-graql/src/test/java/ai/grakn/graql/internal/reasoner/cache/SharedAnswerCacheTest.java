@@ -0,0 +1,127 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.cache;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.MatchQuery;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.test.GraknTestSetup;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.GeoKB;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SharedAnswerCacheTest {
+
+    private static final String QUERY = "match (geo-entity: $x, entity-location: $y) isa is-located-in;";
+    private static final String RENAMED_QUERY = "match (geo-entity: $a, entity-location: $b) isa is-located-in;";
+
+    @ClassRule
+    public static final SampleKBContext geoKB = SampleKBContext.preLoad(GeoKB.get()).assumeTrue(GraknTestSetup.usingTinker());
+
+    private final SharedAnswerCache cache = SharedAnswerCache.get();
+
+    @Before
+    public void setUp(){
+        cache.clear();
+        cache.setMaxAnswers(1000);
+    }
+
+    @After
+    public void tearDown(){
+        cache.setMaxAnswers(0);
+        cache.clear();
+    }
+
+    @Test
+    public void whenEquivalentQueryIsResolvedAgain_AnswersAreServedFromCache(){
+        QueryBuilder iqb = geoKB.tx().graql().infer(true).materialise(false);
+        Set<List<Concept>> answers = pairs(iqb.<MatchQuery>parse(QUERY), "x", "y");
+        assertTrue(cache.answerSize() > 0);
+
+        long hits = cache.hits();
+        Set<List<Concept>> cachedAnswers = pairs(iqb.<MatchQuery>parse(RENAMED_QUERY), "a", "b");
+
+        assertEquals(hits + 1, cache.hits());
+        assertEquals(answers, cachedAnswers);
+    }
+
+    @Test
+    public void whenAnyCommitIsMade_EntryIsNoLongerServed(){
+        QueryBuilder iqb = geoKB.tx().graql().infer(true).materialise(false);
+        pairs(iqb.<MatchQuery>parse(QUERY), "x", "y");
+        assertTrue(cache.answerSize() > 0);
+
+        //a commit which does not change the types of the query and whose changes cancel out
+        GraknTx tx = geoKB.tx();
+        tx.getEntityType("city").addEntity().delete();
+        tx.commit();
+
+        long hits = cache.hits();
+        QueryBuilder newIqb = geoKB.tx().graql().infer(true).materialise(false);
+        pairs(newIqb.<MatchQuery>parse(QUERY), "x", "y");
+        assertEquals(hits, cache.hits());
+    }
+
+    @Test
+    public void whenKeyspaceIsInvalidated_EntriesOfOtherKeyspacesAreKept(){
+        GraknTx tx = geoKB.tx();
+        QueryBuilder iqb = tx.graql().infer(true).materialise(false);
+        pairs(iqb.<MatchQuery>parse(QUERY), "x", "y");
+
+        cache.invalidate("unrelated-keyspace");
+        assertTrue(cache.answerSize() > 0);
+
+        cache.invalidate(tx.getKeyspace());
+        assertEquals(0, cache.answerSize());
+    }
+
+    @Test
+    public void whenTransactionHasUncommittedChanges_CacheIsBypassed(){
+        GraknTx tx = geoKB.tx();
+        QueryBuilder iqb = tx.graql().infer(true).materialise(false);
+        pairs(iqb.<MatchQuery>parse(QUERY), "x", "y");
+        long size = cache.answerSize();
+
+        tx.getEntityType("city").addEntity();
+        long hits = cache.hits();
+        pairs(iqb.<MatchQuery>parse(RENAMED_QUERY), "a", "b");
+
+        assertEquals(hits, cache.hits());
+        assertEquals(size, cache.answerSize());
+        geoKB.rollback();
+    }
+
+    private static Set<List<Concept>> pairs(MatchQuery query, String from, String to){
+        return query.execute().stream()
+                .map(answer -> Arrays.asList(answer.get(from), answer.get(to)))
+                .collect(toSet());
+    }
+}
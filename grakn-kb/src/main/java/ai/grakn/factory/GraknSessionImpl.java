@@ -30,6 +30,7 @@ import ai.grakn.kb.internal.computer.GraknComputerImpl;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -98,7 +99,11 @@ public class GraknSessionImpl implements GraknSession {
     public GraknComputer getGraphComputer() {
         TxFactory<?> configuredFactory = configureGraphFactory(keyspace, location, REST.KBConfig.COMPUTER);
         Graph graph = configuredFactory.getTinkerPopGraph(false);
-        return new GraknComputerImpl(graph);
+        if (graph instanceof TinkerGraph) return new GraknComputerImpl(graph);
+
+        // Small subgraphs are read from the OLTP graph and computed locally rather than with spark
+        Graph snapshotSource = getConfiguredFactory().getTinkerPopGraph(false);
+        return new GraknComputerImpl(graph, snapshotSource);
     }
 
     @Override
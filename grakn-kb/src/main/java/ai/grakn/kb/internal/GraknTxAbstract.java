@@ -39,7 +39,10 @@ import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.exception.PropertyNotUniqueException;
 import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.kb.admin.KeyspaceStatistics;
+import ai.grakn.kb.internal.cache.DataVersions;
 import ai.grakn.kb.internal.cache.GlobalCache;
+import ai.grakn.kb.internal.cache.SchemaChange;
 import ai.grakn.kb.internal.cache.TxCache;
 import ai.grakn.kb.internal.concept.AttributeImpl;
 import ai.grakn.kb.internal.concept.ConceptImpl;
@@ -50,6 +53,7 @@ import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import ai.grakn.kb.internal.concept.RelationshipEdge;
 import ai.grakn.kb.internal.concept.RelationshipReified;
 import ai.grakn.kb.internal.concept.TypeImpl;
+import ai.grakn.kb.internal.log.CommitLogHandler;
 import ai.grakn.kb.internal.structure.EdgeElement;
 import ai.grakn.kb.internal.structure.VertexElement;
 import ai.grakn.graql.QueryBuilder;
@@ -57,6 +61,7 @@ import ai.grakn.util.EngineCommunicator;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
+import com.codahale.metrics.Timer;
 import mjson.Json;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
@@ -80,6 +85,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -107,6 +113,9 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     //----------------------------- Config Paths
     public static final String SHARDING_THRESHOLD = "graph.sharding-threshold";
     public static final String NORMAL_CACHE_TIMEOUT_MS = "graph.schema-cache-timeout-ms";
+    public static final String PATH_SEARCH_BUDGET = "graph.path-search-budget";
+
+    private static final long DEFAULT_PATH_SEARCH_BUDGET = 10_000L;
 
     //----------------------------- Shared Variables
     private final String keyspace;
@@ -115,6 +124,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     private final G graph;
     private final ElementFactory elementFactory;
     private final GlobalCache globalCache;
+    private final CommitLogHandler commitLogHandler;
 
     private static Constructor<?> queryConstructor = null;
 
@@ -137,7 +147,9 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         elementFactory = new ElementFactory(this);
 
         //Initialise Graph Caches
-        globalCache = new GlobalCache(properties);
+        globalCache = new GlobalCache(keyspace, properties);
+
+        commitLogHandler = CommitLogHandler.create(getCommitLogEndPoint(), properties);
 
         //Initialise Graph
         txCache().openTx(GraknTxType.WRITE);
@@ -255,6 +267,16 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         return GraknTxType.BATCH.equals(txCache().txType());
     }
 
+    @Override
+    public boolean hasUncommittedChanges() {
+        return txCache().hasModifications();
+    }
+
+    @Override
+    public long dataVersion() {
+        return txCache().dataVersion();
+    }
+
     @SuppressWarnings("unchecked")
     private boolean initialiseMetaConcepts() {
         boolean schemaInitialised = false;
@@ -288,10 +310,8 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         }
 
         //Copy entire schema to the graph cache. This may be a bad idea as it will slow down graph initialisation
-        copyToCache(getMetaConcept());
-
         //Role has to be copied separately due to not being connected to meta schema
-        copyToCache(getMetaRole());
+        copyToCache(getMetaConcept(), getMetaRole());
 
         return schemaInitialised;
     }
@@ -303,16 +323,13 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     }
 
     /**
-     * Copies the {@link SchemaConcept} and it's subs into the {@link TxCache}.
+     * Copies the {@link SchemaConcept}s and their subs into the {@link GlobalCache} as a single version of the schema.
      * This is important as lookups for {@link SchemaConcept}s based on {@link Label} depend on this caching.
      *
-     * @param schemaConcept the {@link SchemaConcept} to be copied into the {@link TxCache}
+     * @param schemaConcepts the {@link SchemaConcept}s to be copied into the {@link GlobalCache}
      */
-    private void copyToCache(SchemaConcept schemaConcept) {
-        schemaConcept.subs().forEach(concept -> {
-            getGlobalCache().cacheLabel(concept.getLabel(), concept.getLabelId());
-            getGlobalCache().cacheType(concept.getLabel(), concept);
-        });
+    private void copyToCache(SchemaConcept... schemaConcepts) {
+        getGlobalCache().cacheTypes(Stream.of(schemaConcepts).flatMap(SchemaConcept::subs).collect(toSet()));
     }
 
     private boolean isMetaSchemaNotInitialised() {
@@ -372,6 +389,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     public void checkSchemaMutationAllowed() {
         checkMutationAllowed();
         if (isBatchTx()) throw GraknTxOperationException.schemaMutation();
+        txCache().trackSchemaMutation();
     }
 
     public void checkMutationAllowed() {
@@ -384,12 +402,14 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     @Nullable
     public VertexElement addVertex(Schema.BaseType baseType) {
         Vertex vertex = operateOnOpenGraph(() -> getTinkerPopGraph().addVertex(baseType.name()));
+        txCache().trackGraphModification();
         vertex.property(Schema.VertexProperty.ID.name(), Schema.PREFIX_VERTEX + vertex.id().toString());
         return factory().buildVertexElement(vertex);
     }
 
     public VertexElement addVertex(Schema.BaseType baseType, ConceptId conceptId) {
         Vertex vertex = operateOnOpenGraph(() -> getTinkerPopGraph().addVertex(baseType.name()));
+        txCache().trackGraphModification();
         vertex.property(Schema.VertexProperty.ID.name(), conceptId.getValue());
         return factory().buildVertexElement(vertex);
     }
@@ -724,12 +744,25 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     public void closeSession() {
         try {
             txCache().closeTx(ErrorMessage.SESSION_CLOSED.getMessage(getKeyspace()));
+            commitLogHandler.close();
             getTinkerPopGraph().close();
         } catch (Exception e) {
             throw GraknTxOperationException.closingFailed(this, e);
         }
     }
 
+    @Override
+    public void recycle() {
+        if (!isReadOnly()) throw GraknTxOperationException.transactionNotRecyclable(this);
+
+        txCache().clearInstances();
+        try {
+            graph.tx().rollback();
+        } catch (UnsupportedOperationException e) {
+            //Ignored for Tinker
+        }
+    }
+
     @Override
     public void close() {
         close(false, false);
@@ -755,12 +788,23 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         try {
             if (commitRequired) {
                 closeMessage = ErrorMessage.TX_CLOSED_ON_ACTION.getMessage("committed", getKeyspace());
-                logs = commitWithLogs();
-                if (logs.isPresent() && submitLogs) {
-                    String logsToUpload = logs.get();
-                    new Thread(() -> LOG.debug("Response from engine [" + EngineCommunicator.contactEngine(getCommitLogEndPoint(), REST.HttpConn.POST_METHOD, logsToUpload) + "]")).start();
+                boolean postProcessingNeeded = !txCache().getShardingCount().isEmpty() ||
+                        !txCache().getModifiedAttributes().isEmpty();
+                boolean graphModified = txCache().hasModifications();
+                Json commitLog = commitWithLogs();
+                Optional<SchemaChange> schemaChange = txCache().getSchemaChange();
+                //Engine is told about every commit which changed the graph, so it knows the data has changed. It
+                //also passes on schema changes, which only reach the caches of this process otherwise.
+                schemaChange.ifPresent(change ->
+                        commitLog.set(REST.Request.COMMIT_LOG_SCHEMA, Json.array(change.toJson())));
+                if ((graphModified || schemaChange.isPresent()) && submitLogs) {
+                    commitLogHandler.submit(commitLog);
+                }
+                if (postProcessingNeeded) {
+                    logs = Optional.of(commitLog.toString());
                 }
                 txCache().writeToGraphCache(true);
+                DataVersions.get().committed(getKeyspace());
             } else {
                 txCache().writeToGraphCache(isReadOnly());
             }
@@ -790,11 +834,9 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         return close(true, false);
     }
 
-    private Optional<String> commitWithLogs() throws InvalidKBException {
+    private Json commitWithLogs() throws InvalidKBException {
         validateGraph();
 
-        boolean submissionNeeded = !txCache().getShardingCount().isEmpty() ||
-                !txCache().getModifiedAttributes().isEmpty();
         Json conceptLog = txCache().getFormattedLog();
 
         LOG.trace("Graph is valid. Committing graph . . . ");
@@ -802,10 +844,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
 
         LOG.trace("Graph committed.");
 
-        if (submissionNeeded) {
-            return Optional.of(conceptLog.toString());
-        }
-        return Optional.empty();
+        return conceptLog;
     }
 
     void commitTransactionInternal() {
@@ -818,7 +857,13 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
 
     private void validateGraph() throws InvalidKBException {
         Validator validator = new Validator(this);
-        if (!validator.validate()) {
+        Timer.Context validationTime = getGlobalCache().getValidationTimer().time();
+        boolean valid = validator.validate();
+        long validationMs = TimeUnit.NANOSECONDS.toMillis(validationTime.stop());
+
+        LOG.trace("Validated commit to keyspace {} in {}ms", keyspace, validationMs);
+
+        if (!valid) {
             List<String> errors = validator.getErrorsFound();
             if (!errors.isEmpty()) throw InvalidKBException.validationErrors(errors);
         }
@@ -984,6 +1029,30 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         });
     }
 
+    @Override
+    public KeyspaceStatistics statistics() {
+        return getGlobalCache().getStatistics();
+    }
+
+    @Override
+    public long pathSearchBudget() {
+        String budget = properties.getProperty(PATH_SEARCH_BUDGET);
+        if (budget == null) return DEFAULT_PATH_SEARCH_BUDGET;
+
+        try {
+            long value = Long.parseLong(budget.trim());
+            if (value >= 0) return value;
+        } catch (NumberFormatException e) {
+            // Reported below along with negative values
+        }
+        throw GraknTxOperationException.invalidConfigValue(PATH_SEARCH_BUDGET, budget, "a whole number of at least 0");
+    }
+
+    @Override
+    public Optional<Long> schemaVersion() {
+        return txCache().getSchemaVersion();
+    }
+
     @Override
     public void shard(ConceptId conceptId) {
         ConceptImpl type = getConcept(conceptId);
@@ -36,6 +36,7 @@ import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import ai.grakn.kb.internal.concept.RelationshipReified;
 import ai.grakn.kb.internal.concept.RuleImpl;
 import ai.grakn.kb.internal.concept.TypeImpl;
+import ai.grakn.kb.internal.cache.TypeConstraints;
 import ai.grakn.kb.internal.structure.Casting;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.admin.Atomic;
@@ -50,7 +51,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
@@ -106,34 +106,18 @@ class ValidateGlobalRules {
      */
     static Optional<String> validatePlaysStructure(Casting casting) {
         Thing thing = casting.getInstance();
-        TypeImpl<?, ?> currentConcept = (TypeImpl<?, ?>) thing.type();
         Role role = casting.getRoleType();
+        Boolean required = constraints(thing.type()).plays(role.getLabel());
 
-        boolean satisfiesPlays = false;
-
-        while(currentConcept != null){
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                Role rolePlayed = playsEntry.getKey();
-                Boolean required = playsEntry.getValue();
-                if(rolePlayed.getLabel().equals(role.getLabel())){
-                    satisfiesPlays = true;
-
-                    // Assert unique relation for this role type
-                    if (required && !CommonUtil.containsOnly(thing.relationships(role), 1)) {
-                        return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relationships(role).count()));
-                    }
-                }
-            }
-            currentConcept = (TypeImpl) currentConcept.sup();
+        if(required == null) {
+            return Optional.of(VALIDATION_CASTING.getMessage(thing.type().getLabel(), thing.getId(), casting.getRoleType().getLabel()));
         }
 
-        if(satisfiesPlays) {
-            return Optional.empty();
-        } else {
-            return Optional.of(VALIDATION_CASTING.getMessage(thing.type().getLabel(), thing.getId(), casting.getRoleType().getLabel()));
+        // Assert unique relation for this role type
+        if (required && !CommonUtil.containsOnly(thing.relationships(role), 1)) {
+            return Optional.of(VALIDATION_REQUIRED_RELATION.getMessage(thing.getId(), thing.type().getLabel(), role.getLabel(), thing.relationships(role).count()));
         }
+        return Optional.empty();
     }
 
     /**
@@ -170,7 +154,7 @@ class ValidateGlobalRules {
     static Optional<String> validateRelationshipStructure(RelationshipReified relation){
         RelationshipType relationshipType = relation.type();
         Collection<Casting> castings = relation.castingsRelation().collect(Collectors.toSet());
-        Collection<Role> roles = relationshipType.relates().collect(Collectors.toSet());
+        Set<Label> roles = constraints(relationshipType).relates();
 
         Set<Role> rolesViaRolePlayers = castings.stream().map(Casting::getRoleType).collect(Collectors.toSet());
 
@@ -179,10 +163,7 @@ class ValidateGlobalRules {
         }
 
         for(Casting casting : castings){
-            boolean notFound = casting.getRoleType().relationTypes().
-                    noneMatch(innerRelationType -> innerRelationType.getLabel().equals(relationshipType.getLabel()));
-
-            if(notFound) {
+            if(!roles.contains(casting.getRoleType().getLabel())) {
                 return Optional.of(VALIDATION_RELATION_CASTING_LOOP_FAIL.getMessage(relation.getId(), casting.getRoleType().getLabel(), relationshipType.getLabel()));
             }
         }
@@ -241,24 +222,14 @@ class ValidateGlobalRules {
      * @return An error message if the thing does not have all the required resources
      */
     static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing) {
-        TypeImpl<?, ?> currentConcept = (TypeImpl) thing.type();
-
-        while(currentConcept != null){
+        for (Role role : constraints(thing.type()).requiredRoles()) {
+            // Assert there is a relation for this type
+            Stream<Relationship> relations = thing.relationships(role);
 
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                if(playsEntry.getValue()){
-                    Role role = playsEntry.getKey();
-                    // Assert there is a relation for this type
-                    Stream<Relationship> relations = thing.relationships(role);
-
-                    if(!CommonUtil.containsOnly(relations, 1)){
-                        Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
-                        return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
-                    }
-                }
+            if(!CommonUtil.containsOnly(relations, 1)){
+                Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
+                return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
             }
-            currentConcept = (TypeImpl) currentConcept.sup();
         }
         return Optional.empty();
     }
@@ -269,7 +240,7 @@ class ValidateGlobalRules {
      * @return An error message if the {@link Relationship} is not unique.
      */
     static Optional<String> validateRelationIsUnique(GraknTxAbstract<?> graph, RelationshipReified relationReified){
-        Iterator<AttributeType> keys = relationReified.type().keys().iterator();
+        Iterator<AttributeType> keys = constraints(relationReified.type()).keys().iterator();
         if(keys.hasNext()){
             return validateKeyControlledRelation(graph, relationReified, keys);
         } else {
@@ -441,4 +412,12 @@ class ValidateGlobalRules {
 
         return errors;
     }
+
+    /**
+     * @param type The {@link Type} whose constraints are needed
+     * @return The constraints of the type, which are shared by all the transactions reading the same schema
+     */
+    private static TypeConstraints constraints(Type type){
+        return TypeImpl.from(type).vertex().tx().txCache().getTypeConstraints(type);
+    }
 }
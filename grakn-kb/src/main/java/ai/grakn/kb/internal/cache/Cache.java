@@ -53,11 +53,24 @@ public class Cache<V> {
     private final ThreadLocal<V> valueTx = new ThreadLocal<>();
 
     //Globally bound value which has already been persisted and acts as a shared component cache
-    private Optional<V> valueGlobal = Optional.empty();
+    private volatile Optional<V> valueGlobal = Optional.empty();
+
+    //Notified whenever the cache is used by a transaction, either by binding a value to it or by modifying it
+    @Nullable
+    private final Runnable onTxUse;
 
     public Cache(Cacheable<V> cacheable, Supplier<V> databaseReader){
+        this(cacheable, databaseReader, null);
+    }
+
+    /**
+     * @param onTxUse called whenever the current transaction binds a value to the cache or modifies it, so that the
+     *                owner of the cache can be flushed or cleared when the transaction closes
+     */
+    public Cache(Cacheable<V> cacheable, Supplier<V> databaseReader, @Nullable Runnable onTxUse){
         this.cacheable = cacheable;
         this.databaseReader = databaseReader;
+        this.onTxUse = onTxUse;
     }
 
     /**
@@ -74,7 +87,7 @@ public class Cache<V> {
         if(value == null) value = databaseReader.get();
         if(value == null) return null;
 
-        valueTx.set(value);
+        bind(value);
 
         return valueTx.get();
     }
@@ -92,7 +105,20 @@ public class Cache<V> {
      * @param value the value to be cached
      */
     public void set(@Nullable V value){
+        if(valueTx.get() == null) {
+            bind(value);
+        } else {
+            valueTx.set(value);
+        }
+    }
+
+    private void bind(@Nullable V value){
         valueTx.set(value);
+        notifyTxUse();
+    }
+
+    private void notifyTxUse(){
+        if(onTxUse != null) onTxUse.run();
     }
 
     /**
@@ -111,6 +137,8 @@ public class Cache<V> {
     public void ifPresent(Consumer<V> modifier){
         if(isPresent()){
             modifier.accept(get());
+        } else {
+            notifyTxUse();
         }
     }
 
@@ -125,4 +153,12 @@ public class Cache<V> {
         }
     }
 
+    /**
+     * Forgets the value shared by all transactions, so that it is read from the database again.
+     * This is used when the value has been changed outside of this process.
+     */
+    public void clearGlobal(){
+        valueGlobal = Optional.empty();
+    }
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Tracks a version of the data of every keyspace used in this process
+ * </p>
+ *
+ * <p>
+ *     The version of a keyspace is bumped by every commit to it, whatever the commit changed, so anything derived
+ *     from the data can be cached alongside the version it was derived at. Commits made in this process are handed
+ *     to the registered listeners, which is how engine forwards them to other engines. Commits made elsewhere are
+ *     delivered with {@link #receive(String)}.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+public class DataVersions {
+    private static final DataVersions INSTANCE = new DataVersions();
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public static DataVersions get(){
+        return INSTANCE;
+    }
+
+    /**
+     * @param listener Called with the keyspace of every commit made in this process
+     */
+    public void addListener(Consumer<String> listener){
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<String> listener){
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return the current version of the data of the keyspace
+     */
+    public long version(String keyspace){
+        return versionOf(keyspace).get();
+    }
+
+    /**
+     * Bumps the version of a keyspace because of a commit made in this process
+     */
+    public void committed(String keyspace){
+        receive(keyspace);
+        listeners.forEach(listener -> listener.accept(keyspace));
+    }
+
+    /**
+     * Bumps the version of a keyspace because of a commit made in another process
+     */
+    public void receive(String keyspace){
+        versionOf(keyspace).incrementAndGet();
+    }
+
+    /**
+     * Bumps the version of every keyspace. This is used when commits made elsewhere may have been missed.
+     */
+    public void receiveAll(){
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    //Keyspaces are registered when first read, so that receiveAll covers every version something was derived at
+    private AtomicLong versionOf(String keyspace){
+        return versions.computeIfAbsent(keyspace.toLowerCase(), k -> new AtomicLong());
+    }
+}
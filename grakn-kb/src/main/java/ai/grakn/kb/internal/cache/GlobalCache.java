@@ -23,14 +23,18 @@ import ai.grakn.concept.LabelId;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.kb.internal.GraknTxAbstract;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import ai.grakn.util.GraknMetrics;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * <p>
@@ -40,11 +44,19 @@ import java.util.concurrent.TimeUnit;
  * <p>
  *     Caches Knowledge Base or Session specific data which is shared across transactions:
  *     <ol>
- *         <li>Schema Cache - All the types which make up the schema. This cache expires</li>
+ *         <li>
+ *             Schema Cache - A versioned {@link SchemaSnapshot} of all the types which make up the schema. Every
+ *             transaction reads the snapshot which was the latest when it opened, and a commit publishes a new
+ *             version. When the schema changes elsewhere the changed types are refreshed through the
+ *             {@link SchemaChangeBus}. If nothing delivers the changes made in other processes to the bus, all
+ *             types are refreshed once the schema cache timeout has passed instead.
+ *         </li>
  *         <li>
  *             Label Cache - All the labels which make up the schema. This can never expire and is needed in order
  *             to perform fast lookups. Essentially it is used for mapping labels to ids.
  *         </li>
+ *         <li>Statistics - Approximate instance counts used by the query planner</li>
+ *         <li>Validation Timer - How long the commits of the keyspace spend validating, see {@link GraknMetrics}</li>
  *     <ol/>
  * </p>
  *
@@ -52,72 +64,138 @@ import java.util.concurrent.TimeUnit;
  *
  */
 public class GlobalCache {
+    private static final long DEFAULT_CACHE_TIMEOUT_MS = 600_000;
+
+    private final String keyspace;
+
     //Caches
-    private final Cache<Label, SchemaConcept> cachedTypes;
-    private final Map<Label, LabelId> cachedLabels;
+    private final AtomicReference<SchemaSnapshot> schema = new AtomicReference<>(SchemaSnapshot.empty());
+    private final KeyspaceStatisticsCache statistics = new KeyspaceStatisticsCache();
+    private final Timer validationTimer;
+
+    private final long cacheTimeout;
+    private volatile long lastRefresh = System.currentTimeMillis();
 
-    public GlobalCache(Properties properties){
-        cachedLabels = new ConcurrentHashMap<>();
+    public GlobalCache(String keyspace, Properties properties){
+        this.keyspace = keyspace;
+        validationTimer = GraknMetrics.registry().timer(name(GlobalCache.class, keyspace, "validation"));
+        cacheTimeout = Long.parseLong(properties.getOrDefault(
+                GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS, DEFAULT_CACHE_TIMEOUT_MS).toString());
+        SchemaChangeBus.get().register(this);
+    }
 
-        int cacheTimeout = Integer.parseInt(properties.get(GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS).toString());
-        cachedTypes = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterAccess(cacheTimeout, TimeUnit.MILLISECONDS)
-                .build();
+    String keyspace(){
+        return keyspace;
     }
 
     /**
-     * Caches a type so that we can retrieve ontological concepts without making a DB read.
+     * Caches types so that we can retrieve ontological concepts without making a DB read, and so we can map type
+     * labels to type ids. This is necesssary so we can make fast indexed lookups.
+     * All of the types are published in a single new version of the schema.
      *
-     * @param label The label of the type to cache
-     * @param type The type to cache
+     * @param types The types to cache
      */
-    public void cacheType(Label label, SchemaConcept type){
-        cachedTypes.put(label, type);
+    public void cacheTypes(Collection<? extends SchemaConcept> types){
+        Map<Label, SchemaConcept> newTypes = new HashMap<>();
+        Map<Label, LabelId> newLabels = new HashMap<>();
+        types.forEach(type -> {
+            newTypes.put(type.getLabel(), type);
+            newLabels.put(type.getLabel(), type.getLabelId());
+        });
+        schema.updateAndGet(snapshot -> snapshot.apply(newTypes, newLabels, ImmutableSet.of()));
     }
 
     /**
-     * Caches a label so we can map type labels to type ids. This is necesssary so we can make fast indexed lookups.
+     * Publishes a new version of the schema containing the {@link SchemaConcept}s and {@link Label}s which the
+     * transaction has added, loaded or removed. This happens when a commit occurs and allows us to track
+     * schema mutations without having to read the graph. Read only transactions only flush the values they have
+     * cached in the shared types, and publish nothing.
      *
-     * @param label The label of the type to cache
-     * @param id The id of the type to cache
+     * @param txCache The transaction cache
+     * @param committed true if the transaction has committed, false if it is read only
      */
-    public void cacheLabel(Label label, LabelId id){
-        cachedLabels.put(label, id);
+    void readTxCache(TxCache txCache, boolean committed){
+        Map<Label, SchemaConcept> types = txCache.getSchemaConceptCache();
+        Map<Label, LabelId> labels = txCache.getLabelCache();
+
+        //Flush All The Internal Transaction Caches
+        types.values().forEach(schemaConcept -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
+        txCache.getBoundSchemaConcepts().forEach(schemaConcept -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
+
+        //A new version is published after flushing so that what is derived from it reflects the changes
+        if(committed && (txCache.isSchemaModified() ||
+                !schema.get().contains(types, labels, txCache.getRemovedLabels()))) {
+            schema.updateAndGet(snapshot -> snapshot.apply(types, labels, txCache.getRemovedLabels()));
+        }
+
+        //Tell the other caches of the keyspace which types the transaction may have changed
+        txCache.getSchemaChange().ifPresent(change -> SchemaChangeBus.get().publish(this, change));
     }
 
     /**
-     * Reads the {@link SchemaConcept} and their {@link Label} currently in the transaction cache into the graph cache.
-     * This usually happens when a commit occurs and allows us to track schema mutations without having to read
-     * the graph.
+     * Applies a change to the schema which was committed through another cache. Changed types stay in the schema so
+     * references to them remain valid, but everything they have cached is read from the database again.
      *
-     * @param txCache The transaction cache
+     * @param change The labels which have been changed or removed
      */
-    void readTxCache(TxCache txCache){
-        //TODO: The difference between the caches need to be taken into account. For example if a type is delete then it should be removed from the cachedLabels
-        cachedLabels.putAll(txCache.getLabelCache());
-        cachedTypes.putAll(txCache.getSchemaConceptCache());
+    void applySchemaChange(SchemaChange change){
+        SchemaSnapshot snapshot = schema.get();
+        change.changedLabels().keySet().forEach(label -> {
+            SchemaConcept schemaConcept = snapshot.type(label);
+            if(schemaConcept != null) SchemaConceptImpl.from(schemaConcept).globalCacheClear();
+        });
 
-        //Flush All The Internal Transaction Caches
-        txCache.getSchemaConceptCache().values().forEach(schemaConcept
-                -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
+        schema.updateAndGet(current -> current.apply(ImmutableMap.of(), change.changedLabels(), change.removedLabels()));
     }
 
     /**
-     * A copy of the cached labels. This is used when creating a new transaction.
+     * Reads everything the cached types have cached from the database again
+     */
+    void refreshSchema(){
+        lastRefresh = System.currentTimeMillis();
+        schema.get().types().values().forEach(schemaConcept -> SchemaConceptImpl.from(schemaConcept).globalCacheClear());
+        schema.updateAndGet(current -> current.apply(ImmutableMap.of(), ImmutableMap.of(), ImmutableSet.of()));
+    }
+
+    /**
+     * The latest version of the schema. This is used when creating a new transaction.
+     * If changes made in other processes are not received and the cache timeout has passed, the types are
+     * refreshed first.
      *
-     * @return an immutable copy of the cached labels.
+     * @return the latest version of the schema
      */
-    Map<Label, LabelId> getCachedLabels(){
-        return ImmutableMap.copyOf(cachedLabels);
+    SchemaSnapshot getSchemaSnapshot(){
+        if(!SchemaChangeBus.get().hasSubscriber() && System.currentTimeMillis() - lastRefresh > cacheTimeout){
+            refreshSchema();
+        }
+        return schema.get();
     }
 
     /**
-     * A copy of the cached schema. This is used when creating a new transaction.
+     * The cached types of the latest version of the schema.
      *
-     * @return an immutable copy of the cached schema.
+     * @return an immutable view of the cached schema.
      */
     public Map<Label, SchemaConcept> getCachedTypes(){
-        return ImmutableMap.copyOf(cachedTypes.asMap());
+        return schema.get().types();
+    }
+
+    /**
+     * The statistics of the keyspace. These are shared by all transactions and used for query planning.
+     *
+     * @return the statistics of the keyspace
+     */
+    public KeyspaceStatisticsCache getStatistics(){
+        return statistics;
+    }
+
+    /**
+     * How long the commits of the keyspace spend validating. This is shared by all transactions and registered with
+     * the {@link GraknMetrics} of the process.
+     *
+     * @return the timer of validations of the keyspace
+     */
+    public Timer getValidationTimer(){
+        return validationTimer;
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.Label;
+import ai.grakn.kb.admin.KeyspaceStatistics;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *     In memory {@link KeyspaceStatistics}
+ * </p>
+ *
+ * <p>
+ *     Holds the statistics of a single keyspace. It lives in the {@link GlobalCache} so the statistics are shared by
+ *     all the transactions of the keyspace. The counts are pushed in by engine as it processes the commit logs.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class KeyspaceStatisticsCache implements KeyspaceStatistics {
+    private final Map<Label, Long> instanceCounts = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    @Override
+    public Optional<Long> instanceCount(Label label) {
+        return Optional.ofNullable(instanceCounts.get(label));
+    }
+
+    @Override
+    public void setInstanceCount(Label label, long count) {
+        long positiveCount = Math.max(count, 0L);
+        Long previous = instanceCounts.put(label, positiveCount);
+        if (previous == null || magnitude(previous) != magnitude(positiveCount)) version.incrementAndGet();
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    //The number of bits needed to write the count, so counts within the same power of two have the same magnitude
+    private static int magnitude(long count) {
+        return 64 - Long.numberOfLeadingZeros(count);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import mjson.Json;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ *     The {@link SchemaConcept}s changed by a committed transaction
+ * </p>
+ *
+ * <p>
+ *     Sent to every {@link GlobalCache} of the keyspace through the {@link SchemaChangeBus}. Changed types are
+ *     forgotten so they are read again from the database, while their labels are kept so they can still be looked up.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+public class SchemaChange {
+    private static final String KEYSPACE = "keyspace";
+    private static final String CHANGED = "changed";
+    private static final String REMOVED = "removed";
+
+    private final String keyspace;
+    private final ImmutableMap<Label, LabelId> changedLabels;
+    private final ImmutableSet<Label> removedLabels;
+
+    private SchemaChange(String keyspace, Map<Label, LabelId> changedLabels, Set<Label> removedLabels){
+        this.keyspace = keyspace;
+        this.changedLabels = ImmutableMap.copyOf(changedLabels);
+        this.removedLabels = ImmutableSet.copyOf(removedLabels);
+    }
+
+    /**
+     * @param keyspace The keyspace whose schema changed
+     * @param changedLabels The labels of the types which have been added or modified, with their ids
+     * @param removedLabels The labels of the types which no longer exist
+     */
+    public static SchemaChange of(String keyspace, Map<Label, LabelId> changedLabels, Set<Label> removedLabels){
+        return new SchemaChange(keyspace, changedLabels, removedLabels);
+    }
+
+    public String keyspace(){
+        return keyspace;
+    }
+
+    public Map<Label, LabelId> changedLabels(){
+        return changedLabels;
+    }
+
+    public Set<Label> removedLabels(){
+        return removedLabels;
+    }
+
+    public Json toJson(){
+        Json changed = Json.object();
+        changedLabels.forEach((label, id) -> changed.set(label.getValue(), id.getValue()));
+
+        Json removed = Json.array();
+        removedLabels.forEach(label -> removed.add(label.getValue()));
+
+        return Json.object(KEYSPACE, keyspace, CHANGED, changed, REMOVED, removed);
+    }
+
+    public static SchemaChange fromJson(Json json){
+        ImmutableMap.Builder<Label, LabelId> changed = ImmutableMap.builder();
+        json.at(CHANGED).asJsonMap().forEach((label, id) -> changed.put(Label.of(label), LabelId.of(id.asInteger())));
+
+        ImmutableSet.Builder<Label> removed = ImmutableSet.builder();
+        json.at(REMOVED).asJsonList().forEach(label -> removed.add(Label.of(label.asString())));
+
+        return new SchemaChange(json.at(KEYSPACE).asString(), changed.build(), removed.build());
+    }
+
+    @Override
+    public String toString(){
+        return toJson().toString();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ *     Delivers {@link SchemaChange}s to every {@link GlobalCache} of this process
+ * </p>
+ *
+ * <p>
+ *     When a transaction commits changes to the schema, every other {@link GlobalCache} of the keyspace forgets the
+ *     changed types, so they do not have to expire. Changes are also handed to the registered listeners, which is
+ *     how engine forwards them to other engines. Changes made elsewhere are delivered with {@link #receive}.
+ * </p>
+ *
+ * <p>
+ *     Only a process with a subscriber, see {@link #addSubscriber()}, receives the changes made elsewhere. Without
+ *     one the caches fall back to refreshing their types once the schema cache timeout has passed.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+public class SchemaChangeBus {
+    private static final SchemaChangeBus INSTANCE = new SchemaChangeBus();
+
+    //Caches are only weakly held so that the caches of discarded factories can be collected
+    private final Map<String, Set<GlobalCache>> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<SchemaChange>> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    public static SchemaChangeBus get(){
+        return INSTANCE;
+    }
+
+    /**
+     * @param listener Called with every {@link SchemaChange} committed in this process
+     */
+    public void addListener(Consumer<SchemaChange> listener){
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<SchemaChange> listener){
+        listeners.remove(listener);
+    }
+
+    /**
+     * Declares that changes made in other processes are delivered to this bus with {@link #receive}, so cached types
+     * no longer need to be refreshed periodically
+     */
+    public void addSubscriber(){
+        subscribers.incrementAndGet();
+    }
+
+    public void removeSubscriber(){
+        subscribers.decrementAndGet();
+    }
+
+    /**
+     * @return true if changes made in other processes are delivered to this bus
+     */
+    public boolean hasSubscriber(){
+        return subscribers.get() > 0;
+    }
+
+    /**
+     * Applies a {@link SchemaChange} committed in another process to all the caches of its keyspace
+     */
+    public void receive(SchemaChange change){
+        cachesOf(change.keyspace()).forEach(cache -> cache.applySchemaChange(change));
+    }
+
+    /**
+     * Applies a {@link SchemaChange} committed in a process which does not share this bus, and which could not tell
+     * the listeners itself, to all the caches of its keyspace and tells the listeners about it
+     */
+    public void publish(SchemaChange change){
+        publish(null, change);
+    }
+
+    /**
+     * Refreshes every type cached in this process. This is used when changes made elsewhere may have been missed.
+     */
+    public void refreshAll(){
+        caches.keySet().forEach(keyspace -> cachesOf(keyspace).forEach(GlobalCache::refreshSchema));
+    }
+
+    void register(GlobalCache cache){
+        Set<GlobalCache> keyspaceCaches = caches.computeIfAbsent(key(cache.keyspace()),
+                k -> Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>())));
+        keyspaceCaches.add(cache);
+    }
+
+    /**
+     * Applies a {@link SchemaChange} committed through the origin cache to all the other caches of its keyspace
+     */
+    void publish(@Nullable GlobalCache origin, SchemaChange change){
+        cachesOf(change.keyspace()).stream()
+                .filter(cache -> cache != origin)
+                .forEach(cache -> cache.applySchemaChange(change));
+        listeners.forEach(listener -> listener.accept(change));
+    }
+
+    private List<GlobalCache> cachesOf(String keyspace){
+        Set<GlobalCache> keyspaceCaches = caches.get(key(keyspace));
+        if(keyspaceCaches == null) return ImmutableList.of();
+
+        synchronized (keyspaceCaches){
+            return ImmutableList.copyOf(keyspaceCaches);
+        }
+    }
+
+    private static String key(String keyspace){
+        return keyspace.toLowerCase();
+    }
+}
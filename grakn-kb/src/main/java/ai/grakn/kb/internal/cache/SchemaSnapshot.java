@@ -0,0 +1,156 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.concept.Type;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *     An immutable version of the schema of a keyspace
+ * </p>
+ *
+ * <p>
+ *     A snapshot is shared by every transaction which opens while it is the latest version, so opening a transaction
+ *     does not copy the schema. Changes made by a transaction are applied to the latest snapshot when it is written
+ *     back into the {@link GlobalCache}, producing the next version.
+ * </p>
+ *
+ * <p>
+ *     Because a version never changes, anything derived from it can be cached alongside it. The
+ *     {@link TypeConstraints} used when validating a commit are computed at most once per type and version.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+class SchemaSnapshot {
+    //Versions are unique within the process, so versions of different keyspaces are never confused
+    private static final AtomicLong VERSIONS = new AtomicLong();
+    private static final SchemaSnapshot EMPTY = new SchemaSnapshot(0, ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of());
+
+    private final long version;
+    private final ImmutableMap<Label, SchemaConcept> types;
+    private final ImmutableMap<ConceptId, SchemaConcept> typesById;
+    private final ImmutableMap<Label, LabelId> labels;
+    private final Map<Label, TypeConstraints> constraints = new ConcurrentHashMap<>();
+
+    private SchemaSnapshot(long version, ImmutableMap<Label, SchemaConcept> types,
+                           ImmutableMap<ConceptId, SchemaConcept> typesById, ImmutableMap<Label, LabelId> labels){
+        this.version = version;
+        this.types = types;
+        this.typesById = typesById;
+        this.labels = labels;
+    }
+
+    static SchemaSnapshot empty(){
+        return EMPTY;
+    }
+
+    /**
+     * Creates the next version of the schema.
+     *
+     * @param newTypes types which have been added or modified
+     * @param newLabels labels which have been added or modified
+     * @param removedLabels labels of types which no longer exist
+     * @return a new snapshot containing the changes, with a higher version
+     */
+    SchemaSnapshot apply(Map<Label, SchemaConcept> newTypes, Map<Label, LabelId> newLabels, Set<Label> removedLabels){
+        Map<Label, SchemaConcept> nextTypes = new HashMap<>(types);
+        Map<Label, LabelId> nextLabels = new HashMap<>(labels);
+
+        nextTypes.keySet().removeAll(removedLabels);
+        nextLabels.keySet().removeAll(removedLabels);
+        nextTypes.putAll(newTypes);
+        nextLabels.putAll(newLabels);
+
+        Map<ConceptId, SchemaConcept> nextTypesById = new HashMap<>();
+        nextTypes.values().forEach(type -> nextTypesById.put(type.getId(), type));
+
+        return new SchemaSnapshot(VERSIONS.incrementAndGet(), ImmutableMap.copyOf(nextTypes), ImmutableMap.copyOf(nextTypesById),
+                ImmutableMap.copyOf(nextLabels));
+    }
+
+    /**
+     * @param newTypes types which may have been added or modified
+     * @param newLabels labels which may have been added or modified
+     * @param removedLabels labels of types which may no longer exist
+     * @return true if applying the changes would produce a version with the same types and labels as this one
+     */
+    boolean contains(Map<Label, SchemaConcept> newTypes, Map<Label, LabelId> newLabels, Set<Label> removedLabels){
+        return newTypes.entrySet().stream().allMatch(entry -> types.get(entry.getKey()) == entry.getValue()) &&
+                newLabels.entrySet().stream().allMatch(entry -> entry.getValue().equals(labels.get(entry.getKey()))) &&
+                removedLabels.stream().noneMatch(label -> types.containsKey(label) || labels.containsKey(label));
+    }
+
+    long version(){
+        return version;
+    }
+
+    @Nullable
+    SchemaConcept type(Label label){
+        return types.get(label);
+    }
+
+    @Nullable
+    SchemaConcept type(ConceptId id){
+        return typesById.get(id);
+    }
+
+    @Nullable
+    LabelId labelId(Label label){
+        return labels.get(label);
+    }
+
+    /**
+     * Gets the {@link TypeConstraints} of a type of this version, reading them the first time they are needed
+     *
+     * @param type A type which belongs to this version of the schema
+     * @return The constraints of the type
+     */
+    TypeConstraints constraints(Type type){
+        TypeConstraints typeConstraints = constraints.get(type.getLabel());
+        if(typeConstraints == null){
+            //Not computed inside the map as reading the constraints may have to read the graph
+            typeConstraints = TypeConstraints.of(type);
+            TypeConstraints existing = constraints.putIfAbsent(type.getLabel(), typeConstraints);
+            if(existing != null) typeConstraints = existing;
+        }
+        return typeConstraints;
+    }
+
+    Map<Label, SchemaConcept> types(){
+        return types;
+    }
+
+    Map<Label, LabelId> labels(){
+        return labels;
+    }
+}
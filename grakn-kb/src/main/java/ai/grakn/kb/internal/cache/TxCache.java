@@ -31,6 +31,7 @@ import ai.grakn.concept.Relationship;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Rule;
 import ai.grakn.concept.Thing;
+import ai.grakn.concept.Type;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import ai.grakn.kb.internal.concept.RelationshipReified;
 import ai.grakn.kb.internal.concept.ThingImpl;
@@ -42,6 +43,7 @@ import mjson.Json;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -67,11 +69,25 @@ public class TxCache {
     //Cache which is shared across multiple transactions
     private final GlobalCache globalCache;
 
-    //Caches any concept which has been touched before
+    //The version of the schema shared with other transactions. Null until the transaction first needs the schema.
+    private SchemaSnapshot schema = null;
+
+    //Caches any concept which has been touched before. Schema concepts in here override the shared schema.
     private final Map<ConceptId, Concept> conceptCache = new HashMap<>();
     private final Map<Label, SchemaConcept> schemaConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
 
+    //Schema concepts of the shared schema which have been deleted or relabelled in this transaction
+    private final Set<Label> removedLabels = new HashSet<>();
+    private final Set<ConceptId> removedSchemaConceptIds = new HashSet<>();
+
+    //Schema concepts whose internal caches have been used by this transaction
+    private final Set<SchemaConcept> boundSchemaConcepts = new HashSet<>();
+    private boolean schemaModified = false;
+
+    //Constraints of the types which cannot be shared with other transactions
+    private final Map<Label, TypeConstraints> typeConstraints = new HashMap<>();
+
     //Elements Tracked For Validation
     private final Set<Entity> modifiedEntities = new HashSet<>();
 
@@ -91,6 +107,12 @@ public class TxCache {
     //We Track the number of concept connections which have been made which may result in a new shard
     private final Map<ConceptId, Long> shardingCount = new HashMap<>();
 
+    //True once anything has been written to the graph, even if the changes cancel each other out
+    private boolean graphModified = false;
+
+    //The version of the data of the keyspace when the transaction was opened, see DataVersions
+    private long dataVersion;
+
     //Transaction Specific Meta Data
     private boolean isTxOpen = false;
     private GraknTxType txType;
@@ -107,7 +129,7 @@ public class TxCache {
      */
     public void writeToGraphCache(boolean isSafe){
         //When a commit has occurred or a graph is read only all types can be overridden this is because we know they are valid.
-        if(isSafe) globalCache.readTxCache(this);
+        if(isSafe) globalCache.readTxCache(this, !GraknTxType.READ.equals(txType));
 
         //When a commit has not occurred some checks are required
         //TODO: Fill our cache when not committing and when not read only graph.
@@ -118,26 +140,43 @@ public class TxCache {
      * @return true if ths schema labels have been cached. The graph cannot operate if this is false.
      */
     public boolean schemaNotCached(){
-        return labelCache.isEmpty();
+        return schema == null;
     }
 
     /**
-     * Refreshes the transaction schema cache by reading the central schema cache is read into this transaction cache.
-     * This method performs this operation whilst making a deep clone of the cached concepts to ensure transactions
-     * do not accidentally break the central schema cache.
+     * Refreshes the transaction schema cache by pointing it at the latest version of the central schema cache.
+     * Nothing is copied: the concepts of the snapshot keep their transaction bound values in their internal caches,
+     * so transactions cannot accidentally break the central schema cache.
      *
      */
     public void refreshSchemaCache(){
-        Map<Label, SchemaConcept> cachedSchemaSnapshot = globalCache.getCachedTypes();
-        Map<Label, LabelId> cachedLabelsSnapshot = globalCache.getCachedLabels();
+        schema = globalCache.getSchemaSnapshot();
+    }
 
-        //Read central cache into txCache cloning only base concepts. Sets clones later
-        for (SchemaConcept type : cachedSchemaSnapshot.values()) {
-            cacheConcept(type);
-        }
+    /**
+     * Tracks a {@link SchemaConcept} whose internal caches have been used by this transaction, so their values can
+     * be flushed on commit and cleared when the transaction closes.
+     *
+     * @param schemaConcept The schema concept whose internal caches have been used
+     */
+    public void trackBound(SchemaConcept schemaConcept){
+        boundSchemaConcepts.add(schemaConcept);
+    }
 
-        //Load Labels Separately. We do this because the TypeCache may have expired.
-        cachedLabelsSnapshot.forEach(this::cacheLabel);
+    /**
+     * Records that this transaction is changing the schema, so its changes must be announced when it commits
+     */
+    public void trackSchemaMutation(){
+        schemaModified = true;
+        typeConstraints.clear();
+    }
+
+    /**
+     *
+     * @return true if this transaction has changed the schema
+     */
+    boolean isSchemaModified(){
+        return schemaModified;
     }
 
     /**
@@ -166,6 +205,24 @@ public class TxCache {
         modifiedCastings.add(casting);
     }
 
+    /**
+     * Records that something has been written to the graph, including edges and properties which are not tracked
+     * for validation
+     */
+    public void trackGraphModification(){
+        graphModified = true;
+    }
+
+    /**
+     *
+     * @return true if any instances have been added, removed or modified in the transaction
+     */
+    public boolean hasModifications(){
+        return graphModified || !shardingCount.isEmpty() || !modifiedEntities.isEmpty() || !modifiedRoles.isEmpty() ||
+                !modifiedCastings.isEmpty() || !modifiedRelationshipTypes.isEmpty() ||
+                !modifiedRelationships.isEmpty() || !modifiedRules.isEmpty() || !modifiedAttributes.isEmpty();
+    }
+
     /**
      *
      * @return All the relations which have been affected in the transaction
@@ -206,6 +263,37 @@ public class TxCache {
         return conceptCache;
     }
 
+    /**
+     *
+     * @return The labels of all the types of the shared schema which no longer exist in this transaction
+     */
+    Set<Label> getRemovedLabels(){
+        return removedLabels;
+    }
+
+    /**
+     *
+     * @return All the schema concepts whose internal caches have been used by this transaction
+     */
+    Set<SchemaConcept> getBoundSchemaConcepts(){
+        return boundSchemaConcepts;
+    }
+
+    /**
+     * The types this transaction may have changed, which must be refreshed by every other cache of the keyspace
+     * once it commits. Every type the transaction has loaded or used is included, as any of them may have changed.
+     *
+     * @return the change to the schema, or nothing if this transaction has not changed the schema
+     */
+    public Optional<SchemaChange> getSchemaChange(){
+        if(!schemaModified) return Optional.empty();
+
+        Map<Label, LabelId> changedLabels = new HashMap<>(labelCache);
+        boundSchemaConcepts.forEach(schemaConcept ->
+                changedLabels.put(schemaConcept.getLabel(), schemaConcept.getLabelId()));
+        return Optional.of(SchemaChange.of(globalCache.keyspace(), changedLabels, removedLabels));
+    }
+
     /**
      *
      * @param concept The concept to no longer track
@@ -224,6 +312,9 @@ public class TxCache {
             Label label = ((SchemaConceptImpl) concept).getLabel();
             schemaConceptCache.remove(label);
             labelCache.remove(label);
+            boundSchemaConcepts.remove(concept);
+            removedLabels.add(label);
+            removedSchemaConceptIds.add(concept.getId());
         }
     }
 
@@ -247,18 +338,42 @@ public class TxCache {
             SchemaConceptImpl schemaConcept = (SchemaConceptImpl) concept;
             schemaConceptCache.put(schemaConcept.getLabel(), schemaConcept);
             labelCache.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+            removedLabels.remove(schemaConcept.getLabel());
+            removedSchemaConceptIds.remove(concept.getId());
         }
     }
 
+    /**
+     *
+     * @return the version of the shared schema read by this transaction, or nothing if this transaction has changed it
+     */
+    public Optional<Long> getSchemaVersion(){
+        if(schemaModified || schema == null) return Optional.empty();
+        return Optional.of(schema.version());
+    }
 
     /**
-     * Caches the mapping of a type label to a type id. This is necessary in order for ANY types to be looked up.
+     * Gets the constraints which the instances of a {@link Type} must satisfy. Unless this transaction has changed
+     * the schema, the constraints of the shared types are shared with every transaction reading the same schema.
      *
-     * @param label The type label to cache
-     * @param id Its equivalent id which can be looked up quickly in the graph
+     * @param type The type whose constraints are needed
+     * @return The constraints of the type
+     */
+    public TypeConstraints getTypeConstraints(Type type){
+        if(!schemaModified && sharedSchemaConcept(type.getLabel()) == type) return schema.constraints(type);
+        return typeConstraints.computeIfAbsent(type.getLabel(), label -> TypeConstraints.of(type));
+    }
+
+    /**
+     * Looks up a type in the shared schema, ignoring the types which this transaction has removed
      */
-    private void cacheLabel(Label label, LabelId id){
-        labelCache.put(label, id);
+    private SchemaConcept sharedSchemaConcept(Label label){
+        if(schema == null || removedLabels.contains(label)) return null;
+        return schema.type(label);
+    }
+    private SchemaConcept sharedSchemaConcept(ConceptId id){
+        if(schema == null || removedSchemaConceptIds.contains(id)) return null;
+        return schema.type(id);
     }
 
     /**
@@ -268,7 +383,7 @@ public class TxCache {
      * @return true if the concept is cached
      */
     public boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        return conceptCache.containsKey(id) || sharedSchemaConcept(id) != null;
     }
 
     /**
@@ -277,7 +392,7 @@ public class TxCache {
      * @return true if the concept is cached
      */
     public boolean isTypeCached(Label label){
-        return schemaConceptCache.containsKey(label);
+        return schemaConceptCache.containsKey(label) || sharedSchemaConcept(label) != null;
     }
 
     /**
@@ -286,7 +401,7 @@ public class TxCache {
      * @return true if the label is cached and has a valid mapping to a id
      */
     public boolean isLabelCached(Label label){
-        return labelCache.containsKey(label);
+        return convertLabelToId(label) != null;
     }
 
     /**
@@ -297,8 +412,10 @@ public class TxCache {
      * @return The cached concept
      */
     public <X extends Concept> X getCachedConcept(ConceptId id){
+        Concept concept = conceptCache.get(id);
+        if(concept == null) concept = sharedSchemaConcept(id);
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
     }
 
     /**
@@ -309,12 +426,16 @@ public class TxCache {
      * @return The cached type
      */
     public <X extends SchemaConcept> X getCachedSchemaConcept(Label label){
+        SchemaConcept schemaConcept = schemaConceptCache.get(label);
+        if(schemaConcept == null) schemaConcept = sharedSchemaConcept(label);
         //noinspection unchecked
-        return (X) schemaConceptCache.get(label);
+        return (X) schemaConcept;
     }
 
     public LabelId convertLabelToId(Label label){
-        return labelCache.get(label);
+        LabelId labelId = labelCache.get(label);
+        if(labelId == null && schema != null && !removedLabels.contains(label)) labelId = schema.labelId(label);
+        return labelId;
     }
 
     public void addedInstance(ConceptId conceptId){
@@ -393,6 +514,7 @@ public class TxCache {
 
         //Clear Concept Caches
         conceptCache.values().forEach(concept -> ContainsTxCache.from(concept).txCacheClear());
+        boundSchemaConcepts.forEach(concept -> ContainsTxCache.from(concept).txCacheClear());
 
         //Clear Collection Caches
         modifiedEntities.clear();
@@ -407,11 +529,38 @@ public class TxCache {
         conceptCache.clear();
         schemaConceptCache.clear();
         labelCache.clear();
+        removedLabels.clear();
+        removedSchemaConceptIds.clear();
+        boundSchemaConcepts.clear();
+        typeConstraints.clear();
+        schemaModified = false;
+        graphModified = false;
+        schema = null;
     }
+    /**
+     * Forgets all instances cached by a read only transaction, keeping the schema it has cached.
+     */
+    public void clearInstances(){
+        conceptCache.values().stream()
+                .filter(concept -> !concept.isSchemaConcept())
+                .forEach(concept -> ContainsTxCache.from(concept).txCacheClear());
+        conceptCache.values().removeIf(concept -> !concept.isSchemaConcept());
+        relationIndexCache.clear();
+        dataVersion = DataVersions.get().version(globalCache.keyspace());
+    }
+
     public void openTx(GraknTxType txType){
         isTxOpen = true;
         this.txType = txType;
         closedReason = null;
+        dataVersion = DataVersions.get().version(globalCache.keyspace());
+    }
+
+    /**
+     * @return the version of the data of the keyspace when the transaction was opened or last recycled
+     */
+    public long dataVersion(){
+        return dataVersion;
     }
     public boolean isTxOpen(){
         return isTxOpen;
@@ -0,0 +1,123 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.RelationshipType;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Type;
+import ai.grakn.kb.internal.concept.TypeImpl;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static ai.grakn.util.CommonUtil.toImmutableList;
+
+/**
+ * <p>
+ *     The constraints which every instance of a {@link Type} must satisfy
+ * </p>
+ *
+ * <p>
+ *     Validation used to walk the plays edges of a type and all of its super types for every modified instance.
+ *     The walk is done once per {@link Type} instead, and the result is shared through the {@link SchemaSnapshot}
+ *     by all the transactions which read the same version of the schema.
+ * </p>
+ *
+ * @author Grakn Warriors
+ *
+ */
+public class TypeConstraints {
+    private final ImmutableMap<Label, Boolean> plays;
+    private final ImmutableList<Role> requiredRoles;
+    private final ImmutableList<AttributeType> keys;
+    private final ImmutableSet<Label> relates;
+
+    private TypeConstraints(Map<Label, Boolean> plays, List<Role> requiredRoles, List<AttributeType> keys, Set<Label> relates){
+        this.plays = ImmutableMap.copyOf(plays);
+        this.requiredRoles = ImmutableList.copyOf(requiredRoles);
+        this.keys = ImmutableList.copyOf(keys);
+        this.relates = ImmutableSet.copyOf(relates);
+    }
+
+    /**
+     * Reads the constraints of a {@link Type} from its own plays edges and the plays edges of its super types
+     *
+     * @param type The type whose constraints are needed
+     * @return The constraints of the type
+     */
+    static TypeConstraints of(Type type){
+        Map<Label, Boolean> plays = new LinkedHashMap<>();
+        Set<Role> requiredRoles = new LinkedHashSet<>();
+
+        TypeImpl<?, ?> currentType = TypeImpl.from(type);
+        while(currentType != null){
+            currentType.directPlays().forEach((role, required) -> {
+                plays.merge(role.getLabel(), required, Boolean::logicalOr);
+                if(required) requiredRoles.add(role);
+            });
+            currentType = (TypeImpl<?, ?>) currentType.sup();
+        }
+
+        Set<Label> relates = new LinkedHashSet<>();
+        if(type.isRelationshipType()){
+            ((RelationshipType) type).relates().forEach(role -> relates.add(role.getLabel()));
+        }
+
+        return new TypeConstraints(plays, ImmutableList.copyOf(requiredRoles), type.keys().collect(toImmutableList()), relates);
+    }
+
+    /**
+     * @param role The label of a {@link Role}
+     * @return null if instances of the type cannot play the role, otherwise if they must play it exactly once
+     */
+    @Nullable
+    public Boolean plays(Label role){
+        return plays.get(role);
+    }
+
+    /**
+     * @return The {@link Role}s which every instance of the type must play exactly once
+     */
+    public List<Role> requiredRoles(){
+        return requiredRoles;
+    }
+
+    /**
+     * @return The key {@link AttributeType}s of the type
+     */
+    public List<AttributeType> keys(){
+        return keys;
+    }
+
+    /**
+     * @return The labels of the {@link Role}s related by a {@link RelationshipType}. Empty for other types.
+     */
+    public Set<Label> relates(){
+        return relates;
+    }
+}
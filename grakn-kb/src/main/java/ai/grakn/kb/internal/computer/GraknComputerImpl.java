@@ -36,6 +36,7 @@ import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComp
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 
 import javax.annotation.Nullable;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -61,16 +62,39 @@ import java.util.stream.Collectors;
  * @author fppt
  */
 public class GraknComputerImpl implements GraknComputer {
+    /**
+     * Subgraphs with at most this many vertices are copied into memory and computed locally instead of with spark
+     */
+    public static final String LOCAL_COMPUTER_MAX_VERTICES = "computer.local.max-vertices";
+
     private final Graph graph;
     private final Class<? extends GraphComputer> graphComputerClass;
+    private final @Nullable Graph snapshotSource;
+    private final long localMaxVertices;
+    private Optional<Long> estimatedSubgraphSize = Optional.empty();
+    private Backend backend = Backend.AUTOMATIC;
     private GraphComputer graphComputer = null;
 
     public GraknComputerImpl(Graph graph) {
+        this(graph, null);
+    }
+
+    /**
+     * @param graph          The graph the spark computer runs on
+     * @param snapshotSource An OLTP graph of the same keyspace. When provided, subgraphs which are estimated to be
+     *                       small are read from it into memory and computed locally, see
+     *                       {@link #LOCAL_COMPUTER_MAX_VERTICES} and {@link #estimatedSubgraphSize(long)}
+     */
+    public GraknComputerImpl(Graph graph, @Nullable Graph snapshotSource) {
         this.graph = graph;
         if (graph instanceof TinkerGraph) {
             graphComputerClass = TinkerGraphComputer.class;
+            this.snapshotSource = null;
+            this.localMaxVertices = 0;
         } else {
             graphComputerClass = GraknSparkComputer.class;
+            this.snapshotSource = snapshotSource;
+            this.localMaxVertices = graph.configuration().getLong(LOCAL_COMPUTER_MAX_VERTICES, 0L);
         }
     }
 
@@ -78,6 +102,15 @@ public class GraknComputerImpl implements GraknComputer {
     public ComputerResult compute(@Nullable VertexProgram program, @Nullable MapReduce mapReduce,
                                   @Nullable Set<LabelId> types, Boolean includesShortcut) {
         try {
+            Optional<TinkerGraph> localGraph = getSnapshot(types, includesShortcut);
+            if (localGraph.isPresent()) {
+                // The tinker computer runs a worker per core over the snapshot
+                graphComputer = localGraph.get().compute(TinkerGraphComputer.class);
+                if (program != null) graphComputer = graphComputer.program(program);
+                if (mapReduce != null) graphComputer = graphComputer.mapReduce(mapReduce);
+                return graphComputer.submit().get();
+            }
+
             if (program != null) graphComputer = getGraphComputer().program(program);
             if (mapReduce != null) graphComputer = graphComputer.mapReduce(mapReduce);
             applyFilters(types, includesShortcut);
@@ -93,6 +126,18 @@ public class GraknComputerImpl implements GraknComputer {
         return compute(program, mapReduce, types, true);
     }
 
+    @Override
+    public GraknComputer estimatedSubgraphSize(long vertices) {
+        this.estimatedSubgraphSize = Optional.of(vertices);
+        return this;
+    }
+
+    @Override
+    public GraknComputer backend(Backend backend) {
+        this.backend = backend;
+        return this;
+    }
+
     @Override
     public void killJobs() {
         if (graphComputer != null && graphComputerClass.equals(GraknSparkComputer.class)) {
@@ -100,6 +145,24 @@ public class GraknComputerImpl implements GraknComputer {
         }
     }
 
+    /**
+     * Copies the subgraph into memory if it is estimated to be small enough to be computed locally, or if the
+     * {@link Backend#LOCAL} backend was chosen. Otherwise nothing is read when there is no estimate or the estimate is
+     * too large. The limit is still checked while copying in case the estimate is out of date.
+     *
+     * @return The snapshot of the subgraph or nothing if it should be computed with spark
+     */
+    private Optional<TinkerGraph> getSnapshot(@Nullable Set<LabelId> types, boolean includesShortcut) {
+        if (snapshotSource == null || backend == Backend.SPARK) return Optional.empty();
+        if (backend == Backend.LOCAL) {
+            return SubgraphSnapshot.load(snapshotSource, types, includesShortcut, Long.MAX_VALUE);
+        }
+
+        if (localMaxVertices <= 0) return Optional.empty();
+        if (!estimatedSubgraphSize.isPresent() || estimatedSubgraphSize.get() > localMaxVertices) return Optional.empty();
+        return SubgraphSnapshot.load(snapshotSource, types, includesShortcut, localMaxVertices);
+    }
+
     private RuntimeException asRuntimeException(Throwable throwable) {
         Throwable cause = throwable.getCause();
         if (cause instanceof RuntimeException) {
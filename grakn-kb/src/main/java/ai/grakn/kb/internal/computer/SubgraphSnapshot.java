@@ -0,0 +1,126 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.concept.LabelId;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ * Copies the subgraph an analytics query runs over into an in memory {@link TinkerGraph}
+ * </p>
+ *
+ * <p>
+ * The same filters as {@link GraknComputerImpl} applies to the spark computer are used, so vertex programs and
+ * map reduce jobs see exactly the same vertices and edges when they are run locally on the snapshot.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+final class SubgraphSnapshot {
+
+    private SubgraphSnapshot() {
+    }
+
+    /**
+     * @param source           An OLTP graph to read the subgraph from
+     * @param types            instance types in the subgraph, all vertices are copied when empty or null
+     * @param includesShortcut whether shortcut edges are part of the subgraph
+     * @param maxVertices      the largest subgraph worth copying
+     * @return A snapshot of the subgraph or nothing if it has more than maxVertices vertices
+     */
+    static Optional<TinkerGraph> load(Graph source, @Nullable Set<LabelId> types, boolean includesShortcut,
+                                      long maxVertices) {
+        Set<Integer> labelIds = types == null ? Collections.emptySet() :
+                types.stream().map(LabelId::getValue).collect(Collectors.toSet());
+
+        // Read in a separate transaction so any transaction open on this thread is left untouched
+        Graph readGraph = source.features().graph().supportsThreadedTransactions() ?
+                source.tx().createThreadedTx() : source;
+        try {
+            return copy(readGraph, labelIds, includesShortcut, maxVertices);
+        } finally {
+            if (readGraph != source) readGraph.tx().rollback();
+        }
+    }
+
+    private static Optional<TinkerGraph> copy(Graph source, Set<Integer> labelIds, boolean includesShortcut,
+                                              long maxVertices) {
+        GraphTraversal<Vertex, Vertex> vertices = labelIds.isEmpty() ? source.traversal().V() :
+                source.traversal().V().has(Schema.VertexProperty.THING_TYPE_LABEL_ID.name(), P.within(labelIds));
+
+        TinkerGraph snapshot = TinkerGraph.open();
+        List<Vertex> copied = new ArrayList<>();
+        while (vertices.hasNext()) {
+            if (copied.size() >= maxVertices) {
+                snapshot.close();
+                return Optional.empty();
+            }
+            Vertex vertex = vertices.next();
+            Vertex copy = snapshot.addVertex(T.id, vertex.id(), T.label, vertex.label());
+            vertex.properties().forEachRemaining(property -> copy.property(property.key(), property.value()));
+            copied.add(vertex);
+        }
+
+        for (Vertex vertex : copied) {
+            Vertex outVertex = snapshot.vertices(vertex.id()).next();
+            vertex.edges(Direction.OUT).forEachRemaining(edge -> {
+                Iterator<Vertex> inVertex = snapshot.vertices(edge.inVertex().id());
+                if (inVertex.hasNext() && inSubgraph(edge, labelIds, includesShortcut)) {
+                    Edge copy = outVertex.addEdge(edge.label(), inVertex.next(), T.id, edge.id());
+                    edge.properties().forEachRemaining(property -> copy.property(property.key(), property.value()));
+                }
+            });
+        }
+
+        return Optional.of(snapshot);
+    }
+
+    private static boolean inSubgraph(Edge edge, Set<Integer> labelIds, boolean includesShortcut) {
+        if (labelIds.isEmpty()) return true;
+
+        if (edge.label().equals(Schema.EdgeLabel.SHORTCUT.getLabel())) return includesShortcut;
+
+        if (edge.label().equals(Schema.EdgeLabel.RESOURCE.getLabel())) {
+            Iterator<Object> relationshipType =
+                    edge.values(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name());
+            return relationshipType.hasNext() && labelIds.contains(relationshipType.next());
+        }
+
+        return false;
+    }
+}
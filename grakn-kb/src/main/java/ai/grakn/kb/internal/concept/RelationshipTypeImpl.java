@@ -46,7 +46,7 @@ import java.util.stream.Stream;
  *
  */
 public class RelationshipTypeImpl extends TypeImpl<RelationshipType, Relationship> implements RelationshipType {
-    private final Cache<Set<Role>> cachedRelates = new Cache<>(Cacheable.set(), () -> this.<Role>neighbours(Direction.OUT, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
+    private final Cache<Set<Role>> cachedRelates = trackedCache(Cacheable.set(), () -> this.<Role>neighbours(Direction.OUT, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
 
     RelationshipTypeImpl(VertexElement vertexElement) {
         super(vertexElement);
@@ -74,6 +74,12 @@ public class RelationshipTypeImpl extends TypeImpl<RelationshipType, Relationshi
         cachedRelates.clear();
     }
 
+    @Override
+    public void globalCacheClear(){
+        super.globalCacheClear();
+        cachedRelates.clearGlobal();
+    }
+
     @Override
     public Stream<Role> relates() {
         return cachedRelates.get().stream();
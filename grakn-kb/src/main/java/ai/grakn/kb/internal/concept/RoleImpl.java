@@ -50,8 +50,8 @@ import java.util.stream.Stream;
  *
  */
 public class RoleImpl extends SchemaConceptImpl<Role> implements Role {
-    private final Cache<Set<Type>> cachedDirectPlayedByTypes = new Cache<>(Cacheable.set(), () -> this.<Type>neighbours(Direction.IN, Schema.EdgeLabel.PLAYS).collect(Collectors.toSet()));
-    private final Cache<Set<RelationshipType>> cachedRelationTypes = new Cache<>(Cacheable.set(), () -> this.<RelationshipType>neighbours(Direction.IN, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
+    private final Cache<Set<Type>> cachedDirectPlayedByTypes = trackedCache(Cacheable.set(), () -> this.<Type>neighbours(Direction.IN, Schema.EdgeLabel.PLAYS).collect(Collectors.toSet()));
+    private final Cache<Set<RelationshipType>> cachedRelationTypes = trackedCache(Cacheable.set(), () -> this.<RelationshipType>neighbours(Direction.IN, Schema.EdgeLabel.RELATES).collect(Collectors.toSet()));
 
     RoleImpl(VertexElement vertexElement) {
         super(vertexElement);
@@ -75,6 +75,13 @@ public class RoleImpl extends SchemaConceptImpl<Role> implements Role {
         cachedRelationTypes.clear();
     }
 
+    @Override
+    public void globalCacheClear(){
+        super.globalCacheClear();
+        cachedDirectPlayedByTypes.clearGlobal();
+        cachedRelationTypes.clearGlobal();
+    }
+
     @Override
     public Stream<RelationshipType> relationTypes() {
         return cachedRelationTypes.get().stream();
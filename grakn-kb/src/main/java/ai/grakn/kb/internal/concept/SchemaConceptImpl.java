@@ -36,6 +36,7 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,9 +62,9 @@ import static scala.tools.scalap.scalax.rules.scalasig.NoSymbol.isAbstract;
 public abstract class SchemaConceptImpl<T extends SchemaConcept> extends ConceptImpl implements SchemaConcept {
     private final Cache<Label> cachedLabel = new Cache<>(Cacheable.label(), () ->  Label.of(vertex().property(Schema.VertexProperty.SCHEMA_LABEL)));
     private final Cache<LabelId> cachedLabelId = new Cache<>(Cacheable.labelId(), () -> LabelId.of(vertex().property(Schema.VertexProperty.LABEL_ID)));
-    private final Cache<T> cachedSuperType = new Cache<>(Cacheable.concept(), () -> this.<T>neighbours(Direction.OUT, Schema.EdgeLabel.SUB).findFirst().orElse(null));
-    private final Cache<Set<T>> cachedDirectSubTypes = new Cache<>(Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SUB).collect(Collectors.toSet()));
-    private final Cache<Boolean> cachedIsImplicit = new Cache<>(Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_IMPLICIT));
+    private final Cache<T> cachedSuperType = trackedCache(Cacheable.concept(), () -> this.<T>neighbours(Direction.OUT, Schema.EdgeLabel.SUB).findFirst().orElse(null));
+    private final Cache<Set<T>> cachedDirectSubTypes = trackedCache(Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SUB).collect(Collectors.toSet()));
+    private final Cache<Boolean> cachedIsImplicit = trackedCache(Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_IMPLICIT));
 
     SchemaConceptImpl(VertexElement vertexElement) {
         super(vertexElement);
@@ -80,6 +81,14 @@ public abstract class SchemaConceptImpl<T extends SchemaConcept> extends Concept
         cachedIsImplicit.set(isImplicit);
     }
 
+    /**
+     * Creates an internal cache which tells the transaction whenever it is used, so that this concept can be
+     * shared by transactions through the schema cache without being copied.
+     */
+    <V> Cache<V> trackedCache(Cacheable<V> cacheable, Supplier<V> databaseReader){
+        return new Cache<>(cacheable, databaseReader, () -> vertex().tx().txCache().trackBound(this));
+    }
+
     public T setLabel(Label label){
         try {
             vertex().tx().txCache().remove(this);
@@ -127,6 +136,15 @@ public abstract class SchemaConceptImpl<T extends SchemaConcept> extends Concept
         cachedIsImplicit.clear();
     }
 
+    /**
+     * Clears the internal caches shared by all transactions so they are read from the persisted graph again
+     */
+    public void globalCacheClear(){
+        cachedSuperType.clearGlobal();
+        cachedDirectSubTypes.clearGlobal();
+        cachedIsImplicit.clearGlobal();
+    }
+
     /**
      *
      * @return The super of this {@link SchemaConcept}
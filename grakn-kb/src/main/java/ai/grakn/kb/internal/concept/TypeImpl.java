@@ -64,11 +64,11 @@ import java.util.stream.Stream;
 public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl<T> implements Type{
     protected final Logger LOG = LoggerFactory.getLogger(TypeImpl.class);
 
-    private final Cache<Boolean> cachedIsAbstract = new Cache<>(Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_ABSTRACT));
-    private final Cache<Set<T>> cachedShards = new Cache<>(Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SHARD).collect(Collectors.toSet()));
+    private final Cache<Boolean> cachedIsAbstract = trackedCache(Cacheable.bool(), () -> vertex().propertyBoolean(Schema.VertexProperty.IS_ABSTRACT));
+    private final Cache<Set<T>> cachedShards = trackedCache(Cacheable.set(), () -> this.<T>neighbours(Direction.IN, Schema.EdgeLabel.SHARD).collect(Collectors.toSet()));
 
     //This cache is different in order to keep track of which plays are required
-    private final Cache<Map<Role, Boolean>> cachedDirectPlays = new Cache<>(Cacheable.map(), () -> {
+    private final Cache<Map<Role, Boolean>> cachedDirectPlays = trackedCache(Cacheable.map(), () -> {
         Map<Role, Boolean> roleTypes = new HashMap<>();
 
         vertex().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.PLAYS).forEach(edge -> {
@@ -114,6 +114,17 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
         cachedDirectPlays.clear();
     }
 
+    /**
+     * Clears the internal caches shared by all transactions
+     */
+    @Override
+    public void globalCacheClear(){
+        super.globalCacheClear();
+        cachedIsAbstract.clearGlobal();
+        cachedShards.clearGlobal();
+        cachedDirectPlays.clearGlobal();
+    }
+
     /**
      * Utility method used to create or find an instance of this type
      *
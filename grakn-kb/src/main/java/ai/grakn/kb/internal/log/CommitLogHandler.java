@@ -0,0 +1,233 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.kb.internal.log;
+
+import ai.grakn.Grakn;
+import ai.grakn.util.EngineCommunicator;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <p>
+ *     Accumulates commit logs and ships them to engine in batches
+ * </p>
+ *
+ * <p>
+ *     Commit logs submitted by committing transactions are put in a bounded queue. A single sender thread drains
+ *     the queue whenever enough logs have accumulated or the flush interval has passed, merges the logs into one
+ *     (summing the instance count changes of each type and joining the attributes to fix by index) and posts the
+ *     merged log to engine. Engine therefore receives one commit log, and creates one post processing and one
+ *     counting task, per batch rather than per commit. The schema changes of the batch are passed on too, and each
+ *     batch is marked with the {@link #PROCESS_ID} of the process which sent it, so that engine can tell the commits
+ *     of its own process, whose schema changes it has already seen, from those of other processes.
+ *
+ *     When the queue is full, committing transactions wait for the sender to catch up.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class CommitLogHandler {
+    private static final Logger LOG = LoggerFactory.getLogger(CommitLogHandler.class);
+
+    public static final String BATCH_SIZE = "graph.commit-log.batch-size";
+    public static final String FLUSH_INTERVAL_MS = "graph.commit-log.flush-interval-ms";
+    /**
+     * Identifies the commit logs sent by this process
+     */
+    public static final String PROCESS_ID = UUID.randomUUID().toString();
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 100;
+
+    private final String commitLogEndPoint;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final BlockingQueue<Json> pendingLogs;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService sender = null;
+
+    CommitLogHandler(String commitLogEndPoint, int batchSize, long flushIntervalMs) {
+        this.commitLogEndPoint = commitLogEndPoint;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.pendingLogs = new ArrayBlockingQueue<>(batchSize * 10);
+    }
+
+    /**
+     * @param commitLogEndPoint The location of the commit log endpoint of engine
+     * @param properties The properties of the graph, which may override the default batch size and flush interval
+     * @return A handler which sends commit logs to the given endpoint
+     */
+    public static CommitLogHandler create(String commitLogEndPoint, Properties properties) {
+        int batchSize = Integer.parseInt(properties.getProperty(BATCH_SIZE, Integer.toString(DEFAULT_BATCH_SIZE)));
+        long flushIntervalMs =
+                Long.parseLong(properties.getProperty(FLUSH_INTERVAL_MS, Long.toString(DEFAULT_FLUSH_INTERVAL_MS)));
+        return new CommitLogHandler(commitLogEndPoint, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * The sender thread is only started once there is something to send
+     */
+    private synchronized ScheduledExecutorService sender() {
+        if (sender == null) {
+            sender = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("commit-log-sender-%d").setDaemon(true).build());
+            sender.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        return sender;
+    }
+
+    /**
+     * Queues a commit log to be sent to engine as part of the next batch.
+     *
+     * @param commitLog The commit log of a single transaction
+     */
+    public void submit(Json commitLog) {
+        if (Grakn.IN_MEMORY.equals(commitLogEndPoint)) return;
+
+        ScheduledExecutorService activeSender = sender();
+        try {
+            pendingLogs.put(commitLog);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while waiting to submit commit log", e);
+            return;
+        }
+
+        if (pendingLogs.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                activeSender.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                //The handler is being closed, which sends any pending logs
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Sends all the commit logs which have not been sent yet and stops the sender.
+     */
+    public void close() {
+        ScheduledExecutorService stoppingSender;
+        synchronized (this) {
+            stoppingSender = sender;
+            sender = null;
+        }
+        if (stoppingSender == null) return;
+
+        stoppingSender.shutdown();
+        try {
+            stoppingSender.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flush() {
+        synchronized (flushLock) {
+            flushScheduled.set(false);
+            sendPendingLogs();
+        }
+    }
+
+    private void sendPendingLogs() {
+        try {
+            while (!pendingLogs.isEmpty()) {
+                List<Json> batch = new ArrayList<>(batchSize);
+                pendingLogs.drainTo(batch, batchSize);
+                if (batch.isEmpty()) return;
+
+                Json commitLog = mergeLogs(batch).set(REST.Request.COMMIT_LOG_ORIGIN, PROCESS_ID);
+                String response = EngineCommunicator.contactEngine(
+                        commitLogEndPoint, REST.HttpConn.POST_METHOD, commitLog.toString());
+                LOG.debug("Response from engine [" + response + "] for [" + batch.size() + "] commit logs");
+            }
+        } catch (RuntimeException e) {
+            //The sender must survive a failure to reach engine so that later batches can still be sent
+            LOG.error("Could not submit commit logs to engine", e);
+        }
+    }
+
+    /**
+     * Merges commit logs into a single commit log.
+     *
+     * @param commitLogs The commit logs to merge
+     * @return A commit log with the summed instance count changes, all the concepts to fix and all the schema changes
+     */
+    public static Json mergeLogs(Collection<Json> commitLogs) {
+        Map<String, Long> countChanges = new HashMap<>();
+        Map<String, Set<String>> attributesToFix = new HashMap<>();
+        Json schemaChanges = Json.array();
+
+        for (Json commitLog : commitLogs) {
+            commitLog.at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().forEach(count ->
+                    countChanges.merge(count.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString(),
+                            count.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong(), Long::sum));
+
+            commitLog.at(REST.Request.COMMIT_LOG_FIXING).at(Schema.BaseType.ATTRIBUTE.name()).asJsonMap()
+                    .forEach((index, ids) -> ids.asJsonList().forEach(id ->
+                            attributesToFix.computeIfAbsent(index, k -> new LinkedHashSet<>()).add(id.asString())));
+
+            if (commitLog.has(REST.Request.COMMIT_LOG_SCHEMA)) {
+                commitLog.at(REST.Request.COMMIT_LOG_SCHEMA).asJsonList().forEach(schemaChanges::add);
+            }
+        }
+
+        Json typesWithInstanceChanges = Json.array();
+        countChanges.forEach((conceptId, count) -> {
+            if (count != 0) {
+                typesWithInstanceChanges.add(Json.object(
+                        REST.Request.COMMIT_LOG_CONCEPT_ID, conceptId,
+                        REST.Request.COMMIT_LOG_SHARDING_COUNT, count));
+            }
+        });
+
+        Json conceptsForInspection = Json.object();
+        conceptsForInspection.set(Schema.BaseType.ATTRIBUTE.name(), Json.make(attributesToFix));
+
+        Json formattedLog = Json.object();
+        formattedLog.set(REST.Request.COMMIT_LOG_FIXING, conceptsForInspection);
+        formattedLog.set(REST.Request.COMMIT_LOG_COUNTING, typesWithInstanceChanges);
+        formattedLog.set(REST.Request.COMMIT_LOG_SCHEMA, schemaChanges);
+        return formattedLog;
+    }
+}
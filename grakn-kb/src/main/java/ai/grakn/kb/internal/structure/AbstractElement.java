@@ -73,6 +73,7 @@ public abstract class AbstractElement<E extends Element, P extends Enum> {
      * Deletes the element from the graph
      */
     public void delete(){
+        tx().txCache().trackGraphModification();
         element().remove();
     }
 
@@ -83,10 +84,12 @@ public abstract class AbstractElement<E extends Element, P extends Enum> {
      */
     public void property(P key, Object value){
         if(value == null) {
+            tx().txCache().trackGraphModification();
             element().property(key.name()).remove();
         } else {
             Property<Object> foundProperty = element().property(key.name());
             if(!foundProperty.isPresent() || !foundProperty.value().equals(value)){
+                tx().txCache().trackGraphModification();
                 element().property(key.name(), value);
             }
         }
@@ -46,6 +46,7 @@ public class EdgeElement extends AbstractElement<Edge, Schema.EdgeProperty> {
      * Deletes the edge between two concepts and adds both those concepts for re-validation in case something goes wrong
      */
     public void delete(){
+        tx().txCache().trackGraphModification();
         element().remove();
     }
 
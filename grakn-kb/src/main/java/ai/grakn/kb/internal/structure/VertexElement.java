@@ -71,6 +71,7 @@ public class VertexElement extends AbstractElement<Vertex, Schema.VertexProperty
      * @return The edge created
      */
     public EdgeElement addEdge(VertexElement to, Schema.EdgeLabel type) {
+        tx().txCache().trackGraphModification();
         return tx().factory().buildEdgeElement(element().addEdge(type.getLabel(), to.element()));
     }
 
@@ -100,6 +101,7 @@ public class VertexElement extends AbstractElement<Vertex, Schema.VertexProperty
      * @param targets An optional set of targets to delete edges from
      */
     public void deleteEdge(Direction direction, Schema.EdgeLabel label, VertexElement... targets){
+        tx().txCache().trackGraphModification();
         Iterator<Edge> edges = element().edges(direction, label.getLabel());
         if(targets.length == 0){
             edges.forEachRemaining(Edge::remove);
@@ -27,27 +27,38 @@ import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.RuleType;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.InvalidKBException;
+import ai.grakn.kb.internal.cache.DataVersions;
+import ai.grakn.kb.internal.cache.SchemaChange;
+import ai.grakn.kb.internal.cache.SchemaChangeBus;
 import ai.grakn.kb.internal.concept.EntityTypeImpl;
 import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.VerificationException;
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,8 +67,10 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -237,6 +250,132 @@ public class GraknTxTest extends TxTestBase {
         assertTrue("Main cache was affected by transaction", foundE1.asType().plays().anyMatch(role -> role.equals(r1)));
     }
 
+    @Test
+    public void whenTransactionsDoNotChangeTheSchema_TheyShareTheCachedSchema(){
+        EntityType e1 = tx.putEntityType("e1");
+        tx.commit();
+        Map<Label, SchemaConcept> cachedTypes = tx.getGlobalCache().getCachedTypes();
+
+        for (int i = 0; i < 3; i++) {
+            tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.READ);
+            assertEquals(e1, tx.getEntityType("e1"));
+            tx.close();
+        }
+
+        assertSame("A new version of the schema was cached", cachedTypes, tx.getGlobalCache().getCachedTypes());
+    }
+
+    @Test
+    public void whenCommittingWithoutChangingTheSchema_NoNewVersionOfTheSchemaIsCached(){
+        tx.putEntityType("e1");
+        tx.commit();
+        Map<Label, SchemaConcept> cachedTypes = tx.getGlobalCache().getCachedTypes();
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        assertNotNull(tx.getEntityType("e1"));
+        tx.commit();
+
+        assertSame("A new version of the schema was cached", cachedTypes, tx.getGlobalCache().getCachedTypes());
+    }
+
+    @Test
+    public void whenDeletingACommittedType_ItIsRemovedFromTheCentralCache(){
+        Label label = tx.putEntityType("e1").getLabel();
+        tx.commit();
+        assertTrue(tx.getGlobalCache().getCachedTypes().containsKey(label));
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        tx.getEntityType("e1").delete();
+        tx.commit();
+        assertFalse(tx.getGlobalCache().getCachedTypes().containsKey(label));
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        assertNull(tx.getEntityType("e1"));
+    }
+
+    @Test
+    public void whenCommittingSchemaChanges_TheChangedLabelsArePublished(){
+        List<SchemaChange> changes = new ArrayList<>();
+        Consumer<SchemaChange> listener = changes::add;
+        SchemaChangeBus.get().addListener(listener);
+        try {
+            EntityType e1 = tx.putEntityType("e1");
+            LabelId labelId = e1.getLabelId();
+            tx.commit();
+
+            tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.READ);
+            tx.getEntityType("e1");
+            tx.close();
+
+            assertEquals(1, changes.size());
+            assertEquals(tx.getKeyspace(), changes.get(0).keyspace());
+            assertEquals(labelId, changes.get(0).changedLabels().get(Label.of("e1")));
+        } finally {
+            SchemaChangeBus.get().removeListener(listener);
+        }
+    }
+
+    @Test
+    public void whenCommittingChangesWhichCancelOut_TheDataVersionIsStillBumped(){
+        tx.putEntityType("e1");
+        tx.commit();
+
+        List<String> commits = new ArrayList<>();
+        Consumer<String> listener = commits::add;
+        DataVersions.get().addListener(listener);
+        try {
+            tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+            long version = tx.admin().dataVersion();
+            tx.getEntityType("e1").addEntity().delete();
+            assertTrue(tx.admin().hasUncommittedChanges());
+            tx.commit();
+
+            tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.READ);
+            assertTrue(tx.admin().dataVersion() > version);
+            assertEquals(Collections.singletonList(tx.getKeyspace()), commits);
+            tx.close();
+        } finally {
+            DataVersions.get().removeListener(listener);
+        }
+    }
+
+    @Test
+    public void whenAnotherTransactionCommits_AnOpenTransactionKeepsItsDataVersion(){
+        long version = tx.admin().dataVersion();
+
+        DataVersions.get().receive(tx.getKeyspace());
+
+        assertEquals(version, tx.admin().dataVersion());
+        assertTrue(DataVersions.get().version(tx.getKeyspace()) > version);
+    }
+
+    @Test
+    public void whenReceivingAChangeToACachedType_TheTypeStaysCachedAndIsReadAgain(){
+        Role r1 = tx.putRole("r1");
+        EntityType e1 = tx.putEntityType("e1").plays(r1);
+        Label label = e1.getLabel();
+        LabelId labelId = e1.getLabelId();
+        tx.commit();
+
+        SchemaChangeBus.get().receive(SchemaChange.of(tx.getKeyspace(), ImmutableMap.of(label, labelId), ImmutableSet.of()));
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.READ);
+        assertSame(e1, tx.getGlobalCache().getCachedTypes().get(label));
+        assertThat(tx.getEntityType("e1").plays().collect(Collectors.toSet()), containsInAnyOrder(r1));
+    }
+
+    @Test
+    public void whenReceivingARemovedType_ItCanNoLongerBeFoundByLabel(){
+        Label label = tx.putEntityType("e1").getLabel();
+        tx.commit();
+
+        SchemaChangeBus.get().receive(SchemaChange.of(tx.getKeyspace(), ImmutableMap.of(), ImmutableSet.of(label)));
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.READ);
+        assertFalse(tx.getGlobalCache().getCachedTypes().containsKey(label));
+        assertNull(tx.getEntityType("e1"));
+    }
+
     @Test
     public void whenClosingAGraphWhichWasJustCommitted_DoNothing(){
         tx.commit();
@@ -373,6 +512,38 @@ public class GraknTxTest extends TxTestBase {
         assertThat(s3.links().collect(Collectors.toSet()), containsInAnyOrder(s3_e1, s3_e2));
     }
 
+    @Test
+    public void whenPathSearchBudgetIsNotSet_UseTheDefault(){
+        tx.getProperties().remove(GraknTxAbstract.PATH_SEARCH_BUDGET);
+        assertEquals(10_000L, tx.pathSearchBudget());
+    }
+
+    @Test
+    public void whenPathSearchBudgetIsSet_UseIt(){
+        tx.getProperties().setProperty(GraknTxAbstract.PATH_SEARCH_BUDGET, "25");
+        assertEquals(25L, tx.pathSearchBudget());
+    }
+
+    @Test
+    public void whenPathSearchBudgetIsNotANumber_Throw(){
+        tx.getProperties().setProperty(GraknTxAbstract.PATH_SEARCH_BUDGET, "lots");
+
+        expectedException.expect(GraknTxOperationException.class);
+        expectedException.expectMessage(ErrorMessage.INVALID_CONFIG_VALUE.getMessage(
+                GraknTxAbstract.PATH_SEARCH_BUDGET, "lots", "a whole number of at least 0"));
+
+        tx.pathSearchBudget();
+    }
+
+    @Test
+    public void whenPathSearchBudgetIsNegative_Throw(){
+        tx.getProperties().setProperty(GraknTxAbstract.PATH_SEARCH_BUDGET, "-1");
+
+        expectedException.expect(GraknTxOperationException.class);
+
+        tx.pathSearchBudget();
+    }
+
     @Test
     public void whenCreatingAValidSchemaInSeparateThreads_EnsureValidationRulesHold() throws ExecutionException, InterruptedException {
         GraknSession session = Grakn.session(Grakn.IN_MEMORY, "hi");
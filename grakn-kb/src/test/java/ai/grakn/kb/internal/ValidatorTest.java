@@ -20,14 +20,17 @@ package ai.grakn.kb.internal;
 
 import ai.grakn.Grakn;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Label;
 import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Thing;
 import ai.grakn.exception.InvalidKBException;
+import ai.grakn.kb.internal.cache.TypeConstraints;
 import ai.grakn.util.ErrorMessage;
 import org.junit.Test;
 
@@ -42,6 +45,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 public class ValidatorTest extends TxTestBase {
@@ -514,4 +518,49 @@ public class ValidatorTest extends TxTestBase {
         tx.commit();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void whenCommitting_TheTimeSpentValidatingIsRecorded() {
+        long validations = tx.getGlobalCache().getValidationTimer().getCount();
+        tx.putEntityType("my-entity").addEntity();
+        tx.commit();
+
+        assertEquals(validations + 1, tx.getGlobalCache().getValidationTimer().getCount());
+    }
+
+    @Test
+    public void whenTransactionsDoNotChangeTheSchema_TheyShareTheConstraintsOfTypes() {
+        tx.putEntityType("my-entity");
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        TypeConstraints constraints = tx.txCache().getTypeConstraints(tx.getEntityType("my-entity"));
+        tx.close();
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        assertSame(constraints, tx.txCache().getTypeConstraints(tx.getEntityType("my-entity")));
+    }
+
+    @Test
+    public void whenAKeyIsAddedToATypeWithValidatedInstances_NewInstancesMustHaveTheKey() {
+        tx.putEntityType("person");
+        tx.putAttributeType("name", AttributeType.DataType.STRING);
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        tx.getEntityType("person").addEntity();
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        tx.getEntityType("person").key(tx.getAttributeType("name"));
+        tx.commit();
+
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        Thing person = tx.getEntityType("person").addEntity();
+
+        expectedException.expect(InvalidKBException.class);
+        expectedException.expectMessage(ErrorMessage.VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(person.getId(), Label.of("name")));
+
+        tx.commit();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.kb.internal.GraknTxAbstract;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class GlobalCacheTest {
+
+    @Test
+    public void whenSchemaChangesAreNotReceived_TypesAreRefreshedOnceTheTimeoutHasPassed() throws InterruptedException {
+        GlobalCache cache = new GlobalCache("not-subscribed", withCacheTimeout(1));
+        long version = cache.getSchemaSnapshot().version();
+
+        Thread.sleep(10);
+
+        assertNotEquals(version, cache.getSchemaSnapshot().version());
+    }
+
+    @Test
+    public void whenSchemaChangesAreReceived_TypesAreNotRefreshedWhenTheTimeoutHasPassed() throws InterruptedException {
+        SchemaChangeBus.get().addSubscriber();
+        try {
+            GlobalCache cache = new GlobalCache("subscribed", withCacheTimeout(1));
+            long version = cache.getSchemaSnapshot().version();
+
+            Thread.sleep(10);
+
+            assertEquals(version, cache.getSchemaSnapshot().version());
+        } finally {
+            SchemaChangeBus.get().removeSubscriber();
+        }
+    }
+
+    private static Properties withCacheTimeout(long timeout){
+        Properties properties = new Properties();
+        properties.put(GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS, timeout);
+        return properties;
+    }
+}
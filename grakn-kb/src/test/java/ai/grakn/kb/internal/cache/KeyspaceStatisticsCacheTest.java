@@ -0,0 +1,60 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.Label;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class KeyspaceStatisticsCacheTest {
+
+    private final KeyspaceStatisticsCache statistics = new KeyspaceStatisticsCache();
+    private final Label movie = Label.of("movie");
+
+    @Test
+    public void whenACountIsFirstSet_TheVersionChanges() {
+        long version = statistics.version();
+
+        statistics.setInstanceCount(movie, 10);
+
+        assertNotEquals(version, statistics.version());
+    }
+
+    @Test
+    public void whenACountChangesWithinAPowerOfTwo_TheVersionDoesNotChange() {
+        statistics.setInstanceCount(movie, 9);
+        long version = statistics.version();
+
+        statistics.setInstanceCount(movie, 15);
+
+        assertEquals(version, statistics.version());
+    }
+
+    @Test
+    public void whenACountCrossesAPowerOfTwo_TheVersionChanges() {
+        statistics.setInstanceCount(movie, 15);
+        long version = statistics.version();
+
+        statistics.setInstanceCount(movie, 16);
+
+        assertNotEquals(version, statistics.version());
+    }
+}
@@ -168,6 +168,27 @@ public class TxCacheTest extends TxTestBase {
         assertEquals("Unexpected graph logs", expected, tx.txCache().getFormattedLog());
     }
 
+    @Test
+    public void whenNotChangingTheSchema_ThereIsNoSchemaChange() {
+        tx.putEntityType("My Type");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        tx.getEntityType("My Type").addEntity();
+
+        assertFalse(tx.txCache().getSchemaChange().isPresent());
+    }
+
+    @Test
+    public void whenChangingTheSchema_TheSchemaChangeContainsTheChangedTypes() {
+        EntityType entityType = tx.putEntityType("My Type");
+
+        SchemaChange change = tx.txCache().getSchemaChange().get();
+
+        assertEquals(tx.getKeyspace(), change.keyspace());
+        assertEquals(entityType.getLabelId(), change.changedLabels().get(entityType.getLabel()));
+    }
+
     @Test
     public void whenAddedEntities_EnsureLogNotEmpty() {
         EntityType entityType = tx.putEntityType("My Type");
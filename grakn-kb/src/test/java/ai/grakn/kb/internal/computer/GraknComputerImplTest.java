@@ -0,0 +1,95 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.GraknComputer;
+import ai.grakn.util.Schema;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import static ai.grakn.kb.internal.computer.GraknComputerImpl.LOCAL_COMPUTER_MAX_VERTICES;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraknComputerImplTest {
+
+    private final TinkerGraph source = TinkerGraph.open();
+    private final Graph sparkGraph = mock(Graph.class, RETURNS_DEEP_STUBS);
+    private GraknComputerImpl computer;
+    private VertexProgram<?> program;
+
+    @Before
+    public void setUp() {
+        source.addVertex(Schema.BaseType.ENTITY.name());
+        source.addVertex(Schema.BaseType.ENTITY.name());
+        program = PageRankVertexProgram.build().create(source);
+
+        when(sparkGraph.configuration().getLong(LOCAL_COMPUTER_MAX_VERTICES, 0L)).thenReturn(10L);
+        computer = spy(new GraknComputerImpl(sparkGraph, source));
+        doReturn(mock(GraphComputer.class, RETURNS_DEEP_STUBS)).when(computer).getGraphComputer();
+    }
+
+    @Test
+    public void whenASubgraphIsEstimatedToBeSmall_ItIsComputedLocally() {
+        computer.estimatedSubgraphSize(2);
+
+        computer.compute(program, null, null);
+
+        verify(computer, never()).getGraphComputer();
+    }
+
+    @Test
+    public void whenASubgraphIsEstimatedToBeLarge_ItIsComputedWithSpark() {
+        computer.estimatedSubgraphSize(100);
+
+        computer.compute(program, null, null);
+
+        verify(computer).getGraphComputer();
+    }
+
+    @Test
+    public void whenTheLocalBackendIsChosen_ALargeSubgraphIsComputedLocally() {
+        computer.estimatedSubgraphSize(100);
+        computer.backend(GraknComputer.Backend.LOCAL);
+
+        computer.compute(program, null, null);
+
+        verify(computer, never()).getGraphComputer();
+    }
+
+    @Test
+    public void whenTheSparkBackendIsChosen_ASmallSubgraphIsComputedWithSpark() {
+        computer.estimatedSubgraphSize(2);
+        computer.backend(GraknComputer.Backend.SPARK);
+
+        computer.compute(program, null, null);
+
+        verify(computer).getGraphComputer();
+    }
+}
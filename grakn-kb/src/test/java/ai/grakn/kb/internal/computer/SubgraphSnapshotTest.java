@@ -0,0 +1,98 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.kb.internal.computer;
+
+import ai.grakn.concept.LabelId;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableSet;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SubgraphSnapshotTest {
+
+    private static final String LABEL_ID = Schema.VertexProperty.THING_TYPE_LABEL_ID.name();
+    private static final String RELATIONSHIP_LABEL_ID = Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID.name();
+
+    private final TinkerGraph source = TinkerGraph.open();
+    private Vertex person;
+    private Vertex company;
+    private Vertex name;
+
+    @Before
+    public void buildGraph() {
+        person = source.addVertex(Schema.BaseType.ENTITY.name());
+        person.property(LABEL_ID, 1);
+        company = source.addVertex(Schema.BaseType.ENTITY.name());
+        company.property(LABEL_ID, 2);
+        name = source.addVertex(Schema.BaseType.ATTRIBUTE.name());
+        name.property(LABEL_ID, 3);
+
+        person.addEdge(Schema.EdgeLabel.SHORTCUT.getLabel(), company);
+        person.addEdge(Schema.EdgeLabel.RESOURCE.getLabel(), name, RELATIONSHIP_LABEL_ID, 4);
+    }
+
+    @Test
+    public void whenLoadingWithoutTypes_TheWholeGraphIsCopied() {
+        TinkerGraph snapshot = SubgraphSnapshot.load(source, null, true, 10).get();
+
+        assertEquals(3, snapshot.traversal().V().count().next().longValue());
+        assertEquals(2, snapshot.traversal().E().count().next().longValue());
+        assertEquals(1, (int) snapshot.vertices(person.id()).next().value(LABEL_ID));
+    }
+
+    @Test
+    public void whenLoadingWithTypes_OnlyTheirInstancesAndEdgesBetweenThemAreCopied() {
+        TinkerGraph snapshot = SubgraphSnapshot.load(source, ImmutableSet.of(LabelId.of(1), LabelId.of(2)), true, 10).get();
+
+        assertEquals(2, snapshot.traversal().V().count().next().longValue());
+        assertEquals(1, snapshot.traversal().E().count().next().longValue());
+    }
+
+    @Test
+    public void whenShortcutsAreExcluded_ShortcutEdgesAreNotCopied() {
+        TinkerGraph snapshot = SubgraphSnapshot.load(source, ImmutableSet.of(LabelId.of(1), LabelId.of(2)), false, 10).get();
+
+        assertEquals(0, snapshot.traversal().E().count().next().longValue());
+    }
+
+    @Test
+    public void whenResourceEdgeRelationshipTypeIsInTheSubgraph_TheEdgeIsCopied() {
+        TinkerGraph snapshot = SubgraphSnapshot.load(source,
+                ImmutableSet.of(LabelId.of(1), LabelId.of(3), LabelId.of(4)), false, 10).get();
+
+        assertEquals(1, snapshot.traversal().E().count().next().longValue());
+        assertTrue(snapshot.edges().next().label().equals(Schema.EdgeLabel.RESOURCE.getLabel()));
+    }
+
+    @Test
+    public void whenTheSubgraphIsLargerThanTheLimit_NothingIsLoaded() {
+        Optional<TinkerGraph> snapshot = SubgraphSnapshot.load(source, null, true, 2);
+
+        assertFalse(snapshot.isPresent());
+    }
+}
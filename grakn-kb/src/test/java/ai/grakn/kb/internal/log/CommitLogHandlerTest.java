@@ -0,0 +1,92 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+
+package ai.grakn.kb.internal.log;
+
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import mjson.Json;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class CommitLogHandlerTest {
+
+    @Test
+    public void whenMergingCommitLogs_CountsAreSummedPerType() {
+        Json log1 = commitLog(Json.object("index1", Json.array("a")), count("type1", 2), count("type2", 5));
+        Json log2 = commitLog(Json.object(), count("type1", 3), count("type2", -5));
+
+        Json merged = CommitLogHandler.mergeLogs(ImmutableList.of(log1, log2));
+
+        Map<String, Long> counts = merged.at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().stream()
+                .collect(Collectors.toMap(
+                        e -> e.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString(),
+                        e -> e.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong()));
+
+        assertEquals(1, counts.size());
+        assertEquals(5L, (long) counts.get("type1"));
+    }
+
+    @Test
+    public void whenMergingCommitLogs_AttributesToFixAreJoinedPerIndex() {
+        Json log1 = commitLog(Json.object("index1", Json.array("a", "b")));
+        Json log2 = commitLog(Json.object("index1", Json.array("b", "c"), "index2", Json.array("d")));
+
+        Json merged = CommitLogHandler.mergeLogs(ImmutableList.of(log1, log2));
+        Json attributes = merged.at(REST.Request.COMMIT_LOG_FIXING).at(Schema.BaseType.ATTRIBUTE.name());
+
+        assertEquals(ImmutableSet.of("a", "b", "c"), ids(attributes.at("index1")));
+        assertEquals(ImmutableSet.of("d"), ids(attributes.at("index2")));
+    }
+
+    @Test
+    public void whenMergingCommitLogs_SchemaChangesAreJoined() {
+        Json change1 = Json.object("keyspace", "k1");
+        Json change2 = Json.object("keyspace", "k2");
+        Json log1 = commitLog(Json.object()).set(REST.Request.COMMIT_LOG_SCHEMA, Json.array(change1));
+        Json log2 = commitLog(Json.object());
+        Json log3 = commitLog(Json.object()).set(REST.Request.COMMIT_LOG_SCHEMA, Json.array(change2));
+
+        Json merged = CommitLogHandler.mergeLogs(ImmutableList.of(log1, log2, log3));
+
+        assertEquals(Json.array(change1, change2), merged.at(REST.Request.COMMIT_LOG_SCHEMA));
+    }
+
+    private static Set<String> ids(Json ids) {
+        return ids.asJsonList().stream().map(Json::asString).collect(Collectors.toSet());
+    }
+
+    private static Json count(String conceptId, long count) {
+        return Json.object(REST.Request.COMMIT_LOG_CONCEPT_ID, conceptId, REST.Request.COMMIT_LOG_SHARDING_COUNT, count);
+    }
+
+    private static Json commitLog(Json attributesToFix, Json... counts) {
+        Json log = Json.object();
+        log.set(REST.Request.COMMIT_LOG_FIXING, Json.object(Schema.BaseType.ATTRIBUTE.name(), attributesToFix));
+        log.set(REST.Request.COMMIT_LOG_COUNTING, Json.array((Object[]) counts));
+        return log;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.client;
+
+import ai.grakn.GraknSession;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.EntityType;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.test.EngineContext;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ai.grakn.graql.Graql.insert;
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+
+public class BulkLoadClientTest {
+
+    private static final InsertQuery TEMPLATE = insert(
+            var("x").isa("name_tag").has("name_tag_string", var("name")).has("name_tag_id", var("id")));
+
+    private GraknSession session;
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.startInMemoryServer();
+
+    @Before
+    public void setupSession(){
+        this.session = engine.factoryWithNewKeyspace();
+    }
+
+    @Test
+    public void whenSending100RowsWithBatchSize20_5BatchesAreAcknowledged() {
+        AtomicInteger batchesCompleted = new AtomicInteger(0);
+
+        try (BulkLoadClient loader = loader()) {
+            loader.setBatchSize(20).setBatchCompletionConsumer(json -> batchesCompleted.incrementAndGet());
+            for (int i = 0; i < 100; i++) {
+                loader.add(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+            }
+            loader.waitToFinish();
+            assertEquals(0, loader.getFailedBatches());
+        }
+
+        assertEquals(5, batchesCompleted.get());
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            assertEquals(100, graph.getEntityType("name_tag").instances().count());
+        }
+    }
+
+    @Test
+    public void whenSending20RowsWith1ActiveBatch_AllRowsAreLoaded() {
+        try (BulkLoadClient loader = loader()) {
+            loader.setNumberActiveBatches(1).setBatchSize(5);
+            for (int i = 0; i < 20; i++) {
+                loader.add(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+            }
+        }
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            assertEquals(20, graph.getEntityType("name_tag").instances().count());
+        }
+    }
+
+    @Test
+    public void whenRowHasValueOfWrongType_BatchFails() {
+        try (BulkLoadClient loader = loader()) {
+            loader.add(UUID.randomUUID().toString(), 42L);
+            loader.waitToFinish();
+            assertEquals(1, loader.getFailedBatches());
+        }
+
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            assertEquals(0, graph.getEntityType("name_tag").instances().count());
+        }
+    }
+
+    private BulkLoadClient loader(){
+        // load schema
+        try(GraknTx graph = session.open(GraknTxType.WRITE)){
+            EntityType nameTag = graph.putEntityType("name_tag");
+            AttributeType<String> nameTagString = graph.putAttributeType("name_tag_string", AttributeType.DataType.STRING);
+            AttributeType<String> nameTagId = graph.putAttributeType("name_tag_id", AttributeType.DataType.STRING);
+
+            nameTag.attribute(nameTagString);
+            nameTag.attribute(nameTagId);
+            graph.admin().commitNoLogs();
+
+            return new BulkLoadClient(graph.getKeyspace(), engine.uri(), TEMPLATE, "name", "id");
+        }
+    }
+}
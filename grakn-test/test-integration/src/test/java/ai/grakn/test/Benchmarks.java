@@ -0,0 +1,72 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test;
+
+import com.google.common.base.Stopwatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ *     Times the steps of the benchmarks in this module
+ * </p>
+ *
+ * <p>
+ *     Benchmarks are named {@code *BenchmarkTests}, so they are neither run as unit tests nor as integration tests,
+ *     but only when asked for, for example with {@code mvn test -Dtest=InsertQueryBenchmarkTests}.
+ * </p>
+ *
+ * @author Grakn Warriors
+ */
+public class Benchmarks {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Benchmarks.class);
+
+    private Benchmarks() {}
+
+    /**
+     * Run a step of a benchmark and log how long it took
+     *
+     * @param name what the step does
+     * @param step the step to time
+     * @return the result of the step
+     */
+    public static <T> T time(String name, Supplier<T> step) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        T result = step.get();
+        LOG.info("{}: {} ms", name, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return result;
+    }
+
+    /**
+     * Run a step of a benchmark which has no result and log how long it took
+     *
+     * @param name what the step does
+     * @param step the step to time
+     */
+    public static void run(String name, Runnable step) {
+        time(name, () -> {
+            step.run();
+            return null;
+        });
+    }
+}
@@ -3,6 +3,7 @@ package ai.grakn.test.engine;
 import ai.grakn.Grakn;
 import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
+import ai.grakn.concept.Attribute;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.EntityType;
 import ai.grakn.concept.AttributeType;
@@ -19,11 +20,15 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ai.grakn.engine.SystemKeyspace.SYSTEM_KB_NAME;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -44,6 +49,8 @@ public class SystemKeyspaceTest {
             graph.getEntityType("keyspace").instances().forEach(Concept::delete);
             graph.commit();
         }
+        // The keyspaces were removed behind the back of the system keyspace, so it must not remember them
+        engine.server().factory().systemKeyspace().forgetAllKeyspaces();
     }
 
     @Test
@@ -171,6 +178,53 @@ public class SystemKeyspaceTest {
         assertFalse(engine.server().factory().systemKeyspace().containsKeyspace(deletedGraph.getKeyspace()));
     }
 
+    @Test
+    public void whenOpeningAKnownKeyspace_TheSystemGraphIsNotReadOrWrittenAgain(){
+        SystemKeyspace systemKeyspace = engine.server().factory().systemKeyspace();
+        engineFactoryGraphProvider.apply("known").close();
+
+        //Remove the keyspace behind the back of the cache
+        removeFromSystemGraph("known");
+
+        engineFactoryGraphProvider.apply("known").close();
+        assertFalse("Keyspace [known] was written to the system graph again", getSystemKeyspaces().contains("known"));
+        assertTrue(systemKeyspace.containsKeyspace("known"));
+    }
+
+    @Test
+    public void whenAKeyspaceIsDeletedByAnotherEngine_ItIsLookedUpInTheSystemGraphAgain(){
+        SystemKeyspace systemKeyspace = engine.server().factory().systemKeyspace();
+        engineFactoryGraphProvider.apply("elsewhere").close();
+
+        //Simulates the deletion being received from another engine
+        removeFromSystemGraph("elsewhere");
+        systemKeyspace.forgetKeyspace("elsewhere");
+
+        assertFalse(systemKeyspace.containsKeyspace("elsewhere"));
+    }
+
+    @Test
+    public void whenDeletingAKeyspace_DeletionListenersAreNotified(){
+        SystemKeyspace systemKeyspace = engine.server().factory().systemKeyspace();
+        List<String> deleted = new CopyOnWriteArrayList<>();
+        systemKeyspace.onKeyspaceDeleted(deleted::add);
+        engineFactoryGraphProvider.apply("deleted").close();
+
+        assertTrue(systemKeyspace.deleteKeyspace("deleted"));
+
+        assertEquals(Collections.singletonList("deleted"), deleted);
+        assertFalse(systemKeyspace.containsKeyspace("deleted"));
+    }
+
+    private void removeFromSystemGraph(String keyspace){
+        try (GraknTx graph = engine.server().factory().tx(SYSTEM_KB_NAME, GraknTxType.WRITE)){
+            Attribute<String> name = graph.<String>getAttributeType("keyspace-name").getAttribute(keyspace);
+            name.owner().delete();
+            name.delete();
+            graph.commit();
+        }
+    }
+
     private void setVersionInSystemGraph(String version){
         String versionResourceType = "system-version";
 
@@ -0,0 +1,106 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.tasks.storage;
+
+import ai.grakn.engine.TaskStatus;
+import ai.grakn.engine.tasks.manager.TaskSchedule;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.engine.tasks.manager.TaskState.Priority;
+import ai.grakn.engine.tasks.manager.redisqueue.RedisTaskStorage;
+import ai.grakn.engine.tasks.mock.LongExecutionMockTask;
+import ai.grakn.engine.tasks.mock.ShortExecutionMockTask;
+import ai.grakn.engine.util.EngineID;
+import ai.grakn.util.EmbeddedRedis;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static ai.grakn.test.Benchmarks.run;
+import static ai.grakn.test.Benchmarks.time;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures listing tasks from {@link RedisTaskStorage} when a large number of task states are stored
+ */
+public class RedisTaskStorageBenchmarkTests {
+
+    private static final int PORT = 50124;
+    private static final int NUM_STATES = 1_000_000;
+    private static final EngineID ENGINE = EngineID.of("engine");
+
+    private static JedisPool jedisPool;
+    private static RedisTaskStorage storage;
+
+    @BeforeClass
+    public static void setUpClass() {
+        EmbeddedRedis.start(PORT);
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(16);
+        jedisPool = new JedisPool(poolConfig, "localhost", PORT);
+        storage = RedisTaskStorage.create(jedisPool, new MetricRegistry());
+        storage.clear();
+
+        // One in ten tasks is long and running, the rest are short and completed
+        run("Storing " + NUM_STATES + " task states", () -> IntStream.range(0, NUM_STATES).parallel().forEach(i -> {
+            boolean running = i % 10 == 0;
+            TaskState state = TaskState.of(running ? LongExecutionMockTask.class : ShortExecutionMockTask.class,
+                    "creator-" + (i % 100), TaskSchedule.now(), Priority.LOW);
+            storage.newState(running ? state.markRunning(ENGINE) : state.markCompleted());
+        }));
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        storage.clear();
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Test
+    public void listingAPageByStatus() {
+        Set<TaskState> page = time("Listing by status", () -> storage.getTasks(TaskStatus.RUNNING, null, null, null, 100, 5_000));
+        assertEquals(100, page.size());
+    }
+
+    @Test
+    public void listingAPageByStatusAndCreator() {
+        Set<TaskState> page = time("Listing by status and creator",
+                () -> storage.getTasks(TaskStatus.RUNNING, null, "creator-10", null, 100, 0));
+        assertEquals(100, page.size());
+    }
+
+    @Test
+    public void listingAPageByClassAndEngine() {
+        Set<TaskState> page = time("Listing by class and engine",
+                () -> storage.getTasks(null, LongExecutionMockTask.class.getName(), null, ENGINE, 100, 0));
+        assertEquals(100, page.size());
+    }
+
+    @Test
+    public void listingAPageOfAllTasks() {
+        Set<TaskState> page = time("Listing all", () -> storage.getTasks(null, null, null, null, 100, 500_000));
+        assertEquals(100, page.size());
+    }
+}
@@ -15,9 +15,12 @@ import ai.grakn.concept.Role;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.graql.Graql;
+import ai.grakn.graql.internal.analytics.BidirectionalPathSearch;
+import ai.grakn.kb.internal.GraknTxAbstract;
 import ai.grakn.test.EngineContext;
 import ai.grakn.test.GraknTestSetup;
 import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -29,6 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -140,6 +144,45 @@ public class ShortestPathTest {
         }
     }
 
+    @Test
+    public void testShortestPathWithoutSearchBudget_VertexProgramFindsTheSamePath() {
+        // The budget is read from the config the keyspace is first opened with
+        Properties engineProperties = context.server().factory().properties();
+        engineProperties.setProperty(GraknTxAbstract.PATH_SEARCH_BUDGET, "0");
+        try {
+            addSchemaAndEntities();
+        } finally {
+            engineProperties.remove(GraknTxAbstract.PATH_SEARCH_BUDGET);
+        }
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            List<String> correctPath = Lists.newArrayList(entityId2.getValue(), relationId12.getValue(),
+                    entityId1.getValue(), relationId13.getValue(), entityId3.getValue());
+            List<String> computedPath = graph.graql().compute().path().in(thing, related).from(entityId2).to(entityId3)
+                    .execute().get().stream().map(Concept::getId).map(ConceptId::getValue).collect(Collectors.toList());
+            checkPath(correctPath, computedPath);
+
+            assertFalse(graph.graql().compute().path().from(entityId1).to(entityId5).execute().isPresent());
+        }
+    }
+
+    @Test
+    public void testShortestPathSearchBudgetUsedUpPartway_SearchGivesUp() {
+        addSchemaAndEntities();
+        Set<Label> subLabels = ImmutableSet.of(Label.of(thing), Label.of(related));
+
+        try (GraknTx graph = factory.open(GraknTxType.READ)) {
+            // Both ends and the first relationship of entity 2 fit in the budget, its second relationship does not
+            assertFalse(new BidirectionalPathSearch(subLabels, 3).search(graph, entityId2, entityId3).isPresent());
+
+            List<String> correctPath = Lists.newArrayList(entityId2.getValue(), relationId12.getValue(),
+                    entityId1.getValue(), relationId13.getValue(), entityId3.getValue());
+            List<String> computedPath = new BidirectionalPathSearch(subLabels, 100).search(graph, entityId2, entityId3)
+                    .get().stream().map(Concept::getId).map(ConceptId::getValue).collect(Collectors.toList());
+            checkPath(correctPath, computedPath);
+        }
+    }
+
     @Test
     public void testShortestPathConcurrency() {
         List<String> correctPath;
@@ -0,0 +1,89 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.graql.query;
+
+import ai.grakn.concept.AttributeType;
+import ai.grakn.graql.Aggregate;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.MatchQueryAdmin;
+import ai.grakn.test.SampleKBContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static ai.grakn.graql.Graql.count;
+import static ai.grakn.graql.Graql.label;
+import static ai.grakn.graql.Graql.mean;
+import static ai.grakn.graql.Graql.sum;
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.test.Benchmarks.run;
+import static ai.grakn.test.Benchmarks.time;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures aggregate queries which read only what they need from the match query, against aggregating every answer
+ */
+public class AggregateQueryBenchmarkTests {
+
+    private static final int NUM_PEOPLE = 100_000;
+
+    @Rule
+    public final SampleKBContext sampleKB = SampleKBContext.empty();
+
+    private MatchQueryAdmin query;
+
+    @Before
+    public void setUp() {
+        QueryBuilder qb = sampleKB.tx().graql();
+
+        qb.define(
+                label("age").sub("attribute").datatype(AttributeType.DataType.LONG),
+                label("person").sub("entity").has("age")
+        ).execute();
+
+        run("Inserting " + NUM_PEOPLE + " people", () -> IntStream.range(0, NUM_PEOPLE)
+                .forEach(i -> qb.insert(var().isa("person").has("age", (long) i)).execute()));
+
+        query = qb.match(var("x").isa("person").has("age", var("a"))).admin();
+    }
+
+    @Test
+    public void countingAnswers() {
+        compare("count", count());
+    }
+
+    @Test
+    public void summingValues() {
+        compare("sum", sum("a"));
+    }
+
+    @Test
+    public void averagingValues() {
+        compare("mean", mean("a"));
+    }
+
+    private <T> void compare(String name, Aggregate<? super Answer, T> aggregate) {
+        T answers = time(name + " of every answer", () -> aggregate.apply(query.stream()));
+        T direct = time(name + " of the query", () -> query.aggregate(aggregate).execute());
+        assertEquals(answers, direct);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.graql.query;
+
+import ai.grakn.concept.AttributeType;
+import ai.grakn.graql.InsertQuery;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.test.SampleKBContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static ai.grakn.graql.Graql.label;
+import static ai.grakn.graql.Graql.var;
+import static ai.grakn.test.Benchmarks.run;
+import static ai.grakn.test.Benchmarks.time;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures match-insert queries and repeated inserts of the same query, which share one plan for inserting the vars
+ */
+public class InsertQueryBenchmarkTests {
+
+    private static final int NUM_PEOPLE = 10_000;
+
+    @Rule
+    public final SampleKBContext sampleKB = SampleKBContext.empty();
+
+    private QueryBuilder qb;
+
+    @Before
+    public void setUp() {
+        qb = sampleKB.tx().graql();
+
+        qb.define(
+                label("name").sub("attribute").datatype(AttributeType.DataType.STRING),
+                label("person").sub("entity").has("name"),
+                label("friend").sub("role"),
+                label("friendship").sub("relationship").relates("friend"),
+                label("person").plays("friend")
+        ).execute();
+
+        IntStream.range(0, NUM_PEOPLE).forEach(i -> qb.insert(var().isa("person").has("name", "person-" + i)).execute());
+    }
+
+    @Test
+    public void matchInsertForEveryAnswer() {
+        InsertQuery query = qb.match(var("x").isa("person"))
+                .insert(var().rel("friend", "x").isa("friendship"));
+
+        List<Answer> answers = time("match-insert of " + NUM_PEOPLE + " answers", query::execute);
+        assertEquals(NUM_PEOPLE, answers.size());
+    }
+
+    @Test
+    public void repeatedInsertOfTheSameQuery() {
+        InsertQuery query = qb.insert(var("x").isa("person").has("name", "someone"), var().rel("friend", "x").isa("friendship"));
+
+        run(NUM_PEOPLE + " inserts of the same query", () -> IntStream.range(0, NUM_PEOPLE).forEach(i -> query.execute()));
+    }
+}
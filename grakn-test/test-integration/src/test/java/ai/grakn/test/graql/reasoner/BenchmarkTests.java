@@ -155,6 +155,64 @@ public class BenchmarkTests {
         System.out.println("limit " + limit + " results = " + results.size() + " answerTime: " + answerTime);
     }
 
+    /**
+     * Transitive chain resolved with materialisation, which evaluates the fixpoint semi-naively: each iteration only
+     * joins the answers derived in the previous iteration, so the iteration times logged at debug level should
+     * follow the number of new answers rather than the number of answers derived so far.
+     */
+    @Test
+    public void testTransitiveChainMaterialised()  {
+        final int N = 20;
+        long startTime = System.currentTimeMillis();
+        sampleKB.load(TransitivityChainKB.get(N));
+        long loadTime = System.currentTimeMillis() - startTime;
+        System.out.println("loadTime: " + loadTime);
+        GraknTx graph = sampleKB.tx();
+
+        String queryString = "match (Q-from: $x, Q-to: $y) isa Q;";
+        MatchQuery query = graph.graql().infer(true).materialise(true).parse(queryString);
+
+        startTime = System.currentTimeMillis();
+        List<Answer> execute = query.execute();
+        assertEquals(execute.size(), N*N/2 + N/2);
+        System.out.println("computeTime: " + (System.currentTimeMillis() - startTime) + " results: " + execute.size());
+    }
+
+    /**
+     * Same generation rule set with a non-linear recursive rule, resolved with and without materialisation.
+     * The rules are defined as:
+     *
+     * $x isa Human;
+     * ->
+     * (SG-role: $x, SG-role: $x) isa SameGen;
+     *
+     * (parent: $x, child: $u) isa Parent;
+     * (SG-role: $u, SG-role: $v) isa SameGen;
+     * (parent: $y, child: $v) isa Parent;
+     * ->
+     * (SG-role: $x, SG-role: $y) isa SameGen;
+     */
+    @Test
+    public void testSameGeneration()  {
+        long startTime = System.currentTimeMillis();
+        sampleKB.load(tx -> SampleKBContext.loadFromFile(tx, "recursivity-sg-test.gql"));
+        long loadTime = System.currentTimeMillis() - startTime;
+        System.out.println("loadTime: " + loadTime);
+        GraknTx graph = sampleKB.tx();
+
+        String queryString = "match (SG-role: $x, SG-role: $y) isa SameGen;";
+
+        startTime = System.currentTimeMillis();
+        List<Answer> execute = graph.graql().infer(true).materialise(false).<MatchQuery>parse(queryString).execute();
+        System.out.println("computeTime: " + (System.currentTimeMillis() - startTime) + " results: " + execute.size());
+
+        startTime = System.currentTimeMillis();
+        List<Answer> materialised = graph.graql().infer(true).materialise(true).<MatchQuery>parse(queryString).execute();
+        System.out.println("materialised computeTime: " + (System.currentTimeMillis() - startTime) + " results: " + materialised.size());
+
+        assertEquals(execute.size(), materialised.size());
+    }
+
     /**
      * single-rule transitivity test with initial data arranged in a N x N square grid.
      * The rule is given as: